@@ -74,6 +74,7 @@ public class DependencyGraph {
         var dependencyMap = createDependencyMap(extensions);
 
         var sort = new TopologicalSort<ServiceExtension>();
+        var dependencies = new HashMap<ServiceExtension, Set<ServiceExtension>>();
 
         // check if all injected fields are satisfied, collect missing ones and throw exception otherwise
         var unsatisfiedInjectionPoints = new ArrayList<InjectionPoint<ServiceExtension>>();
@@ -89,7 +90,7 @@ public class DependencyGraph {
                                 ofNullable(dependencyMap.get(injectionPoint.getType()))
                                         .ifPresent(l -> l.stream()
                                                 .filter(d -> !Objects.equals(d, ext)) // remove dependencies onto oneself
-                                                .forEach(provider -> sort.addDependency(ext, provider)));
+                                                .forEach(provider -> addDependency(sort, dependencies, ext, provider)));
                             }
                         })
                 )
@@ -107,11 +108,11 @@ public class DependencyGraph {
         extensions.forEach(ext -> {
             var features = getRequiredFeatures(ext.getClass());
             features.forEach(feature -> {
-                var dependencies = dependencyMap.get(feature);
-                if (dependencies == null) {
+                var providers = dependencyMap.get(feature);
+                if (providers == null) {
                     unsatisfiedRequirements.add(feature.getName());
                 } else {
-                    dependencies.forEach(dependency -> sort.addDependency(ext, dependency));
+                    providers.forEach(dependency -> addDependency(sort, dependencies, ext, dependency));
                 }
             });
         });
@@ -123,13 +124,45 @@ public class DependencyGraph {
 
         sort.sort(extensions);
 
+        var levels = computeLevels(extensions, dependencies);
+
         // todo: should the list of InjectionContainers be generated directly by the flatmap?
         // convert the sorted list of extensions into an equally sorted list of InjectionContainers
         return extensions.stream()
-                .map(se -> new InjectionContainer<>(se, injectionPoints.stream().filter(ip -> ip.getInstance() == se).collect(Collectors.toSet())))
+                .map(se -> new InjectionContainer<>(se, injectionPoints.stream().filter(ip -> ip.getInstance() == se).collect(Collectors.toSet()), levels.get(se)))
                 .collect(Collectors.toList());
     }
 
+    private void addDependency(TopologicalSort<ServiceExtension> sort, Map<ServiceExtension, Set<ServiceExtension>> dependencies, ServiceExtension dependent, ServiceExtension dependency) {
+        sort.addDependency(dependent, dependency);
+        dependencies.computeIfAbsent(dependent, k -> new HashSet<>()).add(dependency);
+    }
+
+    /**
+     * Computes the dependency level of every extension: an extension is on a higher level than all the extensions it
+     * depends on, so the extensions of the same level are independent of each other. Base and core extensions are
+     * considered dependencies of all the extensions of the following types, as they are sorted first.
+     *
+     * @param sortedExtensions the topologically sorted extensions.
+     * @param dependencies     the dependencies of every extension.
+     * @return the level of every extension.
+     */
+    private Map<ServiceExtension, Integer> computeLevels(List<ServiceExtension> sortedExtensions, Map<ServiceExtension, Set<ServiceExtension>> dependencies) {
+        var levels = new HashMap<ServiceExtension, Integer>();
+        var comparator = new ServiceExtensionComparator();
+        for (var extension : sortedExtensions) {
+            var level = 0;
+            for (var previous : levels.entrySet()) {
+                var isDependency = dependencies.getOrDefault(extension, Set.of()).contains(previous.getKey());
+                if (isDependency || comparator.compare(previous.getKey(), extension) < 0) {
+                    level = Math.max(level, previous.getValue() + 1);
+                }
+            }
+            levels.put(extension, level);
+        }
+        return levels;
+    }
+
     private boolean canResolve(Map<Class<?>, List<ServiceExtension>> dependencyMap, Class<?> featureName) {
         var providers = dependencyMap.get(featureName);
         if (providers != null) {
@@ -50,6 +50,18 @@ public class ExtensionLoader {
      * Convenience method for loading service extensions.
      */
     public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context) {
+        bootServiceExtensions(containers, context, 1);
+    }
+
+    /**
+     * Convenience method for loading service extensions. With a parallelism greater than 1, the extensions of the same
+     * dependency level are started concurrently.
+     *
+     * @param containers  the sorted extensions.
+     * @param context     the context.
+     * @param parallelism the number of extensions that can be started at the same time.
+     */
+    public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context, int parallelism) {
         //construct a list of default providers, which are invoked, if a particular service is not present in the context
         var defaultServices = new HashMap<Class<?>, Supplier<Object>>();
         containers.forEach(se -> {
@@ -59,6 +71,14 @@ public class ExtensionLoader {
 
         var injector = new InjectorImpl(defaultServices);
 
+        if (parallelism > 1) {
+            if (containers.stream().noneMatch(c -> c.getLevel() == InjectionContainer.UNKNOWN_LEVEL)) {
+                new ParallelExtensionBooter(context, injector, parallelism).boot(containers);
+                return;
+            }
+            context.getMonitor().warning("Dependency levels of the service extensions are not known, they will be booted sequentially");
+        }
+
         // go through the extension initialization lifecycle
         var lifeCycles = containers.stream()
                 .map(c -> new ExtensionLifecycleManager(c, context, injector))
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.system;
+
+import org.eclipse.edc.boot.system.injection.InjectionContainer;
+import org.eclipse.edc.boot.system.injection.Injector;
+import org.eclipse.edc.boot.system.injection.lifecycle.ExtensionLifecycleManager;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Boots the service extensions and starts them level by level, following the dependency levels computed by the
+ * {@link DependencyGraph}: the extensions of the same level are independent of each other, so they are started
+ * concurrently, while a level is only started once all the lower levels have been started.
+ * <p>
+ * Injection, initialization, provider invocation and preparation run sequentially in topological order, exactly like
+ * the sequential boot, because in those phases the extensions register their contributions into registries (type
+ * transformers, policy functions, JSON-LD scopes...) that are not thread-safe.
+ * <p>
+ * When extensions of a level fail to start, the failure of the first one in topological order is thrown, with the
+ * others attached as suppressed exceptions, so the error reporting does not depend on the scheduling.
+ */
+class ParallelExtensionBooter {
+
+    private final ServiceExtensionContext context;
+    private final Injector injector;
+    private final int threads;
+    private final Monitor monitor;
+
+    ParallelExtensionBooter(ServiceExtensionContext context, Injector injector, int threads) {
+        this.context = context;
+        this.injector = injector;
+        this.threads = threads;
+        monitor = context.getMonitor();
+    }
+
+    void boot(List<InjectionContainer<ServiceExtension>> containers) {
+        var preparePhases = containers.stream()
+                .map(container -> timed(container.getInjectionTarget(), "initialized", () -> {
+                    var initializePhase = new ExtensionLifecycleManager(container, context, injector).inject();
+                    return new Booting<>(container, ExtensionLifecycleManager.provide(ExtensionLifecycleManager.initialize(initializePhase)));
+                }))
+                .toList();
+
+        context.freeze();
+
+        var levels = preparePhases.stream()
+                .map(booting -> timed(booting.extension(), "prepared", () -> new Booting<>(booting.container(), ExtensionLifecycleManager.prepare(booting.phase()))))
+                .collect(Collectors.groupingBy(booting -> booting.container().getLevel(), TreeMap::new, Collectors.toList()))
+                .values();
+
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (var level : levels) {
+                runLevel(executor, level, Booting::extension, "started", booting -> {
+                    ExtensionLifecycleManager.start(booting.phase());
+                    return booting;
+                });
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <I, O> List<O> runLevel(ExecutorService executor, Collection<I> items, Function<I, ServiceExtension> extension, String phase, Function<I, O> action) {
+        var futures = items.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> timed(extension.apply(item), phase, () -> action.apply(item)), executor))
+                .toList();
+
+        var results = new ArrayList<O>();
+        RuntimeException failure = null;
+        for (var future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                var cause = e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new EdcException(e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private <O> O timed(ServiceExtension extension, String phase, Supplier<O> action) {
+        var start = System.nanoTime();
+        var result = action.get();
+        monitor.debug(() -> format("%s %s in %d ms", extension.name(), phase, NANOSECONDS.toMillis(System.nanoTime() - start)));
+        return result;
+    }
+
+    private record Booting<P>(InjectionContainer<ServiceExtension> container, P phase) {
+        ServiceExtension extension() {
+            return container.getInjectionTarget();
+        }
+    }
+}
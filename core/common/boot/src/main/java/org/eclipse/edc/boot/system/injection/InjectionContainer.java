@@ -29,22 +29,42 @@ import java.util.stream.Stream;
  * represented by {@link FieldInjectionPoint}s.
  */
 public class InjectionContainer<T> {
+    /**
+     * Level of containers whose position in the dependency graph is not known.
+     */
+    public static final int UNKNOWN_LEVEL = -1;
+
     private final T injectionTarget;
     private final Set<InjectionPoint<T>> injectionPoint;
+    private final int level;
 
     public InjectionContainer(T target, Set<InjectionPoint<T>> injectionPoint) {
+        this(target, injectionPoint, UNKNOWN_LEVEL);
+    }
+
+    public InjectionContainer(T target, Set<InjectionPoint<T>> injectionPoint, int level) {
         injectionTarget = target;
         if (injectionPoint.stream().anyMatch(ip -> ip.getInstance() != target)) {
             throw new EdcInjectionException("Injection target must match all InjectionPoints!");
         }
         this.injectionPoint = injectionPoint;
-
+        this.level = level;
     }
 
     public T getInjectionTarget() {
         return injectionTarget;
     }
 
+    /**
+     * The level of the target in the dependency graph: targets only depend on targets of lower levels, so targets of
+     * the same level can be booted concurrently.
+     *
+     * @return the level, {@link #UNKNOWN_LEVEL} if not known.
+     */
+    public int getLevel() {
+        return level;
+    }
+
     public Set<InjectionPoint<T>> getInjectionPoints() {
         return injectionPoint;
     }
@@ -21,6 +21,7 @@ import org.eclipse.edc.boot.system.ExtensionLoader;
 import org.eclipse.edc.boot.system.ServiceLocator;
 import org.eclipse.edc.boot.system.ServiceLocatorImpl;
 import org.eclipse.edc.boot.system.injection.InjectionContainer;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ConfigurationExtension;
@@ -52,6 +53,11 @@ import static java.lang.String.format;
  */
 public class BaseRuntime {
 
+    @Setting(value = "Start the independent service extensions concurrently, following the levels of the dependency graph. Extensions are still initialized sequentially. Extensions that rely on an implicit start ordering (i.e. not expressed by @Inject or @Requires) may not work in this mode", type = "boolean", defaultValue = "false")
+    public static final String BOOT_PARALLEL = "edc.boot.parallel";
+    @Setting(value = "Number of threads used to start the service extensions concurrently. Defaults to the number of available processors", type = "int")
+    public static final String BOOT_PARALLEL_THREADS = "edc.boot.parallel.threads";
+
     private static String[] programArgs = new String[0];
     private final ExtensionLoader extensionLoader;
     private final List<ServiceExtension> serviceExtensions = new ArrayList<>();
@@ -139,13 +145,18 @@ public class BaseRuntime {
     }
 
     /**
-     * Starts all service extensions by invoking {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext)}
+     * Starts all service extensions by invoking {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext, int)},
+     * concurrently if {@value #BOOT_PARALLEL} is enabled.
      *
      * @param context           The {@code ServiceExtensionContext} that is used in this runtime.
      * @param serviceExtensions a list of extensions
      */
     protected void bootExtensions(ServiceExtensionContext context, List<InjectionContainer<ServiceExtension>> serviceExtensions) {
-        ExtensionLoader.bootServiceExtensions(serviceExtensions, context);
+        var parallelism = 1;
+        if (context.getSetting(BOOT_PARALLEL, false)) {
+            parallelism = context.getSetting(BOOT_PARALLEL_THREADS, getRuntime().availableProcessors());
+        }
+        ExtensionLoader.bootServiceExtensions(serviceExtensions, context, parallelism);
     }
 
     /**
@@ -17,6 +17,9 @@ package org.eclipse.edc.boot.system;
 import org.assertj.core.data.Index;
 import org.eclipse.edc.boot.system.injection.EdcInjectionException;
 import org.eclipse.edc.boot.system.injection.InjectionContainer;
+import org.eclipse.edc.boot.system.testextensions.BaseExtension;
+import org.eclipse.edc.boot.system.testextensions.CoreExtension;
+import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -76,4 +79,27 @@ class DependencyGraphTest {
                 .usingRecursiveFieldByFieldElementComparator()
                 .containsOnly(dependentExtension);
     }
-}
\ No newline at end of file
+
+    @Test
+    void sortExtensions_shouldComputeDependencyLevels() {
+        var providerExtension = TestFunctions.createProviderExtension(false);
+        var dependentExtension = TestFunctions.createDependentExtension(true);
+        var independentExtension = new ServiceExtension() {
+        };
+
+        var list = graph.of(TestFunctions.createList(dependentExtension, independentExtension, providerExtension));
+
+        assertThat(list).allSatisfy(container -> {
+            var target = container.getInjectionTarget();
+            if (target instanceof BaseExtension) {
+                assertThat(container.getLevel()).isEqualTo(0);
+            } else if (target instanceof CoreExtension) {
+                assertThat(container.getLevel()).isEqualTo(1);
+            } else if (target == dependentExtension) {
+                assertThat(container.getLevel()).isEqualTo(3);
+            } else {
+                assertThat(container.getLevel()).isEqualTo(2);
+            }
+        });
+    }
+}
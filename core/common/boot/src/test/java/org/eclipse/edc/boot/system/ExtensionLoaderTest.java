@@ -22,6 +22,7 @@ import org.eclipse.edc.boot.system.injection.EdcInjectionException;
 import org.eclipse.edc.boot.system.injection.InjectionContainer;
 import org.eclipse.edc.boot.system.testextensions.ProviderDefaultServicesExtension;
 import org.eclipse.edc.boot.system.testextensions.ProviderExtension;
+import org.eclipse.edc.boot.system.testextensions.RequiredDependentExtension;
 import org.eclipse.edc.boot.util.CyclicDependencyException;
 import org.eclipse.edc.runtime.metamodel.annotation.BaseExtension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -40,6 +41,10 @@ import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,6 +54,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -381,11 +387,130 @@ class ExtensionLoaderTest {
         assertThat(context.getService(TestObject.class)).isNotNull();
     }
 
+    @Test
+    @DisplayName("bootServiceExtensions - Should boot extensions concurrently following the dependency levels")
+    void bootServiceExtensions_parallel() {
+        var dependentExtension = (RequiredDependentExtension) Mockito.spy(TestFunctions.createDependentExtension(true));
+        var provider = (ProviderExtension) Mockito.spy(TestFunctions.createProviderExtension(false));
+        when(provider.testObject()).thenCallRealMethod();
+
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+
+        var list = TestFunctions.createInjectionContainers(TestFunctions.createList(dependentExtension, provider), context);
+
+        ExtensionLoader.bootServiceExtensions(list, context, 4);
+
+        var inOrder = inOrder(provider, dependentExtension);
+        inOrder.verify(provider).testObject();
+        inOrder.verify(dependentExtension).initialize(context);
+        inOrder.verify(dependentExtension).start();
+        assertThat(context.getService(TestObject.class)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("bootServiceExtensions - Should initialize many registering extensions sequentially and start them concurrently")
+    void bootServiceExtensions_parallel_shouldInitializeSequentially() {
+        var registry = new NonThreadSafeRegistry();
+        var started = ConcurrentHashMap.<String>newKeySet();
+        var extensions = IntStream.range(0, 100)
+                .mapToObj(i -> (ServiceExtension) new RegisteringExtension("extension" + i, registry, started))
+                .toArray(ServiceExtension[]::new);
+
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+
+        var list = TestFunctions.createInjectionContainers(TestFunctions.createList(extensions), context);
+
+        ExtensionLoader.bootServiceExtensions(list, context, 8);
+
+        assertThat(registry.concurrentAccess).isFalse();
+        assertThat(registry.entries).hasSize(100).doesNotHaveDuplicates();
+        assertThat(started).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("bootServiceExtensions - Should report the failure of the first extension in dependency order")
+    void bootServiceExtensions_parallel_shouldReportFirstFailure() {
+        var first = new FailingExtension("first");
+        var second = new FailingExtension("second");
+
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+
+        var list = TestFunctions.createInjectionContainers(TestFunctions.createList(first, second), context);
+
+        assertThatThrownBy(() -> ExtensionLoader.bootServiceExtensions(list, context, 4))
+                .isInstanceOf(EdcException.class)
+                .hasMessage("first")
+                .satisfies(e -> assertThat(e.getSuppressed()).extracting(Throwable::getMessage).containsExactly("second"));
+    }
+
     @SafeVarargs
     private <T> List<T> mutableListOf(T... elements) {
         return new ArrayList<>(List.of(elements));
     }
 
+    private static class FailingExtension implements ServiceExtension {
+        private final String message;
+
+        FailingExtension(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public void start() {
+            throw new EdcException(message);
+        }
+    }
+
+    /**
+     * Registry that, like most of the registries filled by the extensions, is not thread-safe, and records whether it
+     * has been accessed concurrently.
+     */
+    private static class NonThreadSafeRegistry {
+        private final List<String> entries = new ArrayList<>();
+        private final AtomicInteger accessing = new AtomicInteger();
+        private volatile boolean concurrentAccess = false;
+
+        void register(String entry) {
+            if (accessing.incrementAndGet() > 1) {
+                concurrentAccess = true;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            entries.add(entry);
+            accessing.decrementAndGet();
+        }
+    }
+
+    private static class RegisteringExtension implements ServiceExtension {
+        private final String name;
+        private final NonThreadSafeRegistry registry;
+        private final Set<String> started;
+
+        RegisteringExtension(String name, NonThreadSafeRegistry registry, Set<String> started) {
+            this.name = name;
+            this.registry = registry;
+            this.started = started;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void initialize(ServiceExtensionContext context) {
+            registry.register(name);
+        }
+
+        @Override
+        public void start() {
+            started.add(name);
+        }
+    }
+
     private static class DependingExtension implements ServiceExtension {
         @Inject
         private SomeObject someService;
@@ -37,9 +37,13 @@ import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.Arrays;
+import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
 
 /**
  * Provides default service implementations for fallback
@@ -72,6 +76,10 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
 
     private static final String OK_HTTP_CLIENT_DEFAULT_TIMEOUT = "30";
     private static final String OK_HTTP_CLIENT_DEFAULT_HTTPS_ENFORCE = "false";
+    private static final String OK_HTTP_CLIENT_DEFAULT_MAX_REQUESTS = "64";
+    private static final String OK_HTTP_CLIENT_DEFAULT_MAX_REQUESTS_PER_HOST = "5";
+    private static final String OK_HTTP_CLIENT_DEFAULT_POOL_MAX_IDLE = "5";
+    private static final String OK_HTTP_CLIENT_DEFAULT_POOL_KEEP_ALIVE = "300";
     @Setting(value = "OkHttpClient: If true, enable HTTPS call enforcement.", defaultValue = OK_HTTP_CLIENT_DEFAULT_HTTPS_ENFORCE, type = "boolean")
     public static final String OK_HTTP_CLIENT_HTTPS_ENFORCE = "edc.http.client.https.enforce";
     @Setting(value = "OkHttpClient: connect timeout, in seconds", defaultValue = OK_HTTP_CLIENT_DEFAULT_TIMEOUT, type = "int")
@@ -82,6 +90,16 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     public static final String OK_HTTP_CLIENT_SEND_BUFFER_SIZE = "edc.http.client.send.buffer.size";
     @Setting(value = "OkHttpClient: receive buffer size, in bytes", type = "int", min = 1)
     public static final String OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE = "edc.http.client.receive.buffer.size";
+    @Setting(value = "OkHttpClient: maximum number of concurrent requests, further asynchronous requests are queued", defaultValue = OK_HTTP_CLIENT_DEFAULT_MAX_REQUESTS, type = "int", min = 1)
+    public static final String OK_HTTP_CLIENT_MAX_REQUESTS = "edc.http.client.dispatcher.max.requests";
+    @Setting(value = "OkHttpClient: maximum number of concurrent requests per host, further asynchronous requests are queued", defaultValue = OK_HTTP_CLIENT_DEFAULT_MAX_REQUESTS_PER_HOST, type = "int", min = 1)
+    public static final String OK_HTTP_CLIENT_MAX_REQUESTS_PER_HOST = "edc.http.client.dispatcher.max.requests.per.host";
+    @Setting(value = "OkHttpClient: maximum number of idle connections kept in the pool", defaultValue = OK_HTTP_CLIENT_DEFAULT_POOL_MAX_IDLE, type = "int", min = 0)
+    public static final String OK_HTTP_CLIENT_POOL_MAX_IDLE = "edc.http.client.pool.max.idle";
+    @Setting(value = "OkHttpClient: keep-alive duration of idle pooled connections, in seconds", defaultValue = OK_HTTP_CLIENT_DEFAULT_POOL_KEEP_ALIVE, type = "long", min = 1)
+    public static final String OK_HTTP_CLIENT_POOL_KEEP_ALIVE = "edc.http.client.pool.keep.alive";
+    @Setting(value = "OkHttpClient: comma-separated list of hosts that are called with HTTP/2 prior knowledge when using plain HTTP")
+    public static final String OK_HTTP_CLIENT_HTTP2_PRIOR_KNOWLEDGE_HOSTS = "edc.http.client.http2.prior.knowledge.hosts";
 
     /**
      * An optional OkHttp {@link EventListener} that can be used to instrument OkHttp client for collecting metrics.
@@ -89,6 +107,8 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     @Inject(required = false)
     private EventListener okHttpEventListener;
 
+    private OkHttpClient okHttpClient;
+
     @Override
     public String name() {
         return NAME;
@@ -116,21 +136,32 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return new EdcHttpClientImpl(
                 okHttpClient(context),
                 retryPolicy(context),
-                context.getMonitor()
+                context.getMonitor(),
+                priorKnowledgeHosts(context)
         );
     }
 
     @Provider
     public OkHttpClient okHttpClient(ServiceExtensionContext context) {
+        // the EdcHttpClient shares this instance, so that both use the same dispatcher and connection pool
+        if (okHttpClient != null) {
+            return okHttpClient;
+        }
+
         var configuration = OkHttpClientConfiguration.Builder.newInstance()
                 .enforceHttps(context.getSetting(OK_HTTP_CLIENT_HTTPS_ENFORCE, Boolean.parseBoolean(OK_HTTP_CLIENT_DEFAULT_HTTPS_ENFORCE)))
                 .connectTimeout(context.getSetting(OK_HTTP_CLIENT_TIMEOUT_CONNECT, parseInt(OK_HTTP_CLIENT_DEFAULT_TIMEOUT)))
                 .readTimeout(context.getSetting(OK_HTTP_CLIENT_TIMEOUT_READ, parseInt(OK_HTTP_CLIENT_DEFAULT_TIMEOUT)))
                 .sendBufferSize(context.getSetting(OK_HTTP_CLIENT_SEND_BUFFER_SIZE, 0))
                 .receiveBufferSize(context.getSetting(OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE, 0))
+                .maxRequests(context.getSetting(OK_HTTP_CLIENT_MAX_REQUESTS, parseInt(OK_HTTP_CLIENT_DEFAULT_MAX_REQUESTS)))
+                .maxRequestsPerHost(context.getSetting(OK_HTTP_CLIENT_MAX_REQUESTS_PER_HOST, parseInt(OK_HTTP_CLIENT_DEFAULT_MAX_REQUESTS_PER_HOST)))
+                .maxIdleConnections(context.getSetting(OK_HTTP_CLIENT_POOL_MAX_IDLE, parseInt(OK_HTTP_CLIENT_DEFAULT_POOL_MAX_IDLE)))
+                .keepAliveDuration(context.getSetting(OK_HTTP_CLIENT_POOL_KEEP_ALIVE, parseLong(OK_HTTP_CLIENT_DEFAULT_POOL_KEEP_ALIVE)))
                 .build();
 
-        return OkHttpClientFactory.create(configuration, okHttpEventListener, context.getMonitor());
+        okHttpClient = OkHttpClientFactory.create(configuration, okHttpEventListener, context.getMonitor());
+        return okHttpClient;
     }
 
     @Provider
@@ -154,4 +185,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return new NoOpParticipantIdMapper();
     }
 
+    private Set<String> priorKnowledgeHosts(ServiceExtensionContext context) {
+        return Arrays.stream(context.getSetting(OK_HTTP_CLIENT_HTTP2_PRIOR_KNOWLEDGE_HOSTS, "").split(","))
+                .map(String::trim)
+                .filter(host -> !host.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
 }
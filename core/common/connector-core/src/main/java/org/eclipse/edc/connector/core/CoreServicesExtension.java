@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.core;
 import org.eclipse.edc.connector.core.agent.ParticipantAgentServiceImpl;
 import org.eclipse.edc.connector.core.command.CommandHandlerRegistryImpl;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
+import org.eclipse.edc.connector.core.event.EventOverflowPolicy;
 import org.eclipse.edc.connector.core.event.EventRouterImpl;
 import org.eclipse.edc.connector.core.message.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.edc.connector.core.validator.DataAddressValidatorRegistryImpl;
@@ -36,6 +37,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventRouterMetrics;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.Hostname;
@@ -62,6 +64,15 @@ public class CoreServicesExtension implements ServiceExtension {
     @Setting
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
+    @Setting(value = "Maximum number of events waiting to be delivered to every asynchronous event subscriber", type = "int", defaultValue = EventRouterImpl.DEFAULT_QUEUE_CAPACITY + "")
+    public static final String EVENTS_SUBSCRIBER_QUEUE_CAPACITY = "edc.events.subscriber.queue.capacity";
+
+    @Setting(value = "What to do with an event when the queue of an asynchronous subscriber is full: CALLER_RUNS delivers it on the publishing thread, DROP_NEWEST and DROP_OLDEST drop an event", defaultValue = "CALLER_RUNS")
+    public static final String EVENTS_SUBSCRIBER_OVERFLOW_POLICY = "edc.events.subscriber.overflow.policy";
+
+    @Setting(value = "Maximum number of events delivered to an asynchronous subscriber in a single executor task", type = "int", defaultValue = EventRouterImpl.DEFAULT_BATCH_SIZE + "")
+    public static final String EVENTS_SUBSCRIBER_BATCH_SIZE = "edc.events.subscriber.batch.size";
+
     public static final String NAME = "Core Services";
     private static final String DEFAULT_HOSTNAME = "localhost";
 
@@ -73,6 +84,8 @@ public class CoreServicesExtension implements ServiceExtension {
 
     private RuleBindingRegistry ruleBindingRegistry;
 
+    private EventRouterImpl eventRouter;
+
     @Override
     public String name() {
         return NAME;
@@ -139,7 +152,12 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        return eventRouterImpl(context);
+    }
+
+    @Provider
+    public EventRouterMetrics eventRouterMetrics(ServiceExtensionContext context) {
+        return eventRouterImpl(context);
     }
 
     @Provider
@@ -162,5 +180,13 @@ public class CoreServicesExtension implements ServiceExtension {
         return CriterionOperatorRegistryImpl.ofDefaults();
     }
 
+    private EventRouterImpl eventRouterImpl(ServiceExtensionContext context) {
+        if (eventRouter == null) {
+            var queueCapacity = context.getSetting(EVENTS_SUBSCRIBER_QUEUE_CAPACITY, EventRouterImpl.DEFAULT_QUEUE_CAPACITY);
+            var overflowPolicy = EventOverflowPolicy.valueOf(context.getSetting(EVENTS_SUBSCRIBER_OVERFLOW_POLICY, EventOverflowPolicy.CALLER_RUNS.name()));
+            var batchSize = context.getSetting(EVENTS_SUBSCRIBER_BATCH_SIZE, EventRouterImpl.DEFAULT_BATCH_SIZE);
+            eventRouter = new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(), queueCapacity, overflowPolicy, batchSize);
+        }
+        return eventRouter;
+    }
 }
-
@@ -21,6 +21,10 @@ public class OkHttpClientConfiguration {
     private int readTimeout;
     private int sendBufferSize;
     private int receiveBufferSize;
+    private int maxRequests = 64;
+    private int maxRequestsPerHost = 5;
+    private int maxIdleConnections = 5;
+    private long keepAliveDuration = 300;
 
     private OkHttpClientConfiguration() {
     }
@@ -45,6 +49,22 @@ public class OkHttpClientConfiguration {
         return receiveBufferSize;
     }
 
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public long getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+
     public static class Builder {
 
         private final OkHttpClientConfiguration instance = new OkHttpClientConfiguration();
@@ -81,6 +101,26 @@ public class OkHttpClientConfiguration {
             return this;
         }
 
+        public Builder maxRequests(int maxRequests) {
+            instance.maxRequests = maxRequests;
+            return this;
+        }
+
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            instance.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            instance.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        public Builder keepAliveDuration(long keepAliveDuration) {
+            instance.keepAliveDuration = keepAliveDuration;
+            return this;
+        }
+
         public OkHttpClientConfiguration build() {
             return instance;
         }
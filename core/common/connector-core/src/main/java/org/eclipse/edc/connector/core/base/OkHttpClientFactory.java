@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.connector.core.base;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
@@ -45,7 +47,9 @@ public class OkHttpClientFactory {
     public static OkHttpClient create(OkHttpClientConfiguration configuration, EventListener okHttpEventListener, Monitor monitor) {
         var builder = new OkHttpClient.Builder()
                 .connectTimeout(configuration.getConnectTimeout(), SECONDS)
-                .readTimeout(configuration.getReadTimeout(), SECONDS);
+                .readTimeout(configuration.getReadTimeout(), SECONDS)
+                .dispatcher(dispatcher(configuration))
+                .connectionPool(new ConnectionPool(configuration.getMaxIdleConnections(), configuration.getKeepAliveDuration(), SECONDS));
 
         if (configuration.getSendBufferSize() > 0 || configuration.getReceiveBufferSize() > 0) {
             builder.socketFactory(new CustomSocketFactory(configuration.getSendBufferSize(), configuration.getReceiveBufferSize()));
@@ -62,6 +66,13 @@ public class OkHttpClientFactory {
         return builder.build();
     }
 
+    private static Dispatcher dispatcher(OkHttpClientConfiguration configuration) {
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(configuration.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(configuration.getMaxRequestsPerHost());
+        return dispatcher;
+    }
+
     private static class EnforceHttps implements Interceptor {
         @NotNull
         @Override
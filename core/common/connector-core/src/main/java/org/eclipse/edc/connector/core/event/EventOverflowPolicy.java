@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+/**
+ * What the {@link EventRouterImpl} does with an event when the queue of an asynchronous subscriber is full.
+ */
+public enum EventOverflowPolicy {
+
+    /**
+     * The event is delivered on the publishing thread, slowing the publisher down to the pace of the subscriber.
+     */
+    CALLER_RUNS,
+
+    /**
+     * The event is not delivered to the subscriber.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The oldest queued event is discarded to make room for the new one.
+     */
+    DROP_OLDEST
+}
@@ -18,70 +18,115 @@ package org.eclipse.edc.connector.core.event;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventRouterMetrics;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.LongAdder;
 
-import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.runAsync;
+/**
+ * Default {@link EventRouter}. The subscribers of every concrete event class are resolved once and cached until a new
+ * subscriber is registered, so publishing doesn't need to look at all the registered event kinds.
+ * <p>
+ * Every asynchronous subscriber gets its own bounded queue, drained in batches on the shared executor: when a queue is
+ * full the {@link EventOverflowPolicy} decides whether the event gets delivered on the publishing thread or dropped.
+ */
+public class EventRouterImpl implements EventRouter, EventRouterMetrics {
 
-public class EventRouterImpl implements EventRouter {
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final int DEFAULT_BATCH_SIZE = 100;
 
-    private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<SubscriberQueue>> subscribers = new ConcurrentHashMap<>();
+    private final List<SubscriberQueue> queues = new CopyOnWriteArrayList<>();
+    private volatile Map<Class<?>, Dispatch> dispatchCache = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final int queueCapacity;
+    private final EventOverflowPolicy overflowPolicy;
+    private final int batchSize;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder publishTime = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, DEFAULT_QUEUE_CAPACITY, EventOverflowPolicy.CALLER_RUNS, DEFAULT_BATCH_SIZE);
+    }
+
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, int queueCapacity, EventOverflowPolicy overflowPolicy, int batchSize) {
         this.monitor = monitor;
         this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
     }
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        syncSubscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        dispatchCache = new ConcurrentHashMap<>();
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        var queue = new SubscriberQueue(subscriber, queueCapacity, overflowPolicy, batchSize, executor, monitor, dropped);
+        queues.add(queue);
+        subscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(queue);
+        dispatchCache = new ConcurrentHashMap<>();
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
-
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        var start = System.nanoTime();
+        try {
+            var dispatch = dispatchCache.computeIfAbsent(event.getPayload().getClass(), this::resolve);
+
+            dispatch.sync().forEach(subscriber -> subscriber.on(event));
+            dispatch.async().forEach(queue -> queue.enqueue(event));
+        } finally {
+            published.increment();
+            publishTime.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    @Override
+    public long getPublishTimeNanos() {
+        return publishTime.sum();
+    }
+
+    @Override
+    public int getQueuedCount() {
+        return queues.stream().mapToInt(SubscriberQueue::size).sum();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.sum();
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    private Dispatch resolve(Class<?> eventClass) {
+        return new Dispatch(subscribersOf(syncSubscribers, eventClass), subscribersOf(subscribers, eventClass));
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    private <S> List<S> subscribersOf(Map<Class<?>, List<S>> subscribers, Class<?> eventClass) {
+        return subscribers.entrySet().stream()
+                .filter(entry -> entry.getKey().isAssignableFrom(eventClass))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+    private record Dispatch(List<EventSubscriber> sync, List<SubscriberQueue> async) {
     }
 }
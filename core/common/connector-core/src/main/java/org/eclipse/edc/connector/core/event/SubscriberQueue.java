@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded queue of the events to be delivered to an asynchronous subscriber. At most one drain task per subscriber is
+ * running on the executor, it delivers up to {@code batchSize} events in order and then reschedules itself if more
+ * events are waiting, so that a slow subscriber neither delays the others nor grows its backlog without limit.
+ */
+class SubscriberQueue {
+
+    private final EventSubscriber subscriber;
+    private final BlockingQueue<EventEnvelope<?>> queue;
+    private final EventOverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final Monitor monitor;
+    private final LongAdder dropped;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    SubscriberQueue(EventSubscriber subscriber, int capacity, EventOverflowPolicy overflowPolicy, int batchSize,
+                    ExecutorService executor, Monitor monitor, LongAdder dropped) {
+        this.subscriber = subscriber;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.dropped = dropped;
+    }
+
+    void enqueue(EventEnvelope<?> event) {
+        if (!queue.offer(event)) {
+            switch (overflowPolicy) {
+                case CALLER_RUNS -> deliver(event);
+                case DROP_NEWEST -> drop(event);
+                case DROP_OLDEST -> {
+                    while (!queue.offer(event)) {
+                        var oldest = queue.poll();
+                        if (oldest != null) {
+                            drop(oldest);
+                        }
+                    }
+                }
+                default -> throw new IllegalStateException("Unexpected overflow policy: " + overflowPolicy);
+            }
+        }
+        scheduleDrain();
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    private void scheduleDrain() {
+        if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            monitor.warning(format("Cannot deliver events to subscriber %s: %s", subscriberName(), e.getMessage()));
+        }
+    }
+
+    private void drain() {
+        try {
+            for (var i = 0; i < batchSize; i++) {
+                var event = queue.poll();
+                if (event == null) {
+                    break;
+                }
+                deliver(event);
+            }
+        } finally {
+            draining.set(false);
+        }
+        scheduleDrain();
+    }
+
+    private void deliver(EventEnvelope<?> event) {
+        try {
+            subscriber.on(event);
+        } catch (Throwable throwable) {
+            var eventName = event.getClass().getSimpleName();
+            monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName(), eventName), throwable);
+        }
+    }
+
+    private void drop(EventEnvelope<?> event) {
+        dropped.increment();
+        monitor.debug(() -> format("Queue of subscriber %s is full, event %s has been dropped", subscriberName(), event.getPayload().name()));
+    }
+
+    private String subscriberName() {
+        return subscriber.getClass().getSimpleName();
+    }
+}
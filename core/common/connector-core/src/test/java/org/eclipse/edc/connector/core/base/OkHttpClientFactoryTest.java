@@ -25,25 +25,52 @@ import okhttp3.ResponseBody;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
+import org.mockserver.integration.ClientAndServer;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
 
 class OkHttpClientFactoryTest {
 
     private static final String HTTP_URL = "http://localhost:11111";
     private static final String HTTPS_URL = "https://localhost:11111";
+    private final int port = getFreePort();
     private final Monitor monitor = mock();
     private final EventListener eventListener = mock();
+    private ClientAndServer server;
+
+    @BeforeEach
+    void startServer() {
+        server = ClientAndServer.startClientAndServer(port);
+    }
+
+    @AfterEach
+    void stopServer() {
+        stopQuietly(server);
+    }
 
     @Test
     void shouldPrintLogIfHttpsNotEnforced() {
@@ -90,6 +117,59 @@ class OkHttpClientFactoryTest {
         });
     }
 
+    @Test
+    void shouldConfigureDispatcherAndConnectionPool() {
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .maxRequests(128)
+                .maxRequestsPerHost(16)
+                .maxIdleConnections(10)
+                .keepAliveDuration(60)
+                .build();
+
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor);
+
+        assertThat(okHttpClient.dispatcher().getMaxRequests()).isEqualTo(128);
+        assertThat(okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldKeepAtMostMaxIdleConnections() {
+        server.when(request()).respond(response().withStatusCode(200).withDelay(MILLISECONDS, 500));
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .maxIdleConnections(1)
+                .keepAliveDuration(60)
+                .build();
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor);
+        var executor = Executors.newFixedThreadPool(3);
+
+        try {
+            var calls = IntStream.range(0, 3)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> callQuietly(okHttpClient, "http://localhost:" + port), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(calls).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(eventListener, times(3)).connectStart(any(), any(), any());
+        await().atMost(5, SECONDS).untilAsserted(() -> assertThat(okHttpClient.connectionPool().connectionCount()).isEqualTo(1));
+    }
+
+    @Test
+    void shouldEvictIdleConnections_whenKeepAliveDurationExpires() {
+        server.when(request()).respond(response().withStatusCode(200));
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .maxIdleConnections(5)
+                .keepAliveDuration(1)
+                .build();
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor);
+
+        callQuietly(okHttpClient, "http://localhost:" + port);
+
+        assertThat(okHttpClient.connectionPool().idleConnectionCount()).isEqualTo(1);
+        await().atMost(5, SECONDS).untilAsserted(() -> assertThat(okHttpClient.connectionPool().connectionCount()).isZero());
+    }
+
     @NotNull
     private Interceptor dummySuccessfulResponse() {
         return it -> new Response.Builder()
@@ -105,6 +185,14 @@ class OkHttpClientFactoryTest {
         okHttpClient.newCall(new Request.Builder().url(url).build()).execute().close();
     }
 
+    private void callQuietly(OkHttpClient okHttpClient, String url) {
+        try {
+            call(okHttpClient, url);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @NotNull
     private ArgumentMatcher<String> messageContains(String string) {
         return message -> message.contains(string);
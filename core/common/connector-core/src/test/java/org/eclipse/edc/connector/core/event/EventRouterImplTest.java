@@ -21,15 +21,19 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,6 +153,78 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldPublishToSubscribersRegisteredAfterFirstPublish() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+        var event = envelope();
+        eventRouter.publish(event);
+
+        eventRouter.registerSync(TestEventBase.class, subscriberB);
+        eventRouter.publish(event);
+
+        verify(subscriberA, times(2)).on(eq(event));
+        verify(subscriberB).on(eq(event));
+    }
+
+    @Test
+    void shouldDropEvents_whenSubscriberQueueIsFull() throws InterruptedException {
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), 1, EventOverflowPolicy.DROP_NEWEST, 10);
+        var latch = new CountDownLatch(1);
+        var subscriber = mock(EventSubscriber.class);
+        doAnswer(i -> {
+            latch.await();
+            return null;
+        }).when(subscriber).on(any());
+        router.register(TestEvent.class, subscriber);
+
+        var event = envelope();
+        router.publish(event);
+        await().untilAsserted(() -> verify(subscriber).on(any()));
+        router.publish(event);
+        router.publish(event);
+
+        assertThat(router.getQueuedCount()).isEqualTo(1);
+        assertThat(router.getDroppedCount()).isEqualTo(1);
+        latch.countDown();
+        await().untilAsserted(() -> verify(subscriber, times(2)).on(any()));
+        assertThat(router.getPublishedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDeliverOnCallerThread_whenSubscriberQueueIsFullAndPolicyIsCallerRuns() {
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), 1, EventOverflowPolicy.CALLER_RUNS, 10);
+        var latch = new CountDownLatch(1);
+        var callerThread = Thread.currentThread();
+        var subscriber = mock(EventSubscriber.class);
+        doAnswer(i -> {
+            if (Thread.currentThread() != callerThread) {
+                latch.await();
+            }
+            return null;
+        }).when(subscriber).on(any());
+        router.register(TestEvent.class, subscriber);
+
+        var event = envelope();
+        router.publish(event);
+        await().untilAsserted(() -> verify(subscriber).on(any()));
+        router.publish(event);
+        router.publish(event);
+
+        verify(subscriber, times(2)).on(any());
+        assertThat(router.getDroppedCount()).isZero();
+        latch.countDown();
+        await().untilAsserted(() -> verify(subscriber, times(3)).on(any()));
+    }
+
+    private EventEnvelope<TestEvent> envelope() {
+        return EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
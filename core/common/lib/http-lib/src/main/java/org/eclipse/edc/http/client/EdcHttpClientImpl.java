@@ -14,9 +14,15 @@
 
 package org.eclipse.edc.http.client;
 
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeExecutor;
+import dev.failsafe.Policy;
 import dev.failsafe.RetryPolicy;
+import dev.failsafe.okhttp.FailsafeCall;
+import okhttp3.Call;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.dnsoverhttps.DnsOverHttps;
@@ -26,24 +32,46 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
-import static dev.failsafe.okhttp.FailsafeCall.with;
 import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
 public class EdcHttpClientImpl implements EdcHttpClient {
 
     private final OkHttpClient okHttpClient;
+    private final OkHttpClient priorKnowledgeClient;
+    private final Set<String> priorKnowledgeHosts;
     private final RetryPolicy<Response> retryPolicy;
+    private final FailsafeExecutor<Response> retryExecutor;
     private final Monitor monitor;
 
     public EdcHttpClientImpl(OkHttpClient okHttpClient, RetryPolicy<Response> retryPolicy, Monitor monitor) {
+        this(okHttpClient, retryPolicy, monitor, Set.of());
+    }
+
+    /**
+     * Creates a client that talks HTTP/2 with prior knowledge, i.e. without the HTTP/1.1 upgrade, to the given hosts
+     * when they are called over plain HTTP. Over HTTPS, HTTP/2 is negotiated through ALPN anyway.
+     *
+     * @param okHttpClient        the underlying client.
+     * @param retryPolicy         the retry policy applied to every call.
+     * @param monitor             the monitor.
+     * @param priorKnowledgeHosts the hosts that are known to support HTTP/2.
+     */
+    public EdcHttpClientImpl(OkHttpClient okHttpClient, RetryPolicy<Response> retryPolicy, Monitor monitor, Set<String> priorKnowledgeHosts) {
         this.okHttpClient = okHttpClient;
         this.retryPolicy = retryPolicy;
         this.monitor = monitor;
+        this.priorKnowledgeHosts = Set.copyOf(priorKnowledgeHosts);
+        this.retryExecutor = Failsafe.with(retryPolicy);
+        // shares dispatcher and connection pool with the default client
+        this.priorKnowledgeClient = priorKnowledgeHosts.isEmpty() ? okHttpClient :
+                okHttpClient.newBuilder().protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE)).build();
     }
 
     @Override
@@ -53,10 +81,7 @@ public class EdcHttpClientImpl implements EdcHttpClient {
 
     @Override
     public Response execute(Request request, List<FallbackFactory> fallbacks) throws IOException {
-        var call = okHttpClient.newCall(request);
-        var builder = with(retryPolicy);
-        fallbacks.stream().map(it -> it.create(request)).forEach(builder::compose);
-        return builder.compose(call).execute();
+        return failsafeCall(request, fallbacks).execute();
     }
 
     @Override
@@ -81,12 +106,7 @@ public class EdcHttpClientImpl implements EdcHttpClient {
 
     @Override
     public CompletableFuture<Response> executeAsync(Request request, List<FallbackFactory> fallbacks) {
-        var call = okHttpClient.newCall(request);
-        var builder = with(retryPolicy);
-        fallbacks.stream().map(it -> it.create(request)).forEach(builder::compose);
-
-        return builder.compose(call)
-                .executeAsync();
+        return failsafeCall(request, fallbacks).executeAsync();
     }
 
     @Override
@@ -109,7 +129,27 @@ public class EdcHttpClientImpl implements EdcHttpClient {
                 .includeIPv6(false)
                 .build();
 
-        return new EdcHttpClientImpl(okHttpClient.newBuilder().dns(dns).build(), retryPolicy, monitor);
+        return new EdcHttpClientImpl(okHttpClient.newBuilder().dns(dns).build(), retryPolicy, monitor, priorKnowledgeHosts);
+    }
+
+    private FailsafeCall failsafeCall(Request request, List<FallbackFactory> fallbacks) {
+        var call = newCall(request);
+        if (fallbacks.isEmpty()) {
+            return FailsafeCall.with(retryExecutor).compose(call);
+        }
+
+        var policies = new ArrayList<Policy<Response>>(fallbacks.size() + 1);
+        policies.add(retryPolicy);
+        fallbacks.stream().map(it -> it.create(request)).forEach(policies::add);
+        return FailsafeCall.with(Failsafe.with(policies)).compose(call);
+    }
+
+    private Call newCall(Request request) {
+        var url = request.url();
+        if (!url.isHttps() && priorKnowledgeHosts.contains(url.host())) {
+            return priorKnowledgeClient.newCall(request);
+        }
+        return okHttpClient.newCall(request);
     }
 
 }
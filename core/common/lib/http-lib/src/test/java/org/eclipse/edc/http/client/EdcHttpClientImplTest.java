@@ -15,8 +15,10 @@
 package org.eclipse.edc.http.client;
 
 import dev.failsafe.RetryPolicy;
+import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import org.eclipse.edc.http.spi.EdcHttpClient;
@@ -32,6 +34,7 @@ import org.mockserver.model.HttpResponse;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -41,7 +44,12 @@ import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNot;
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNotIn;
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusNot2xxOr4xx;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockserver.matchers.Times.once;
 import static org.mockserver.matchers.Times.unlimited;
 import static org.mockserver.model.HttpError.error;
@@ -271,6 +279,33 @@ class EdcHttpClientImplTest {
         assertThat(result).failsWithin(5, TimeUnit.SECONDS);
     }
 
+    @Test
+    void execute_shouldUseHttp2PriorKnowledge_whenHostIsConfigured() {
+        server.when(request(), unlimited()).respond(new HttpResponse().withStatusCode(200));
+        var eventListener = mock(EventListener.class);
+        var okHttpClient = testOkHttpClient().newBuilder().eventListener(eventListener).readTimeout(2, TimeUnit.SECONDS).build();
+        var client = new EdcHttpClientImpl(okHttpClient, RetryPolicy.<Response>builder().withMaxRetries(0).build(), mock(), Set.of("localhost"));
+
+        client.execute(new Request.Builder().url("http://localhost:" + port).build(), response -> Result.success(response.code()));
+
+        verify(eventListener, atLeastOnce()).connectEnd(any(), any(), any(), eq(Protocol.H2_PRIOR_KNOWLEDGE));
+        verify(eventListener, never()).connectEnd(any(), any(), any(), eq(Protocol.HTTP_1_1));
+    }
+
+    @Test
+    void execute_shouldUseHttp1_whenHostIsNotConfiguredForPriorKnowledge() {
+        server.when(request(), unlimited()).respond(new HttpResponse().withStatusCode(200));
+        var eventListener = mock(EventListener.class);
+        var okHttpClient = testOkHttpClient().newBuilder().eventListener(eventListener).build();
+        var client = new EdcHttpClientImpl(okHttpClient, RetryPolicy.ofDefaults(), mock(), Set.of("localhost"));
+
+        var result = client.execute(new Request.Builder().url("http://127.0.0.1:" + port).build(), response -> Result.success(response.code()));
+
+        assertThat(result).matches(Result::succeeded).extracting(Result::getContent).isEqualTo(200);
+        verify(eventListener).connectEnd(any(), any(), any(), eq(Protocol.HTTP_1_1));
+        verify(eventListener, never()).connectEnd(any(), any(), any(), eq(Protocol.H2_PRIOR_KNOWLEDGE));
+    }
+
     @NotNull
     private Function<Response, Result<String>> handleResponse() {
         return r -> {
@@ -15,14 +15,14 @@
 package org.eclipse.edc.query;
 
 import org.eclipse.edc.spi.query.PropertyLookup;
+import org.eclipse.edc.util.reflection.PropertyAccessor;
 import org.eclipse.edc.util.reflection.ReflectionException;
-import org.eclipse.edc.util.reflection.ReflectionUtil;
 
 public class ReflectionPropertyLookup implements PropertyLookup {
     @Override
     public Object getProperty(String key, Object object) {
         try {
-            return ReflectionUtil.getFieldValue(key, object);
+            return PropertyAccessor.forPath(key).getValue(object);
         } catch (ReflectionException e) {
             return null;
         }
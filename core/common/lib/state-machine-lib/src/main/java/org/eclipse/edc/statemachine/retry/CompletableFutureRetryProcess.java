@@ -46,7 +46,7 @@ public class CompletableFutureRetryProcess<E extends StatefulEntity<E>, C, SELF
 
     @Override
     boolean process(E entity, String description) {
-        monitor.debug(format("%s: ID %s. %s", entity.getClass().getSimpleName(), entity.getId(), description));
+        monitor.debug(() -> format("%s: ID %s. %s", entity.getClass().getSimpleName(), entity.getId(), description));
         process.get()
                 .whenComplete((result, throwable) -> {
                     var reloadedEntity = Optional.ofNullable(entityRetrieve)
@@ -58,13 +58,13 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, SELF extends Ret
         if (isRetry(entity)) {
             var delay = delayMillis(entity);
             if (delay > 0) {
-                monitor.debug(String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
+                monitor.debug(() -> String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
                 if (onDelay != null) {
                     onDelay.accept(entity);
                 }
                 return false;
             } else {
-                monitor.debug(String.format("Entity %s %s retry #%d of %d.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, configuration.getRetryLimit()));
+                monitor.debug(() -> String.format("Entity %s %s retry #%d of %d.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, configuration.getRetryLimit()));
             }
         }
 
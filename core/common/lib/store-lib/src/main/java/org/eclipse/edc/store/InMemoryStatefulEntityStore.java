@@ -22,37 +22,44 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
-import org.eclipse.edc.util.concurrency.LockManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
-import static java.util.Comparator.comparingLong;
-import static java.util.stream.Collectors.toList;
 
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
  * purposes only.
+ * <p>
+ * Entities are indexed by state, in sets ordered by state timestamp, so that {@link #nextNotLeased(int, Criterion...)}
+ * filtered by {@link StateEntityStore#hasState(int)} only visits the entities in that state, oldest first, and stops as
+ * soon as enough of them have been leased. Leases are claimed atomically in a concurrent lease table, so no global lock
+ * is needed: an entity that gets saved while it's being claimed is re-validated against the index before being returned.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
+    private static final String STATE_FIELD = "state";
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private final Map<String, StateKey> stateKeysById = new ConcurrentHashMap<>();
+    private final Map<Integer, NavigableSet<StateKey>> entitiesByState = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
     private final Clock clock;
-    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -73,40 +80,66 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
-        return lockManager.writeLock(() -> {
-            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
-                    .filter(filterPredicate)
-                    .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .toList();
-            entities.forEach(i -> acquireLease(i.getId()));
-            return entities.stream().map(StatefulEntity::copy).collect(toList());
-        });
+        var state = Arrays.stream(criteria).filter(this::isStateEquality).findFirst();
+        var filterPredicate = Arrays.stream(criteria)
+                .filter(criterion -> state.map(it -> it != criterion).orElse(true))
+                .map(criterionOperatorRegistry::toPredicate)
+                .reduce(x -> true, Predicate::and);
+
+        Stream<StateKey> candidates;
+        if (state.isPresent()) {
+            var code = ((Number) state.get().getOperandRight()).intValue();
+            candidates = entitiesByState.getOrDefault(code, Collections.emptyNavigableSet()).stream();
+        } else {
+            candidates = stateKeysById.values().stream().sorted(); //order by state timestamp, oldest first
+        }
+
+        var result = new ArrayList<T>();
+        var iterator = candidates.iterator();
+        while (result.size() < max && iterator.hasNext()) {
+            var key = iterator.next();
+            var entity = entitiesById.get(key.id());
+            if (entity == null || !key.equals(stateKeysById.get(key.id())) || !filterPredicate.test(entity)) {
+                continue;
+            }
+            if (!claimLease(key.id())) {
+                continue;
+            }
+            var claimed = entitiesById.get(key.id());
+            if (claimed == null || !key.equals(stateKeysById.get(key.id()))) {
+                // saved or deleted in the meantime, it will be picked up on its new position
+                freeLease(key.id());
+                continue;
+            }
+            result.add(claimed.copy());
+        }
+        return result;
     }
 
     @Override
     public StoreResult<T> findByIdAndLease(String id) {
-        return lockManager.writeLock(() -> {
-            var entity = entitiesById.get(id);
-            if (entity == null) {
-                return StoreResult.notFound(format("Entity %s not found", id));
-            }
+        var entity = entitiesById.get(id);
+        if (entity == null) {
+            return StoreResult.notFound(format("Entity %s not found", id));
+        }
 
-            try {
-                acquireLease(id);
-                return StoreResult.success(entity);
-            } catch (IllegalStateException e) {
-                return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
-            }
-        });
+        try {
+            acquireLease(id);
+            return StoreResult.success(entity.copy());
+        } catch (IllegalStateException e) {
+            return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
+        }
     }
 
     @Override
     public void save(T entity) {
         acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
+        var copy = entity.copy();
+        entitiesById.compute(entity.getId(), (id, previous) -> {
+            unindex(id);
+            index(copy);
+            return copy;
+        });
         freeLease(entity.getId());
     }
 
@@ -114,7 +147,10 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         if (isLeased(id)) {
             throw new IllegalStateException("Entity is leased and cannot be deleted!");
         }
-        entitiesById.remove(id);
+        entitiesById.computeIfPresent(id, (key, previous) -> {
+            unindex(key);
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
@@ -126,15 +162,23 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     public void acquireLease(String id, String lockId, Duration leaseTime) {
-        if (!isLeased(id) || isLeasedBy(id, lockId)) {
-            leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
-        } else {
+        var now = clock.millis();
+        var lease = new Lease(lockId, now, leaseTime.toMillis());
+        var current = leases.compute(id, (key, existing) -> existing == null || existing.isExpired(now) || existing.getLeasedBy().equals(lockId) ? lease : existing);
+        if (current != lease) {
             throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
         }
     }
 
     public boolean isLeasedBy(String id, String lockId) {
-        return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis()) && lease.getLeasedBy().equals(lockId);
+    }
+
+    private boolean claimLease(String id) {
+        var now = clock.millis();
+        var lease = new Lease(lockId, now, DEFAULT_LEASE_TIME.toMillis());
+        return leases.compute(id, (key, existing) -> existing == null || existing.isExpired(now) ? lease : existing) == lease;
     }
 
     private void freeLease(String id) {
@@ -146,7 +190,37 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
+    }
+
+    private boolean isStateEquality(Criterion criterion) {
+        return STATE_FIELD.equals(criterion.getOperandLeft()) && "=".equals(criterion.getOperator()) && criterion.getOperandRight() instanceof Number;
+    }
+
+    // must be called while holding the entitiesById entry of the entity, so that index updates of an entity are serialized
+    private void index(T entity) {
+        var key = new StateKey(entity.getState(), entity.getStateTimestamp(), entity.getId());
+        stateKeysById.put(key.id(), key);
+        entitiesByState.computeIfAbsent(key.state(), state -> new ConcurrentSkipListSet<>()).add(key);
+    }
+
+    private void unindex(String id) {
+        var key = stateKeysById.remove(id);
+        if (key != null) {
+            entitiesByState.get(key.state()).remove(key);
+        }
     }
 
+    /**
+     * Position of an entity in the state index, ordered by state timestamp, oldest first.
+     */
+    private record StateKey(int state, long stateTimestamp, String id) implements Comparable<StateKey> {
+        private static final Comparator<StateKey> ORDER = Comparator.comparingLong(StateKey::stateTimestamp).thenComparing(StateKey::id);
+
+        @Override
+        public int compareTo(@NotNull StateKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
 }
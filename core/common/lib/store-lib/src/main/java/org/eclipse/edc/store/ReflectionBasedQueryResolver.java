@@ -14,14 +14,18 @@
 
 package org.eclipse.edc.store;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.util.reflection.PropertyAccessor;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.math.BigDecimal;
 import java.util.Comparator;
+import java.util.Objects;
 import java.util.function.BinaryOperator;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -30,13 +34,21 @@ import static java.lang.String.format;
 
 /**
  * Default implementation of {@link QueryResolver} that applies query on a stream. Uses reflection to fetch object fields. Used in stores implementations.
+ * The sort field is read through a {@link PropertyAccessor} compiled once per query.
+ * <p>
+ * When the type has an {@code id} field, sorted queries are ordered by the sort field and then by id, with null values
+ * last in ascending order, consistently with the SQL stores, and they can be continued with a {@link ContinuationToken}.
  *
  * @param <T> type of the stream elements.
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String ID_FIELD = "id";
+    private static final PropertyAccessor ID_ACCESSOR = PropertyAccessor.forPath(ID_FIELD);
+
     private final Class<T> typeParameterClass;
     private final CriterionOperatorRegistry criterionOperatorRegistry;
+    private final boolean hasId;
 
     /**
      * Constructor for ReflectionBasedQueryResolver
@@ -47,6 +59,7 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
     public ReflectionBasedQueryResolver(Class<T> typeParameterClass, CriterionOperatorRegistry criterionOperatorRegistry) {
         this.typeParameterClass = typeParameterClass;
         this.criterionOperatorRegistry = criterionOperatorRegistry;
+        hasId = ReflectionUtil.getFieldRecursive(typeParameterClass, ID_FIELD) != null;
     }
 
 
@@ -54,6 +67,7 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
      * Applies sorting. When sort field is not found returns empty stream.
+     * Skips the elements up to the continuation token position, if any.
      * Applies offset and limit on the query result.
      *
      * @param stream      stream to be queried.
@@ -76,26 +90,60 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
             if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
                 throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
             }
-            var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
-            filteredStream = filteredStream.sorted(comparator);
+            var sortAccessor = PropertyAccessor.forPath(sortField);
+            if (hasId) {
+                var comparator = positionComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
+                var token = spec.getContinuationToken();
+                if (token != null) {
+                    filteredStream = filteredStream.filter(it -> comparator.compare(position(it, sortAccessor), token) > 0);
+                }
+                filteredStream = filteredStream.sorted(Comparator.comparing(it -> position(it, sortAccessor), comparator));
+            } else {
+                var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortAccessor);
+                filteredStream = filteredStream.sorted(comparator);
+            }
+        }
+        if (spec.getContinuationToken() != null && (sortField == null || !hasId)) {
+            throw new IllegalArgumentException(format("Cannot continue a query on %s without sort field and id", typeParameterClass));
         }
 
         // limit
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private ContinuationToken position(T element, PropertyAccessor sortAccessor) {
+        return new ContinuationToken(sortAccessor.getValue(element), Objects.toString(ID_ACCESSOR.getValue(element), null));
+    }
+
+    @NotNull
+    private Comparator<ContinuationToken> positionComparator(boolean isAscending, String property) {
+        Comparator<Object> valueComparator = (o1, o2) -> {
+            if (o1 instanceof Number n1 && o2 instanceof Number n2) {
+                return new BigDecimal(n1.toString()).compareTo(new BigDecimal(n2.toString()));
+            }
+            if (!(o1 instanceof Comparable comp1)) {
+                throw new IllegalArgumentException("A property '" + property + "' is not comparable!");
+            }
+            // tokens carry non-primitive values in their text representation
+            return o1.getClass().equals(o2.getClass()) ? comp1.compareTo(o2) : o1.toString().compareTo(o2.toString());
+        };
+        var comparator = Comparator.comparing(ContinuationToken::sortValue, Comparator.nullsLast(valueComparator))
+                .thenComparing(ContinuationToken::id, Comparator.nullsLast(Comparator.naturalOrder()));
+        return isAscending ? comparator : comparator.reversed();
+    }
+
     @NotNull
-    private Comparator<T> propertyComparator(boolean isAscending, String property) {
+    private Comparator<T> propertyComparator(boolean isAscending, PropertyAccessor accessor) {
         return (obj1, obj2) -> {
-            var o1 = ReflectionUtil.getFieldValue(property, obj1);
-            var o2 = ReflectionUtil.getFieldValue(property, obj2);
+            var o1 = accessor.getValue(obj1);
+            var o2 = accessor.getValue(obj2);
 
             if (o1 == null || o2 == null) {
                 return 0;
             }
 
             if (!(o1 instanceof Comparable comp1)) {
-                throw new IllegalArgumentException("A property '" + property + "' is not comparable!");
+                throw new IllegalArgumentException("A property '" + accessor.getPath() + "' is not comparable!");
             }
             var comp2 = (Comparable) o2;
             return isAscending ? comp1.compareTo(comp2) : comp2.compareTo(comp1);
@@ -15,12 +15,14 @@
 package org.eclipse.edc.store;
 
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -119,6 +121,39 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_sortByFieldAndId() {
+        var stream = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob"));
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.DESC).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(9, 7, 5, 3, 1, 8, 6, 4, 2, 0);
+    }
+
+    @Test
+    void verifyQuery_continuationToken() {
+        var items = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob")).toList();
+        var result = new ArrayList<FakeItem>();
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").limit(3).build();
+        while (spec != null) {
+            var page = queryResolver.query(items.stream(), spec).toList();
+            result.addAll(page);
+            var token = ContinuationToken.next(page, spec, (item, field) -> item.getName(), item -> String.valueOf(item.getId()));
+            spec = token == null ? null : QuerySpec.Builder.newInstance().sortField("name").limit(3).continuationToken(token).build();
+        }
+
+        assertThat(result).extracting(FakeItem::getId).containsExactly(0, 2, 4, 6, 8, 1, 3, 5, 7, 9);
+    }
+
+    @Test
+    void verifyQuery_continuationTokenWithoutSortField() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        var spec = QuerySpec.Builder.newInstance().continuationToken(new ContinuationToken(null, "1")).build();
+
+        assertThatThrownBy(() -> queryResolver.query(stream, spec)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
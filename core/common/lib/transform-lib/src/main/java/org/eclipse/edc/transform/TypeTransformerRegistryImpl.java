@@ -19,23 +19,32 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 
+/**
+ * Default {@link TypeTransformerRegistry}. The transformer for a combination of concrete input class and output type is
+ * resolved once and then served from a dispatch index, which is reset whenever a transformer is registered.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
     private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
     private final Map<String, TypeTransformerRegistry> contextRegistries = new HashMap<>();
+    private final Map<DispatchKey, Optional<TypeTransformer<?, ?>>> dispatchIndex = new ConcurrentHashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        dispatchIndex.clear();
     }
 
     @Override
@@ -45,11 +54,11 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
-                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
-                .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+        var transformer = findTransformer(input.getClass(), outputType);
+        if (transformer == null) {
+            throw new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType));
+        }
+        return (TypeTransformer<INPUT, OUTPUT>) transformer;
     }
 
     @Override
@@ -81,11 +90,32 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         aliases.put(alias, type);
     }
 
+    /**
+     * Returns the first registered transformer that accepts instances of the given class and produces the given output type,
+     * or null if there is none.
+     */
+    @Nullable
+    TypeTransformer<?, ?> findTransformer(Class<?> inputClass, Class<?> outputType) {
+        return dispatchIndex.computeIfAbsent(new DispatchKey(inputClass, outputType), this::resolve).orElse(null);
+    }
+
+    private Optional<TypeTransformer<?, ?>> resolve(DispatchKey key) {
+        for (var transformer : transformers) {
+            if (transformer.getInputType().isAssignableFrom(key.inputClass()) && transformer.getOutputType().equals(key.outputType())) {
+                return Optional.of(transformer);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private record DispatchKey(Class<?> inputClass, Class<?> outputType) {
+    }
+
     private static class ContextTransformerRegistry extends TypeTransformerRegistryImpl {
 
-        private final TypeTransformerRegistry parent;
+        private final TypeTransformerRegistryImpl parent;
 
-        ContextTransformerRegistry(TypeTransformerRegistry parent) {
+        ContextTransformerRegistry(TypeTransformerRegistryImpl parent) {
             this.parent = parent;
         }
 
@@ -95,12 +125,11 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         }
 
         @Override
-        public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-            try {
-                return super.transformerFor(input, outputType);
-            } catch (EdcException e) {
-                return parent.transformerFor(input, outputType);
-            }
+        @Nullable
+        TypeTransformer<?, ?> findTransformer(Class<?> inputClass, Class<?> outputType) {
+            // only the own transformers are indexed here, the parent keeps its own index up to date
+            var transformer = super.findTransformer(inputClass, outputType);
+            return transformer != null ? transformer : parent.findTransformer(inputClass, outputType);
         }
     }
 }
@@ -51,6 +51,25 @@ public class TypeTransformerRegistryImplTest {
             assertThatThrownBy(() -> registry.transformerFor(notString, Integer.class)).isInstanceOf(EdcException.class);
             assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
         }
+
+        @Test
+        void shouldReturnTransformerRegisteredAfterFailedLookup() {
+            assertThatThrownBy(() -> registry.transformerFor(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(registry.transformerFor(5, String.class)).isInstanceOf(IntegerStringTypeTransformer.class);
+        }
+
+        @Test
+        void shouldReturnFirstRegisteredTransformer() {
+            var other = new StringIntegerTypeTransformer();
+            registry.register(other);
+
+            var transformer = registry.transformerFor("a string", Integer.class);
+
+            assertThat(transformer).isNotSameAs(other);
+        }
     }
 
     @Nested
@@ -74,6 +93,23 @@ public class TypeTransformerRegistryImplTest {
             assertThatThrownBy(() -> registry.transform(5, String.class)).isInstanceOf(EdcException.class);
         }
 
+        @Test
+        void shouldUseParentTransformer_whenRegisteredAfterLookup() {
+            assertThatThrownBy(() -> contextRegistry.transform(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(contextRegistry.transform(5, String.class)).isSucceeded().isEqualTo("5");
+        }
+
+        @Test
+        void shouldPreferContextTransformer() {
+            var contextTransformer = new StringIntegerTypeTransformer();
+            contextRegistry.register(contextTransformer);
+
+            assertThat(contextRegistry.transformerFor("5", Integer.class)).isSameAs(contextTransformer);
+        }
+
         @Test
         void shouldThrowException_whenForContextIsCalled() {
             assertThatThrownBy(() -> contextRegistry.forContext("any")).isInstanceOf(EdcException.class);
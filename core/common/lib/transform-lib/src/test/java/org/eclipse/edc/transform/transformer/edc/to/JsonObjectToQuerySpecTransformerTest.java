@@ -16,6 +16,7 @@ package org.eclipse.edc.transform.transformer.edc.to;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.transform.spi.TransformerContext;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -32,6 +34,7 @@ import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.spi.query.SortOrder.DESC;
 import static org.eclipse.edc.transform.transformer.TestInput.getExpanded;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -76,4 +79,31 @@ class JsonObjectToQuerySpecTransformerTest {
         verify(context).transform(any(), eq(Criterion.class));
     }
 
+    @Test
+    void transform_withContinuationToken() {
+        var token = new ContinuationToken(1234L, "id");
+        var json = Json.createObjectBuilder()
+                .add(TYPE, EDC_QUERY_SPEC_TYPE)
+                .add(EDC_QUERY_SPEC_SORT_FIELD, "createdAt")
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, token.encode())
+                .build();
+
+        var result = transformer.transform(getExpanded(json), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContinuationToken()).isEqualTo(token);
+    }
+
+    @Test
+    void transform_shouldReportProblem_whenContinuationTokenIsInvalid() {
+        var json = Json.createObjectBuilder()
+                .add(TYPE, EDC_QUERY_SPEC_TYPE)
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, "not-a-token")
+                .build();
+
+        transformer.transform(getExpanded(json), context);
+
+        verify(context).reportProblem(anyString());
+    }
+
 }
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+
+package org.eclipse.edc.util.collection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache that holds up to a specified number of entries.
+ * <p>
+ * Unlike the {@link ConcurrentLruCache}, lookups don't take any lock, as the entries are never evicted: once the
+ * capacity is reached no further entries are added, and the values of the keys that are not cached are computed on
+ * every lookup. Suitable for values that are expensive to compute from keys coming from a small set.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class BoundedCache<K, V> {
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    public BoundedCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the value cached for the key, computing it if it is not cached yet. {@code null} values are returned but
+     * not cached, and exceptions thrown by the function are propagated to the caller.
+     *
+     * @param key             the key.
+     * @param mappingFunction computes the value of a key that is not cached.
+     * @return the value, null if the function returned null.
+     */
+    public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+        var value = entries.get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            if (value != null && entries.size() < capacity) {
+                entries.putIfAbsent(key, value);
+            }
+        }
+        return value;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
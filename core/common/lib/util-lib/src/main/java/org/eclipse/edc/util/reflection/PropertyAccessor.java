@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.util.reflection;
+
+import org.eclipse.edc.util.collection.BoundedCache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled accessor for an object path, e.g. {@code properties.'https://w3id.org/edc/v0.0.1/ns/id'} or
+ * {@code dataAddress.properties.type}, with the same semantics of {@link ReflectionUtil#getFieldValue(String, Object)}.
+ * <p>
+ * The path is parsed only once, and every field is resolved only once per runtime class into a {@link MethodHandle}
+ * getter, so reading a property doesn't need to scan the class hierarchy nor to go through the reflective access
+ * checks anymore. Nested segments are resolved on the runtime class of the intermediate object, so polymorphic
+ * fields, maps and lists behave exactly as with the reflective lookup.
+ */
+public final class PropertyAccessor {
+
+    private static final int CACHE_SIZE = 1000;
+    private static final int GETTERS_PER_CLASS = 100;
+    private static final Pattern ARRAY_INDEXER = Pattern.compile("(.*)\\[([0-9]+)]");
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final BoundedCache<String, PropertyAccessor> ACCESSORS = new BoundedCache<>(CACHE_SIZE);
+    private static final ClassValue<BoundedCache<String, MethodHandle>> GETTERS = new ClassValue<>() {
+        @Override
+        protected BoundedCache<String, MethodHandle> computeValue(Class<?> type) {
+            return new BoundedCache<>(GETTERS_PER_CLASS);
+        }
+    };
+
+    private final String path;
+    private final Segment[] segments;
+
+    private PropertyAccessor(String path) {
+        this.path = path;
+        segments = PathItem.parse(path).stream()
+                .map(PathItem::toString)
+                .map(Segment::parse)
+                .toArray(Segment[]::new);
+    }
+
+    /**
+     * Returns the accessor for the given path. The accessors of the first paths are cached, so repeated lookups of the
+     * same path don't parse it again.
+     *
+     * @param path the property path, in dot notation with optional array indexers.
+     * @return the accessor.
+     */
+    public static PropertyAccessor forPath(String path) {
+        Objects.requireNonNull(path, "path");
+        return ACCESSORS.get(path, PropertyAccessor::new);
+    }
+
+    /**
+     * Reads the value of the property from the given object.
+     *
+     * @param object the object.
+     * @return the property value, null if any of the intermediate values is null.
+     * @throws ReflectionException if a field does not exist or is not accessible
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(Object object) {
+        Objects.requireNonNull(object, "object");
+
+        var current = object;
+        for (var segment : segments) {
+            current = segment.apply(current);
+            if (current == null) {
+                return null;
+            }
+        }
+        return (T) current;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    private static Object valueOf(String name, Object object) {
+        if (object instanceof Map<?, ?> map) {
+            return map.get(name);
+        } else if (object instanceof List<?> list) {
+            return list.stream().filter(Objects::nonNull).map(it -> fieldValue(name, it)).toList();
+        } else {
+            return fieldValue(name, object);
+        }
+    }
+
+    private static Object fieldValue(String name, Object object) {
+        // unknown names are not cached, as they come from the queries
+        var getter = GETTERS.get(object.getClass()).get(name, n -> compile(object.getClass(), n));
+        if (getter == null) {
+            throw new ReflectionException(name);
+        }
+        try {
+            return getter.invokeExact(object);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private static MethodHandle compile(Class<?> type, String name) {
+        var field = ReflectionUtil.getFieldRecursive(type, name);
+        return field == null ? null : getter(field);
+    }
+
+    private static MethodHandle getter(Field field) {
+        field.setAccessible(true);
+        try {
+            var getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    /**
+     * A segment of the path, with its optional list index.
+     */
+    private record Segment(String name, int index) {
+
+        static Segment parse(String segment) {
+            var matcher = ARRAY_INDEXER.matcher(segment);
+            if (matcher.matches()) {
+                return new Segment(matcher.group(1), Integer.parseInt(matcher.group(2)));
+            }
+            return new Segment(segment, -1);
+        }
+
+        Object apply(Object object) {
+            var value = valueOf(name, object);
+            if (index < 0) {
+                return value;
+            }
+            return ((List<?>) value).get(index);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedCacheTest {
+    private final BoundedCache<String, String> cache = new BoundedCache<>(2);
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @Test
+    void get_shouldComputeOnce() {
+        assertThat(cache.get("foo", this::compute)).isEqualTo("FOO");
+        assertThat(cache.get("foo", this::compute)).isEqualTo("FOO");
+
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void get_shouldComputeEveryTime_whenCapacityIsReached() {
+        cache.get("foo", this::compute);
+        cache.get("bar", this::compute);
+
+        assertThat(cache.get("baz", this::compute)).isEqualTo("BAZ");
+        assertThat(cache.get("baz", this::compute)).isEqualTo("BAZ");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(computations).hasValue(4);
+    }
+
+    @Test
+    void get_shouldNotCacheNull() {
+        assertThat(cache.get("foo", key -> null)).isNull();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldNotCache_whenFunctionThrows() {
+        assertThatThrownBy(() -> cache.get("foo", key -> {
+            throw new IllegalArgumentException(key);
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private String compute(String key) {
+        computations.incrementAndGet();
+        return key.toUpperCase();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.util.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyAccessorTest {
+
+    @Test
+    void forPath_shouldReturnCachedAccessor() {
+        assertThat(PropertyAccessor.forPath("description")).isSameAs(PropertyAccessor.forPath("description"));
+    }
+
+    @Test
+    void getValue_shouldReadFieldsOfTheRuntimeClass() {
+        var accessor = PropertyAccessor.forPath("testProperty");
+
+        assertThat(accessor.<String>getValue(new TestObjectSubclass("desc", 1, "sub-value"))).isEqualTo("sub-value");
+        assertThat(accessor.<String>getValue(Map.of("testProperty", "map-value"))).isEqualTo("map-value");
+        assertThatThrownBy(() -> accessor.getValue(new TestObject("desc", 1))).isInstanceOf(ReflectionException.class);
+    }
+
+    @Test
+    void getValue_shouldBoxPrimitives() {
+        var value = PropertyAccessor.forPath("priority").getValue(new TestObjectSubSubclass("desc", 7, "foo"));
+
+        assertThat(value).isEqualTo(7);
+    }
+
+    @Test
+    void getValue_shouldNavigateNestedPaths() {
+        var object = new TestObjectWithList("desc", 1, List.of(new TestObject("nested-0", 2, new AnotherObject("another"))));
+
+        assertThat(PropertyAccessor.forPath("nestedObjects[0].embedded.anotherDescription").<String>getValue(object)).isEqualTo("another");
+        assertThat(PropertyAccessor.forPath("nestedObjects.description").<List<String>>getValue(object)).containsExactly("nested-0");
+        assertThat(PropertyAccessor.forPath("embedded.anotherDescription").<String>getValue(object)).isNull();
+    }
+
+    @Test
+    void getValue_shouldReadQuotedMapKeys() {
+        var object = Map.of("properties", Map.of("https://w3id.org/edc/v0.0.1/ns/id", "value"));
+
+        assertThat(PropertyAccessor.forPath("properties.'https://w3id.org/edc/v0.0.1/ns/id'").<String>getValue(object)).isEqualTo("value");
+    }
+}
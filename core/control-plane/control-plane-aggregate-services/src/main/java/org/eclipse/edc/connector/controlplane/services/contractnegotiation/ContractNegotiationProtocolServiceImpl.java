@@ -223,7 +223,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     private ServiceResult<ValidatedConsumerOffer> validateOffer(ParticipantAgent agent, ValidatableConsumerOffer consumerOffer) {
         var result = validationService.validateInitialOffer(agent, consumerOffer);
         if (result.failed()) {
-            monitor.debug("[Provider] Contract offer rejected as invalid: " + result.getFailureDetail());
+            monitor.debug(() -> "[Provider] Contract offer rejected as invalid: " + result.getFailureDetail());
             return ServiceResult.badRequest("Contract offer is not valid: " + result.getFailureDetail());
         } else {
             return ServiceResult.success(result.getContent());
@@ -249,7 +249,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
         var result = validationService.validateConfirmed(agent, agreement, negotiation.getLastContractOffer());
         if (result.failed()) {
             var msg = "Contract agreement received. Validation failed: " + result.getFailureDetail();
-            monitor.debug("[Consumer] " + msg);
+            monitor.debug(() -> "[Consumer] " + msg);
             return ServiceResult.badRequest(msg);
         } else {
             return ServiceResult.success(negotiation);
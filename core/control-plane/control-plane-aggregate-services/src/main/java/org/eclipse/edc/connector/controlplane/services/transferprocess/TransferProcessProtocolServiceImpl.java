@@ -355,7 +355,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
 
     private void update(TransferProcess transferProcess) {
         transferProcessStore.save(transferProcess);
-        monitor.debug(format("TransferProcess %s is now in state %s", transferProcess.getId(), TransferProcessStates.from(transferProcess.getState())));
+        monitor.debug(() -> format("TransferProcess %s is now in state %s", transferProcess.getId(), TransferProcessStates.from(transferProcess.getState())));
     }
 
     private record TransferRequestMessageContext(ContractAgreement agreement, TransferProcess transferProcess) {
@@ -22,6 +22,9 @@ dependencies {
     api(project(":spi:control-plane:transfer-spi"))
     api(project(":spi:control-plane:asset-spi"))
 
+    implementation(project(":spi:common:transaction-spi"))
+    implementation(project(":core:common:lib:util-lib"))
+
     testImplementation(project(":tests:junit-base"));
 
     testImplementation(project(":core:common:connector-core"))
@@ -14,22 +14,39 @@
 
 package org.eclipse.edc.connector.controlplane.catalog;
 
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
 
 @Extension(CatalogCoreExtension.NAME)
 public class CatalogCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Core";
 
+    @Setting(value = "Time to live in milliseconds of the catalog snapshots shared by participants with the same access profile. 0 disables the cache", type = "long", defaultValue = "" + CatalogCoreExtension.DEFAULT_SNAPSHOT_CACHE_TTL)
+    public static final String SNAPSHOT_CACHE_TTL = "edc.catalog.snapshot.cache.ttl";
+    private static final long DEFAULT_SNAPSHOT_CACHE_TTL = 0;
+    @Setting(value = "Maximum number of cached catalog snapshots", type = "int", defaultValue = "" + CatalogCoreExtension.DEFAULT_SNAPSHOT_CACHE_SIZE)
+    public static final String SNAPSHOT_CACHE_SIZE = "edc.catalog.snapshot.cache.size";
+    private static final int DEFAULT_SNAPSHOT_CACHE_SIZE = 100;
+
     @Inject
     private ContractDefinitionResolver contractDefinitionResolver;
 
@@ -45,14 +62,36 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     @Override
     public String name() {
         return NAME;
     }
 
     @Provider
-    public DatasetResolver datasetResolver() {
+    public DatasetResolver datasetResolver(ServiceExtensionContext context) {
         return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
-                distributionResolver, criterionOperatorRegistry);
+                distributionResolver, criterionOperatorRegistry, snapshotCache(context));
+    }
+
+    private CatalogSnapshotCache snapshotCache(ServiceExtensionContext context) {
+        var ttl = Duration.ofMillis(context.getSetting(SNAPSHOT_CACHE_TTL, DEFAULT_SNAPSHOT_CACHE_TTL));
+        if (ttl.isZero() || ttl.isNegative()) {
+            return CatalogSnapshotCache.disabled();
+        }
+
+        var cache = new CatalogSnapshotCache(clock, ttl, context.getSetting(SNAPSHOT_CACHE_SIZE, DEFAULT_SNAPSHOT_CACHE_SIZE), transactionContext);
+        eventRouter.registerSync(AssetEvent.class, cache);
+        eventRouter.registerSync(ContractDefinitionEvent.class, cache);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cache);
+        return cache;
     }
 }
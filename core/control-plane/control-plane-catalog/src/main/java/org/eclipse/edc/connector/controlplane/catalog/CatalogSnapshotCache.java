@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext.TransactionSynchronization;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the datasets of the catalog per access profile, i.e. the set of contract definitions granted to the
+ * requesting participant, and asset filter. Participants sharing the same access profile are served the same
+ * snapshot without querying assets and contract policies again.
+ * <p>
+ * Snapshots are bound to a catalog generation, which is increased whenever an {@link AssetEvent},
+ * {@link ContractDefinitionEvent} or {@link PolicyDefinitionEvent} is received, so that local mutations invalidate all
+ * snapshots. The events are published within the transaction of the mutation, so the snapshots are invalidated again
+ * once that transaction completed, discarding the ones computed from the state before the commit. Snapshots expire after the configured time to live, which bounds the staleness caused by mutations made by
+ * another runtime or by changes not signalled by events, e.g. of the data plane instances. A time to live of zero
+ * disables the cache.
+ */
+public class CatalogSnapshotCache implements EventSubscriber {
+
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final ConcurrentLruCache<SnapshotKey, Snapshot> snapshots;
+    private final AtomicLong generation = new AtomicLong();
+    private final TransactionContext transactionContext;
+    private final TransactionSynchronization invalidateAfterCompletion = new TransactionSynchronization() {
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion() {
+            invalidate();
+        }
+    };
+
+    public CatalogSnapshotCache(Clock clock, Duration timeToLive, int capacity, TransactionContext transactionContext) {
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.snapshots = new ConcurrentLruCache<>(capacity);
+        this.transactionContext = transactionContext;
+    }
+
+    /**
+     * Returns a cache that never stores snapshots.
+     */
+    public static CatalogSnapshotCache disabled() {
+        return new CatalogSnapshotCache(Clock.systemUTC(), Duration.ZERO, 1, new NoopTransactionContext());
+    }
+
+    public boolean isEnabled() {
+        return !timeToLive.isZero() && !timeToLive.isNegative();
+    }
+
+    /**
+     * The current catalog generation. It must be read before the datasets of a snapshot are computed, so that a
+     * mutation happening in the meantime is not hidden by the snapshot.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Returns the snapshot for the given access profile and filter, null if there is none or it expired.
+     */
+    @Nullable
+    public List<Dataset> get(long generation, List<String> definitionIds, List<Criterion> filter) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        var snapshot = snapshots.get(new SnapshotKey(generation, definitionIds, filter));
+        if (snapshot == null || snapshot.expiresAt().isBefore(clock.instant())) {
+            return null;
+        }
+        return snapshot.datasets();
+    }
+
+    /**
+     * Stores the snapshot for the given access profile and filter, unless the generation has changed in the meantime.
+     */
+    public void put(long generation, List<String> definitionIds, List<Criterion> filter, List<Dataset> datasets) {
+        if (!isEnabled() || generation != this.generation.get()) {
+            return;
+        }
+
+        snapshots.put(new SnapshotKey(generation, List.copyOf(definitionIds), List.copyOf(filter)), new Snapshot(List.copyOf(datasets), clock.instant().plus(timeToLive)));
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        invalidate();
+        transactionContext.execute(() -> transactionContext.registerSynchronization(invalidateAfterCompletion));
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    private record SnapshotKey(long generation, List<String> definitionIds, List<Criterion> filter) {
+    }
+
+    private record Snapshot(List<Dataset> datasets, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Matches assets against a fixed set of {@link ContractDefinition}s. The asset selector of every definition is
+ * compiled into a predicate once, and selectors that only constrain the asset id with the {@code =} or {@code in}
+ * operator are turned into an index from asset id to definitions, so they are not evaluated per asset. The contract
+ * policies of all the definitions are fetched from the {@link PolicyDefinitionStore} with a single query.
+ * <p>
+ * An index reflects the definitions and policies at the time it was created, it is meant to be used for the duration of
+ * a single catalog request.
+ */
+class ContractDefinitionIndex {
+
+    private static final String POLICY_DEFINITION_ID = "id";
+
+    private final Map<String, List<ContractDefinition>> definitionsByAssetId = new HashMap<>();
+    private final List<SelectorMatcher> matchers = new ArrayList<>();
+    private final Map<String, Policy> contractPolicies;
+
+    private ContractDefinitionIndex(List<ContractDefinition> definitions, CriterionOperatorRegistry criterionOperatorRegistry,
+                                    PolicyDefinitionStore policyDefinitionStore) {
+        for (var definition : definitions) {
+            var assetIds = indexedAssetIds(definition.getAssetsSelector());
+            if (assetIds != null) {
+                assetIds.forEach(assetId -> definitionsByAssetId.computeIfAbsent(assetId, k -> new ArrayList<>()).add(definition));
+            } else {
+                var predicate = definition.getAssetsSelector().stream()
+                        .<Predicate<Asset>>map(criterionOperatorRegistry::toPredicate)
+                        .reduce(x -> true, Predicate::and);
+                matchers.add(new SelectorMatcher(definition, predicate));
+            }
+        }
+        contractPolicies = fetchContractPolicies(definitions, policyDefinitionStore);
+    }
+
+    static ContractDefinitionIndex create(List<ContractDefinition> definitions, CriterionOperatorRegistry criterionOperatorRegistry,
+                                          PolicyDefinitionStore policyDefinitionStore) {
+        return new ContractDefinitionIndex(definitions, criterionOperatorRegistry, policyDefinitionStore);
+    }
+
+    /**
+     * Returns the definitions whose asset selector matches the asset.
+     */
+    Stream<ContractDefinition> definitionsFor(Asset asset) {
+        var indexed = definitionsByAssetId.getOrDefault(asset.getId(), emptyList()).stream();
+        var selected = matchers.stream().filter(matcher -> matcher.predicate().test(asset)).map(SelectorMatcher::definition);
+        return Stream.concat(indexed, selected);
+    }
+
+    /**
+     * Returns the contract policy of the definition, null if it does not exist.
+     */
+    @Nullable
+    Policy contractPolicy(ContractDefinition definition) {
+        return contractPolicies.get(definition.getContractPolicyId());
+    }
+
+    /**
+     * Returns the asset ids the selector is restricted to, or null if the selector is not a single {@code =} or
+     * {@code in} criterion on the asset id.
+     */
+    @Nullable
+    private static Collection<String> indexedAssetIds(List<Criterion> selector) {
+        if (selector.size() != 1 || !Asset.PROPERTY_ID.equals(selector.get(0).getOperandLeft())) {
+            return null;
+        }
+
+        var criterion = selector.get(0);
+        var operandRight = criterion.getOperandRight();
+        return switch (criterion.getOperator().toLowerCase()) {
+            case "=" -> operandRight instanceof String assetId ? List.of(assetId) : null;
+            case "in" -> operandRight instanceof Collection<?> values && values.stream().allMatch(String.class::isInstance)
+                    ? values.stream().map(String.class::cast).toList() : null;
+            default -> null;
+        };
+    }
+
+    private static Map<String, Policy> fetchContractPolicies(List<ContractDefinition> definitions, PolicyDefinitionStore policyDefinitionStore) {
+        var policyIds = definitions.stream().map(ContractDefinition::getContractPolicyId).filter(Objects::nonNull).distinct().toList();
+        if (policyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(Criterion.criterion(POLICY_DEFINITION_ID, "in", policyIds))
+                .limit(policyIds.size())
+                .build();
+
+        try (var policyDefinitions = policyDefinitionStore.findAll(query)) {
+            return policyDefinitions.collect(Collectors.toMap(PolicyDefinition::getId, PolicyDefinition::getPolicy, (first, second) -> first));
+        }
+    }
+
+    private record SelectorMatcher(ContractDefinition definition, Predicate<Asset> predicate) {
+    }
+}
@@ -25,13 +25,13 @@ import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractD
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.model.PolicyType;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.Integer.MAX_VALUE;
@@ -43,39 +43,75 @@ public class DatasetResolverImpl implements DatasetResolver {
     private final PolicyDefinitionStore policyDefinitionStore;
     private final DistributionResolver distributionResolver;
     private final CriterionOperatorRegistry criterionOperatorRegistry;
+    private final CatalogSnapshotCache snapshotCache;
 
     public DatasetResolverImpl(ContractDefinitionResolver contractDefinitionResolver, AssetIndex assetIndex,
                                PolicyDefinitionStore policyDefinitionStore, DistributionResolver distributionResolver,
                                CriterionOperatorRegistry criterionOperatorRegistry) {
+        this(contractDefinitionResolver, assetIndex, policyDefinitionStore, distributionResolver, criterionOperatorRegistry,
+                CatalogSnapshotCache.disabled());
+    }
+
+    public DatasetResolverImpl(ContractDefinitionResolver contractDefinitionResolver, AssetIndex assetIndex,
+                               PolicyDefinitionStore policyDefinitionStore, DistributionResolver distributionResolver,
+                               CriterionOperatorRegistry criterionOperatorRegistry, CatalogSnapshotCache snapshotCache) {
         this.contractDefinitionResolver = contractDefinitionResolver;
         this.assetIndex = assetIndex;
         this.policyDefinitionStore = policyDefinitionStore;
         this.distributionResolver = distributionResolver;
         this.criterionOperatorRegistry = criterionOperatorRegistry;
+        this.snapshotCache = snapshotCache;
     }
 
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
+        if (!snapshotCache.isEnabled()) {
+            var definitionIndex = createDefinitionIndex(contractDefinitionResolver.definitionsFor(agent).toList());
+            return queryDatasets(definitionIndex, querySpec.getFilterExpression())
+                    .skip(querySpec.getOffset())
+                    .limit(querySpec.getLimit());
+        }
+
+        var generation = snapshotCache.generation();
         var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
-                .filter(Dataset::hasOffers)
+        var definitionIds = contractDefinitions.stream().map(ContractDefinition::getId).sorted().toList();
+        var filter = querySpec.getFilterExpression();
+
+        var datasets = snapshotCache.get(generation, definitionIds, filter);
+        if (datasets == null) {
+            try (var computed = queryDatasets(createDefinitionIndex(contractDefinitions), filter)) {
+                datasets = computed.toList();
+            }
+            snapshotCache.put(generation, definitionIds, filter, datasets);
+        }
+
+        return datasets.stream()
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
     }
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var definitionIndex = createDefinitionIndex(contractDefinitionResolver.definitionsFor(agent).toList());
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(definitionIndex, asset))
                 .orElse(null);
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    private Stream<Dataset> queryDatasets(ContractDefinitionIndex definitionIndex, List<Criterion> filter) {
+        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(filter).build();
+        return assetIndex.queryAssets(assetsQuery)
+                .map(asset -> toDataset(definitionIndex, asset))
+                .filter(Dataset::hasOffers);
+    }
+
+    private ContractDefinitionIndex createDefinitionIndex(List<ContractDefinition> contractDefinitions) {
+        return ContractDefinitionIndex.create(contractDefinitions, criterionOperatorRegistry, policyDefinitionStore);
+    }
+
+    private Dataset toDataset(ContractDefinitionIndex definitionIndex, Asset asset) {
 
         var distributions = distributionResolver.getDistributions(asset);
         var datasetBuilder = Dataset.Builder.newInstance()
@@ -83,17 +119,12 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
+        definitionIndex.definitionsFor(asset)
                 .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
+                    var contractPolicy = definitionIndex.contractPolicy(contractDefinition);
+                    if (contractPolicy != null) {
                         var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
-                        var offerPolicy = policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build();
+                        var offerPolicy = contractPolicy.toBuilder().type(PolicyType.OFFER).build();
                         datasetBuilder.offer(contractId.toString(), offerPolicy);
                     }
                 });
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetCreated;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogSnapshotCacheTest {
+
+    private final Clock clock = mock();
+    private final TransactionContext transactionContext = mock();
+    private final CatalogSnapshotCache cache = new CatalogSnapshotCache(clock, Duration.ofSeconds(10), 10, transactionContext);
+    private final List<Dataset> datasets = List.of(Dataset.Builder.newInstance().id("dataset").build());
+
+    @Test
+    void get_shouldReturnSnapshot_whenAccessProfileAndFilterMatch() {
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+        var filter = List.of(Criterion.criterion("key", "=", "value"));
+
+        cache.put(cache.generation(), List.of("definition1", "definition2"), filter, datasets);
+
+        assertThat(cache.get(cache.generation(), List.of("definition1", "definition2"), filter)).isEqualTo(datasets);
+        assertThat(cache.get(cache.generation(), List.of("definition1"), filter)).isNull();
+        assertThat(cache.get(cache.generation(), List.of("definition1", "definition2"), List.of())).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenExpired() {
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(0), Instant.ofEpochSecond(11));
+
+        cache.put(cache.generation(), List.of("definition"), List.of(), datasets);
+
+        assertThat(cache.get(cache.generation(), List.of("definition"), List.of())).isNull();
+    }
+
+    @Test
+    void on_shouldInvalidateSnapshots() {
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+        var generation = cache.generation();
+        cache.put(generation, List.of("definition"), List.of(), datasets);
+
+        cache.on(EventEnvelope.Builder.newInstance().at(1).payload(AssetCreated.Builder.newInstance().assetId("asset").build()).build());
+
+        assertThat(cache.generation()).isGreaterThan(generation);
+        assertThat(cache.get(generation, List.of("definition"), List.of())).isNull();
+    }
+
+    @Test
+    void put_shouldIgnoreSnapshot_whenGenerationChangedWhileComputing() {
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+        var generation = cache.generation();
+
+        cache.on(EventEnvelope.Builder.newInstance().at(1).payload(AssetCreated.Builder.newInstance().assetId("asset").build()).build());
+        cache.put(generation, List.of("definition"), List.of(), datasets);
+
+        assertThat(cache.get(generation, List.of("definition"), List.of())).isNull();
+    }
+
+    @Test
+    void on_shouldInvalidateSnapshotsAgain_whenTransactionCompleted() {
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+        doAnswer(a -> {
+            a.getArgument(0, TransactionContext.TransactionBlock.class).execute();
+            return null;
+        }).when(transactionContext).execute(isA(TransactionContext.TransactionBlock.class));
+
+        cache.on(EventEnvelope.Builder.newInstance().at(1).payload(AssetCreated.Builder.newInstance().assetId("asset").build()).build());
+        // computed from the state before the commit
+        var generation = cache.generation();
+        cache.put(generation, List.of("definition"), List.of(), datasets);
+
+        var captor = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        verify(transactionContext).registerSynchronization(captor.capture());
+        captor.getValue().afterCompletion();
+
+        assertThat(cache.generation()).isGreaterThan(generation);
+        assertThat(cache.get(generation, List.of("definition"), List.of())).isNull();
+    }
+
+    @Test
+    void disabled_shouldNeverCache() {
+        var disabled = CatalogSnapshotCache.disabled();
+
+        disabled.put(disabled.generation(), List.of("definition"), List.of(), datasets);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.get(disabled.generation(), List.of("definition"), List.of())).isNull();
+    }
+}
@@ -16,7 +16,9 @@ package org.eclipse.edc.connector.controlplane.catalog;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.controlplane.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.defaults.storage.assetindex.InMemoryAssetIndex;
@@ -51,6 +53,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
@@ -79,8 +82,11 @@ class DatasetResolverImplIntegrationTest {
                 policyStore,
                 mock(),
                 criterionOperatorRegistry);
-        var policyDefinition = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
-        when(policyStore.findById(any())).thenReturn(policyDefinition);
+        when(policyStore.findAll(any())).thenAnswer(invocation -> {
+            QuerySpec query = invocation.getArgument(0);
+            var policyIds = (List<?>) query.getFilterExpression().get(0).getOperandRight();
+            return policyIds.stream().map(id -> PolicyDefinition.Builder.newInstance().id(id.toString()).policy(Policy.Builder.newInstance().build()).build());
+        });
     }
 
     @Test
@@ -108,6 +114,26 @@ class DatasetResolverImplIntegrationTest {
         assertThat(datasets).hasSize(to - from);
     }
 
+    @Test
+    void shouldMatchAssets_whenSelectorsMixAssetIdsAndProperties() {
+        assetIndex.create(createAsset("asset1").build());
+        assetIndex.create(createAsset("asset2").property(EDC_NAMESPACE + "key", "value").build());
+        assetIndex.create(createAsset("asset3").build());
+
+        var equal = getContractDefBuilder("equal").assetsSelector(List.of(new Criterion(Asset.PROPERTY_ID, "=", "asset1"))).build();
+        var in = getContractDefBuilder("in").assetsSelector(List.of(new Criterion(Asset.PROPERTY_ID, "in", List.of("asset1", "asset2")))).build();
+        var property = getContractDefBuilder("property").assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "key", "=", "value"))).build();
+        when(contractDefinitionResolver.definitionsFor(isA(ParticipantAgent.class))).thenAnswer(i -> Stream.of(equal, in, property));
+
+        var datasets = resolver.query(createAgent(), QuerySpec.max()).toList();
+
+        assertThat(datasets).hasSize(2);
+        assertThat(datasets).filteredOn(dataset -> dataset.getId().equals("asset1")).singleElement()
+                .satisfies(dataset -> assertThat(definitionIds(dataset)).containsExactlyInAnyOrder("equal", "in"));
+        assertThat(datasets).filteredOn(dataset -> dataset.getId().equals("asset2")).singleElement()
+                .satisfies(dataset -> assertThat(definitionIds(dataset)).containsExactlyInAnyOrder("in", "property"));
+    }
+
     @ParameterizedTest
     @ArgumentsSource(RangeProvider.class)
     void should_return_offers_subset_when_across_multiple_contract_definitions(int from, int to) {
@@ -174,6 +200,12 @@ class DatasetResolverImplIntegrationTest {
         return new ParticipantAgent(emptyMap(), emptyMap());
     }
 
+    private List<String> definitionIds(Dataset dataset) {
+        return dataset.getOffers().keySet().stream()
+                .map(id -> ContractOfferId.parseId(id).getContent().definitionPart())
+                .toList();
+    }
+
     private List<Criterion> selectorFrom(Collection<Asset> assets1) {
         var ids = assets1.stream().map(Asset::getId).toList();
         return List.of(new Criterion(Asset.PROPERTY_ID, "in", ids));
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.catalog;
 
 import org.assertj.core.api.iterable.ThrowingExtractor;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetCreated;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
@@ -31,13 +32,17 @@ import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionS
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.message.Range;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -53,6 +58,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -79,7 +86,7 @@ class DatasetResolverImplTest {
         var distribution = Distribution.Builder.newInstance().dataService(dataService).format("format").build();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
         when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId").property("key", "value").build()));
-        when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("contractPolicyId", contractPolicy)));
         when(distributionResolver.getDistributions(isA(Asset.class))).thenReturn(List.of(distribution));
 
         var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
@@ -101,7 +108,7 @@ class DatasetResolverImplTest {
         var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
         when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").build()));
-        when(policyStore.findById("contractPolicyId")).thenReturn(null);
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.empty());
 
         var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
 
@@ -117,8 +124,7 @@ class DatasetResolverImplTest {
                 contractDefinitionBuilder("definition2").contractPolicyId("policy2").build()
         ));
         when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> Stream.of(createAsset("assetId").build()));
-        when(policyStore.findById("policy1")).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy1).build());
-        when(policyStore.findById("policy2")).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy2).build());
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("policy1", policy1), policyDefinition("policy2", policy2)));
 
         var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
 
@@ -145,7 +151,7 @@ class DatasetResolverImplTest {
                 .build();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
         when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").property("key", "value").build()));
-        when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("contractPolicyId", Policy.Builder.newInstance().build())));
         var additionalCriterion = new Criterion(EDC_NAMESPACE + "key", "=", "value");
         var querySpec = QuerySpec.Builder.newInstance().filter(additionalCriterion).build();
 
@@ -164,7 +170,7 @@ class DatasetResolverImplTest {
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
         when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
-        when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("contractPolicyId", contractPolicy)));
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
 
         var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
@@ -179,7 +185,7 @@ class DatasetResolverImplTest {
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
         when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
-        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("contract", contractPolicy)));
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
 
         var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
@@ -194,7 +200,7 @@ class DatasetResolverImplTest {
         var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
         when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
-        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("contract", contractPolicy)));
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
 
         var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
@@ -209,7 +215,7 @@ class DatasetResolverImplTest {
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
         when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
-        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("contract", contractPolicy)));
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
         var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
@@ -219,6 +225,59 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldFetchContractPoliciesWithSingleQuery() {
+        var contractDefinitions = range(0, 3).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).contractPolicyId("policy" + it).build()).toList();
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(policyStore.findAll(any())).thenAnswer(i -> range(0, 3).mapToObj(it -> policyDefinition("policy" + it, Policy.Builder.newInstance().build())));
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.max());
+
+        assertThat(datasets).hasSize(10).allSatisfy(dataset -> assertThat(dataset.getOffers()).hasSize(3));
+        verify(policyStore).findAll(argThat(query -> query.getFilterExpression().size() == 1 &&
+                query.getFilterExpression().get(0).getOperator().equals("in") &&
+                query.getFilterExpression().get(0).getOperandRight().equals(List.of("policy0", "policy1", "policy2"))));
+        verify(policyStore, never()).findById(any());
+    }
+
+    @Test
+    void query_shouldReuseSnapshot_whenAccessProfileIsTheSame() {
+        var snapshotCache = new CatalogSnapshotCache(Clock.systemUTC(), Duration.ofMinutes(1), 10, new NoopTransactionContext());
+        var datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyStore, distributionResolver,
+                CriterionOperatorRegistryImpl.ofDefaults(), snapshotCache);
+        var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(i -> Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> range(0, 5).mapToObj(it -> createAsset(String.valueOf(it)).build()));
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("contractPolicyId", Policy.Builder.newInstance().build())));
+
+        var firstPage = datasetResolver.query(createParticipantAgent(), QuerySpec.Builder.newInstance().offset(0).limit(3).build());
+        var secondPage = datasetResolver.query(createParticipantAgent(), QuerySpec.Builder.newInstance().offset(3).limit(3).build());
+
+        assertThat(firstPage).extracting(Dataset::getId).containsExactly("0", "1", "2");
+        assertThat(secondPage).extracting(Dataset::getId).containsExactly("3", "4");
+        verify(assetIndex, times(1)).queryAssets(any());
+        verify(policyStore, times(1)).findAll(any());
+    }
+
+    @Test
+    void query_shouldNotReuseSnapshot_whenCatalogGenerationChanged() {
+        var snapshotCache = new CatalogSnapshotCache(Clock.systemUTC(), Duration.ofMinutes(1), 10, new NoopTransactionContext());
+        var datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyStore, distributionResolver,
+                CriterionOperatorRegistryImpl.ofDefaults(), snapshotCache);
+        var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(i -> Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> Stream.of(createAsset("assetId").build()));
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("contractPolicyId", Policy.Builder.newInstance().build())));
+
+        datasetResolver.query(createParticipantAgent(), QuerySpec.none()).toList();
+        snapshotCache.on(EventEnvelope.Builder.newInstance().at(1).payload(AssetCreated.Builder.newInstance().assetId("assetId").build()).build());
+        datasetResolver.query(createParticipantAgent(), QuerySpec.none()).toList();
+
+        verify(assetIndex, times(2)).queryAssets(any());
+    }
+
     @Test
     void getById_shouldReturnDataset() {
         var policy1 = Policy.Builder.newInstance().inheritsFrom("inherits1").build();
@@ -228,8 +287,7 @@ class DatasetResolverImplTest {
                 contractDefinitionBuilder("definition2").contractPolicyId("policy2").build()
         ));
         when(assetIndex.findById(any())).thenReturn(createAsset("datasetId").build());
-        when(policyStore.findById("policy1")).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy1).build());
-        when(policyStore.findById("policy2")).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy2).build());
+        when(policyStore.findAll(any())).thenAnswer(i -> Stream.of(policyDefinition("policy1", policy1), policyDefinition("policy2", policy2)));
         var participantAgent = createParticipantAgent();
 
         var dataset = datasetResolver.getById(participantAgent, "datasetId");
@@ -262,6 +320,10 @@ class DatasetResolverImplTest {
         assertThat(dataset).isNull();
     }
 
+    private PolicyDefinition policyDefinition(String id, Policy policy) {
+        return PolicyDefinition.Builder.newInstance().id(id).policy(policy).build();
+    }
+
     private ContractDefinition.Builder contractDefinitionBuilder(String id) {
         return ContractDefinition.Builder.newInstance()
                 .id(id)
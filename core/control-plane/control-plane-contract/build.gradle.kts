@@ -23,11 +23,12 @@ dependencies {
     api(project(":spi:control-plane:contract-spi"))
     api(project(":spi:control-plane:asset-spi"))
 
+    implementation(project(":spi:common:transaction-spi"))
     implementation(project(":core:common:lib:state-machine-lib"))
+    implementation(project(":core:common:lib:util-lib"))
     implementation(project(":core:control-plane:lib:control-plane-policies-lib"))
     implementation(libs.opentelemetry.instrumentation.annotations)
 
-    testImplementation(project(":spi:common:transaction-spi"))
     testImplementation(project(":core:control-plane:control-plane-core"))
     testImplementation(project(":core:control-plane:control-plane-aggregate-services"))
     testImplementation(project(":core:common:junit"))
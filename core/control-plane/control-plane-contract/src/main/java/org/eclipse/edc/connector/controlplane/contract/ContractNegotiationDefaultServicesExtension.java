@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.contract;
 
 import org.eclipse.edc.connector.controlplane.contract.observe.ContractNegotiationObservableImpl;
+import org.eclipse.edc.connector.controlplane.contract.offer.AccessPolicyDecisionCache;
 import org.eclipse.edc.connector.controlplane.contract.offer.ConsumerOfferResolverImpl;
 import org.eclipse.edc.connector.controlplane.contract.offer.ContractDefinitionResolverImpl;
 import org.eclipse.edc.connector.controlplane.contract.policy.PolicyArchiveImpl;
@@ -24,14 +25,26 @@ import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.Con
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ConsumerOfferResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.CacheInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Contract Negotiation Default Services Extension
@@ -41,6 +54,20 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     public static final String NAME = "Contract Negotiation Default Services";
 
+    @Setting(value = "Time to live in milliseconds of cached access policy decisions used to resolve contract definitions. 0 disables the cache", type = "long", defaultValue = "" + ContractNegotiationDefaultServicesExtension.DEFAULT_ACCESS_DECISION_CACHE_TTL)
+    public static final String ACCESS_DECISION_CACHE_TTL = "edc.contract.definition.access.cache.ttl";
+    private static final long DEFAULT_ACCESS_DECISION_CACHE_TTL = 0;
+    @Setting(value = "Maximum number of cached access policy decisions", type = "int", defaultValue = "" + ContractNegotiationDefaultServicesExtension.DEFAULT_ACCESS_DECISION_CACHE_SIZE)
+    public static final String ACCESS_DECISION_CACHE_SIZE = "edc.contract.definition.access.cache.size";
+    private static final int DEFAULT_ACCESS_DECISION_CACHE_SIZE = 10_000;
+    @Setting(value = "Comma-separated list of participant agent claims that are ignored when matching cached access policy decisions", defaultValue = ContractNegotiationDefaultServicesExtension.DEFAULT_ACCESS_DECISION_CACHE_IGNORED_CLAIMS)
+    public static final String ACCESS_DECISION_CACHE_IGNORED_CLAIMS = "edc.contract.definition.access.cache.ignored.claims";
+    private static final String DEFAULT_ACCESS_DECISION_CACHE_IGNORED_CLAIMS = "iat,exp,nbf,jti";
+    @Setting(value = "Comma-separated list of constraint left operands, e.g. time-dependent ones, that exclude an access policy from the decision cache")
+    public static final String ACCESS_DECISION_CACHE_UNCACHEABLE_OPERANDS = "edc.contract.definition.access.cache.uncacheable.operands";
+    @Setting(value = "Maximum number of contract agreement policies cached by the policy archive. 0 disables the cache", type = "int", defaultValue = "" + PolicyArchiveImpl.DEFAULT_CACHE_SIZE)
+    public static final String POLICY_ARCHIVE_CACHE_SIZE = "edc.policy.archive.cache.size";
+
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
 
@@ -53,9 +80,24 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     @Inject
     private ContractNegotiationStore store;
 
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private CacheInstrumentation cacheInstrumentation;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     @Provider
     public ContractDefinitionResolver contractDefinitionResolver(ServiceExtensionContext context) {
-        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore);
+        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore, accessPolicyDecisionCache(context));
     }
 
     @Provider
@@ -69,12 +111,38 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     }
 
     @Provider
-    public PolicyArchive policyArchive() {
-        return new PolicyArchiveImpl(store);
+    public PolicyArchive policyArchive(ServiceExtensionContext context) {
+        var cacheSize = context.getSetting(POLICY_ARCHIVE_CACHE_SIZE, PolicyArchiveImpl.DEFAULT_CACHE_SIZE);
+        var policyArchive = new PolicyArchiveImpl(store, cacheSize);
+        if (cacheSize > 0) {
+            cacheInstrumentation.instrument(policyArchive, "policy-archive");
+        }
+        return policyArchive;
     }
 
     @Provider(isDefault = true)
     public ContractNegotiationPendingGuard pendingGuard() {
         return it -> false;
     }
+
+    private AccessPolicyDecisionCache accessPolicyDecisionCache(ServiceExtensionContext context) {
+        var ttl = context.getSetting(ACCESS_DECISION_CACHE_TTL, DEFAULT_ACCESS_DECISION_CACHE_TTL);
+        if (ttl <= 0) {
+            return AccessPolicyDecisionCache.disabled();
+        }
+
+        var cache = new AccessPolicyDecisionCache(typeManager.getMapper(), clock, Duration.ofMillis(ttl),
+                context.getSetting(ACCESS_DECISION_CACHE_SIZE, DEFAULT_ACCESS_DECISION_CACHE_SIZE),
+                toSet(context.getSetting(ACCESS_DECISION_CACHE_IGNORED_CLAIMS, DEFAULT_ACCESS_DECISION_CACHE_IGNORED_CLAIMS)),
+                toSet(context.getSetting(ACCESS_DECISION_CACHE_UNCACHEABLE_OPERANDS, "")), transactionContext);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cache);
+        return cache;
+    }
+
+    private Set<String> toSet(String commaSeparated) {
+        return Arrays.stream(commaSeparated.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toSet());
+    }
 }
@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.contract.offer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionDeleted;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionUpdated;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.MultiplicityConstraint;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Rule;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext.TransactionSynchronization;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Caches the outcome of access policy evaluations per participant agent, so that repeated catalog requests of the same
+ * participant do not evaluate every access policy again. Decisions are keyed by a digest of the agent claims and
+ * attributes, the access policy id and a local version of that policy. The version must be read with
+ * {@link #version(String)} before the policy is loaded, so that a decision about a policy that changes while it is
+ * evaluated is stored under the outdated version. Decisions expire after the configured time to live, which also bounds
+ * the staleness of decisions about policies changed by another runtime.
+ * <p>
+ * Versions are drawn from a single counter: an update of a policy assigns it a new version, a deletion of any policy
+ * raises the version of all policies, so that decisions are not re-used for a policy re-created with the same id, and
+ * drops the individual versions. The tracked versions are therefore bounded by the number of existing policies. The
+ * events are published before the transaction of the change commits, so the version is raised once more after the
+ * transaction completed, and a decision evaluated against the previous policy in the meantime is not re-used.
+ * <p>
+ * Policies containing a constraint on one of the configured uncacheable left operands, e.g. time-dependent ones, are
+ * never cached. A time to live of zero disables the cache.
+ */
+public class AccessPolicyDecisionCache implements EventSubscriber {
+
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final Set<String> ignoredClaims;
+    private final Set<String> uncacheableLeftOperands;
+    private final ObjectMapper mapper;
+    private final ConcurrentLruCache<DecisionKey, Decision> decisions;
+    private final Map<String, Long> policyVersions = new ConcurrentHashMap<>();
+    private final AtomicLong versionCounter = new AtomicLong();
+    private final TransactionContext transactionContext;
+    private volatile long baseVersion;
+
+    public AccessPolicyDecisionCache(ObjectMapper mapper, Clock clock, Duration timeToLive, int capacity,
+                                     Set<String> ignoredClaims, Set<String> uncacheableLeftOperands,
+                                     TransactionContext transactionContext) {
+        this.mapper = mapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.ignoredClaims = ignoredClaims;
+        this.uncacheableLeftOperands = uncacheableLeftOperands;
+        this.decisions = new ConcurrentLruCache<>(capacity);
+        this.transactionContext = transactionContext;
+    }
+
+    /**
+     * Returns a cache that never stores decisions.
+     */
+    public static AccessPolicyDecisionCache disabled() {
+        return new AccessPolicyDecisionCache(new ObjectMapper(), Clock.systemUTC(), Duration.ZERO, 1, Set.of(), Set.of(), new NoopTransactionContext());
+    }
+
+    /**
+     * Computes the digest identifying the agent in the cache. Returns null if the cache is disabled or if the claims
+     * cannot be serialized, in which case nothing is cached for the agent.
+     */
+    @Nullable
+    public String digest(ParticipantAgent agent) {
+        if (isDisabled()) {
+            return null;
+        }
+
+        var claims = new TreeMap<>(agent.getClaims());
+        claims.keySet().removeAll(ignoredClaims);
+        try {
+            var bytes = mapper.writeValueAsBytes(List.of(claims, new TreeMap<>(agent.getAttributes())));
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the current version of the policy, to be passed to {@link #get(String, String, long)} and
+     * {@link #put(String, String, long, Policy, boolean)}.
+     */
+    public long version(String policyId) {
+        return Math.max(baseVersion, policyVersions.getOrDefault(policyId, 0L));
+    }
+
+    /**
+     * Returns the cached decision for the given version of the policy, null if there is none or it expired.
+     */
+    @Nullable
+    public Boolean get(@Nullable String agentDigest, String policyId, long policyVersion) {
+        if (agentDigest == null) {
+            return null;
+        }
+
+        var decision = decisions.get(new DecisionKey(agentDigest, policyId, policyVersion));
+        if (decision == null || decision.expiresAt().isBefore(clock.instant())) {
+            return null;
+        }
+        return decision.granted();
+    }
+
+    /**
+     * Stores a decision about the given version of the policy, unless the policy contains an uncacheable constraint.
+     */
+    public void put(@Nullable String agentDigest, String policyId, long policyVersion, Policy policy, boolean granted) {
+        if (agentDigest == null || !isCacheable(policy)) {
+            return;
+        }
+
+        decisions.put(new DecisionKey(agentDigest, policyId, policyVersion), new Decision(granted, clock.instant().plus(timeToLive)));
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var payload = event.getPayload();
+        if (!(payload instanceof PolicyDefinitionUpdated) && !(payload instanceof PolicyDefinitionDeleted)) {
+            return;
+        }
+
+        raiseVersion(payload);
+        transactionContext.execute(() -> transactionContext.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion() {
+                raiseVersion(payload);
+            }
+        }));
+    }
+
+    private void raiseVersion(Event payload) {
+        if (payload instanceof PolicyDefinitionUpdated updated) {
+            policyVersions.put(updated.getPolicyDefinitionId(), versionCounter.incrementAndGet());
+        } else if (payload instanceof PolicyDefinitionDeleted) {
+            var version = versionCounter.incrementAndGet();
+            baseVersion = version;
+            policyVersions.values().removeIf(policyVersion -> policyVersion < version);
+        }
+    }
+
+    private boolean isDisabled() {
+        return timeToLive.isZero() || timeToLive.isNegative();
+    }
+
+    private boolean isCacheable(Policy policy) {
+        if (uncacheableLeftOperands.isEmpty()) {
+            return true;
+        }
+
+        return Stream.<List<? extends Rule>>of(policy.getPermissions(), policy.getProhibitions(), policy.getObligations())
+                .flatMap(List::stream)
+                .flatMap(this::constraints)
+                .noneMatch(this::isUncacheable);
+    }
+
+    private Stream<Constraint> constraints(Rule rule) {
+        var duties = rule instanceof Permission permission
+                ? permission.getDuties().stream().flatMap(this::constraints)
+                : Stream.<Constraint>empty();
+        return Stream.concat(rule.getConstraints().stream(), duties);
+    }
+
+    private boolean isUncacheable(Constraint constraint) {
+        if (constraint instanceof MultiplicityConstraint multiplicityConstraint) {
+            return multiplicityConstraint.getConstraints().stream().anyMatch(this::isUncacheable);
+        }
+        return constraint instanceof AtomicConstraint atomicConstraint &&
+                atomicConstraint.getLeftExpression() instanceof LiteralExpression leftExpression &&
+                uncacheableLeftOperands.contains(leftExpression.asString());
+    }
+
+    private record DecisionKey(String agentDigest, String policyId, long policyVersion) {
+    }
+
+    private record Decision(boolean granted, Instant expiresAt) {
+    }
+}
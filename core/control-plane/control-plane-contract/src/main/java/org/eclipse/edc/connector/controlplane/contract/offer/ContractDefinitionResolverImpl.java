@@ -45,19 +45,27 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final AccessPolicyDecisionCache decisionCache;
 
     public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, AccessPolicyDecisionCache.disabled());
+    }
+
+    public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine,
+                                          PolicyDefinitionStore policyStore, AccessPolicyDecisionCache decisionCache) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.decisionCache = decisionCache;
     }
 
     @NotNull
     @Override
     public Stream<ContractDefinition> definitionsFor(ParticipantAgent agent) {
+        var agentDigest = decisionCache.digest(agent);
         return definitionStore.findAll(QuerySpec.max())
-                .filter(definition -> evaluateAccessPolicy(definition, agent));
+                .filter(definition -> isAccessGranted(definition, agent, agentDigest));
     }
 
     @Nullable
@@ -65,23 +73,39 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     public ContractDefinition definitionFor(ParticipantAgent agent, String definitionId) {
         return Optional.of(definitionId)
                 .map(definitionStore::findById)
-                .filter(definition -> evaluateAccessPolicy(definition, agent))
+                .filter(definition -> isAccessGranted(definition, agent, decisionCache.digest(agent)))
                 .orElse(null);
     }
 
+    private boolean isAccessGranted(ContractDefinition definition, ParticipantAgent agent, @Nullable String agentDigest) {
+        // the version is read before the policy is loaded, so that a concurrent change is not hidden by the cached decision
+        var policyVersion = decisionCache.version(definition.getAccessPolicyId());
+        var cached = decisionCache.get(agentDigest, definition.getAccessPolicyId(), policyVersion);
+        if (cached != null) {
+            return cached;
+        }
+
+        return evaluateAccessPolicy(definition, agent, agentDigest, policyVersion);
+    }
+
     /**
-     * Determines the applicability of a definition to an agent by evaluating its access policy.
+     * Determines the applicability of a definition to an agent by evaluating its access policy. The decision is cached
+     * only if the policy exists.
      */
-    private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
+    private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent, @Nullable String agentDigest, long policyVersion) {
         var policyContext = PolicyContextImpl.Builder.newInstance().additional(ParticipantAgent.class, agent).build();
         var accessResult = Optional.of(definition.getAccessPolicyId())
                 .map(policyStore::findById)
                 .map(PolicyDefinition::getPolicy)
-                .map(policy -> policyEngine.evaluate(CATALOGING_SCOPE, policy, policyContext))
+                .map(policy -> {
+                    var result = policyEngine.evaluate(CATALOGING_SCOPE, policy, policyContext);
+                    decisionCache.put(agentDigest, definition.getAccessPolicyId(), policyVersion, policy, result.succeeded());
+                    return result;
+                })
                 .orElse(Result.failure(format("Policy %s not found", definition.getAccessPolicyId())));
 
         if (accessResult.failed()) {
-            monitor.debug(format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
+            monitor.debug(() -> format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
             return false;
         }
 
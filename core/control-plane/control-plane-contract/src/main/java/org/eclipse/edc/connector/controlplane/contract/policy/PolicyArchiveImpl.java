@@ -18,20 +18,97 @@ import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.Con
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.system.CacheMetrics;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves the policy of a {@link ContractAgreement}. Since agreements are immutable once created, the finalized
+ * policies are kept in a bounded LRU cache keyed by agreement id. Unknown agreements are never cached, because they
+ * could still be stored later on.
+ * <p>
+ * Every caller gets its own copy of the cached policy, so that changes to its rule lists or properties do not leak
+ * into the cache. The rules themselves are shared.
+ */
+public class PolicyArchiveImpl implements PolicyArchive, CacheMetrics {
+    public static final int DEFAULT_CACHE_SIZE = 1000;
 
-public class PolicyArchiveImpl implements PolicyArchive {
     private final ContractNegotiationStore contractNegotiationStore;
+    private final Map<String, Policy> cache;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
 
     public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore) {
+        this(contractNegotiationStore, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a policy archive.
+     *
+     * @param contractNegotiationStore the store the agreements are read from
+     * @param cacheSize                the maximum number of cached policies, 0 disables caching
+     */
+    public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore, int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize must be >= 0, but was " + cacheSize);
+        }
         this.contractNegotiationStore = contractNegotiationStore;
+        this.cache = cacheSize > 0 ? new ConcurrentLruCache<>(cacheSize) : null;
     }
 
     @Override
     public Policy findPolicyForContract(String contractId) {
-        return Optional.ofNullable(contractId)
-                .map(contractNegotiationStore::findContractAgreement)
+        if (contractId == null) {
+            return null;
+        }
+        if (cache == null) {
+            return loadPolicy(contractId);
+        }
+
+        var cached = cache.get(contractId);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached.toBuilder().build();
+        }
+
+        missCount.incrementAndGet();
+        var policy = loadPolicy(contractId);
+        if (policy == null) {
+            return null;
+        }
+        cache.put(contractId, policy);
+        return policy.toBuilder().build();
+    }
+
+    /**
+     * Number of lookups served from the cache.
+     */
+    @Override
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Number of lookups that had to be resolved from the {@link ContractNegotiationStore}.
+     */
+    @Override
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Number of policies currently held in the cache.
+     */
+    @Override
+    public int getSize() {
+        return cache == null ? 0 : cache.size();
+    }
+
+    private Policy loadPolicy(String contractId) {
+        return Optional.ofNullable(contractNegotiationStore.findContractAgreement(contractId))
                 .map(this::mapAgreementPolicy)
                 .orElse(null);
     }
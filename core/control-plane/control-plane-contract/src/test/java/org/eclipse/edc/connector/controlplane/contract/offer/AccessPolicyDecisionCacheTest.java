@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.contract.offer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionCreated;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionDeleted;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionUpdated;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.OrConstraint;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessPolicyDecisionCacheTest {
+
+    private final Clock clock = mock();
+    private final TransactionContext transactionContext = mock();
+    private final AccessPolicyDecisionCache cache = new AccessPolicyDecisionCache(new ObjectMapper(), clock, Duration.ofSeconds(10), 10,
+            Set.of("jti"), Set.of("inForceDate"), transactionContext);
+
+    @Test
+    void get_shouldReturnCachedDecision() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        var digest = cache.digest(agent("participant", "token-1"));
+
+        cache.put(digest, "policy", cache.version("policy"), Policy.Builder.newInstance().build(), true);
+
+        assertThat(cache.get(digest, "policy", cache.version("policy"))).isTrue();
+        assertThat(cache.get(digest, "other-policy", cache.version("other-policy"))).isNull();
+    }
+
+    @Test
+    void digest_shouldIgnoreConfiguredClaims() {
+        assertThat(cache.digest(agent("participant", "token-1"))).isEqualTo(cache.digest(agent("participant", "token-2")));
+        assertThat(cache.digest(agent("participant", "token-1"))).isNotEqualTo(cache.digest(agent("other", "token-1")));
+    }
+
+    @Test
+    void get_shouldReturnNull_whenDecisionExpired() {
+        when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plusSeconds(11));
+        var digest = cache.digest(agent("participant", "token"));
+
+        cache.put(digest, "policy", cache.version("policy"), Policy.Builder.newInstance().build(), false);
+
+        assertThat(cache.get(digest, "policy", cache.version("policy"))).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenPolicyDefinitionChanged() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        var digest = cache.digest(agent("participant", "token"));
+        cache.put(digest, "policy", cache.version("policy"), Policy.Builder.newInstance().build(), true);
+
+        cache.on(EventEnvelope.Builder.newInstance().at(1).payload(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("policy").build()).build());
+
+        assertThat(cache.get(digest, "policy", cache.version("policy"))).isNull();
+    }
+
+    @Test
+    void put_shouldNotBeReturned_whenPolicyChangedDuringEvaluation() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        var digest = cache.digest(agent("participant", "token"));
+        var versionBeforeLoading = cache.version("policy");
+
+        cache.on(EventEnvelope.Builder.newInstance().at(1).payload(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("policy").build()).build());
+        cache.put(digest, "policy", versionBeforeLoading, Policy.Builder.newInstance().build(), true);
+
+        assertThat(cache.get(digest, "policy", cache.version("policy"))).isNull();
+    }
+
+    @Test
+    void put_shouldNotBeReturned_whenPolicyEvaluatedBeforeTransactionCompleted() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        doAnswer(a -> {
+            a.getArgument(0, TransactionContext.TransactionBlock.class).execute();
+            return null;
+        }).when(transactionContext).execute(isA(TransactionContext.TransactionBlock.class));
+        var digest = cache.digest(agent("participant", "token"));
+
+        cache.on(EventEnvelope.Builder.newInstance().at(1).payload(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("policy").build()).build());
+        // evaluated against the policy before the commit
+        var versionBeforeCommit = cache.version("policy");
+        cache.put(digest, "policy", versionBeforeCommit, Policy.Builder.newInstance().build(), true);
+
+        var captor = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        verify(transactionContext).registerSynchronization(captor.capture());
+        captor.getValue().afterCompletion();
+
+        assertThat(cache.version("policy")).isGreaterThan(versionBeforeCommit);
+        assertThat(cache.get(digest, "policy", cache.version("policy"))).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenPolicyDefinitionDeletedAndRecreated() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        var digest = cache.digest(agent("participant", "token"));
+        cache.put(digest, "policy", cache.version("policy"), Policy.Builder.newInstance().build(), true);
+
+        cache.on(EventEnvelope.Builder.newInstance().at(1).payload(PolicyDefinitionDeleted.Builder.newInstance().policyDefinitionId("policy").build()).build());
+        cache.on(EventEnvelope.Builder.newInstance().at(2).payload(PolicyDefinitionCreated.Builder.newInstance().policyDefinitionId("policy").build()).build());
+
+        assertThat(cache.get(digest, "policy", cache.version("policy"))).isNull();
+    }
+
+    @Test
+    void on_shouldDropPolicyVersions_whenPolicyDefinitionDeleted() {
+        cache.on(EventEnvelope.Builder.newInstance().at(1).payload(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("policy").build()).build());
+        var updatedVersion = cache.version("policy");
+
+        cache.on(EventEnvelope.Builder.newInstance().at(2).payload(PolicyDefinitionDeleted.Builder.newInstance().policyDefinitionId("other-policy").build()).build());
+
+        assertThat(cache.version("policy")).isGreaterThan(updatedVersion).isEqualTo(cache.version("unknown-policy"));
+    }
+
+    @Test
+    void put_shouldNotCache_whenPolicyContainsUncacheableConstraint() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        var digest = cache.digest(agent("participant", "token"));
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("inForceDate"))
+                .operator(Operator.GEQ)
+                .rightExpression(new LiteralExpression("2024-01-01"))
+                .build();
+        var policy = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance().constraint(OrConstraint.Builder.newInstance().constraint(constraint).build()).build())
+                .build();
+
+        cache.put(digest, "policy", cache.version("policy"), policy, true);
+
+        assertThat(cache.get(digest, "policy", cache.version("policy"))).isNull();
+    }
+
+    @Test
+    void disabled_shouldNeverCache() {
+        var disabled = AccessPolicyDecisionCache.disabled();
+        var digest = disabled.digest(agent("participant", "token"));
+
+        disabled.put(digest, "policy", disabled.version("policy"), Policy.Builder.newInstance().build(), true);
+
+        assertThat(digest).isNull();
+        assertThat(disabled.get(digest, "policy", disabled.version("policy"))).isNull();
+    }
+
+    private ParticipantAgent agent(String identity, String tokenId) {
+        return new ParticipantAgent(Map.of("client_id", identity, "jti", tokenId), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, identity));
+    }
+}
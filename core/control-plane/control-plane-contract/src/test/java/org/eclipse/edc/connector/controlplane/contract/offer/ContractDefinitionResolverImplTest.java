@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.controlplane.contract.offer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
@@ -26,10 +27,14 @@ import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +46,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -135,6 +141,23 @@ class ContractDefinitionResolverImplTest {
         verifyNoInteractions(policyEngine);
     }
 
+    @Test
+    void definitionsFor_shouldReuseCachedDecisions() {
+        var cache = new AccessPolicyDecisionCache(new ObjectMapper(), Clock.systemUTC(), Duration.ofMinutes(1), 10, Set.of(), Set.of(), new NoopTransactionContext());
+        var cachingService = new ContractDefinitionResolverImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore, cache);
+        var agent = new ParticipantAgent(Map.of("client_id", "participant"), Map.of());
+        var definition = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).id("access").build();
+        when(policyStore.findById(any())).thenReturn(definition);
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        assertThat(cachingService.definitionsFor(agent)).hasSize(1);
+        assertThat(cachingService.definitionsFor(agent)).hasSize(1);
+
+        verify(policyStore, times(1)).findById("access");
+        verify(policyEngine, times(1)).evaluate(any(), any(), isA(PolicyContext.class));
+    }
+
     private ContractDefinition createContractDefinition() {
         return ContractDefinition.Builder.newInstance()
                 .id("1")
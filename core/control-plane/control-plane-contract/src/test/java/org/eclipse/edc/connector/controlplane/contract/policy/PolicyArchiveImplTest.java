@@ -16,11 +16,15 @@ package org.eclipse.edc.connector.controlplane.contract.policy;
 
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PolicyArchiveImplTest {
@@ -66,6 +70,79 @@ class PolicyArchiveImplTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void shouldCachePolicy() {
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(contractAgreement);
+
+        var first = policyArchive.findPolicyForContract("contractId");
+        var second = policyArchive.findPolicyForContract("contractId");
+
+        assertThat(second).isNotSameAs(first).usingRecursiveComparison().isEqualTo(first);
+        verify(contractNegotiationStore, times(1)).findContractAgreement("contractId");
+        assertThat(policyArchive.getHitCount()).isEqualTo(1);
+        assertThat(policyArchive.getMissCount()).isEqualTo(1);
+        assertThat(policyArchive.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotExposeCachedPolicy_whenReturnedPolicyIsModified() {
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(contractAgreement);
+
+        policyArchive.findPolicyForContract("contractId").getPermissions().add(Permission.Builder.newInstance().build());
+        policyArchive.findPolicyForContract("contractId").getExtensibleProperties().put("key", "value");
+
+        var result = policyArchive.findPolicyForContract("contractId");
+
+        assertThat(result.getPermissions()).isEmpty();
+        assertThat(result.getExtensibleProperties()).isEmpty();
+    }
+
+    @Test
+    void shouldNotCache_whenContractDoesNotExist() {
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(null);
+
+        policyArchive.findPolicyForContract("contractId");
+        policyArchive.findPolicyForContract("contractId");
+
+        verify(contractNegotiationStore, times(2)).findContractAgreement("contractId");
+        assertThat(policyArchive.getSize()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed_whenCacheIsFull() {
+        var archive = new PolicyArchiveImpl(contractNegotiationStore, 1);
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement("contract1")).thenReturn(contractAgreement);
+        when(contractNegotiationStore.findContractAgreement("contract2")).thenReturn(contractAgreement);
+
+        archive.findPolicyForContract("contract1");
+        archive.findPolicyForContract("contract2");
+        archive.findPolicyForContract("contract1");
+
+        verify(contractNegotiationStore, times(2)).findContractAgreement("contract1");
+        assertThat(archive.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCache_whenCacheIsDisabled() {
+        var archive = new PolicyArchiveImpl(contractNegotiationStore, 0);
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(contractAgreement);
+
+        archive.findPolicyForContract("contractId");
+        archive.findPolicyForContract("contractId");
+
+        verify(contractNegotiationStore, times(2)).findContractAgreement("contractId");
+    }
+
+    @Test
+    void shouldThrow_whenCacheSizeIsNegative() {
+        assertThatThrownBy(() -> new PolicyArchiveImpl(contractNegotiationStore, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private ContractAgreement createContractAgreement(Policy policyId) {
         return ContractAgreement.Builder.newInstance()
                 .id("any")
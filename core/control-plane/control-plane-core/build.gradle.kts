@@ -14,6 +14,7 @@
 
 plugins {
     `java-library`
+    alias(libs.plugins.jmh)
 }
 
 
@@ -37,4 +38,9 @@ dependencies {
     testImplementation(testFixtures(project(":spi:control-plane:transfer-spi")))
 }
 
+jmh {
+    // report the allocated bytes per operation next to the throughput
+    profilers = listOf("gc")
+}
+
 
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.defaults.storage;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.connector.controlplane.defaults.storage.transferprocess.InMemoryTransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Measures the queries of the in-memory stores by nested properties, that are resolved on every entity through the
+ * reflective property lookup. Run with {@code ./gradlew :core:control-plane:control-plane-core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InMemoryStoreQueryBenchmark {
+
+    private static final int REGIONS = 10;
+
+    @Param({ "10000", "100000" })
+    public int entities;
+
+    private InMemoryTransferProcessStore transferProcessStore;
+    private InMemoryAssetIndex assetIndex;
+    private QuerySpec transferProcessQuery;
+    private QuerySpec assetQuery;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
+        transferProcessStore = new InMemoryTransferProcessStore(Clock.systemUTC(), criterionOperatorRegistry);
+        assetIndex = new InMemoryAssetIndex(criterionOperatorRegistry);
+
+        IntStream.range(0, entities).forEach(i -> {
+            transferProcessStore.save(createTransferProcess(i));
+            assetIndex.create(createAsset(i));
+        });
+
+        transferProcessQuery = QuerySpec.Builder.newInstance()
+                .filter(criterion("dataDestination.properties.region", "=", "region-3"))
+                .filter(criterion("privateProperties.tier", "in", List.of("gold", "silver")))
+                .sortField("contractId")
+                .limit(50)
+                .build();
+        assetQuery = QuerySpec.Builder.newInstance()
+                .filter(criterion("dataAddress.properties.region", "=", "region-3"))
+                .filter(criterion("privateProperties.tier", "=", "gold"))
+                .sortField("createdAt")
+                .limit(50)
+                .build();
+    }
+
+    @Benchmark
+    public List<TransferProcess> queryTransferProcesses() {
+        return transferProcessStore.findAll(transferProcessQuery).toList();
+    }
+
+    @Benchmark
+    public List<Asset> queryAssets() {
+        return assetIndex.queryAssets(assetQuery).toList();
+    }
+
+    private TransferProcess createTransferProcess(int index) {
+        return TransferProcess.Builder.newInstance()
+                .id("transfer-process-" + index)
+                .assetId("asset-" + index)
+                .contractId("contract-" + index)
+                .type(TransferProcess.Type.PROVIDER)
+                .dataDestination(createDataAddress(index))
+                .privateProperties(Map.of("tier", tier(index)))
+                .build();
+    }
+
+    private Asset createAsset(int index) {
+        return Asset.Builder.newInstance()
+                .id("asset-" + index)
+                .property("name", "asset " + index)
+                .privateProperty("tier", tier(index))
+                .dataAddress(createDataAddress(index))
+                .build();
+    }
+
+    private DataAddress createDataAddress(int index) {
+        return DataAddress.Builder.newInstance()
+                .type("HttpData")
+                .property("region", "region-" + index % REGIONS)
+                .build();
+    }
+
+    private String tier(int index) {
+        return switch (index % 3) {
+            case 0 -> "gold";
+            case 1 -> "silver";
+            default -> "bronze";
+        };
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.defaults.storage.assetindex;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -24,6 +25,7 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.jetbrains.annotations.Nullable;
 
+import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -55,12 +57,20 @@ public class InMemoryAssetIndex implements AssetIndex {
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         lock.readLock().lock();
         try {
-            var comparator = querySpec.getSortField() == null
-                    ? (Comparator<Asset>) (o1, o2) -> 0
-                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+            var assets = filterBy(querySpec.getFilterExpression());
+            var token = querySpec.getContinuationToken();
+            if (querySpec.getSortField() == null) {
+                if (token != null) {
+                    throw new IllegalArgumentException("Cannot continue a query without sort field");
+                }
+                return assets.skip(querySpec.getOffset()).limit(querySpec.getLimit());
+            }
 
-            return filterBy(querySpec.getFilterExpression())
-                    .sorted(comparator)
+            var comparator = new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+            if (token != null) {
+                assets = assets.filter(asset -> comparator.compare(asset, token) > 0);
+            }
+            return assets.sorted(comparator)
                     .skip(querySpec.getOffset()).limit(querySpec.getLimit());
 
         } finally {
@@ -170,13 +180,32 @@ public class InMemoryAssetIndex implements AssetIndex {
 
         @Override
         public int compare(Asset asset1, Asset asset2) {
-            var f1 = asComparable(asset1.getPropertyOrPrivate(sortField));
-            var f2 = asComparable(asset2.getPropertyOrPrivate(sortField));
+            return compare(asset1, new ContinuationToken(asset2.getPropertyOrPrivate(sortField), asset2.getId()));
+        }
+
+        /**
+         * Compares the asset with a position, breaking the ties by id.
+         */
+        int compare(Asset asset, ContinuationToken position) {
+            var f1 = asComparable(asset.getPropertyOrPrivate(sortField));
+            var f2 = asComparable(position.sortValue());
 
             if (f1 == null || f2 == null) {
                 throw new IllegalArgumentException(format("Cannot sort by field %s, it does not exist on one or more Assets", sortField));
             }
-            return sortOrder == SortOrder.ASC ? f1.compareTo(f2) : f2.compareTo(f1);
+            var result = compareValues(f1, f2);
+            if (result == 0) {
+                result = asset.getId().compareTo(position.id());
+            }
+            return sortOrder == SortOrder.ASC ? result : -result;
+        }
+
+        private int compareValues(Comparable<Object> value1, Comparable<Object> value2) {
+            // numbers of different types, e.g. an Integer property and a Long one, are compared by their value
+            if (value1 instanceof Number n1 && value2 instanceof Number n2) {
+                return new BigDecimal(n1.toString()).compareTo(new BigDecimal(n2.toString()));
+            }
+            return value1.getClass().equals(value2.getClass()) ? value1.compareTo(value2) : value1.toString().compareTo(value2.toString());
         }
 
         private @Nullable Comparable<Object> asComparable(Object property) {
@@ -15,11 +15,17 @@
 package org.eclipse.edc.connector.controlplane.defaults.storage.assetindex;
 
 
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.connector.controlplane.asset.spi.testfixtures.AssetIndexTestBase;
 import org.eclipse.edc.connector.controlplane.query.asset.AssetPropertyLookup;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 class InMemoryAssetIndexTest extends AssetIndexTestBase {
 
@@ -37,4 +43,17 @@ class InMemoryAssetIndexTest extends AssetIndexTestBase {
         return index;
     }
 
+    @Test
+    void queryAssets_shouldSortNumbersByValue_whenSortFieldHasMixedNumberTypes() {
+        index.create(createAssetBuilder("id1").property("size", 10).build());
+        index.create(createAssetBuilder("id2").property("size", 5L).build());
+        index.create(createAssetBuilder("id3").property("size", 100).build());
+        index.create(createAssetBuilder("id4").property("size", 20L).build());
+        var spec = QuerySpec.Builder.newInstance().sortField("size").sortOrder(SortOrder.ASC).build();
+
+        var result = index.queryAssets(spec);
+
+        assertThat(result).extracting(Asset::getId).containsExactly("id2", "id1", "id4", "id3");
+    }
+
 }
@@ -16,9 +16,20 @@ package org.eclipse.edc.connector.controlplane.defaults.storage.transferprocess;
 
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 
 class InMemoryTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
@@ -39,4 +50,17 @@ class InMemoryTransferProcessStoreTest extends TransferProcessStoreTestBase {
         return store.isLeasedBy(entityId, owner);
     }
 
+    @Test
+    void nextNotLeased_shouldNotLeaseTheSameEntityTwice_whenCalledConcurrently() {
+        IntStream.range(0, 1000).forEach(i -> store.save(createTransferProcess("completed-" + i, COMPLETED)));
+        IntStream.range(0, 1000).forEach(i -> store.save(createTransferProcess("started-" + i, STARTED)));
+
+        var futures = IntStream.range(0, 10)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> store.nextNotLeased(150, hasState(STARTED.code()))))
+                .toList();
+
+        var leased = futures.stream().map(CompletableFuture::join).flatMap(List::stream).map(TransferProcess::getId).toList();
+        assertThat(leased).hasSize(1000).doesNotHaveDuplicates().allMatch(id -> id.startsWith("started-"));
+    }
+
 }
@@ -22,31 +22,47 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
+import org.eclipse.edc.jsonld.spi.StreamingJsonObject;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReference;
 
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.BASE_PATH;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.CATALOG_REQUEST;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.DATASET_REQUEST;
+import static org.eclipse.edc.protocol.dsp.spi.error.DspErrorResponse.type;
 import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_ERROR;
 import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_REQUEST_MESSAGE;
 
 /**
- * Provides the HTTP endpoint for receiving catalog requests.
+ * Provides the HTTP endpoint for receiving catalog requests. Catalogs are written as a stream, and the endpoint accepts
+ * {@code offset} and {@code limit} query parameters that take precedence over the ones of the request message query. When
+ * a response contains a full page, a {@code Link} header with relation {@code next} points to the following one.
  */
 @Consumes({ APPLICATION_JSON })
 @Produces({ APPLICATION_JSON })
 @Path(BASE_PATH)
 public class DspCatalogApiController {
 
+    private static final String OFFSET = "offset";
+    private static final String LIMIT = "limit";
+
     private final CatalogProtocolService service;
     private final DspRequestHandler dspRequestHandler;
 
@@ -57,16 +73,25 @@ public class DspCatalogApiController {
 
     @POST
     @Path(CATALOG_REQUEST)
-    public Response requestCatalog(JsonObject jsonObject, @HeaderParam(AUTHORIZATION) String token) {
+    public Response requestCatalog(JsonObject jsonObject, @HeaderParam(AUTHORIZATION) String token,
+                                   @QueryParam(OFFSET) Integer offset, @QueryParam(LIMIT) Integer limit,
+                                   @Context UriInfo uriInfo) {
+        if ((offset != null && offset < 0) || (limit != null && limit <= 0)) {
+            return type(DSPACE_TYPE_CATALOG_ERROR).message("Invalid pagination parameters").badRequest();
+        }
+
+        var page = new AtomicReference<Page>();
         var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, Catalog.class)
                 .token(token)
                 .expectedMessageType(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE)
                 .message(jsonObject)
-                .serviceCall(service::getCatalog)
+                .serviceCall((message, tokenRepresentation) -> getCatalog(withPagination(message, offset, limit), tokenRepresentation, page))
+                .responseEntityType(StreamingJsonObject.class)
                 .errorType(DSPACE_TYPE_CATALOG_ERROR)
                 .build();
 
-        return dspRequestHandler.createResource(request);
+        var response = dspRequestHandler.createResource(request);
+        return withPaginationLinks(response, page.get(), uriInfo);
     }
 
     @GET
@@ -82,4 +107,51 @@ public class DspCatalogApiController {
         return dspRequestHandler.getResource(request);
     }
 
+    private ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation, AtomicReference<Page> page) {
+        return service.getCatalog(message, tokenRepresentation)
+                .onSuccess(catalog -> page.set(new Page(message.getQuerySpec(), catalog.getDatasets().size())));
+    }
+
+    private CatalogRequestMessage withPagination(CatalogRequestMessage message, @Nullable Integer offset, @Nullable Integer limit) {
+        if (offset == null && limit == null) {
+            return message;
+        }
+
+        var querySpec = message.getQuerySpec();
+        var paginated = QuerySpec.Builder.newInstance()
+                .offset(offset != null ? offset : querySpec.getOffset())
+                .limit(limit != null ? limit : querySpec.getLimit())
+                .filter(querySpec.getFilterExpression())
+                .sortField(querySpec.getSortField())
+                .sortOrder(querySpec.getSortOrder())
+                .build();
+
+        return CatalogRequestMessage.Builder.newInstance()
+                .protocol(message.getProtocol())
+                .counterPartyAddress(message.getCounterPartyAddress())
+                .counterPartyId(message.getCounterPartyId())
+                .querySpec(paginated)
+                .build();
+    }
+
+    private Response withPaginationLinks(Response response, @Nullable Page page, UriInfo uriInfo) {
+        if (page == null || response.getStatus() != Response.Status.OK.getStatusCode()) {
+            return response;
+        }
+
+        var offset = page.querySpec().getOffset();
+        var limit = page.querySpec().getLimit();
+        var builder = Response.fromResponse(response);
+        if (offset > 0) {
+            builder.link(uriInfo.getAbsolutePathBuilder().queryParam(OFFSET, Math.max(0, offset - limit)).queryParam(LIMIT, limit).build(), "prev");
+        }
+        if (page.size() >= limit && (long) offset + limit <= Integer.MAX_VALUE) {
+            builder.link(uriInfo.getAbsolutePathBuilder().queryParam(OFFSET, offset + limit).queryParam(LIMIT, limit).build(), "next");
+        }
+        return builder.build();
+    }
+
+    private record Page(QuerySpec querySpec, int size) {
+    }
+
 }
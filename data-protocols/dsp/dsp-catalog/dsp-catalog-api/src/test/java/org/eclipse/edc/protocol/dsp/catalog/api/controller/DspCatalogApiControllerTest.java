@@ -23,11 +23,15 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
+import org.eclipse.edc.jsonld.spi.StreamingJsonObject;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.junit.jupiter.api.Test;
@@ -44,10 +48,14 @@ import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.BASE_PATH
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.CATALOG_REQUEST;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.DATASET_REQUEST;
 import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_REQUEST_MESSAGE;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ApiTest
@@ -82,6 +90,74 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
         assertThat(request.getProcessId()).isNull();
         assertThat(request.getToken()).isEqualTo("auth");
         assertThat(request.getMessage()).isEqualTo(requestBody);
+        assertThat(request.getResponseEntityType()).isEqualTo(StreamingJsonObject.class);
+    }
+
+    @Test
+    void requestCatalog_shouldApplyPaginationAndAddLinks_whenPageIsFull() {
+        var requestBody = createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build();
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").build();
+        var catalog = Catalog.Builder.newInstance()
+                .dataset(Dataset.Builder.newInstance().id("dataset-1").build())
+                .dataset(Dataset.Builder.newInstance().id("dataset-2").build())
+                .build();
+        when(service.getCatalog(any(), any())).thenReturn(ServiceResult.success(catalog));
+        when(dspRequestHandler.createResource(any())).thenAnswer(invocation -> {
+            PostDspRequest<CatalogRequestMessage, Catalog> request = invocation.getArgument(0);
+            request.getServiceCall().apply(message, TokenRepresentation.Builder.newInstance().token("auth").build());
+            return Response.ok().type(APPLICATION_JSON_TYPE).build();
+        });
+
+        baseRequest()
+                .contentType(JSON)
+                .body(requestBody)
+                .queryParam("offset", 2)
+                .queryParam("limit", 2)
+                .post(CATALOG_REQUEST)
+                .then()
+                .statusCode(200)
+                .header("Link", allOf(containsString("offset=4&limit=2>; rel=\"next\""), containsString("offset=0&limit=2>; rel=\"prev\"")));
+
+        var captor = ArgumentCaptor.forClass(CatalogRequestMessage.class);
+        verify(service).getCatalog(captor.capture(), any());
+        assertThat(captor.getValue().getQuerySpec()).extracting(QuerySpec::getOffset, QuerySpec::getLimit).containsExactly(2, 2);
+    }
+
+    @Test
+    void requestCatalog_shouldNotAddNextLink_whenPageIsNotFull() {
+        var requestBody = createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build();
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").build();
+        var catalog = Catalog.Builder.newInstance().dataset(Dataset.Builder.newInstance().id("dataset-1").build()).build();
+        when(service.getCatalog(any(), any())).thenReturn(ServiceResult.success(catalog));
+        when(dspRequestHandler.createResource(any())).thenAnswer(invocation -> {
+            PostDspRequest<CatalogRequestMessage, Catalog> request = invocation.getArgument(0);
+            request.getServiceCall().apply(message, TokenRepresentation.Builder.newInstance().token("auth").build());
+            return Response.ok().type(APPLICATION_JSON_TYPE).build();
+        });
+
+        baseRequest()
+                .contentType(JSON)
+                .body(requestBody)
+                .queryParam("limit", 2)
+                .post(CATALOG_REQUEST)
+                .then()
+                .statusCode(200)
+                .header("Link", nullValue());
+    }
+
+    @Test
+    void requestCatalog_shouldReturnBadRequest_whenPaginationIsInvalid() {
+        var requestBody = createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build();
+
+        baseRequest()
+                .contentType(JSON)
+                .body(requestBody)
+                .queryParam("offset", -1)
+                .post(CATALOG_REQUEST)
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(dspRequestHandler);
     }
 
     @Test
@@ -14,6 +14,7 @@
 
 plugins {
     `java-library`
+    alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -24,4 +25,12 @@ dependencies {
     api(project(":data-protocols:dsp:dsp-http-spi"))
 
     implementation(project(":core:common:lib:transform-lib"))
+
+    jmhImplementation(project(":core:common:lib:json-ld-lib"))
+    jmhImplementation(project(":core:control-plane:control-plane-transform"))
+}
+
+jmh {
+    // report the allocated bytes per operation next to the throughput
+    profilers = listOf("gc")
 }
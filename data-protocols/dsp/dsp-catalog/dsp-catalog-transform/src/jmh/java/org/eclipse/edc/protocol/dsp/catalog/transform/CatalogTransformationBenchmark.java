@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.transform;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.connector.controlplane.transform.odrl.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Duty;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromCatalogTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDataServiceTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDatasetTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDistributionTransformer;
+import org.eclipse.edc.spi.agent.ParticipantIdMapper;
+import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.jsonld.util.JacksonJsonLd.createObjectMapper;
+
+/**
+ * Measures the transformation of a complete catalog into its DSP JSON-LD representation through the context-specific
+ * transformer registry, as done by the catalog request endpoint. Run with
+ * {@code ./gradlew :data-protocols:dsp:dsp-catalog:dsp-catalog-transform:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CatalogTransformationBenchmark {
+
+    @Param({ "100", "10000" })
+    public int datasets;
+
+    private TypeTransformerRegistry registry;
+    private Catalog catalog;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var jsonFactory = Json.createBuilderFactory(Map.of());
+        var mapper = createObjectMapper();
+        var participantIdMapper = new IdentityParticipantIdMapper();
+
+        registry = new TypeTransformerRegistryImpl().forContext("dsp-api");
+        registry.register(new JsonObjectFromPolicyTransformer(jsonFactory, participantIdMapper));
+        registry.register(new JsonObjectFromCatalogTransformer(jsonFactory, mapper, participantIdMapper));
+        registry.register(new JsonObjectFromDatasetTransformer(jsonFactory, mapper));
+        registry.register(new JsonObjectFromDistributionTransformer(jsonFactory));
+        registry.register(new JsonObjectFromDataServiceTransformer(jsonFactory));
+
+        var dataService = DataService.Builder.newInstance()
+                .id("data-service")
+                .endpointUrl("https://provider.example/api/dsp")
+                .build();
+        var catalogBuilder = Catalog.Builder.newInstance()
+                .id("catalog")
+                .participantId("provider")
+                .dataService(dataService);
+        IntStream.range(0, datasets).forEach(i -> catalogBuilder.dataset(createDataset(i, dataService)));
+        catalog = catalogBuilder.build();
+    }
+
+    @Benchmark
+    public JsonObject transformCatalog() {
+        return registry.transform(catalog, JsonObject.class).getContent();
+    }
+
+    private Dataset createDataset(int index, DataService dataService) {
+        return Dataset.Builder.newInstance()
+                .id("dataset-" + index)
+                .offer("offer-" + index + "-1", createPolicy("membership"))
+                .offer("offer-" + index + "-2", createPolicy("dismantler"))
+                .distribution(Distribution.Builder.newInstance().format("HttpData-PULL").dataService(dataService).build())
+                .distribution(Distribution.Builder.newInstance().format("AmazonS3-PUSH").dataService(dataService).build())
+                .property("https://w3id.org/edc/v0.0.1/ns/description", "dataset " + index)
+                .build();
+    }
+
+    private Policy createPolicy(String credential) {
+        var use = Action.Builder.newInstance().type("use").build();
+        return Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance()
+                        .action(use)
+                        .constraint(constraint(credential, "active"))
+                        .constraint(constraint("purpose", "research"))
+                        .duty(Duty.Builder.newInstance().action(Action.Builder.newInstance().type("notify").build()).build())
+                        .build())
+                .build();
+    }
+
+    private AtomicConstraint constraint(String left, String right) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(left))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(right))
+                .build();
+    }
+
+    private static class IdentityParticipantIdMapper implements ParticipantIdMapper {
+
+        @Override
+        public String toIri(String participantId) {
+            return participantId;
+        }
+
+        @Override
+        public String fromIri(String iriParticipantId) {
+            return iriParticipantId;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.catalog.transform.from;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.jsonld.spi.StreamingJsonObject;
+import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Converts from a {@link Catalog} to a DCAT catalog as a {@link StreamingJsonObject}, in which the datasets are
+ * transformed only when the response is written. Each dataset is released once it has been transformed, so that
+ * neither the datasets nor their JSON representations are held for the whole catalog while it is written.
+ * <p>
+ * As the response status has already been sent when a dataset is transformed, a dataset that cannot be transformed
+ * aborts the stream with an {@link EdcException}, instead of being left out of an otherwise valid catalog.
+ */
+public class StreamingJsonObjectFromCatalogTransformer extends AbstractJsonLdTransformer<Catalog, StreamingJsonObject> {
+
+    public StreamingJsonObjectFromCatalogTransformer() {
+        super(Catalog.class, StreamingJsonObject.class);
+    }
+
+    @Override
+    public @Nullable StreamingJsonObject transform(@NotNull Catalog catalog, @NotNull TransformerContext context) {
+        var withoutDatasets = Catalog.Builder.newInstance()
+                .id(catalog.getId())
+                .participantId(catalog.getParticipantId())
+                .datasets(List.of())
+                .dataServices(catalog.getDataServices())
+                .properties(catalog.getProperties())
+                .build();
+
+        var head = context.transform(withoutDatasets, JsonObject.class);
+        if (head == null) {
+            return null;
+        }
+
+        var pending = new ArrayDeque<>(catalog.getDatasets());
+        var datasets = Stream.generate(pending::poll)
+                .takeWhile(Objects::nonNull)
+                .map(dataset -> transformDataset(dataset, context));
+
+        return new StreamingJsonObject(head, DCAT_DATASET_ATTRIBUTE, datasets);
+    }
+
+    private JsonObject transformDataset(Dataset dataset, TransformerContext context) {
+        var json = context.transform(dataset, JsonObject.class);
+        if (json == null) {
+            throw new EdcException("Dataset %s could not be transformed, aborting the catalog response: %s"
+                    .formatted(dataset.getId(), String.join(", ", context.getProblems())));
+        }
+        return json;
+    }
+}
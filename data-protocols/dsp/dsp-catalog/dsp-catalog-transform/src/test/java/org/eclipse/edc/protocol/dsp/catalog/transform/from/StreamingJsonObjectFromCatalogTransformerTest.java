@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.catalog.transform.from;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingJsonObjectFromCatalogTransformerTest {
+
+    private final TransformerContext context = mock();
+    private final StreamingJsonObjectFromCatalogTransformer transformer = new StreamingJsonObjectFromCatalogTransformer();
+
+    @Test
+    void transform_shouldTransformCatalogWithoutDatasets() {
+        var head = Json.createObjectBuilder().add(ID, "catalog").build();
+        when(context.transform(isA(Catalog.class), eq(JsonObject.class))).thenReturn(head);
+
+        var result = transformer.transform(catalog(dataset("dataset")), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.head()).isSameAs(head);
+        assertThat(result.property()).isEqualTo(DCAT_DATASET_ATTRIBUTE);
+        verify(context).transform(argThat((Catalog catalog) -> catalog.getId().equals("catalog") && catalog.getDatasets().isEmpty()), eq(JsonObject.class));
+    }
+
+    @Test
+    void transform_shouldTransformDatasetsLazily() {
+        var datasetJson = Json.createObjectBuilder().add(ID, "dataset").build();
+        when(context.transform(isA(Catalog.class), eq(JsonObject.class))).thenReturn(Json.createObjectBuilder().build());
+        when(context.transform(isA(Dataset.class), eq(JsonObject.class))).thenReturn(datasetJson);
+
+        var result = transformer.transform(catalog(dataset("dataset")), context);
+
+        assertThat(result).isNotNull();
+        verify(context, never()).transform(isA(Dataset.class), any());
+        assertThat(result.elements()).containsExactly(datasetJson);
+    }
+
+    @Test
+    void transform_shouldFailStream_whenDatasetTransformationFails() {
+        var datasetJson = Json.createObjectBuilder().add(ID, "valid").build();
+        when(context.transform(isA(Catalog.class), eq(JsonObject.class))).thenReturn(Json.createObjectBuilder().build());
+        when(context.transform(argThat((Dataset dataset) -> dataset != null && dataset.getId().equals("valid")), eq(JsonObject.class))).thenReturn(datasetJson);
+        when(context.getProblems()).thenReturn(List.of("invalid policy"));
+
+        var result = transformer.transform(catalog(dataset("valid"), dataset("invalid")), context);
+
+        assertThat(result).isNotNull();
+        var elements = result.elements().iterator();
+        assertThat(elements.next()).isEqualTo(datasetJson);
+        assertThatThrownBy(elements::next).isInstanceOf(EdcException.class)
+                .hasMessageContaining("invalid").hasMessageContaining("invalid policy");
+    }
+
+    @Test
+    void transform_shouldReturnNull_whenCatalogTransformationFails() {
+        when(context.transform(isA(Catalog.class), eq(JsonObject.class))).thenReturn(null);
+
+        var result = transformer.transform(catalog(dataset("dataset")), context);
+
+        assertThat(result).isNull();
+    }
+
+    private Catalog catalog(Dataset... datasets) {
+        var builder = Catalog.Builder.newInstance()
+                .id("catalog")
+                .participantId("participantId")
+                .dataService(DataService.Builder.newInstance().build());
+        for (var dataset : datasets) {
+            builder.dataset(dataset);
+        }
+        return builder.build();
+    }
+
+    private Dataset dataset(String id) {
+        return Dataset.Builder.newInstance().id(id).build();
+    }
+}
@@ -27,6 +27,8 @@ dependencies {
     api(project(":data-protocols:dsp:dsp-spi"))
     api(project(":data-protocols:dsp:dsp-http-spi"))
 
+    implementation(project(":core:common:lib:util-lib"))
+
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":core:common:lib:json-ld-lib"))
     testImplementation(project(":extensions:common:http:jersey-core"))
@@ -32,6 +32,7 @@ import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.eclipse.edc.protocol.dsp.dispatcher.CredentialCoalescer;
 import org.eclipse.edc.protocol.dsp.dispatcher.DspHttpRemoteMessageDispatcherImpl;
 import org.eclipse.edc.protocol.dsp.message.DspRequestHandlerImpl;
 import org.eclipse.edc.protocol.dsp.serialization.JsonLdRemoteMessageSerializerImpl;
@@ -41,8 +42,10 @@ import org.eclipse.edc.protocol.dsp.spi.serialization.JsonLdRemoteMessageSeriali
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenReuseAudiences;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -52,8 +55,12 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
+import static org.eclipse.edc.spi.iam.TokenReuseAudiences.TOKEN_REUSE_AUDIENCES;
 
 /**
  * Provides an implementation of {@link DspHttpRemoteMessageDispatcher} to support sending dataspace
@@ -65,6 +72,13 @@ public class DspHttpCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Core Extension";
 
+    @Setting(value = "Window in milliseconds during which outgoing messages with the same audience and scopes share the obtained credentials. Only audiences listed in 'edc.iam.sts.token.reuse.audiences' are coalesced, all audiences if that list is empty. 0 disables coalescing", type = "long", defaultValue = "" + DspHttpCoreExtension.DEFAULT_CREDENTIALS_COALESCING_WINDOW)
+    public static final String CREDENTIALS_COALESCING_WINDOW = "edc.dsp.credentials.coalescing.window";
+    private static final long DEFAULT_CREDENTIALS_COALESCING_WINDOW = 0;
+    @Setting(value = "Maximum number of scope claims memoized per outgoing message type and policy. 0 disables the memoization, which is required when the scope extraction functions depend on the message content", type = "int", defaultValue = "" + DspHttpCoreExtension.DEFAULT_POLICY_SCOPE_CACHE_SIZE)
+    public static final String POLICY_SCOPE_CACHE_SIZE = "edc.dsp.policy.scope.cache.size";
+    private static final int DEFAULT_POLICY_SCOPE_CACHE_SIZE = 0;
+
     /**
      * Policy scope evaluated when a contract negotiation request is made.
      */
@@ -108,6 +122,9 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -123,7 +140,10 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        var coalescingWindow = Duration.ofMillis(context.getSetting(CREDENTIALS_COALESCING_WINDOW, DEFAULT_CREDENTIALS_COALESCING_WINDOW));
+        var credentialCoalescer = new CredentialCoalescer(identityService, clock, coalescingWindow, TokenReuseAudiences.filter(context.getSetting(TOKEN_REUSE_AUDIENCES, "")));
+        var scopeCacheSize = context.getSetting(POLICY_SCOPE_CACHE_SIZE, DEFAULT_POLICY_SCOPE_CACHE_SIZE);
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, td, policyEngine, audienceResolver, credentialCoalescer, scopeCacheSize, typeManager.getMapper());
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
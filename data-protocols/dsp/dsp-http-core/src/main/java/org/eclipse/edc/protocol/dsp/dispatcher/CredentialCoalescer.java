@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Coalesces credential acquisitions: messages dispatched within a short window with the same token parameters, i.e.
+ * to the same audience and with the same scopes, share a single call to the {@link IdentityService}. This avoids a
+ * credential round trip per message when the state machines emit bursts of messages to the same counterparty.
+ * <p>
+ * The window must be considerably shorter than the lifetime of the obtained tokens. Failed acquisitions are not shared
+ * beyond the requests that were already waiting for them. A window of zero disables coalescing.
+ * <p>
+ * Coalesced messages carry the same token, hence the same {@code jti}. Only audiences accepted by the audience filter,
+ * i.e. counterparties that do not enforce single-use tokens, are coalesced; all other messages obtain their own token.
+ */
+public class CredentialCoalescer {
+
+    private static final String AUDIENCE_CLAIM = "aud";
+
+    private final IdentityService identityService;
+    private final Clock clock;
+    private final long windowMillis;
+    private final Predicate<String> audienceFilter;
+    private final Map<CredentialKey, Credential> credentials = new ConcurrentHashMap<>();
+
+    public CredentialCoalescer(IdentityService identityService, Clock clock, Duration window, Predicate<String> audienceFilter) {
+        this.identityService = identityService;
+        this.clock = clock;
+        this.windowMillis = window.toMillis();
+        this.audienceFilter = audienceFilter;
+    }
+
+    /**
+     * Returns a coalescer that obtains new credentials for every message.
+     */
+    public static CredentialCoalescer disabled(IdentityService identityService) {
+        return new CredentialCoalescer(identityService, Clock.systemUTC(), Duration.ZERO, audience -> false);
+    }
+
+    /**
+     * Obtains the credentials for the given token parameters, possibly sharing them with other messages.
+     *
+     * @param parameters the token parameters.
+     * @return future completing with the token.
+     */
+    public CompletableFuture<Result<TokenRepresentation>> obtainClientCredentials(TokenParameters parameters) {
+        if (windowMillis <= 0 || !(parameters.getClaims().get(AUDIENCE_CLAIM) instanceof String audience) || !audienceFilter.test(audience)) {
+            return identityService.obtainClientCredentialsAsync(parameters);
+        }
+
+        var now = clock.millis();
+        credentials.values().removeIf(credential -> credential.expiresAt() <= now);
+
+        var key = new CredentialKey(new HashMap<>(parameters.getClaims()), new HashMap<>(parameters.getHeaders()));
+        var candidate = new Credential(new CompletableFuture<>(), now + windowMillis);
+        var credential = credentials.compute(key, (k, existing) -> existing != null && existing.expiresAt() > now ? existing : candidate);
+
+        if (credential == candidate) {
+            acquire(key, candidate, parameters);
+        }
+        return credential.token();
+    }
+
+    private void acquire(CredentialKey key, Credential credential, TokenParameters parameters) {
+        try {
+            identityService.obtainClientCredentialsAsync(parameters).whenComplete((result, throwable) -> {
+                if (throwable != null || result.failed()) {
+                    credentials.remove(key, credential);
+                }
+                if (throwable != null) {
+                    credential.token().completeExceptionally(throwable);
+                } else {
+                    credential.token().complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            credentials.remove(key, credential);
+            credential.token().completeExceptionally(e);
+        }
+    }
+
+    private record CredentialKey(Map<String, Object> claims, Map<String, Object> headers) {
+    }
+
+    private record Credential(CompletableFuture<Result<TokenRepresentation>> token, long expiresAt) {
+    }
+}
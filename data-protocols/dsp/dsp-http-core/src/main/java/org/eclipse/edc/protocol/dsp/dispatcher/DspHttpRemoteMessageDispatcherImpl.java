@@ -14,6 +14,11 @@
 
 package org.eclipse.edc.protocol.dsp.dispatcher;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.http.spi.EdcHttpClient;
@@ -30,9 +35,12 @@ import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.RequestContext;
 import org.eclipse.edc.spi.iam.RequestScope;
 import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.eclipse.edc.token.spi.TokenDecorator;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -59,10 +67,12 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
     private final Map<Class<? extends RemoteMessage>, MessageHandler<?, ?>> handlers = new HashMap<>();
     private final Map<Class<? extends RemoteMessage>, PolicyScope<? extends RemoteMessage>> policyScopes = new HashMap<>();
     private final EdcHttpClient httpClient;
-    private final IdentityService identityService;
     private final PolicyEngine policyEngine;
     private final TokenDecorator tokenDecorator;
     private final AudienceResolver audienceResolver;
+    private final CredentialCoalescer credentialCoalescer;
+    private final Map<ScopeKey, String> scopeClaims;
+    private final ObjectWriter policyWriter;
 
 
     public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
@@ -70,11 +80,35 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                                               TokenDecorator decorator,
                                               PolicyEngine policyEngine,
                                               AudienceResolver audienceResolver) {
+        this(httpClient, decorator, policyEngine, audienceResolver, CredentialCoalescer.disabled(identityService), 0, new ObjectMapper());
+    }
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param httpClient          the http client.
+     * @param decorator           the decorator of the token parameters.
+     * @param policyEngine        the policy engine used to evaluate the registered policy scopes.
+     * @param audienceResolver    the audience resolver.
+     * @param credentialCoalescer used to obtain the credentials.
+     * @param scopeCacheSize      maximum number of scope claims memoized per message type, policy scope and policy, 0
+     *                            disables the memoization.
+     * @param objectMapper        used to serialize the policies to the keys of the memoized scope claims.
+     */
+    public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
+                                              TokenDecorator decorator,
+                                              PolicyEngine policyEngine,
+                                              AudienceResolver audienceResolver,
+                                              CredentialCoalescer credentialCoalescer,
+                                              int scopeCacheSize,
+                                              ObjectMapper objectMapper) {
         this.httpClient = httpClient;
-        this.identityService = identityService;
         this.policyEngine = policyEngine;
         this.tokenDecorator = decorator;
         this.audienceResolver = audienceResolver;
+        this.credentialCoalescer = credentialCoalescer;
+        this.scopeClaims = scopeCacheSize > 0 ? new ConcurrentLruCache<>(scopeCacheSize) : null;
+        this.policyWriter = objectMapper.writer(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
     }
 
     @Override
@@ -93,28 +127,14 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
 
         var tokenParametersBuilder = TokenParameters.Builder.newInstance();
 
-        var policyScope = policyScopes.get(message.getClass());
+        var policyScope = (PolicyScope<M>) policyScopes.get(message.getClass());
         if (policyScope != null) {
-            var requestScopeBuilder = RequestScope.Builder.newInstance();
-            var requestContext = RequestContext.Builder.newInstance()
-                    .message(message)
-                    .direction(RequestContext.Direction.Egress)
-                    .build();
-            
-            var context = PolicyContextImpl.Builder.newInstance()
-                    .additional(RequestScope.Builder.class, requestScopeBuilder)
-                    .additional(RequestContext.class, requestContext)
-                    .build();
-            var policyProvider = (Function<M, Policy>) policyScope.policyProvider;
-            policyEngine.evaluate(policyScope.scope, policyProvider.apply(message), context);
-
-            var scopes = requestScopeBuilder.build().getScopes();
+            var scopeClaim = scopeClaim(policyScope, message);
 
             // Only add the scope claim if there are scopes returned from the policy engine evaluation
-            if (!scopes.isEmpty()) {
-                tokenParametersBuilder.claims(SCOPE_CLAIM, String.join(" ", scopes));
+            if (!scopeClaim.isEmpty()) {
+                tokenParametersBuilder.claims(SCOPE_CLAIM, scopeClaim);
             }
-
         }
 
         tokenParametersBuilder = tokenDecorator.decorate(tokenParametersBuilder);
@@ -123,16 +143,8 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                 .claims(AUDIENCE_CLAIM, audienceResolver.resolve(message)) // enforce the audience, ignore anything a decorator might have set
                 .build();
 
-        return identityService.obtainClientCredentials(tokenParameters)
-                .map(token -> {
-                    var requestWithAuth = request.newBuilder()
-                            .header("Authorization", token.getToken())
-                            .build();
-
-                    return httpClient.executeAsync(requestWithAuth, List.of(retryWhenStatusNot2xxOr4xx()))
-                            .thenApply(response -> handleResponse(response, responseType, handler.bodyExtractor));
-                })
-                .orElse(failure -> failedFuture(new EdcException(format("Unable to obtain credentials: %s", failure.getFailureDetail()))));
+        return credentialCoalescer.obtainClientCredentials(tokenParameters)
+                .thenCompose(tokenResult -> send(request, tokenResult, responseType, handler.bodyExtractor));
     }
 
     @Override
@@ -146,6 +158,62 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
         policyScopes.put(messageClass, new PolicyScope<>(messageClass, scope, policyProvider));
     }
 
+    private <M extends RemoteMessage> String scopeClaim(PolicyScope<M> policyScope, M message) {
+        var policy = policyScope.policyProvider.apply(message);
+        var serializedPolicy = scopeClaims == null || policy == null ? null : serialize(policy);
+        if (serializedPolicy == null) {
+            return evaluateScopeClaim(policyScope, message, policy);
+        }
+
+        // policies are rebuilt for every message and their rules don't implement equals, so they are compared by their
+        // serialized form. The message is not part of the key: the memoization is only enabled when the scope extraction
+        // functions don't depend on the message content
+        var key = new ScopeKey(message.getClass(), policyScope.scope, serializedPolicy);
+        var scopeClaim = scopeClaims.get(key);
+        if (scopeClaim == null) {
+            scopeClaim = evaluateScopeClaim(policyScope, message, policy);
+            scopeClaims.put(key, scopeClaim);
+        }
+        return scopeClaim;
+    }
+
+    private <M extends RemoteMessage> String evaluateScopeClaim(PolicyScope<M> policyScope, M message, Policy policy) {
+        var requestScopeBuilder = RequestScope.Builder.newInstance();
+        var requestContext = RequestContext.Builder.newInstance()
+                .message(message)
+                .direction(RequestContext.Direction.Egress)
+                .build();
+
+        var context = PolicyContextImpl.Builder.newInstance()
+                .additional(RequestScope.Builder.class, requestScopeBuilder)
+                .additional(RequestContext.class, requestContext)
+                .build();
+        policyEngine.evaluate(policyScope.scope, policy, context);
+
+        return String.join(" ", requestScopeBuilder.build().getScopes());
+    }
+
+    private String serialize(Policy policy) {
+        try {
+            return policyWriter.writeValueAsString(policy);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private <T> CompletableFuture<StatusResult<T>> send(Request request, Result<TokenRepresentation> tokenResult, Class<T> responseType, DspHttpResponseBodyExtractor<T> bodyExtractor) {
+        if (tokenResult.failed()) {
+            return failedFuture(new EdcException(format("Unable to obtain credentials: %s", tokenResult.getFailureDetail())));
+        }
+
+        var requestWithAuth = request.newBuilder()
+                .header("Authorization", tokenResult.getContent().getToken())
+                .build();
+
+        return httpClient.executeAsync(requestWithAuth, List.of(retryWhenStatusNot2xxOr4xx()))
+                .thenApply(response -> handleResponse(response, responseType, bodyExtractor));
+    }
+
     @NotNull
     private <T> StatusResult<T> handleResponse(Response response, Class<T> responseType, DspHttpResponseBodyExtractor<T> bodyExtractor) {
         try (var responseBody = response.body()) {
@@ -179,6 +247,9 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
     ) {
     }
 
+    private record ScopeKey(Class<?> messageClass, String scope, String policy) {
+    }
+
     private record PolicyScope<M extends RemoteMessage>(
             Class<M> messageClass, String scope,
             Function<M, Policy> policyProvider
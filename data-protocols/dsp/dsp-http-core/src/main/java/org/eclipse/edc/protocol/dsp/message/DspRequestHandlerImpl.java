@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.protocol.dsp.message;
 
-import jakarta.json.JsonObject;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
@@ -63,7 +62,7 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
         var resource = serviceResult.getContent();
 
-        var transformation = transformerRegistry.transform(resource, JsonObject.class);
+        var transformation = transformerRegistry.transform(resource, request.getResponseEntityType());
         if (transformation.failed()) {
             var errorCode = UUID.randomUUID();
             monitor.warning("Error transforming %s, error id %s: %s".formatted(request.getResultClass().getSimpleName(), errorCode, transformation.getFailureDetail()));
@@ -114,7 +113,7 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
         var resource = serviceResult.getContent();
 
-        var outputTransformation = transformerRegistry.transform(resource, JsonObject.class);
+        var outputTransformation = transformerRegistry.transform(resource, request.getResponseEntityType());
         if (outputTransformation.failed()) {
             var errorCode = UUID.randomUUID();
             monitor.warning("Error transforming %s, error id %s: %s".formatted(request.getResultClass().getSimpleName(), errorCode, outputTransformation.getFailureDetail()));
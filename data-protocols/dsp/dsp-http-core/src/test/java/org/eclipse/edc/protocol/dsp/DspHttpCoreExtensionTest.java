@@ -26,6 +26,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -48,7 +49,7 @@ class DspHttpCoreExtensionTest {
     @Test
     @DisplayName("Assert usage of the default (noop) token decorator")
     void createDispatcher_noTokenDecorator_shouldUseNoop(ServiceExtensionContext context, ObjectFactory factory) {
-        when(identityService.obtainClientCredentials(any())).thenReturn(Result.failure("not-important"));
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(completedFuture(Result.failure("not-important")));
         context.registerService(TokenDecorator.class, null);
 
         extension = factory.constructInstance(DspHttpCoreExtension.class);
@@ -56,13 +57,13 @@ class DspHttpCoreExtensionTest {
         dispatcher.registerMessage(TestMessage.class, mock(), mock());
         dispatcher.dispatch(String.class, new TestMessage("protocol", "address", "counterPartyId"));
 
-        verify(identityService).obtainClientCredentials(argThat(tokenParams -> tokenParams.getStringClaim(SCOPE_CLAIM) == null));
+        verify(identityService).obtainClientCredentialsAsync(argThat(tokenParams -> tokenParams.getStringClaim(SCOPE_CLAIM) == null));
     }
 
     @Test
     @DisplayName("Assert usage of an injected TokenDecorator")
     void createDispatcher_withTokenDecorator_shouldUse(ServiceExtensionContext context, ObjectFactory factory) {
-        when(identityService.obtainClientCredentials(any())).thenReturn(Result.failure("not-important"));
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(completedFuture(Result.failure("not-important")));
         context.registerService(TokenDecorator.class, (td) -> td.claims(SCOPE_CLAIM, "test-scope"));
 
         extension = factory.constructInstance(DspHttpCoreExtension.class);
@@ -70,7 +71,7 @@ class DspHttpCoreExtensionTest {
         dispatcher.registerMessage(TestMessage.class, mock(), mock());
         dispatcher.dispatch(String.class, new TestMessage("protocol", "address", "counterPartyId"));
 
-        verify(identityService).obtainClientCredentials(argThat(tokenParams -> tokenParams.getStringClaim(SCOPE_CLAIM).equals("test-scope")));
+        verify(identityService).obtainClientCredentialsAsync(argThat(tokenParams -> tokenParams.getStringClaim(SCOPE_CLAIM).equals("test-scope")));
     }
 
     @Test
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CredentialCoalescerTest {
+
+    private final IdentityService identityService = mock();
+    private final Clock clock = mock();
+    private final CredentialCoalescer coalescer = new CredentialCoalescer(identityService, clock, Duration.ofMillis(100), audience -> !audience.equals("single-use"));
+
+    @Test
+    void shouldShareCredentials_whenParametersAreEqualWithinWindow() {
+        when(clock.millis()).thenReturn(0L, 50L);
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(CompletableFuture.completedFuture(Result.success(token())));
+
+        var first = coalescer.obtainClientCredentials(parameters("audience"));
+        var second = coalescer.obtainClientCredentials(parameters("audience"));
+
+        assertThat(second).isSameAs(first);
+        verify(identityService, times(1)).obtainClientCredentialsAsync(any());
+    }
+
+    @Test
+    void shouldObtainNewCredentials_whenAudienceDiffers() {
+        when(clock.millis()).thenReturn(0L);
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(CompletableFuture.completedFuture(Result.success(token())));
+
+        coalescer.obtainClientCredentials(parameters("audience1"));
+        coalescer.obtainClientCredentials(parameters("audience2"));
+
+        verify(identityService, times(2)).obtainClientCredentialsAsync(any());
+    }
+
+    @Test
+    void shouldObtainNewCredentials_whenAudienceIsNotAllowedToReuseTokens() {
+        when(clock.millis()).thenReturn(0L);
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(CompletableFuture.completedFuture(Result.success(token())));
+
+        var first = coalescer.obtainClientCredentials(parameters("single-use"));
+        var second = coalescer.obtainClientCredentials(parameters("single-use"));
+
+        assertThat(second).isNotSameAs(first);
+        verify(identityService, times(2)).obtainClientCredentialsAsync(any());
+    }
+
+    @Test
+    void shouldObtainNewCredentials_whenAudienceIsMissing() {
+        when(clock.millis()).thenReturn(0L);
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(CompletableFuture.completedFuture(Result.success(token())));
+        var parameters = TokenParameters.Builder.newInstance().claims("scope", "scope").build();
+
+        coalescer.obtainClientCredentials(parameters);
+        coalescer.obtainClientCredentials(parameters);
+
+        verify(identityService, times(2)).obtainClientCredentialsAsync(any());
+    }
+
+    @Test
+    void shouldObtainNewCredentials_whenWindowElapsed() {
+        when(clock.millis()).thenReturn(0L, 100L);
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(CompletableFuture.completedFuture(Result.success(token())));
+
+        coalescer.obtainClientCredentials(parameters("audience"));
+        coalescer.obtainClientCredentials(parameters("audience"));
+
+        verify(identityService, times(2)).obtainClientCredentialsAsync(any());
+    }
+
+    @Test
+    void shouldNotShareFailure() {
+        when(clock.millis()).thenReturn(0L);
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.failure("error")))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(token())));
+
+        var failed = coalescer.obtainClientCredentials(parameters("audience")).join();
+        var succeeded = coalescer.obtainClientCredentials(parameters("audience")).join();
+
+        assertThat(failed.failed()).isTrue();
+        assertThat(succeeded.succeeded()).isTrue();
+    }
+
+    @Test
+    void shouldNotCoalesce_whenDisabled() {
+        var disabled = CredentialCoalescer.disabled(identityService);
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(CompletableFuture.completedFuture(Result.success(token())));
+
+        disabled.obtainClientCredentials(parameters("audience"));
+        disabled.obtainClientCredentials(parameters("audience"));
+
+        verify(identityService, times(2)).obtainClientCredentialsAsync(any());
+    }
+
+    private TokenParameters parameters(String audience) {
+        return TokenParameters.Builder.newInstance().claims("aud", audience).claims("scope", "scope").build();
+    }
+
+    private TokenRepresentation token() {
+        return TokenRepresentation.Builder.newInstance().token("token").build();
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.protocol.dsp.dispatcher;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.MediaType;
 import okhttp3.Protocol;
 import okhttp3.Request;
@@ -21,6 +22,11 @@ import okhttp3.ResponseBody;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.protocol.dsp.spi.dispatcher.DspHttpRemoteMessageDispatcher;
 import org.eclipse.edc.protocol.dsp.spi.dispatcher.DspHttpRequestFactory;
@@ -59,6 +65,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -113,8 +120,8 @@ class DspHttpRemoteMessageDispatcherImplTest {
         when(tokenDecorator.decorate(any())).thenAnswer(a -> a.getArgument(0, TokenParameters.Builder.class).claims(additional));
         when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
         when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
-        when(identityService.obtainClientCredentials(any()))
-                .thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token(authToken).build()));
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token(authToken).build())));
 
         dispatcher.registerPolicyScope(TestMessage.class, "scope.test", (m) -> policy);
 
@@ -128,7 +135,7 @@ class DspHttpRemoteMessageDispatcherImplTest {
         assertThat(result).succeedsWithin(timeout);
 
         var captor = ArgumentCaptor.forClass(TokenParameters.class);
-        verify(identityService).obtainClientCredentials(captor.capture());
+        verify(identityService).obtainClientCredentialsAsync(captor.capture());
         verify(httpClient).executeAsync(argThat(r -> authToken.equals(r.headers().get("Authorization"))), isA(List.class));
         verify(requestFactory).createRequest(message);
         assertThat(captor.getValue()).satisfies(tr -> {
@@ -147,8 +154,8 @@ class DspHttpRemoteMessageDispatcherImplTest {
         when(tokenDecorator.decorate(any())).thenAnswer(a -> a.getArgument(0, TokenParameters.Builder.class).claims(additional).claims(SCOPE_CLAIM, "test-scope"));
         when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
         when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
-        when(identityService.obtainClientCredentials(any()))
-                .thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token(authToken).build()));
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token(authToken).build())));
 
         dispatcher.registerPolicyScope(TestMessage.class, "scope.test", (m) -> policy);
 
@@ -167,7 +174,7 @@ class DspHttpRemoteMessageDispatcherImplTest {
         assertThat(result).succeedsWithin(timeout);
 
         var captor = ArgumentCaptor.forClass(TokenParameters.class);
-        verify(identityService).obtainClientCredentials(captor.capture());
+        verify(identityService).obtainClientCredentialsAsync(captor.capture());
         verify(httpClient).executeAsync(argThat(r -> authToken.equals(r.headers().get("Authorization"))), isA(List.class));
         verify(requestFactory).createRequest(message);
         assertThat(captor.getValue()).satisfies(tr -> {
@@ -186,8 +193,8 @@ class DspHttpRemoteMessageDispatcherImplTest {
         when(tokenDecorator.decorate(any())).thenAnswer(a -> a.getArgument(0, TokenParameters.Builder.class).claims(additional));
         when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
         when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
-        when(identityService.obtainClientCredentials(any()))
-                .thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token(authToken).build()));
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token(authToken).build())));
 
         dispatcher.registerPolicyScope(TestMessage.class, "scope.test", (m) -> policy);
 
@@ -206,7 +213,7 @@ class DspHttpRemoteMessageDispatcherImplTest {
         assertThat(result).succeedsWithin(timeout);
 
         var captor = ArgumentCaptor.forClass(TokenParameters.class);
-        verify(identityService).obtainClientCredentials(captor.capture());
+        verify(identityService).obtainClientCredentialsAsync(captor.capture());
         verify(httpClient).executeAsync(argThat(r -> authToken.equals(r.headers().get("Authorization"))), isA(List.class));
         verify(requestFactory).createRequest(message);
         verify(policyEngine).evaluate(any(), any(), argThat(ctx -> {
@@ -233,7 +240,7 @@ class DspHttpRemoteMessageDispatcherImplTest {
     void dispatch_failedToObtainToken_throwException() {
         dispatcher.registerMessage(TestMessage.class, requestFactory, mock());
         when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
-        when(identityService.obtainClientCredentials(any())).thenReturn(Result.failure("error"));
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(completedFuture(Result.failure("error")));
 
         assertThat(dispatcher.dispatch(String.class, new TestMessage())).failsWithin(timeout)
                 .withThrowableThat().withCauseInstanceOf(EdcException.class).withMessageContaining("credentials");
@@ -245,8 +252,8 @@ class DspHttpRemoteMessageDispatcherImplTest {
     void dispatch_shouldNotEvaluatePolicy_whenItIsNotRegistered() {
         when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
         when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
-        when(identityService.obtainClientCredentials(any()))
-                .thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("any").build()));
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token("any").build())));
         dispatcher.registerMessage(TestMessage.class, requestFactory, mock());
 
         var result = dispatcher.dispatch(String.class, new TestMessage());
@@ -260,8 +267,8 @@ class DspHttpRemoteMessageDispatcherImplTest {
         var policy = Policy.Builder.newInstance().build();
         when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
         when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
-        when(identityService.obtainClientCredentials(any()))
-                .thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("any").build()));
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token("any").build())));
         when(policyEngine.evaluate(eq("test.message"), eq(policy), isA(PolicyContext.class))).thenAnswer((a -> {
             a.getArgument(2, PolicyContext.class).getContextData(RequestScope.Builder.class).scope("test-scope");
             return Result.success();
@@ -273,7 +280,7 @@ class DspHttpRemoteMessageDispatcherImplTest {
         var result = dispatcher.dispatch(String.class, new TestMessage());
 
         var captor = ArgumentCaptor.forClass(TokenParameters.class);
-        verify(identityService).obtainClientCredentials(captor.capture());
+        verify(identityService).obtainClientCredentialsAsync(captor.capture());
         assertThat(result).succeedsWithin(timeout);
         verify(policyEngine).evaluate(eq("test.message"), eq(policy), and(isA(PolicyContext.class), argThat(c -> c.getContextData(RequestScope.Builder.class) != null)));
         assertThat(captor.getValue()).satisfies(tr -> {
@@ -281,6 +288,106 @@ class DspHttpRemoteMessageDispatcherImplTest {
         });
     }
 
+    @Test
+    void dispatch_shouldMemoizeScopes_whenScopeCacheEnabled() {
+        var cachingDispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, tokenDecorator, policyEngine, audienceResolver,
+                CredentialCoalescer.disabled(identityService), 10, new ObjectMapper());
+        var policy = Policy.Builder.newInstance().build();
+        when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
+        when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token("any").build())));
+        when(policyEngine.evaluate(eq("test.message"), eq(policy), isA(PolicyContext.class))).thenAnswer((a -> {
+            a.getArgument(2, PolicyContext.class).getContextData(RequestScope.Builder.class).scope("test-scope");
+            return Result.success();
+        }));
+
+        cachingDispatcher.registerMessage(TestMessage.class, requestFactory, mock());
+        cachingDispatcher.registerPolicyScope(TestMessage.class, "test.message", m -> policy);
+
+        assertThat(cachingDispatcher.dispatch(String.class, new TestMessage())).succeedsWithin(timeout);
+        assertThat(cachingDispatcher.dispatch(String.class, new TestMessage())).succeedsWithin(timeout);
+
+        var captor = ArgumentCaptor.forClass(TokenParameters.class);
+        verify(identityService, times(2)).obtainClientCredentialsAsync(captor.capture());
+        verify(policyEngine, times(1)).evaluate(eq("test.message"), eq(policy), isA(PolicyContext.class));
+        assertThat(captor.getAllValues()).allSatisfy(tr -> assertThat(tr.getStringClaim(SCOPE_CLAIM)).isEqualTo("test-scope"));
+    }
+
+    @Test
+    void dispatch_shouldMemoizeScopes_whenPoliciesAreEqualButDistinctInstances() {
+        var cachingDispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, tokenDecorator, policyEngine, audienceResolver,
+                CredentialCoalescer.disabled(identityService), 10, new ObjectMapper());
+        when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
+        when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token("any").build())));
+        when(policyEngine.evaluate(eq("test.message"), any(), isA(PolicyContext.class))).thenAnswer((a -> {
+            a.getArgument(2, PolicyContext.class).getContextData(RequestScope.Builder.class).scope("test-scope");
+            return Result.success();
+        }));
+
+        cachingDispatcher.registerMessage(TestMessage.class, requestFactory, mock());
+        cachingDispatcher.registerPolicyScope(TestMessage.class, "test.message", m -> policyWithPermission("MembershipCredential"));
+
+        assertThat(cachingDispatcher.dispatch(String.class, new TestMessage())).succeedsWithin(timeout);
+        assertThat(cachingDispatcher.dispatch(String.class, new TestMessage())).succeedsWithin(timeout);
+
+        verify(policyEngine, times(1)).evaluate(eq("test.message"), any(), isA(PolicyContext.class));
+    }
+
+    @Test
+    void dispatch_shouldEvaluatePolicyAgain_whenPolicyDiffers() {
+        var cachingDispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, tokenDecorator, policyEngine, audienceResolver,
+                CredentialCoalescer.disabled(identityService), 10, new ObjectMapper());
+        var policies = List.of(policyWithPermission("MembershipCredential"), policyWithPermission("DismantlerCredential")).iterator();
+        when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
+        when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token("any").build())));
+        when(policyEngine.evaluate(eq("test.message"), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+
+        cachingDispatcher.registerMessage(TestMessage.class, requestFactory, mock());
+        cachingDispatcher.registerPolicyScope(TestMessage.class, "test.message", m -> policies.next());
+
+        assertThat(cachingDispatcher.dispatch(String.class, new TestMessage())).succeedsWithin(timeout);
+        assertThat(cachingDispatcher.dispatch(String.class, new TestMessage())).succeedsWithin(timeout);
+
+        verify(policyEngine, times(2)).evaluate(eq("test.message"), any(), isA(PolicyContext.class));
+    }
+
+    @Test
+    void dispatch_shouldEvaluatePolicyEveryTime_whenScopeCacheDisabled() {
+        var policy = Policy.Builder.newInstance().build();
+        when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
+        when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
+        when(identityService.obtainClientCredentialsAsync(any()))
+                .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token("any").build())));
+        when(policyEngine.evaluate(eq("test.message"), eq(policy), isA(PolicyContext.class))).thenReturn(Result.success());
+
+        dispatcher.registerMessage(TestMessage.class, requestFactory, mock());
+        dispatcher.registerPolicyScope(TestMessage.class, "test.message", m -> policy);
+
+        assertThat(dispatcher.dispatch(String.class, new TestMessage())).succeedsWithin(timeout);
+        assertThat(dispatcher.dispatch(String.class, new TestMessage())).succeedsWithin(timeout);
+
+        verify(policyEngine, times(2)).evaluate(eq("test.message"), eq(policy), isA(PolicyContext.class));
+    }
+
+    private Policy policyWithPermission(String credentialType) {
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("FrameworkCredential"))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(credentialType))
+                .build();
+        return Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance()
+                        .action(Action.Builder.newInstance().type("use").build())
+                        .constraint(constraint)
+                        .build())
+                .build();
+    }
+
     static class TestMessage implements RemoteMessage {
         @Override
         public String getProtocol() {
@@ -363,8 +470,8 @@ class DspHttpRemoteMessageDispatcherImplTest {
         private void respondWith(okhttp3.Response response, DspHttpResponseBodyExtractor<Object> bodyExtractor) {
             when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
             when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(response));
-            when(identityService.obtainClientCredentials(any()))
-                    .thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+            when(identityService.obtainClientCredentialsAsync(any()))
+                    .thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().token("token").build())));
             dispatcher.registerMessage(TestMessage.class, requestFactory, bodyExtractor);
         }
     }
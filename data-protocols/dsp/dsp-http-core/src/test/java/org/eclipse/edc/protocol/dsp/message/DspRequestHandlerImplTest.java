@@ -165,6 +165,27 @@ class DspRequestHandlerImplTest {
             verify(transformerRegistry).transform(content, JsonObject.class);
         }
 
+        @Test
+        void shouldTransformToResponseEntityType() {
+            var message = mock(TestProcessRemoteMessage.class);
+            var content = new Object();
+            var responseEntity = new Object();
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            when(transformerRegistry.transform(any(), eq(Object.class))).thenReturn(Result.success(responseEntity));
+            var request = postDspRequestBuilder()
+                    .message(Json.createObjectBuilder().build())
+                    .serviceCall((m, t) -> ServiceResult.success(content))
+                    .responseEntityType(Object.class)
+                    .build();
+
+            var result = handler.createResource(request);
+
+            assertThat(result.getStatus()).isEqualTo(200);
+            assertThat(result.getEntity()).isSameAs(responseEntity);
+            verify(transformerRegistry).transform(content, Object.class);
+        }
+
         @Test
         void shouldReturnUnauthorized_whenTokenIsNull() {
             var request = postDspRequestBuilder().token(null).errorType("errorType").serviceCall((m, t) -> ServiceResult.success()).build();
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.protocol.dsp.spi.message;
 
+import jakarta.json.JsonObject;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.ServiceResult;
 
@@ -28,6 +29,7 @@ public class DspRequest<I, R> {
     protected String token;
     protected String errorType;
     protected BiFunction<I, TokenRepresentation, ServiceResult<R>> serviceCall;
+    protected Class<?> responseEntityType = JsonObject.class;
 
     public DspRequest(Class<I> inputClass, Class<R> resultClass) {
         this.inputClass = inputClass;
@@ -54,6 +56,13 @@ public class DspRequest<I, R> {
         return errorType;
     }
 
+    /**
+     * The type the service call result is transformed into to build the response entity. Defaults to {@link JsonObject}.
+     */
+    public Class<?> getResponseEntityType() {
+        return responseEntityType;
+    }
+
     public abstract static class Builder<I, R, M extends DspRequest<I, R>, B extends Builder<I, R, M, B>> {
 
         protected final M message;
@@ -77,6 +86,11 @@ public class DspRequest<I, R> {
             return self();
         }
 
+        public B responseEntityType(Class<?> responseEntityType) {
+            message.responseEntityType = responseEntityType;
+            return self();
+        }
+
         public M build() {
             requireNonNull(message.serviceCall);
             requireNonNull(message.errorType);
@@ -57,7 +57,8 @@ public interface ApiCoreSchema {
             int limit,
             SortOrder sortOrder,
             String sortField,
-            List<CriterionSchema> filterExpression
+            List<CriterionSchema> filterExpression,
+            String continuationToken
     ) {
         public static final String QUERY_SPEC_EXAMPLE = """
                 {
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.api.model;
+
+import jakarta.json.JsonArray;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.util.reflection.ReflectionException;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Response of the query endpoints: when there could be a following page, the encoded {@link ContinuationToken} that
+ * permits to fetch it is returned in the {@value #CONTINUATION_TOKEN_HEADER} header, to be passed as
+ * {@code continuationToken} in the next {@link QuerySpec}.
+ */
+public final class PagedResponse {
+
+    public static final String CONTINUATION_TOKEN_HEADER = "Edc-Continuation-Token";
+
+    private PagedResponse() {
+    }
+
+    /**
+     * Creates the response, extracting the sort value from the elements through reflection.
+     *
+     * @param body the response body.
+     * @param page the elements of the page.
+     * @param querySpec the query that returned the page.
+     * @param id extracts the id from an element.
+     * @return the response.
+     */
+    public static <T> Response of(JsonArray body, List<T> page, QuerySpec querySpec, Function<T, String> id) {
+        return of(body, page, querySpec, PagedResponse::fieldValue, id);
+    }
+
+    /**
+     * Creates the response.
+     *
+     * @param body the response body.
+     * @param page the elements of the page.
+     * @param querySpec the query that returned the page.
+     * @param sortValue extracts the value of the sort field, passed as second argument, from an element.
+     * @param id extracts the id from an element.
+     * @return the response.
+     */
+    public static <T> Response of(JsonArray body, List<T> page, QuerySpec querySpec, BiFunction<T, String, Object> sortValue, Function<T, String> id) {
+        var response = Response.ok(body);
+        var token = ContinuationToken.next(page, querySpec, sortValue, id);
+        if (token != null) {
+            response.header(CONTINUATION_TOKEN_HEADER, token.encode());
+        }
+        return response.build();
+    }
+
+    /**
+     * Returns the value of a field of an element, null if the field does not exist.
+     */
+    public static @Nullable Object fieldValue(Object element, String fieldPath) {
+        try {
+            return ReflectionUtil.getFieldValue(fieldPath, element);
+        } catch (ReflectionException e) {
+            return null;
+        }
+    }
+}
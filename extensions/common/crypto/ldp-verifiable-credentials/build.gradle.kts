@@ -14,6 +14,7 @@
 plugins {
     `java-library`
     `java-test-fixtures`
+    alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -38,5 +39,11 @@ dependencies {
     testFixturesApi(libs.nimbus.jwt)
     testFixturesApi(testFixtures(project(":extensions:common:crypto:jws2020")))
 
+    jmhImplementation(project(":core:common:lib:json-ld-lib"))
+    jmhImplementation(project(":extensions:common:crypto:jws2020"))
+}
 
+jmh {
+    // the benchmarks re-use the test fixtures and the cached JSON-LD contexts from the test resources
+    includeTests = true
 }
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.verifiablecredentials.linkeddata;
+
+import com.apicatalog.jsonld.loader.SchemeRouter;
+import com.apicatalog.ld.signature.SignatureSuite;
+import com.apicatalog.vc.integrity.DataIntegrityProofOptions;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import org.eclipse.edc.identitytrust.verification.SignatureSuiteRegistry;
+import org.eclipse.edc.identitytrust.verification.VerifierContext;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.security.signature.jws2020.JwkMethod;
+import org.eclipse.edc.security.signature.jws2020.JwsSignature2020Suite;
+import org.eclipse.edc.security.signature.jws2020.TestDocumentLoader;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.verifiablecredentials.verfiablecredentials.LdpCreationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.jsonld.util.JacksonJsonLd.createObjectMapper;
+import static org.eclipse.edc.verifiablecredentials.verfiablecredentials.TestData.MEMBERSHIP_CREDENTIAL_ISSUER;
+import static org.eclipse.edc.verifiablecredentials.verfiablecredentials.TestData.NAME_CREDENTIAL_ISSUER;
+import static org.eclipse.edc.verifiablecredentials.verfiablecredentials.TestData.createMembershipCredential;
+import static org.eclipse.edc.verifiablecredentials.verfiablecredentials.TestData.createNameCredential;
+
+/**
+ * Measures the verification of typical issuer credentials (membership and name credentials, signed with
+ * JsonWebSignature2020), with and without the verification cache. Run with {@code ./gradlew :extensions:common:crypto:ldp-verifiable-credentials:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LdpVerifierBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean cacheEnabled;
+
+    private LdpVerifier verifier;
+    private VerifierContext context;
+    private String membershipCredential;
+    private String nameCredential;
+
+    @Setup(Level.Trial)
+    public void setup() throws URISyntaxException, JOSEException {
+        var mapper = createObjectMapper();
+        var loader = new TestDocumentLoader("https://org.eclipse.edc/", "", SchemeRouter.defaultInstance());
+        var jsonLd = new TitaniumJsonLd(new ConsoleMonitor());
+        var classLoader = Thread.currentThread().getContextClassLoader();
+        jsonLd.registerCachedDocument("https://www.w3.org/ns/odrl.jsonld", classLoader.getResource("odrl.jsonld").toURI());
+        jsonLd.registerCachedDocument("https://www.w3.org/ns/did/v1", classLoader.getResource("jws2020.json").toURI());
+        jsonLd.registerCachedDocument("https://w3id.org/security/suites/jws-2020/v1", classLoader.getResource("jws2020.json").toURI());
+        jsonLd.registerCachedDocument("https://www.w3.org/2018/credentials/v1", classLoader.getResource("credentials.v1.json").toURI());
+        jsonLd.registerCachedDocument("https://www.w3.org/2018/credentials/examples/v1", classLoader.getResource("examples.v1.json").toURI());
+
+        var suite = new JwsSignature2020Suite(mapper);
+        var suiteRegistry = new MapSignatureSuiteRegistry();
+        suiteRegistry.register("JsonWebSignature2020", suite);
+        var builder = LdpVerifier.Builder.newInstance()
+                .signatureSuites(suiteRegistry)
+                .jsonLd(jsonLd)
+                .objectMapper(mapper)
+                .methodResolvers(List.of())
+                .loader(loader);
+        if (cacheEnabled) {
+            builder.verificationCache(1000, Duration.ofMinutes(5));
+        }
+        verifier = builder.build();
+        context = VerifierContext.Builder.newInstance().verifier(verifier).build();
+
+        nameCredential = sign(createNameCredential(), NAME_CREDENTIAL_ISSUER, Curve.P_256, suite, loader);
+        membershipCredential = sign(createMembershipCredential(), MEMBERSHIP_CREDENTIAL_ISSUER, Curve.P_384, suite, loader);
+    }
+
+    @Benchmark
+    public Object verifyMembershipCredential() {
+        return verifier.verify(membershipCredential, context);
+    }
+
+    @Benchmark
+    public Object verifyNameCredential() {
+        return verifier.verify(nameCredential, context);
+    }
+
+    private String sign(String credential, String issuer, Curve curve, JwsSignature2020Suite suite, TestDocumentLoader loader) throws JOSEException {
+        var key = new ECKeyGenerator(curve).keyID("issuance-key").generate();
+        var proofKey = new JwkMethod(URI.create(issuer), URI.create("https://w3id.org/security#JsonWebKey2020"), null, key);
+        return LdpCreationUtils.signDocument(credential, proofKey, proofOptions(suite, proofKey), loader);
+    }
+
+    private DataIntegrityProofOptions proofOptions(JwsSignature2020Suite suite, JwkMethod proofKey) {
+        return suite.createOptions()
+                .created(Instant.now())
+                .verificationMethod(proofKey)
+                .purpose(URI.create("https://w3id.org/security#assertionMethod"));
+    }
+
+    /**
+     * Same lookup as the registry of the runtime, that lives in a module depending on this one.
+     */
+    private static class MapSignatureSuiteRegistry implements SignatureSuiteRegistry {
+        private final Map<String, SignatureSuite> suites = new HashMap<>();
+
+        @Override
+        public void register(String w3cIdentifier, SignatureSuite suite) {
+            suites.put(w3cIdentifier, suite);
+            suites.put(suite.getId().uri(), suite);
+        }
+
+        @Override
+        public SignatureSuite getForId(String w3cIdentifier) {
+            return suites.get(w3cIdentifier);
+        }
+
+        @Override
+        public Collection<SignatureSuite> getAllSuites() {
+            return suites.values();
+        }
+    }
+}
@@ -38,6 +38,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import org.eclipse.edc.identitytrust.verification.CredentialVerifier;
 import org.eclipse.edc.identitytrust.verification.SignatureSuiteRegistry;
@@ -45,17 +46,30 @@ import org.eclipse.edc.identitytrust.verification.VerifierContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
 import org.eclipse.edc.util.uri.UriUtils;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import static org.eclipse.edc.identitytrust.model.VerifiableCredential.VERIFIABLE_CREDENTIAL_EXPIRATIONDATE_PROPERTY;
+import static org.eclipse.edc.identitytrust.model.VerifiableCredential.VERIFIABLE_CREDENTIAL_VALIDUNTIL_PROPERTY;
 import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.Result.success;
 
@@ -68,6 +82,9 @@ public class LdpVerifier implements CredentialVerifier {
     private Collection<MethodResolver> methodResolvers = new ArrayList<>(List.of(new HttpMethodResolver()));
     private DocumentLoader loader;
     private URI base;
+    private ConcurrentLruCache<String, CachedVerification> verificationCache;
+    private Duration verificationCacheTtl;
+    private Clock clock = Clock.systemUTC();
 
     private LdpVerifier() {
     }
@@ -91,6 +108,15 @@ public class LdpVerifier implements CredentialVerifier {
      */
     @Override
     public Result<Void> verify(String rawInput, VerifierContext verifierContext) {
+        if (loader == null) {
+            // default loader
+            loader = SchemeRouter.defaultInstance();
+        }
+        var cacheKey = verificationCache != null ? digest(rawInput) : null;
+        if (cacheKey != null && isCachedAsValid(cacheKey)) {
+            return success();
+        }
+
         JsonObject jo;
         try {
             jo = jsonLdMapper.readValue(rawInput, JsonObject.class);
@@ -99,13 +125,14 @@ public class LdpVerifier implements CredentialVerifier {
         }
         var expansion = jsonLd.expand(jo);
 
-        if (loader == null) {
-            // default loader
-            loader = SchemeRouter.defaultInstance();
-        }
         return expansion.compose(expandedDocument -> {
             try {
-                return verifyExpanded(expandedDocument, verifierContext);
+                var verificationKeys = new ArrayList<UsedVerificationKey>();
+                var result = verifyExpanded(expandedDocument, verifierContext, verificationKeys);
+                if (cacheKey != null && result.succeeded() && isCredential(expandedDocument)) {
+                    cacheValidCredential(cacheKey, expandedDocument, verificationKeys);
+                }
+                return result;
             } catch (DocumentError e) {
                 return failure("Could not verify VP-LDP: message: %s, code: %s".formatted(e.getMessage(), e.getCode()));
             } catch (VerificationError e) {
@@ -118,6 +145,88 @@ public class LdpVerifier implements CredentialVerifier {
         return base;
     }
 
+    /**
+     * Looks up a previous successful verification of the same raw document. The verification methods used back then are
+     * resolved again, so that an entry is only valid as long as they still resolve to the same key material: a rotated
+     * or revoked key invalidates the cached result right away. Entries are evicted lazily once they are no longer valid.
+     */
+    private boolean isCachedAsValid(String cacheKey) {
+        var cached = verificationCache.get(cacheKey);
+        if (cached == null) {
+            return false;
+        }
+        if (cached.validUntil().isAfter(clock.instant()) && cached.verificationKeys().stream().allMatch(this::isUnchanged)) {
+            return true;
+        }
+        verificationCache.remove(cacheKey, cached);
+        return false;
+    }
+
+    private boolean isUnchanged(UsedVerificationKey key) {
+        var resolver = methodResolvers.stream()
+                .filter(r -> r.isAccepted(key.methodId()))
+                .findFirst();
+        if (resolver.isEmpty()) {
+            // the key was embedded in the proof, and thus is part of the cache key
+            return true;
+        }
+        try {
+            return resolver.get().resolve(key.methodId(), loader, key.suite()) instanceof VerificationKey verificationKey &&
+                    Arrays.equals(verificationKey.publicKey(), key.publicKey());
+        } catch (DocumentError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Caches the positive verification result of a credential. The entry is valid for the configured TTL, but never
+     * longer than the credential itself. Credentials with an expiration date that cannot be parsed are not cached.
+     */
+    private void cacheValidCredential(String cacheKey, JsonObject expandedCredential, List<UsedVerificationKey> verificationKeys) {
+        var validUntil = clock.instant().plus(verificationCacheTtl);
+        for (var property : List.of(VERIFIABLE_CREDENTIAL_EXPIRATIONDATE_PROPERTY, VERIFIABLE_CREDENTIAL_VALIDUNTIL_PROPERTY)) {
+            var expiration = readDateTime(expandedCredential, property);
+            if (expiration.failed()) {
+                return;
+            }
+            var expiresAt = expiration.getContent();
+            if (expiresAt.isPresent() && expiresAt.get().isBefore(validUntil)) {
+                validUntil = expiresAt.get();
+            }
+        }
+        verificationCache.put(cacheKey, new CachedVerification(validUntil, List.copyOf(verificationKeys)));
+    }
+
+    private Result<Optional<Instant>> readDateTime(JsonObject expanded, String property) {
+        var value = Optional.ofNullable(expanded.get(property))
+                .filter(JsonUtils::isArray)
+                .map(JsonValue::asJsonArray)
+                .stream()
+                .flatMap(Collection::stream)
+                .filter(JsonUtils::isObject)
+                .map(v -> v.asJsonObject().get(JsonLdKeywords.VALUE))
+                .filter(JsonUtils::isString)
+                .findFirst();
+        if (value.isEmpty()) {
+            return expanded.containsKey(property) ? failure("Invalid %s".formatted(property)) : success(Optional.empty());
+        }
+        try {
+            return success(Optional.of(OffsetDateTime.parse(((JsonString) value.get()).getString()).toInstant()));
+        } catch (DateTimeParseException e) {
+            return failure("Invalid %s: %s".formatted(property, e.getMessage()));
+        }
+    }
+
+    private String digest(String rawInput) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(rawInput.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Validates the credential issuer by comparing it with the provided verification method.
      *
@@ -156,16 +265,16 @@ public class LdpVerifier implements CredentialVerifier {
         return document;
     }
 
-    private Result<Void> verifyExpanded(JsonObject expanded, VerifierContext context) throws VerificationError, DocumentError {
+    private Result<Void> verifyExpanded(JsonObject expanded, VerifierContext context, List<UsedVerificationKey> verificationKeys) throws VerificationError, DocumentError {
 
 
         if (isCredential(expanded)) {
             // data integrity validation
-            return verifyProofs(expanded);
+            return verifyProofs(expanded, verificationKeys);
 
         } else if (isPresentation(expanded)) {
             // verify presentation proofs
-            verifyProofs(expanded);
+            verifyProofs(expanded, verificationKeys);
 
             // verify embedded credentials
 
@@ -190,7 +299,7 @@ public class LdpVerifier implements CredentialVerifier {
         }
     }
 
-    private Result<Void> verifyProofs(JsonObject expanded) throws VerificationError, DocumentError {
+    private Result<Void> verifyProofs(JsonObject expanded, List<UsedVerificationKey> verificationKeys) throws VerificationError, DocumentError {
 
         // get proofs - throws an exception if there is no proof, never null nor an
         // empty collection
@@ -271,6 +380,7 @@ public class LdpVerifier implements CredentialVerifier {
 
             // verify signature
             signature.verify(data, unsignedProof, (VerificationKey) verificationMethod, proofValue);
+            verificationKeys.add(new UsedVerificationKey(verificationMethod.id(), signatureSuite, ((VerificationKey) verificationMethod).publicKey()));
         }
         // all good
         return success();
@@ -412,6 +522,30 @@ public class LdpVerifier implements CredentialVerifier {
             return this;
         }
 
+        /**
+         * Enables caching of successful credential verifications. Canonicalization and signature verification are the most
+         * expensive steps of the verification, and the same issuer credentials are typically presented over and over.
+         * <p>
+         * Entries are keyed by a digest of the raw credential, which contains the proof and its verification method, and
+         * hold the key material the verification method resolved to. A cached result is only used as long as the verification
+         * method still resolves to the same key material, so that rotated or revoked keys are noticed immediately. Only
+         * positive results are cached, and an entry is never valid longer than the credential's expiration date nor the given
+         * TTL. Presentations are never cached.
+         *
+         * @param capacity maximum number of cached verification results, least recently used ones are evicted first
+         * @param ttl      maximum time a verification result is cached
+         */
+        public Builder verificationCache(int capacity, Duration ttl) {
+            this.verifier.verificationCache = new ConcurrentLruCache<>(capacity);
+            this.verifier.verificationCacheTtl = ttl;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.verifier.clock = clock;
+            return this;
+        }
+
         public LdpVerifier build() {
             Objects.requireNonNull(this.verifier.jsonLd, "Must have a JsonLD service!");
             Objects.requireNonNull(this.verifier.jsonLdMapper, "Must have an ObjectMapper!");
@@ -419,4 +553,10 @@ public class LdpVerifier implements CredentialVerifier {
             return this.verifier;
         }
     }
+
+    private record UsedVerificationKey(URI methodId, SignatureSuite suite, byte[] publicKey) {
+    }
+
+    private record CachedVerification(Instant validUntil, List<UsedVerificationKey> verificationKeys) {
+    }
 }
@@ -42,6 +42,8 @@ import org.mockito.ArgumentMatcher;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
@@ -55,6 +57,9 @@ import static org.eclipse.edc.verifiablecredentials.verfiablecredentials.TestDat
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class LdpVerifierTest {
@@ -102,6 +107,88 @@ class LdpVerifierTest {
                     .purpose(URI.create("https://w3id.org/security#assertionMethod"));
         }
 
+        @Nested
+        class VerificationCache {
+
+            private final Clock clock = mock();
+            private TitaniumJsonLd jsonLdSpy;
+            private LdpVerifier cachingVerifier;
+
+            @BeforeEach
+            void setUp() {
+                when(clock.instant()).thenReturn(Instant.now());
+                jsonLdSpy = spy(jsonLd);
+                cachingVerifier = LdpVerifier.Builder.newInstance()
+                        .signatureSuites(suiteRegistry)
+                        .jsonLd(jsonLdSpy)
+                        .objectMapper(mapper)
+                        .methodResolvers(List.of(mockDidResolver))
+                        .loader(testDocLoader)
+                        .verificationCache(10, Duration.ofMinutes(5))
+                        .clock(clock)
+                        .build();
+            }
+
+            @Test
+            void verify_validCredential_shouldBeCached() throws JOSEException {
+                var signedNameCredential = signedNameCredential();
+
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+
+                verify(jsonLdSpy, times(1)).expand(any());
+            }
+
+            @Test
+            void verify_invalidCredential_shouldNotBeCached() throws JOSEException {
+                var forgedCredential = signedNameCredential().replace("Test Person III", "Test Person IV");
+
+                assertThat(cachingVerifier.verify(forgedCredential, context)).isFailed();
+                assertThat(cachingVerifier.verify(forgedCredential, context)).isFailed();
+
+                verify(jsonLdSpy, times(2)).expand(any());
+            }
+
+            @Test
+            void verify_cacheEntryExpired_shouldVerifyAgain() throws JOSEException {
+                var signedNameCredential = signedNameCredential();
+
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+                when(clock.instant()).thenReturn(Instant.now().plus(Duration.ofMinutes(6)));
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+
+                verify(jsonLdSpy, times(2)).expand(any());
+            }
+
+            @Test
+            void verify_resolvedKeyRotated_shouldVerifyAgain() throws JOSEException, DocumentError {
+                var nameKey = new ECKeyGenerator(Curve.P_256).keyID("vc-sign-key1").generate();
+                var rotatedKey = new ECKeyGenerator(Curve.P_256).keyID("vc-sign-key2").generate();
+                var identifier = URI.create("did:web-test-issuer");
+                ArgumentMatcher<URI> uriMatcher = argument -> argument.equals(identifier);
+                when(mockDidResolver.isAccepted(argThat(uriMatcher))).thenReturn(true);
+                when(mockDidResolver.resolve(argThat(uriMatcher), any(), any())).thenReturn(new JwkMethod(identifier, null, null, nameKey));
+                var proofOptions = generateEmbeddedProofOptions(nameKey, NAME_CREDENTIAL_ISSUER).verificationMethod(new JwkMethod(identifier, null, null, null));
+                var signedNameCredential = LdpCreationUtils.signDocument(createNameCredential(identifier.toString()), nameKey, proofOptions, testDocLoader);
+
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isSucceeded();
+                when(mockDidResolver.resolve(argThat(uriMatcher), any(), any())).thenReturn(new JwkMethod(identifier, null, null, rotatedKey));
+
+                assertThat(cachingVerifier.verify(signedNameCredential, context)).isFailed();
+                verify(jsonLdSpy, times(2)).expand(any());
+            }
+
+            private String signedNameCredential() throws JOSEException {
+                var nameKey = new ECKeyGenerator(Curve.P_256)
+                        .keyID("vc-sign-key1")
+                        .generate();
+                var proofKey = new JwkMethod(URI.create(TestData.NAME_CREDENTIAL_ISSUER), URI.create("https://w3id.org/security#JsonWebKey2020"), null, nameKey);
+                var proofOptions = generateEmbeddedProofOptions(nameKey, NAME_CREDENTIAL_ISSUER).verificationMethod(proofKey);
+                return LdpCreationUtils.signDocument(createNameCredential(), proofKey, proofOptions, testDocLoader);
+            }
+        }
+
         @Nested
         class Presentations {
             @Test
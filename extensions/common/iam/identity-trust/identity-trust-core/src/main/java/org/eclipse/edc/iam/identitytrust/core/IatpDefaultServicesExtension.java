@@ -18,6 +18,7 @@ import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultIatpParticipantAge
 import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultTrustedIssuerRegistry;
 import org.eclipse.edc.iam.identitytrust.core.defaults.InMemorySignatureSuiteRegistry;
 import org.eclipse.edc.iam.identitytrust.core.scope.IatpScopeExtractorRegistry;
+import org.eclipse.edc.iam.identitytrust.sts.embedded.CachingSecureTokenService;
 import org.eclipse.edc.iam.identitytrust.sts.embedded.EmbeddedSecureTokenService;
 import org.eclipse.edc.identitytrust.ClaimTokenCreatorFunction;
 import org.eclipse.edc.identitytrust.IatpParticipantAgentServiceExtension;
@@ -33,6 +34,8 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.TokenReuseAudiences;
+import org.eclipse.edc.spi.system.CacheInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
@@ -40,6 +43,7 @@ import org.eclipse.edc.token.JwtGenerationService;
 
 import java.security.PrivateKey;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -59,11 +63,21 @@ public class IatpDefaultServicesExtension implements ServiceExtension {
     @Setting(value = "Self-issued ID Token expiration in minutes. By default is 5 minutes", defaultValue = "" + IatpDefaultServicesExtension.DEFAULT_STS_TOKEN_EXPIRATION_MIN)
     private static final String STS_TOKEN_EXPIRATION = "edc.iam.sts.token.expiration"; // in minutes
     private static final int DEFAULT_STS_TOKEN_EXPIRATION_MIN = 5;
+    @Setting(value = "Percentage of the token lifetime during which a self-issued ID Token is re-used for identical claims and scopes. 0 disables token re-use", type = "int", defaultValue = "" + IatpDefaultServicesExtension.DEFAULT_STS_TOKEN_REUSE_PERCENTAGE)
+    public static final String STS_TOKEN_REUSE_PERCENTAGE = "edc.iam.sts.token.reuse.percentage";
+    private static final int DEFAULT_STS_TOKEN_REUSE_PERCENTAGE = 0;
+    @Setting(value = "Comma-separated list of audiences (counterparty IDs) for which self-issued ID Tokens may be re-used. Re-used tokens share the same jti, so only list counterparties that do not enforce single-use tokens. If empty, tokens are re-used for all audiences")
+    public static final String STS_TOKEN_REUSE_AUDIENCES = TokenReuseAudiences.TOKEN_REUSE_AUDIENCES;
+    @Setting(value = "Maximum number of self-issued ID Tokens held for re-use", type = "int", defaultValue = "" + IatpDefaultServicesExtension.DEFAULT_STS_TOKEN_REUSE_CACHE_SIZE)
+    public static final String STS_TOKEN_REUSE_CACHE_SIZE = "edc.iam.sts.token.reuse.cache.size";
+    private static final int DEFAULT_STS_TOKEN_REUSE_CACHE_SIZE = 1000;
     public static final String CLAIMTOKEN_VC_KEY = "vc";
     @Inject
     private Clock clock;
     @Inject
     private PrivateKeyResolver privateKeyResolver;
+    @Inject
+    private CacheInstrumentation cacheInstrumentation;
 
     @Provider(isDefault = true)
     public SecureTokenService createDefaultTokenService(ServiceExtensionContext context) {
@@ -81,7 +95,20 @@ public class IatpDefaultServicesExtension implements ServiceExtension {
         var privKeyAlias = context.getSetting(STS_PRIVATE_KEY_ALIAS, null);
 
         Supplier<PrivateKey> supplier = () -> privateKeyResolver.resolvePrivateKey(privKeyAlias).orElseThrow(f -> new EdcException("This EDC instance is not operational due to the following error: %s".formatted(f.getFailureDetail())));
-        return new EmbeddedSecureTokenService(new JwtGenerationService(), supplier, () -> publicKeyId, clock, TimeUnit.MINUTES.toSeconds(tokenExpiration));
+        var tokenService = new EmbeddedSecureTokenService(new JwtGenerationService(), supplier, () -> publicKeyId, clock, TimeUnit.MINUTES.toSeconds(tokenExpiration));
+
+        var reusePercentage = context.getSetting(STS_TOKEN_REUSE_PERCENTAGE, DEFAULT_STS_TOKEN_REUSE_PERCENTAGE);
+        if (reusePercentage <= 0) {
+            return tokenService;
+        }
+        if (reusePercentage >= 100) {
+            throw new EdcException("The value of '%s' must be lower than 100, but was %d".formatted(STS_TOKEN_REUSE_PERCENTAGE, reusePercentage));
+        }
+        var reuseWindow = Duration.ofMinutes(tokenExpiration).multipliedBy(reusePercentage).dividedBy(100);
+        var cacheSize = context.getSetting(STS_TOKEN_REUSE_CACHE_SIZE, DEFAULT_STS_TOKEN_REUSE_CACHE_SIZE);
+        var cachingTokenService = new CachingSecureTokenService(tokenService, clock, reuseWindow, TokenReuseAudiences.filter(context.getSetting(STS_TOKEN_REUSE_AUDIENCES, "")), cacheSize);
+        cacheInstrumentation.instrument(cachingTokenService, "sts-token-reuse");
+        return cachingTokenService;
     }
 
     @Provider(isDefault = true)
@@ -21,15 +21,19 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.iam.identitytrust.DidCredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.IdentityAndTrustService;
 import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultCredentialServiceClient;
+import org.eclipse.edc.iam.identitytrust.core.defaults.HttpStatusListCredentialFetcher;
+import org.eclipse.edc.iam.identitytrust.revocation.StatusList2021RevocationService;
 import org.eclipse.edc.iam.identitytrust.verification.MultiFormatPresentationVerifier;
 import org.eclipse.edc.identitytrust.ClaimTokenCreatorFunction;
 import org.eclipse.edc.identitytrust.CredentialServiceClient;
 import org.eclipse.edc.identitytrust.IatpParticipantAgentServiceExtension;
 import org.eclipse.edc.identitytrust.SecureTokenService;
 import org.eclipse.edc.identitytrust.TrustedIssuerRegistry;
+import org.eclipse.edc.identitytrust.revocation.RevocationListService;
 import org.eclipse.edc.identitytrust.validation.TokenValidationAction;
 import org.eclipse.edc.identitytrust.verification.PresentationVerifier;
 import org.eclipse.edc.identitytrust.verification.SignatureSuiteRegistry;
+import org.eclipse.edc.identitytrust.verification.VerifierContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -38,6 +42,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.security.signature.jws2020.JwsSignature2020Suite;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -57,7 +62,11 @@ import org.eclipse.edc.verifiablecredentials.linkeddata.LdpVerifier;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 import static org.eclipse.edc.verifiablecredentials.jwt.JwtPresentationVerifier.JWT_VC_TOKEN_CONTEXT;
@@ -71,6 +80,16 @@ public class IdentityAndTrustExtension implements ServiceExtension {
 
     public static final String JSON_2020_SIGNATURE_SUITE = "JsonWebSignature2020";
 
+    @Setting(value = "Maximum number of successful LDP credential verifications that are cached. Set to 0 to disable the cache.", type = "int", defaultValue = "" + IdentityAndTrustExtension.DEFAULT_VERIFICATION_CACHE_SIZE)
+    public static final String VERIFICATION_CACHE_SIZE = "edc.iam.credential.verification.cache.size";
+    @Setting(value = "Maximum time in milliseconds a successful LDP credential verification is cached. Never exceeds the expiration date of the credential.", type = "long", defaultValue = "" + IdentityAndTrustExtension.DEFAULT_VERIFICATION_CACHE_TTL_MILLIS)
+    public static final String VERIFICATION_CACHE_TTL = "edc.iam.credential.verification.cache.ttl";
+    private static final int DEFAULT_VERIFICATION_CACHE_SIZE = 1000;
+    private static final long DEFAULT_VERIFICATION_CACHE_TTL_MILLIS = 5 * 60 * 1000L;
+    @Setting(value = "Validity period of cached StatusList2021 credentials in milliseconds. Cached lists are refreshed in the background with the same interval.", type = "long", defaultValue = "" + IdentityAndTrustExtension.DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS)
+    public static final String REVOCATION_CACHE_VALIDITY = "edc.iam.credential.revocation.cache.validity";
+    private static final long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
+
 
     @Inject
     private SecureTokenService secureTokenService;
@@ -115,7 +134,17 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     @Inject
     private IatpParticipantAgentServiceExtension participantAgentServiceExtension;
 
+    @Inject(required = false)
+    private RevocationListService revocationListService;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     private PresentationVerifier presentationVerifier;
+    private VerifierContext verifierContext;
+    private StatusList2021RevocationService statusListRevocationService;
+    private long revocationCacheValidity;
+    private ScheduledExecutorService revocationRefreshExecutor;
     private CredentialServiceClient credentialServiceClient;
 
     @Override
@@ -139,12 +168,27 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         participantAgentService.register(participantAgentServiceExtension);
     }
 
+    @Override
+    public void start() {
+        if (statusListRevocationService != null) {
+            revocationRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "StatusList2021 refresh");
+            revocationRefreshExecutor.scheduleWithFixedDelay(statusListRevocationService::refresh, revocationCacheValidity, revocationCacheValidity, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (revocationRefreshExecutor != null) {
+            revocationRefreshExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public IdentityService createIdentityService(ServiceExtensionContext context) {
         var credentialServiceUrlResolver = new DidCredentialServiceUrlResolver(didResolverRegistry);
         var validationAction = tokenValidationAction();
         return new IdentityAndTrustService(secureTokenService, getOwnDid(context), getPresentationVerifier(context),
-                getCredentialServiceClient(context), validationAction, registry, clock, credentialServiceUrlResolver, claimTokenFunction);
+                getCredentialServiceClient(context), validationAction, registry, clock, credentialServiceUrlResolver, claimTokenFunction, getRevocationListService(context));
     }
 
     @Provider
@@ -162,18 +206,42 @@ public class IdentityAndTrustExtension implements ServiceExtension {
             var mapper = typeManager.getMapper(JSON_LD);
 
             var jwtVerifier = new JwtPresentationVerifier(mapper, tokenValidationService, rulesRegistry, didPublicKeyResolver);
-            var ldpVerifier = LdpVerifier.Builder.newInstance()
+            var ldpVerifierBuilder = LdpVerifier.Builder.newInstance()
                     .signatureSuites(signatureSuiteRegistry)
                     .jsonLd(jsonLd)
                     .objectMapper(mapper)
                     .methodResolver(new DidMethodResolver(didResolverRegistry))
-                    .build();
-
-            presentationVerifier = new MultiFormatPresentationVerifier(getOwnDid(context), jwtVerifier, ldpVerifier);
+                    .clock(clock);
+
+            var cacheSize = context.getSetting(VERIFICATION_CACHE_SIZE, DEFAULT_VERIFICATION_CACHE_SIZE);
+            if (cacheSize > 0) {
+                var cacheTtl = context.getSetting(VERIFICATION_CACHE_TTL, DEFAULT_VERIFICATION_CACHE_TTL_MILLIS);
+                ldpVerifierBuilder.verificationCache(cacheSize, Duration.ofMillis(cacheTtl));
+            }
+            var ldpVerifier = ldpVerifierBuilder.build();
+
+            var multiFormatVerifier = new MultiFormatPresentationVerifier(getOwnDid(context), jwtVerifier, ldpVerifier);
+            verifierContext = multiFormatVerifier.getContext();
+            presentationVerifier = multiFormatVerifier;
         }
         return presentationVerifier;
     }
 
+    /**
+     * The StatusList2021 service is the default: it verifies the fetched status list credentials with the same verifiers
+     * used for the presentations, that's why it is not provided by the {@link IatpDefaultServicesExtension}.
+     */
+    private RevocationListService getRevocationListService(ServiceExtensionContext context) {
+        if (revocationListService == null) {
+            getPresentationVerifier(context);
+            revocationCacheValidity = context.getSetting(REVOCATION_CACHE_VALIDITY, DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS);
+            var fetcher = new HttpStatusListCredentialFetcher(httpClient, typeManager.getMapper(JSON_LD), verifierContext, context.getMonitor());
+            statusListRevocationService = new StatusList2021RevocationService(fetcher, clock, Duration.ofMillis(revocationCacheValidity), context.getMonitor());
+            revocationListService = statusListRevocationService;
+        }
+        return revocationListService;
+    }
+
     @NotNull
     private TokenValidationAction tokenValidationAction() {
         return (tokenRepresentation) -> {
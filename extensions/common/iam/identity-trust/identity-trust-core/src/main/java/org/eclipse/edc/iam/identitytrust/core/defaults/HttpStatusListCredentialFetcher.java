@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.core.defaults;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jwt.SignedJWT;
+import okhttp3.Request;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.iam.identitytrust.revocation.StatusList2021;
+import org.eclipse.edc.iam.identitytrust.revocation.StatusListCredentialFetcher;
+import org.eclipse.edc.identitytrust.verification.VerifierContext;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+
+/**
+ * Fetches StatusList2021 credentials via HTTP GET. Both JSON-LD and JWT-encoded status list credentials are supported.
+ * If an entity tag is known, the request is sent with {@code If-None-Match}, so that unchanged lists are neither
+ * transferred nor decoded again.
+ * <p>
+ * The proof of every fetched status list credential is verified before the list is decoded.
+ */
+public class HttpStatusListCredentialFetcher implements StatusListCredentialFetcher {
+    private static final String ACCEPT = "application/vc+ld+json, application/vc+jwt, application/json";
+    private static final String CREDENTIAL_SUBJECT = "credentialSubject";
+    private static final String ENCODED_LIST = "encodedList";
+    private static final String STATUS_PURPOSE = "statusPurpose";
+    private static final String JWT_VC_CLAIM = "vc";
+    private static final String ISSUER = "issuer";
+    private static final String ID = "id";
+    private static final int NOT_MODIFIED = 304;
+
+    private final EdcHttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final VerifierContext verifierContext;
+    private final Monitor monitor;
+
+    /**
+     * Creates a fetcher that verifies the proof of every fetched status list credential through the given context.
+     */
+    public HttpStatusListCredentialFetcher(EdcHttpClient httpClient, ObjectMapper objectMapper, VerifierContext verifierContext, Monitor monitor) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.verifierContext = verifierContext;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Result<StatusListFetchResult> fetch(String statusListCredentialUrl, @Nullable String etag) {
+        var builder = new Request.Builder()
+                .url(statusListCredentialUrl)
+                .header("Accept", ACCEPT)
+                .get();
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+
+        try (var response = httpClient.execute(builder.build())) {
+            if (response.code() == NOT_MODIFIED) {
+                return success(StatusListFetchResult.notModified());
+            }
+            var body = response.body() != null ? response.body().string() : null;
+            if (!response.isSuccessful() || body == null) {
+                return failure("Fetching status list credential %s failed: HTTP %s".formatted(statusListCredentialUrl, response.code()));
+            }
+            var rawCredential = body.trim();
+            var verification = verifierContext.verify(rawCredential);
+            if (verification.failed()) {
+                return failure("Status list credential %s could not be verified: %s".formatted(statusListCredentialUrl, verification.getFailureDetail()));
+            }
+            return parseCredential(rawCredential)
+                    .compose(credential -> toFetchResult(credential, response.header("ETag")));
+        } catch (IOException e) {
+            monitor.warning("Error fetching status list credential %s".formatted(statusListCredentialUrl), e);
+            return failure("Error fetching status list credential %s: %s".formatted(statusListCredentialUrl, e.getMessage()));
+        }
+    }
+
+    private Result<Map<String, Object>> parseCredential(String body) {
+        try {
+            if (body.startsWith("{")) {
+                return success(objectMapper.readValue(body, new TypeReference<>() {
+                }));
+            }
+            var claims = SignedJWT.parse(body).getJWTClaimsSet();
+            var vc = claims.getJSONObjectClaim(JWT_VC_CLAIM);
+            if (vc == null) {
+                return failure("JWT status list credential does not contain a '%s' claim".formatted(JWT_VC_CLAIM));
+            }
+            // the issuer of a JWT-VC can be conveyed by the 'iss' claim only
+            if (!vc.containsKey(ISSUER) && claims.getIssuer() != null) {
+                vc = new HashMap<>(vc);
+                vc.put(ISSUER, claims.getIssuer());
+            }
+            return success(vc);
+        } catch (IOException | ParseException e) {
+            return failure("Status list credential could not be parsed: %s".formatted(e.getMessage()));
+        }
+    }
+
+    private Result<StatusListFetchResult> toFetchResult(Map<String, Object> credential, @Nullable String etag) {
+        var issuer = credential.get(ISSUER);
+        if (issuer instanceof Map<?, ?> issuerObject) {
+            issuer = issuerObject.get(ID);
+        }
+        if (issuer == null) {
+            return failure("Status list credential does not contain an '%s'".formatted(ISSUER));
+        }
+        var issuerId = issuer.toString();
+        return decode(credential).map(statusList -> StatusListFetchResult.modified(statusList, issuerId, etag));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<StatusList2021> decode(Map<String, Object> credential) {
+        var subject = credential.get(CREDENTIAL_SUBJECT);
+        if (subject instanceof List<?> list && !list.isEmpty()) {
+            subject = list.get(0);
+        }
+        if (!(subject instanceof Map)) {
+            return failure("Status list credential does not contain a '%s'".formatted(CREDENTIAL_SUBJECT));
+        }
+        var subjectMap = (Map<String, Object>) subject;
+        var purpose = subjectMap.get(STATUS_PURPOSE);
+        var encodedList = subjectMap.get(ENCODED_LIST);
+        return StatusList2021.decode(purpose != null ? purpose.toString() : null, encodedList != null ? encodedList.toString() : null);
+    }
+}
@@ -20,11 +20,13 @@ import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
 import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultTrustedIssuerRegistry;
 import org.eclipse.edc.iam.identitytrust.core.scope.IatpScopeExtractorRegistry;
+import org.eclipse.edc.iam.identitytrust.sts.embedded.CachingSecureTokenService;
 import org.eclipse.edc.iam.identitytrust.sts.embedded.EmbeddedSecureTokenService;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.keys.spi.PrivateKeyResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.CacheInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +39,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.iam.identitytrust.core.IatpDefaultServicesExtension.STS_PRIVATE_KEY_ALIAS;
 import static org.eclipse.edc.iam.identitytrust.core.IatpDefaultServicesExtension.STS_PUBLIC_KEY_ID;
+import static org.eclipse.edc.iam.identitytrust.core.IatpDefaultServicesExtension.STS_TOKEN_REUSE_PERCENTAGE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -48,6 +51,7 @@ import static org.mockito.Mockito.when;
 class IatpDefaultServicesExtensionTest {
 
     private final PrivateKeyResolver privateKeyResolver = mock();
+    private final CacheInstrumentation cacheInstrumentation = mock();
 
     private static PrivateKey privateKey() throws JOSEException {
         return new RSAKeyGenerator(2048)
@@ -61,6 +65,7 @@ class IatpDefaultServicesExtensionTest {
     void setup(ServiceExtensionContext context) throws JOSEException {
         when(privateKeyResolver.resolvePrivateKey(any())).thenReturn(Result.success(privateKey()));
         context.registerService(PrivateKeyResolver.class, privateKeyResolver);
+        context.registerService(CacheInstrumentation.class, cacheInstrumentation);
     }
 
     @Test
@@ -78,6 +83,17 @@ class IatpDefaultServicesExtensionTest {
 
     }
 
+    @Test
+    void verify_defaultServiceWithTokenReuse(ServiceExtensionContext context, IatpDefaultServicesExtension ext) {
+        context.registerService(Monitor.class, mock());
+        when(context.getSetting(STS_TOKEN_REUSE_PERCENTAGE, 0)).thenReturn(50);
+
+        var sts = ext.createDefaultTokenService(context);
+
+        assertThat(sts).isInstanceOf(CachingSecureTokenService.class);
+        verify(cacheInstrumentation).instrument((CachingSecureTokenService) sts, "sts-token-reuse");
+    }
+
     @Test
     void verify_defaultServiceWithWarning(ServiceExtensionContext context, IatpDefaultServicesExtension ext) {
         Monitor mockedMonitor = mock();
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.core.defaults;
+
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.assertj.core.api.Assertions;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.identitytrust.verification.VerifierContext;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+import static org.eclipse.edc.jsonld.util.JacksonJsonLd.createObjectMapper;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HttpStatusListCredentialFetcherTest {
+
+    private static final String LIST_URL = "https://issuer.example.com/status/1";
+    private static final String ISSUER = "did:web:issuer.example.com";
+
+    private final EdcHttpClient httpClient = mock();
+    private final VerifierContext verifierContext = mock();
+    private final HttpStatusListCredentialFetcher fetcher = new HttpStatusListCredentialFetcher(httpClient, createObjectMapper(), verifierContext, mock(Monitor.class));
+
+    @BeforeEach
+    void setup() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(invocation -> response(invocation.getArgument(0), statusListCredential()));
+    }
+
+    @Test
+    void fetch_shouldReturnStatusListAndIssuer_whenCredentialIsVerified() {
+        when(verifierContext.verify(any())).thenReturn(success());
+
+        assertThat(fetcher.fetch(LIST_URL, null)).isSucceeded().satisfies(result -> {
+            Assertions.assertThat(result.issuer()).isEqualTo(ISSUER);
+            Assertions.assertThat(result.statusList().isSet(3)).isTrue();
+        });
+    }
+
+    @Test
+    void fetch_shouldFail_whenProofIsInvalid() {
+        when(verifierContext.verify(any())).thenReturn(failure("invalid signature"));
+
+        assertThat(fetcher.fetch(LIST_URL, null)).isFailed()
+                .detail().contains("could not be verified").contains("invalid signature");
+    }
+
+    private Response response(Request request, String body) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(body, MediaType.get("application/vc+ld+json")))
+                .build();
+    }
+
+    private String statusListCredential() throws IOException {
+        var bits = new byte[16];
+        bits[0] = 0b0001_0000;
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bits);
+        }
+        var encodedList = Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+        return """
+                {
+                  "type": ["VerifiableCredential", "StatusList2021Credential"],
+                  "issuer": { "id": "%s" },
+                  "credentialSubject": {
+                    "type": "StatusList2021",
+                    "statusPurpose": "revocation",
+                    "encodedList": "%s"
+                  },
+                  "proof": { "type": "JsonWebSignature2020" }
+                }
+                """.formatted(ISSUER, encodedList);
+    }
+}
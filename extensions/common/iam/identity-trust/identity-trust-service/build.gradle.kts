@@ -1,6 +1,7 @@
 plugins {
     `java-library`
     `maven-publish`
+    alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -23,3 +24,10 @@ dependencies {
 
 }
 
+jmh {
+    // the benchmarks re-use the test fixtures of the identity-trust-spi
+    includeTests = true
+    // report the allocated bytes per operation next to the throughput
+    profilers = listOf("gc")
+}
+
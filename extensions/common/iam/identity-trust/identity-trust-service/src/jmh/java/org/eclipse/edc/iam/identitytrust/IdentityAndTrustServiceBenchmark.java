@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust;
+
+import org.eclipse.edc.identitytrust.TrustedIssuerRegistry;
+import org.eclipse.edc.identitytrust.model.CredentialFormat;
+import org.eclipse.edc.identitytrust.model.CredentialSubject;
+import org.eclipse.edc.identitytrust.model.Issuer;
+import org.eclipse.edc.identitytrust.model.VerifiableCredential;
+import org.eclipse.edc.identitytrust.model.VerifiablePresentationContainer;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.iam.VerificationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.identitytrust.SelfIssuedTokenConstants.PRESENTATION_TOKEN_CLAIM;
+import static org.eclipse.edc.identitytrust.TestFunctions.createPresentationBuilder;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUER;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.SCOPE;
+import static org.eclipse.edc.spi.result.Result.success;
+
+/**
+ * Measures the request path of the {@link IdentityAndTrustService}, with all remote collaborators (STS, credential service,
+ * cryptographic verification) replaced by constant stubs, so that only the work done by the service itself is measured.
+ * Run with {@code ./gradlew :extensions:common:iam:identity-trust:identity-trust-service:jmh}, the GC profiler reports
+ * the allocated bytes per operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdentityAndTrustServiceBenchmark {
+
+    private static final String OWN_DID = "did:web:provider";
+    private static final String CONSUMER_DID = "did:web:consumer";
+    private static final Issuer TRUSTED_ISSUER = new Issuer("did:web:issuer", Map.of());
+
+    @Param({ "1", "10" })
+    public int credentialsPerPresentation;
+
+    private IdentityAndTrustService service;
+    private TokenParameters tokenParameters;
+    private TokenRepresentation token;
+    private VerificationContext verificationContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var siToken = TokenRepresentation.Builder.newInstance().token("si-token").build();
+        var claimToken = ClaimToken.Builder.newInstance()
+                .claim(ISSUER, CONSUMER_DID)
+                .claim(PRESENTATION_TOKEN_CLAIM, "access-token")
+                .build();
+        var credentials = IntStream.range(0, credentialsPerPresentation)
+                .mapToObj(i -> createCredential())
+                .toList();
+        var presentation = new VerifiablePresentationContainer("raw-vp", CredentialFormat.JSON_LD, createPresentationBuilder()
+                .type("VerifiablePresentation")
+                .credentials(credentials)
+                .build());
+        var trustedIssuerRegistry = new MapTrustedIssuerRegistry();
+        trustedIssuerRegistry.addIssuer(TRUSTED_ISSUER);
+
+        service = new IdentityAndTrustService((claims, scope) -> success(siToken), OWN_DID,
+                container -> success(),
+                (url, jwt, scopes) -> success(List.of(presentation)),
+                tokenRepresentation -> success(claimToken),
+                trustedIssuerRegistry,
+                Clock.systemUTC(),
+                issuer -> success("https://credentialservice.consumer/api"),
+                vcs -> success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                status -> success());
+
+        tokenParameters = TokenParameters.Builder.newInstance()
+                .claims(AUDIENCE, CONSUMER_DID)
+                .claims(SCOPE, "org.eclipse.edc.vc.type:MembershipCredential:read")
+                .build();
+        token = TokenRepresentation.Builder.newInstance().token("token").build();
+        verificationContext = VerificationContext.Builder.newInstance()
+                .policy(Policy.Builder.newInstance().build())
+                .scopes(Set.of("org.eclipse.edc.vc.type:MembershipCredential:read"))
+                .build();
+    }
+
+    @Benchmark
+    public Object obtainClientCredentials() {
+        return service.obtainClientCredentials(tokenParameters);
+    }
+
+    @Benchmark
+    public Object verifyJwtToken() {
+        return service.verifyJwtToken(token, verificationContext);
+    }
+
+    private VerifiableCredential createCredential() {
+        return VerifiableCredential.Builder.newInstance()
+                .type("VerifiableCredential")
+                .type("MembershipCredential")
+                .issuer(TRUSTED_ISSUER)
+                .issuanceDate(Instant.now())
+                .credentialSubject(CredentialSubject.Builder.newInstance()
+                        .id(CONSUMER_DID)
+                        .claim("membership", "active")
+                        .build())
+                .build();
+    }
+
+    private static class MapTrustedIssuerRegistry implements TrustedIssuerRegistry {
+        private final Map<String, Issuer> issuers = new HashMap<>();
+
+        @Override
+        public void addIssuer(Issuer issuer) {
+            issuers.put(issuer.id(), issuer);
+        }
+
+        @Override
+        public Issuer getById(String id) {
+            return issuers.get(id);
+        }
+
+        @Override
+        public Collection<Issuer> getTrustedIssuers() {
+            return new ArrayList<>(issuers.values());
+        }
+    }
+
+}
@@ -23,8 +23,9 @@ import org.eclipse.edc.identitytrust.CredentialServiceClient;
 import org.eclipse.edc.identitytrust.CredentialServiceUrlResolver;
 import org.eclipse.edc.identitytrust.SecureTokenService;
 import org.eclipse.edc.identitytrust.TrustedIssuerRegistry;
-import org.eclipse.edc.identitytrust.model.Issuer;
 import org.eclipse.edc.identitytrust.model.VerifiableCredential;
+import org.eclipse.edc.identitytrust.model.VerifiablePresentationContainer;
+import org.eclipse.edc.identitytrust.revocation.RevocationListService;
 import org.eclipse.edc.identitytrust.validation.CredentialValidationRule;
 import org.eclipse.edc.identitytrust.validation.TokenValidationAction;
 import org.eclipse.edc.identitytrust.verification.PresentationVerifier;
@@ -38,16 +39,17 @@ import org.eclipse.edc.util.string.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.regex.Pattern;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.eclipse.edc.identitytrust.SelfIssuedTokenConstants.PRESENTATION_TOKEN_CLAIM;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
@@ -71,6 +73,8 @@ import static org.eclipse.edc.spi.result.Result.success;
  */
 public class IdentityAndTrustService implements IdentityService {
     private static final String SCOPE_STRING_REGEX = "(.+):(.+):(read|write|\\*)";
+    private static final Pattern SCOPE_STRING_PATTERN = Pattern.compile(SCOPE_STRING_REGEX);
+    private static final Duration SI_TOKEN_VALIDITY = Duration.ofMinutes(5);
     private final SecureTokenService secureTokenService;
     private final String myOwnDid;
     private final PresentationVerifier presentationVerifier;
@@ -80,6 +84,8 @@ public class IdentityAndTrustService implements IdentityService {
     private final Clock clock;
     private final CredentialServiceUrlResolver credentialServiceUrlResolver;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
+    private final CredentialValidationRule isNotExpired;
+    private final CredentialValidationRule isRevoked;
 
     /**
      * Constructs a new instance of the {@link IdentityAndTrustService}.
@@ -90,7 +96,8 @@ public class IdentityAndTrustService implements IdentityService {
     public IdentityAndTrustService(SecureTokenService secureTokenService, String myOwnDid,
                                    PresentationVerifier presentationVerifier, CredentialServiceClient credentialServiceClient,
                                    TokenValidationAction tokenValidationAction,
-                                   TrustedIssuerRegistry trustedIssuerRegistry, Clock clock, CredentialServiceUrlResolver csUrlResolver, ClaimTokenCreatorFunction claimTokenCreatorFunction) {
+                                   TrustedIssuerRegistry trustedIssuerRegistry, Clock clock, CredentialServiceUrlResolver csUrlResolver, ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                                   RevocationListService revocationListService) {
         this.secureTokenService = secureTokenService;
         this.myOwnDid = myOwnDid;
         this.presentationVerifier = presentationVerifier;
@@ -100,34 +107,22 @@ public class IdentityAndTrustService implements IdentityService {
         this.clock = clock;
         this.credentialServiceUrlResolver = csUrlResolver;
         this.claimTokenCreatorFunction = claimTokenCreatorFunction;
+        // stateless rules are shared across all verifications
+        this.isNotExpired = new IsNotExpired(clock);
+        this.isRevoked = new IsRevoked(revocationListService);
     }
 
     @Override
     public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
-        var aud = parameters.getStringClaim(AUDIENCE);
-        var scope = parameters.getStringClaim(SCOPE);
-        parameters = TokenParameters.Builder.newInstance()
-                .claims(AUDIENCE, aud)
-                .claims(SCOPE, scope)
-                .claims(parameters.getClaims())
-                .build();
-
-        var scopeValidationResult = validateScope(scope);
-
-        if (scopeValidationResult.failed()) {
-            return failure(scopeValidationResult.getFailureMessages());
-        }
-
-        // create claims for the STS
-        var claims = new HashMap<String, String>();
-        parameters.getClaims().forEach((k, v) -> claims.replace(k, v.toString()));
-
-        claims.putAll(Map.of(
-                ISSUER, myOwnDid,
-                SUBJECT, myOwnDid,
-                AUDIENCE, parameters.getStringClaim(AUDIENCE)));
+        return createStsRequest(parameters)
+                .compose(request -> secureTokenService.createToken(request.claims(), request.scope()));
+    }
 
-        return secureTokenService.createToken(claims, scope);
+    @Override
+    public CompletableFuture<Result<TokenRepresentation>> obtainClientCredentialsAsync(TokenParameters parameters) {
+        return createStsRequest(parameters)
+                .map(request -> secureTokenService.createTokenAsync(request.claims(), request.scope()))
+                .orElse(failure -> completedFuture(failure(failure.getMessages())));
     }
 
     @Override
@@ -140,16 +135,9 @@ public class IdentityAndTrustService implements IdentityService {
 
         // create our own SI token, to request the VPs
         var claimToken = claimTokenResult.getContent();
-        var accessToken = claimToken.getStringClaim(PRESENTATION_TOKEN_CLAIM);
         var issuer = claimToken.getStringClaim(ISSUER);
 
-        var siTokenClaims = Map.of(PRESENTATION_TOKEN_CLAIM, accessToken,
-                ISSUED_AT, Instant.now().toString(),
-                AUDIENCE, issuer,
-                ISSUER, myOwnDid,
-                SUBJECT, myOwnDid,
-                EXPIRATION_TIME, Instant.now().plus(5, ChronoUnit.MINUTES).toString());
-        var siToken = secureTokenService.createToken(siTokenClaims, null);
+        var siToken = secureTokenService.createToken(createSiTokenClaims(claimToken), null);
         if (siToken.failed()) {
             return siToken.mapTo();
         }
@@ -159,52 +147,114 @@ public class IdentityAndTrustService implements IdentityService {
         var vpResponse = credentialServiceUrlResolver.resolve(issuer)
                 .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, context.getScopes().stream().toList()));
 
-        if (vpResponse.failed()) {
-            return vpResponse.mapTo();
+        return vpResponse.compose(presentations -> verifyPresentations(presentations, issuer));
+    }
+
+    private Result<StsRequest> createStsRequest(TokenParameters parameters) {
+        var audience = parameters.getStringClaim(AUDIENCE);
+        var scope = parameters.getStringClaim(SCOPE);
+
+        var scopeValidationResult = validateScope(scope);
+        if (scopeValidationResult.failed()) {
+            return failure(scopeValidationResult.getFailureMessages());
         }
 
-        var presentations = vpResponse.getContent();
-        var result = presentations.stream().map(verifiablePresentation -> {
-            var credentials = verifiablePresentation.presentation().getCredentials();
+        // create claims for the STS
+        var claims = Map.of(
+                ISSUER, myOwnDid,
+                SUBJECT, myOwnDid,
+                AUDIENCE, audience);
+
+        return success(new StsRequest(claims, scope));
+    }
+
+    private Map<String, String> createSiTokenClaims(ClaimToken claimToken) {
+        var accessToken = claimToken.getStringClaim(PRESENTATION_TOKEN_CLAIM);
+        var issuer = claimToken.getStringClaim(ISSUER);
+        var now = clock.instant();
+
+        return Map.of(PRESENTATION_TOKEN_CLAIM, accessToken,
+                ISSUED_AT, now.toString(),
+                AUDIENCE, issuer,
+                ISSUER, myOwnDid,
+                SUBJECT, myOwnDid,
+                EXPIRATION_TIME, now.plus(SI_TOKEN_VALIDITY).toString());
+    }
+
+    private Result<ClaimToken> verifyPresentations(List<VerifiablePresentationContainer> presentations, String issuer) {
+        // in addition to the cryptographic verification, all VCs have to pass these rules
+        var rules = List.of(
+                isNotExpired,
+                new HasValidSubjectIds(issuer),
+                new HasValidIssuer(getTrustedIssuerIds()));
+
+        Result<Void> result = success();
+        var credentials = new ArrayList<VerifiableCredential>();
+        for (var verifiablePresentation : presentations) {
+            var presentationCredentials = verifiablePresentation.presentation().getCredentials();
             // verify, that the VP and all VPs are cryptographically OK
-            return presentationVerifier.verifyPresentation(verifiablePresentation)
-                    .compose(u -> validateVerifiableCredentials(credentials, issuer));
-        }).reduce(Result.success(), Result::merge);
+            var presentationResult = presentationVerifier.verifyPresentation(verifiablePresentation)
+                    .compose(u -> validateVerifiableCredentials(presentationCredentials, rules));
+            result = result.merge(presentationResult);
+            credentials.addAll(presentationCredentials);
+        }
         //todo: at this point we have established what the other participant's DID is, and that it's authentic
         // so we need to make sure that `iss == sub == DID`
-        return result.compose(u -> claimTokenCreatorFunction.apply(presentations.stream().map(p -> p.presentation().getCredentials().stream())
-                .reduce(Stream.empty(), Stream::concat)
-                .toList()));
+        return result.compose(u -> claimTokenCreatorFunction.apply(credentials));
     }
 
     @NotNull
-    private Result<Void> validateVerifiableCredentials(List<VerifiableCredential> credentials, String issuer) {
-        // in addition, verify that all VCs are valid
-        var filters = new ArrayList<>(List.of(
-                new IsNotExpired(clock),
-                new HasValidSubjectIds(issuer),
-                new IsRevoked(null),
-                new HasValidIssuer(getTrustedIssuerIds())));
-
-        filters.addAll(getAdditionalValidations());
-        var results = credentials.stream().map(c -> filters.stream().reduce(t -> Result.success(), CredentialValidationRule::and).apply(c)).reduce(Result::merge);
-        return results.orElseGet(() -> failure("Could not determine the status of the VC validation"));
-    }
+    private Result<Void> validateVerifiableCredentials(List<VerifiableCredential> credentials, List<CredentialValidationRule> rules) {
+        if (credentials.isEmpty()) {
+            return failure("Could not determine the status of the VC validation");
+        }
 
-    private Collection<? extends CredentialValidationRule> getAdditionalValidations() {
-        return List.of();
+        List<String> failureMessages = null;
+        for (var credential : credentials) {
+            var credentialFailed = false;
+            for (var rule : rules) {
+                var ruleResult = rule.apply(credential);
+                if (ruleResult.failed()) {
+                    if (failureMessages == null) {
+                        failureMessages = new ArrayList<>();
+                    }
+                    failureMessages.addAll(ruleResult.getFailureMessages());
+                    credentialFailed = true;
+                }
+            }
+            // the status list is fetched from a URL contained in the credential, so it is only done once the credential
+            // is known to come from a trusted issuer
+            if (!credentialFailed) {
+                var revocationResult = isRevoked.apply(credential);
+                if (revocationResult.failed()) {
+                    if (failureMessages == null) {
+                        failureMessages = new ArrayList<>();
+                    }
+                    failureMessages.addAll(revocationResult.getFailureMessages());
+                }
+            }
+        }
+        return failureMessages == null ? success() : failure(failureMessages);
     }
 
-    private List<String> getTrustedIssuerIds() {
-        return trustedIssuerRegistry.getTrustedIssuers().stream().map(Issuer::id).toList();
+    private Set<String> getTrustedIssuerIds() {
+        var trustedIssuers = trustedIssuerRegistry.getTrustedIssuers();
+        var ids = new HashSet<String>(trustedIssuers.size() * 2);
+        for (var issuer : trustedIssuers) {
+            ids.add(issuer.id());
+        }
+        return ids;
     }
 
     private Result<Void> validateScope(String scope) {
         if (StringUtils.isNullOrBlank(scope)) {
             return failure("Scope string invalid: input string was null or empty");
         }
-        return scope.matches(SCOPE_STRING_REGEX) ?
+        return SCOPE_STRING_PATTERN.matcher(scope).matches() ?
                 success() :
                 failure("Scope string invalid: '%s' does not match regex %s".formatted(scope, SCOPE_STRING_REGEX));
     }
+
+    private record StsRequest(Map<String, String> claims, String scope) {
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.revocation;
+
+import org.eclipse.edc.spi.result.Result;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+
+/**
+ * Decoded representation of the {@code encodedList} of a StatusList2021 credential. The bitstring is kept as the raw
+ * (uncompressed) byte array, so looking up the status of an index is a constant-time operation.
+ * <p>
+ * As per the specification, index 0 refers to the left-most (most significant) bit of the first byte.
+ */
+public class StatusList2021 {
+    private final String statusPurpose;
+    private final byte[] bitstring;
+
+    private StatusList2021(String statusPurpose, byte[] bitstring) {
+        this.statusPurpose = statusPurpose;
+        this.bitstring = bitstring;
+    }
+
+    /**
+     * Decodes a base64-encoded, GZIP-compressed bitstring.
+     *
+     * @param statusPurpose the purpose of the list, e.g. "revocation" or "suspension"
+     * @param encodedList   the {@code encodedList} property of the status list credential
+     * @return the decoded list, or a failure if the input is not a valid encoded bitstring
+     */
+    public static Result<StatusList2021> decode(String statusPurpose, String encodedList) {
+        if (encodedList == null) {
+            return failure("Status list credential does not contain an 'encodedList'");
+        }
+        try {
+            // the spec mandates base64url, but base64 with padding is common in the wild
+            var compressed = encodedList.contains("+") || encodedList.contains("/") ?
+                    Base64.getDecoder().decode(encodedList) :
+                    Base64.getUrlDecoder().decode(encodedList);
+            try (var gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                return success(new StatusList2021(statusPurpose, gzip.readAllBytes()));
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            return failure("Failed to decode status list: %s".formatted(e.getMessage()));
+        }
+    }
+
+    public String getStatusPurpose() {
+        return statusPurpose;
+    }
+
+    /**
+     * Number of entries (bits) in this list.
+     */
+    public long size() {
+        return bitstring.length * 8L;
+    }
+
+    /**
+     * Checks whether the bit at the given index is set.
+     *
+     * @param index the {@code statusListIndex} of a credential
+     * @return true if the bit is set, i.e. the credential has the status denoted by {@link #getStatusPurpose()}
+     * @throws IndexOutOfBoundsException if the index is outside the list
+     */
+    public boolean isSet(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Status list index %d out of bounds [0, %d)".formatted(index, size()));
+        }
+        return ((bitstring[index >>> 3] >> (7 - (index & 7))) & 1) == 1;
+    }
+}
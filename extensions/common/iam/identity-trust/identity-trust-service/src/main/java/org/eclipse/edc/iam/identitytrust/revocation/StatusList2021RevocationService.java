@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.revocation;
+
+import org.eclipse.edc.iam.identitytrust.revocation.StatusListCredentialFetcher.StatusListFetchResult;
+import org.eclipse.edc.identitytrust.model.VerifiableCredential;
+import org.eclipse.edc.identitytrust.revocation.RevocationListService;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+
+/**
+ * {@link RevocationListService} for credentials that use a {@code StatusList2021Entry} credential status.
+ * <p>
+ * Status list credentials are large and are shared among many credentials of the same issuer, so they are fetched once and
+ * kept as a decoded bitstring in a cache. Cache entries are valid for the configured duration, after which the list is
+ * re-fetched with a conditional request. In addition, {@link #refresh()} can be called periodically to keep the lists that
+ * are in use up-to-date in the background, so that the validation of a credential does not have to wait for the network.
+ */
+public class StatusList2021RevocationService implements RevocationListService {
+    public static final String STATUS_LIST_NAMESPACE = "https://w3id.org/vc/status-list#";
+    public static final String STATUS_LIST_2021_ENTRY = "StatusList2021Entry";
+    public static final String STATUS_LIST_PURPOSE = "statusPurpose";
+    public static final String STATUS_LIST_INDEX = "statusListIndex";
+    public static final String STATUS_LIST_CREDENTIAL = "statusListCredential";
+
+    private final StatusListCredentialFetcher fetcher;
+    private final Clock clock;
+    private final Duration cacheValidity;
+    private final Monitor monitor;
+    private final Map<String, CachedStatusList> cache = new ConcurrentHashMap<>();
+
+    public StatusList2021RevocationService(StatusListCredentialFetcher fetcher, Clock clock, Duration cacheValidity, Monitor monitor) {
+        this.fetcher = fetcher;
+        this.clock = clock;
+        this.cacheValidity = cacheValidity;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Result<Void> checkValidity(VerifiableCredential credential) {
+        var credentialStatus = credential.getCredentialStatus();
+        if (credentialStatus == null) {
+            return success();
+        }
+        var issuer = credential.getIssuer() != null ? credential.getIssuer().id() : null;
+        if (issuer == null) {
+            return failure("Credential has no issuer, its status cannot be checked");
+        }
+        if (!isStatusListEntry(credentialStatus.type())) {
+            return failure("Unsupported credential status type '%s', expected '%s'".formatted(credentialStatus.type(), STATUS_LIST_2021_ENTRY));
+        }
+
+        var properties = credentialStatus.additionalProperties();
+        var purpose = getProperty(properties, STATUS_LIST_PURPOSE);
+        var listUrl = getProperty(properties, STATUS_LIST_CREDENTIAL);
+        var indexString = getProperty(properties, STATUS_LIST_INDEX);
+        if (listUrl == null || indexString == null) {
+            return failure("Credential status must contain the '%s' and '%s' properties".formatted(STATUS_LIST_CREDENTIAL, STATUS_LIST_INDEX));
+        }
+
+        int index;
+        try {
+            index = Integer.parseInt(indexString);
+        } catch (NumberFormatException e) {
+            return failure("Invalid '%s': %s".formatted(STATUS_LIST_INDEX, indexString));
+        }
+
+        return getStatusList(listUrl).compose(entry -> checkStatus(entry, listUrl, issuer, purpose, index));
+    }
+
+    /**
+     * Re-fetches all cached status lists that have been used since the last refresh and evicts all others, so that lists
+     * of issuers that are no longer seen do not occupy memory indefinitely.
+     */
+    public void refresh() {
+        var now = clock.instant();
+        cache.forEach((url, entry) -> {
+            if (!entry.usedSince(entry.fetchedAt())) {
+                cache.remove(url, entry);
+                return;
+            }
+            fetch(url, entry).onFailure(f -> monitor.warning("Failed to refresh status list %s: %s".formatted(url, f.getFailureDetail())));
+        });
+        monitor.debug(() -> "Refreshed %d status lists in %d ms".formatted(cache.size(), Duration.between(now, clock.instant()).toMillis()));
+    }
+
+    private Result<CachedStatusList> getStatusList(String url) {
+        var entry = cache.get(url);
+        if (entry != null) {
+            entry.touch(clock.instant());
+            if (!entry.isExpired(clock.instant(), cacheValidity)) {
+                return success(entry);
+            }
+        }
+        return fetch(url, entry);
+    }
+
+    private Result<CachedStatusList> fetch(String url, @Nullable CachedStatusList previous) {
+        var etag = previous != null ? previous.etag() : null;
+        return fetcher.fetch(url, etag).compose(response -> store(url, response, previous));
+    }
+
+    private Result<CachedStatusList> store(String url, StatusListFetchResult response, @Nullable CachedStatusList previous) {
+        if (!response.isModified() && previous == null) {
+            return failure("Status list %s reported as not modified, but was never fetched".formatted(url));
+        }
+        var statusList = response.isModified() ? response.statusList() : previous.statusList();
+        var issuer = response.isModified() ? response.issuer() : previous.issuer();
+        var etag = response.isModified() ? response.etag() : previous.etag();
+        var now = clock.instant();
+        var lastUsed = previous != null ? previous.lastUsed : now;
+        var entry = new CachedStatusList(statusList, issuer, etag, now, lastUsed);
+        cache.put(url, entry);
+        return success(entry);
+    }
+
+    private Result<Void> checkStatus(CachedStatusList entry, String listUrl, String issuer, @Nullable String purpose, int index) {
+        if (!issuer.equals(entry.issuer())) {
+            return failure("Status list %s is issued by '%s', not by the issuer '%s' of the credential".formatted(listUrl, entry.issuer(), issuer));
+        }
+        var statusList = entry.statusList();
+        if (purpose != null && !purpose.equals(statusList.getStatusPurpose())) {
+            return failure("Status purpose '%s' of the credential does not match the purpose '%s' of the status list %s".formatted(purpose, statusList.getStatusPurpose(), listUrl));
+        }
+        if (index < 0 || index >= statusList.size()) {
+            return failure("Status list index %d is out of bounds for status list %s".formatted(index, listUrl));
+        }
+        return statusList.isSet(index) ?
+                failure("Credential status is '%s'".formatted(statusList.getStatusPurpose())) :
+                success();
+    }
+
+    private boolean isStatusListEntry(String type) {
+        return STATUS_LIST_2021_ENTRY.equals(type) || (STATUS_LIST_NAMESPACE + STATUS_LIST_2021_ENTRY).equals(type);
+    }
+
+    /**
+     * Credential status properties can be present either in compacted form (JWT-VCs) or expanded form (JSON-LD VCs),
+     * in which case the value may also be wrapped in a value object.
+     */
+    @Nullable
+    private String getProperty(Map<String, Object> properties, String name) {
+        var value = properties.get(name);
+        if (value == null) {
+            value = properties.get(STATUS_LIST_NAMESPACE + name);
+        }
+        return unwrap(value);
+    }
+
+    @Nullable
+    private String unwrap(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection.isEmpty() ? null : unwrap(collection.iterator().next());
+        }
+        if (value instanceof Map<?, ?> map) {
+            var inner = map.get("@value");
+            return unwrap(inner != null ? inner : map.get("@id"));
+        }
+        return value != null ? value.toString() : null;
+    }
+
+    private static final class CachedStatusList {
+        private final StatusList2021 statusList;
+        private final String issuer;
+        private final String etag;
+        private final Instant fetchedAt;
+        private volatile Instant lastUsed;
+
+        private CachedStatusList(StatusList2021 statusList, String issuer, String etag, Instant fetchedAt, Instant lastUsed) {
+            this.statusList = statusList;
+            this.issuer = issuer;
+            this.etag = etag;
+            this.fetchedAt = fetchedAt;
+            this.lastUsed = lastUsed;
+        }
+
+        StatusList2021 statusList() {
+            return statusList;
+        }
+
+        String issuer() {
+            return issuer;
+        }
+
+        String etag() {
+            return etag;
+        }
+
+        Instant fetchedAt() {
+            return fetchedAt;
+        }
+
+        void touch(Instant now) {
+            lastUsed = now;
+        }
+
+        boolean usedSince(Instant instant) {
+            return !lastUsed.isBefore(instant);
+        }
+
+        boolean isExpired(Instant now, Duration validity) {
+            return fetchedAt.plus(validity).isBefore(now);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.revocation;
+
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Retrieves and decodes StatusList2021 credentials. Implementations should support conditional requests, so that a status
+ * list that has not changed since the last fetch does not need to be transferred and decoded again.
+ */
+@FunctionalInterface
+public interface StatusListCredentialFetcher {
+
+    /**
+     * Fetches the status list credential from the given URL. Implementations must verify the proof of the credential
+     * before returning its content.
+     *
+     * @param statusListCredentialUrl the URL of the status list credential, as referenced by {@code statusListCredential}
+     * @param etag                    the entity tag of a previously fetched version of the list, or null if there is none.
+     * @return the decoded status list, or {@link StatusListFetchResult#notModified()} if the list has not changed since the version denoted by the etag.
+     */
+    Result<StatusListFetchResult> fetch(String statusListCredentialUrl, @Nullable String etag);
+
+    /**
+     * Outcome of a (conditional) status list fetch.
+     *
+     * @param statusList the decoded list, null if the list was not modified
+     * @param issuer     the issuer of the status list credential, null if the list was not modified
+     * @param etag       the entity tag of the returned list, if the server sent one
+     */
+    record StatusListFetchResult(@Nullable StatusList2021 statusList, @Nullable String issuer, @Nullable String etag) {
+
+        public static StatusListFetchResult modified(StatusList2021 statusList, String issuer, @Nullable String etag) {
+            return new StatusListFetchResult(statusList, issuer, etag);
+        }
+
+        public static StatusListFetchResult notModified() {
+            return new StatusListFetchResult(null, null, null);
+        }
+
+        public boolean isModified() {
+            return statusList != null;
+        }
+    }
+}
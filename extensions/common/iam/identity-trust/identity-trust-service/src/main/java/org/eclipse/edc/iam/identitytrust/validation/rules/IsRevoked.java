@@ -15,6 +15,7 @@
 package org.eclipse.edc.iam.identitytrust.validation.rules;
 
 import org.eclipse.edc.identitytrust.model.VerifiableCredential;
+import org.eclipse.edc.identitytrust.revocation.RevocationListService;
 import org.eclipse.edc.identitytrust.validation.CredentialValidationRule;
 import org.eclipse.edc.spi.result.Result;
 
@@ -22,17 +23,21 @@ import static org.eclipse.edc.spi.result.Result.success;
 
 /**
  * This class represents a rule that checks if a given VerifiableCredential is revoked based on a StatusList2021 credential.
+ * Credentials that do not have a {@code credentialStatus} are considered valid.
  */
 public class IsRevoked implements CredentialValidationRule {
-    private final VerifiableCredential statusList2021;
+    private final RevocationListService revocationListService;
 
-    public IsRevoked(VerifiableCredential statusList2021) {
-        this.statusList2021 = statusList2021;
+    public IsRevoked(RevocationListService revocationListService) {
+        this.revocationListService = revocationListService;
     }
 
 
     @Override
     public Result<Void> apply(VerifiableCredential credential) {
-        return success();
+        if (credential.getCredentialStatus() == null) {
+            return success();
+        }
+        return revocationListService.checkValidity(credential);
     }
 }
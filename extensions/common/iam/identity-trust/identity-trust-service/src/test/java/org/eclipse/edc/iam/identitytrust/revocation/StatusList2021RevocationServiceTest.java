@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.revocation;
+
+import org.eclipse.edc.iam.identitytrust.revocation.StatusListCredentialFetcher.StatusListFetchResult;
+import org.eclipse.edc.identitytrust.model.CredentialStatus;
+import org.eclipse.edc.identitytrust.model.Issuer;
+import org.eclipse.edc.identitytrust.model.VerifiableCredential;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.edc.iam.identitytrust.revocation.StatusList2021RevocationService.STATUS_LIST_NAMESPACE;
+import static org.eclipse.edc.iam.identitytrust.revocation.StatusList2021Test.encodedList;
+import static org.eclipse.edc.identitytrust.TestFunctions.createCredentialBuilder;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StatusList2021RevocationServiceTest {
+    private static final String LIST_URL = "https://issuer.example.com/status/1";
+    private static final String ISSUER = "did:web:issuer.example.com";
+    private static final Duration VALIDITY = Duration.ofMinutes(5);
+
+    private final StatusListCredentialFetcher fetcher = mock();
+    private final MutableClock clock = new MutableClock(Instant.now());
+    private final StatusList2021RevocationService service = new StatusList2021RevocationService(fetcher, clock, VALIDITY, mock(Monitor.class));
+
+    @BeforeEach
+    void setup() {
+        var statusList = StatusList2021.decode("revocation", encodedList(1024, 42)).getContent();
+        when(fetcher.fetch(eq(LIST_URL), any())).thenReturn(success(StatusListFetchResult.modified(statusList, ISSUER, "etag-1")));
+    }
+
+    @Test
+    void checkValidity_notRevoked() {
+        assertThat(service.checkValidity(credential("revocation", "41"))).isSucceeded();
+    }
+
+    @Test
+    void checkValidity_revoked() {
+        assertThat(service.checkValidity(credential("revocation", "42"))).isFailed()
+                .detail().isEqualTo("Credential status is 'revocation'");
+    }
+
+    @Test
+    void checkValidity_expandedProperties() {
+        var status = new CredentialStatus("https://issuer.example.com/status/1#42", STATUS_LIST_NAMESPACE + "StatusList2021Entry", Map.of(
+                STATUS_LIST_NAMESPACE + "statusPurpose", "revocation",
+                STATUS_LIST_NAMESPACE + "statusListIndex", "42",
+                STATUS_LIST_NAMESPACE + "statusListCredential", Map.of("@id", LIST_URL)));
+
+        assertThat(service.checkValidity(credential(status))).isFailed();
+    }
+
+    @Test
+    void checkValidity_purposeMismatch() {
+        assertThat(service.checkValidity(credential("suspension", "1"))).isFailed()
+                .detail().contains("does not match the purpose");
+    }
+
+    @Test
+    void checkValidity_indexOutOfBounds() {
+        assertThat(service.checkValidity(credential("revocation", "1024"))).isFailed()
+                .detail().contains("out of bounds");
+    }
+
+    @Test
+    void checkValidity_invalidIndex() {
+        assertThat(service.checkValidity(credential("revocation", "foo"))).isFailed();
+    }
+
+    @Test
+    void checkValidity_unsupportedType() {
+        var status = new CredentialStatus("id", "RevocationList2020Status", Map.of());
+
+        assertThat(service.checkValidity(credential(status))).isFailed()
+                .detail().startsWith("Unsupported credential status type");
+    }
+
+    @Test
+    void checkValidity_noCredentialStatus() {
+        assertThat(service.checkValidity(createCredentialBuilder().build())).isSucceeded();
+
+        verifyNoInteractions(fetcher);
+    }
+
+    @Test
+    void checkValidity_statusListOfAnotherIssuer() {
+        var credential = createCredentialBuilder()
+                .issuer(new Issuer("did:web:other.example.com", Map.of()))
+                .credentialStatus(status("revocation", "41"))
+                .build();
+
+        assertThat(service.checkValidity(credential)).isFailed()
+                .detail().contains("not by the issuer 'did:web:other.example.com'");
+    }
+
+    @Test
+    void checkValidity_fetchFails() {
+        when(fetcher.fetch(eq(LIST_URL), any())).thenReturn(failure("not found"));
+
+        assertThat(service.checkValidity(credential("revocation", "1"))).isFailed()
+                .detail().isEqualTo("not found");
+    }
+
+    @Test
+    void checkValidity_servedFromCache() {
+        service.checkValidity(credential("revocation", "1"));
+        service.checkValidity(credential("revocation", "2"));
+        service.checkValidity(credential("revocation", "42"));
+
+        verify(fetcher, times(1)).fetch(any(), any());
+    }
+
+    @Test
+    void checkValidity_expired_shouldRefetchConditionally() {
+        service.checkValidity(credential("revocation", "1"));
+        when(fetcher.fetch(LIST_URL, "etag-1")).thenReturn(success(StatusListFetchResult.notModified()));
+        clock.advance(VALIDITY.plusSeconds(1));
+
+        assertThat(service.checkValidity(credential("revocation", "42"))).isFailed();
+        verify(fetcher).fetch(eq(LIST_URL), isNull());
+        verify(fetcher).fetch(LIST_URL, "etag-1");
+    }
+
+    @Test
+    void refresh_shouldReplaceUsedList() {
+        service.checkValidity(credential("revocation", "42"));
+        var updated = StatusList2021.decode("revocation", encodedList(1024)).getContent();
+        when(fetcher.fetch(LIST_URL, "etag-1")).thenReturn(success(StatusListFetchResult.modified(updated, ISSUER, "etag-2")));
+
+        service.refresh();
+
+        assertThat(service.checkValidity(credential("revocation", "42"))).isSucceeded();
+        verify(fetcher, times(2)).fetch(any(), any());
+    }
+
+    @Test
+    void refresh_shouldEvictUnusedList() {
+        service.checkValidity(credential("revocation", "1"));
+        clock.advance(Duration.ofSeconds(1));
+        service.refresh();
+        clock.advance(Duration.ofSeconds(1));
+
+        service.refresh();
+
+        verify(fetcher, times(2)).fetch(any(), any());
+        service.checkValidity(credential("revocation", "1"));
+        verify(fetcher, times(2)).fetch(eq(LIST_URL), isNull());
+    }
+
+    private VerifiableCredential credential(String purpose, String index) {
+        return credential(status(purpose, index));
+    }
+
+    private VerifiableCredential credential(CredentialStatus status) {
+        return createCredentialBuilder()
+                .issuer(new Issuer(ISSUER, Map.of()))
+                .credentialStatus(status)
+                .build();
+    }
+
+    private CredentialStatus status(String purpose, String index) {
+        return new CredentialStatus(LIST_URL + "#" + index, "StatusList2021Entry", Map.of(
+                "statusPurpose", purpose,
+                "statusListIndex", List.of(index),
+                "statusListCredential", LIST_URL));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
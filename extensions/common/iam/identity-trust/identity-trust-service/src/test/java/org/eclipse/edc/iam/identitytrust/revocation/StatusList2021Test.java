@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
+class StatusList2021Test {
+
+    /**
+     * Creates a base64url-encoded, GZIP-compressed bitstring of the given size, in which the given indices are set.
+     */
+    static String encodedList(int sizeInBits, int... setIndices) {
+        var bytes = new byte[sizeInBits / 8];
+        for (var index : setIndices) {
+            bytes[index / 8] |= (byte) (1 << (7 - index % 8));
+        }
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    @Test
+    void decode() {
+        var result = StatusList2021.decode("revocation", encodedList(16 * 1024, 0, 9, 16383));
+
+        assertThat(result).isSucceeded().satisfies(list -> {
+            assertThat(list.getStatusPurpose()).isEqualTo("revocation");
+            assertThat(list.size()).isEqualTo(16 * 1024);
+            assertThat(list.isSet(0)).isTrue();
+            assertThat(list.isSet(1)).isFalse();
+            assertThat(list.isSet(8)).isFalse();
+            assertThat(list.isSet(9)).isTrue();
+            assertThat(list.isSet(16383)).isTrue();
+        });
+    }
+
+    @Test
+    void decode_standardBase64() {
+        var urlEncoded = encodedList(1024, 42);
+        var standard = Base64.getEncoder().encodeToString(Base64.getUrlDecoder().decode(urlEncoded));
+
+        assertThat(StatusList2021.decode("revocation", standard)).isSucceeded()
+                .satisfies(list -> assertThat(list.isSet(42)).isTrue());
+    }
+
+    @Test
+    void decode_notCompressed() {
+        var notCompressed = Base64.getUrlEncoder().encodeToString(new byte[16]);
+
+        assertThat(StatusList2021.decode("revocation", notCompressed)).isFailed()
+                .detail().startsWith("Failed to decode status list");
+    }
+
+    @Test
+    void decode_null() {
+        assertThat(StatusList2021.decode("revocation", null)).isFailed();
+    }
+
+    @Test
+    void isSet_outOfBounds() {
+        var list = StatusList2021.decode("revocation", encodedList(8)).getContent();
+
+        assertThatThrownBy(() -> list.isSet(8)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.isSet(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
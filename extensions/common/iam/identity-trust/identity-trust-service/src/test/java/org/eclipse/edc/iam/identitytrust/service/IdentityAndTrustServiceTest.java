@@ -23,10 +23,12 @@ import org.eclipse.edc.identitytrust.CredentialServiceUrlResolver;
 import org.eclipse.edc.identitytrust.SecureTokenService;
 import org.eclipse.edc.identitytrust.TrustedIssuerRegistry;
 import org.eclipse.edc.identitytrust.model.CredentialFormat;
+import org.eclipse.edc.identitytrust.model.CredentialStatus;
 import org.eclipse.edc.identitytrust.model.CredentialSubject;
 import org.eclipse.edc.identitytrust.model.Issuer;
 import org.eclipse.edc.identitytrust.model.VerifiableCredential;
 import org.eclipse.edc.identitytrust.model.VerifiablePresentationContainer;
+import org.eclipse.edc.identitytrust.revocation.RevocationListService;
 import org.eclipse.edc.identitytrust.validation.TokenValidationAction;
 import org.eclipse.edc.identitytrust.verification.PresentationVerifier;
 import org.eclipse.edc.policy.model.Policy;
@@ -36,7 +38,6 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.iam.VerificationContext;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -66,6 +67,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -80,8 +82,10 @@ class IdentityAndTrustServiceTest {
     private final TrustedIssuerRegistry trustedIssuerRegistryMock = mock();
     private final CredentialServiceUrlResolver credentialServiceUrlResolverMock = mock();
     private final TokenValidationAction actionMock = mock();
+    private final RevocationListService revocationListServiceMock = mock();
     private final IdentityAndTrustService service = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedVerifier, mockedClient,
-            actionMock, trustedIssuerRegistryMock, Clock.systemUTC(), credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()));
+            actionMock, trustedIssuerRegistryMock, Clock.systemUTC(), credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+            revocationListServiceMock);
 
     @BeforeEach
     void setup() {
@@ -93,6 +97,7 @@ class IdentityAndTrustServiceTest {
                 .claim(PRESENTATION_TOKEN_CLAIM, jwt.getToken()).build()));
 
         when(mockedSts.createToken(any(), any())).thenReturn(success(TokenRepresentation.Builder.newInstance().build()));
+        when(revocationListServiceMock.checkValidity(any())).thenReturn(success());
     }
 
     private VerificationContext verificationContext() {
@@ -213,10 +218,45 @@ class IdentityAndTrustServiceTest {
                     .contains("Not all subject IDs match the expected subject ID %s".formatted(CONSUMER_DID));
         }
 
-        @Disabled("Not yet implemented")
         @Test
         void credentialIsRevoked() {
-            // not yet implemented
+            var presentation = createPresentationBuilder()
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder()
+                            .credentialSubjects(List.of(CredentialSubject.Builder.newInstance().id(CONSUMER_DID).claim("some-claim", "some-val").build()))
+                            .credentialStatus(new CredentialStatus("status-id", "StatusList2021Entry", Map.of()))
+                            .build()))
+                    .build();
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, presentation);
+            when(mockedVerifier.verifyPresentation(any())).thenReturn(success());
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer)));
+            when(revocationListServiceMock.checkValidity(any())).thenReturn(failure("Credential status is 'revocation'"));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            var result = service.verifyJwtToken(token, verificationContext());
+
+            assertThat(result).isFailed().messages().containsExactly("Credential status is 'revocation'");
+        }
+
+        @Test
+        void credentialHasInvalidIssuer_shouldNotCheckRevocation() {
+            var presentation = createPresentationBuilder()
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder()
+                            .issuer(new Issuer("untrusted-issuer", Map.of()))
+                            .credentialSubjects(List.of(CredentialSubject.Builder.newInstance().id(CONSUMER_DID).claim("some-claim", "some-val").build()))
+                            .credentialStatus(new CredentialStatus("status-id", "StatusList2021Entry", Map.of()))
+                            .build()))
+                    .build();
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, presentation);
+            when(mockedVerifier.verifyPresentation(any())).thenReturn(success());
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer)));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            var result = service.verifyJwtToken(token, verificationContext());
+
+            assertThat(result).isFailed().messages().containsExactly("Issuer 'untrusted-issuer' is not in the list of trusted issuers");
+            verify(revocationListServiceMock, never()).checkValidity(any());
         }
 
         @Test
@@ -381,4 +421,4 @@ class IdentityAndTrustServiceTest {
                     });
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.validation.rules;
+
+import org.eclipse.edc.identitytrust.model.CredentialStatus;
+import org.eclipse.edc.identitytrust.revocation.RevocationListService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.eclipse.edc.identitytrust.TestFunctions.createCredentialBuilder;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class IsRevokedTest {
+
+    private final RevocationListService revocationListService = mock();
+    private final IsRevoked rule = new IsRevoked(revocationListService);
+
+    @Test
+    void noCredentialStatus() {
+        var vc = createCredentialBuilder().build();
+
+        assertThat(rule.apply(vc)).isSucceeded();
+        verifyNoInteractions(revocationListService);
+    }
+
+    @Test
+    void notRevoked() {
+        when(revocationListService.checkValidity(any())).thenReturn(success());
+        var vc = createCredentialBuilder().credentialStatus(new CredentialStatus("id", "StatusList2021Entry", Map.of())).build();
+
+        assertThat(rule.apply(vc)).isSucceeded();
+    }
+
+    @Test
+    void revoked() {
+        when(revocationListService.checkValidity(any())).thenReturn(failure("Credential status is 'revocation'"));
+        var vc = createCredentialBuilder().credentialStatus(new CredentialStatus("id", "StatusList2021Entry", Map.of())).build();
+
+        assertThat(rule.apply(vc)).isFailed().detail().isEqualTo("Credential status is 'revocation'");
+    }
+}
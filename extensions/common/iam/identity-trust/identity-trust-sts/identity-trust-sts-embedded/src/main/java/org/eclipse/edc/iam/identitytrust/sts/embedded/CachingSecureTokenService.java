@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.sts.embedded;
+
+import org.eclipse.edc.identitytrust.SecureTokenService;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.CacheMetrics;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
+import static org.eclipse.edc.spi.result.Result.success;
+
+/**
+ * {@link SecureTokenService} decorator that re-uses SI tokens (including their embedded access token) for repeated requests
+ * with identical claims and bearer access scope, until the configured reuse window has elapsed. The reuse window must be
+ * shorter than the validity of the tokens, so that a re-used token still has enough lifetime left when it reaches the counterparty.
+ * <p>
+ * Re-used tokens carry the same {@code jti}, so re-use must only be enabled for counterparties that do not enforce single use
+ * of token IDs. Therefore, re-use is limited to the audiences accepted by the given filter. Tokens without bearer access scope
+ * (e.g. the ones used to query the own credential service) are always freshly created.
+ * <p>
+ * The hit and miss counts only consider the requests eligible for re-use.
+ */
+public class CachingSecureTokenService implements SecureTokenService, CacheMetrics {
+    private final SecureTokenService delegate;
+    private final Clock clock;
+    private final Duration reuseWindow;
+    private final Predicate<String> audienceFilter;
+    private final ConcurrentLruCache<CacheKey, CachedToken> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates the caching token service.
+     *
+     * @param delegate       the service that actually creates the tokens
+     * @param clock          the clock
+     * @param reuseWindow    the time span, starting at token creation, during which a token is re-used
+     * @param audienceFilter filter for the audiences (counterparty IDs) for which tokens may be re-used
+     * @param capacity       maximum number of cached tokens
+     */
+    public CachingSecureTokenService(SecureTokenService delegate, Clock clock, Duration reuseWindow, Predicate<String> audienceFilter, int capacity) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.reuseWindow = reuseWindow;
+        this.audienceFilter = audienceFilter;
+        this.cache = new ConcurrentLruCache<>(capacity);
+    }
+
+    @Override
+    public Result<TokenRepresentation> createToken(Map<String, String> claims, @Nullable String bearerAccessScope) {
+        var audience = claims.get(AUDIENCE);
+        if (bearerAccessScope == null || audience == null || !audienceFilter.test(audience)) {
+            return delegate.createToken(claims, bearerAccessScope);
+        }
+
+        var key = new CacheKey(new HashMap<>(claims), bearerAccessScope);
+        var now = clock.instant();
+        var cached = cache.get(key);
+        if (cached != null && cached.reusableUntil().isAfter(now)) {
+            hits.increment();
+            return success(cached.token());
+        }
+
+        misses.increment();
+        return delegate.createToken(claims, bearerAccessScope)
+                .onSuccess(token -> cache.put(key, new CachedToken(token, now.plus(reuseWindow))));
+    }
+
+    /**
+     * Number of requests that were served with a re-used token.
+     */
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of requests eligible for re-use, for which a new token had to be created.
+     */
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of tokens currently held for re-use, including ones whose reuse window has already elapsed.
+     */
+    @Override
+    public int getSize() {
+        return cache.size();
+    }
+
+    private record CacheKey(Map<String, String> claims, String scope) {
+    }
+
+    private record CachedToken(TokenRepresentation token, Instant reusableUntil) {
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.sts.embedded;
+
+import org.eclipse.edc.identitytrust.SecureTokenService;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingSecureTokenServiceTest {
+
+    private static final String SCOPE = "org.eclipse.edc.vc.type:MembershipCredential:read";
+    private final SecureTokenService delegate = mock();
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final CachingSecureTokenService sts = new CachingSecureTokenService(delegate, clock, Duration.ofMinutes(4), "allowed"::equals, 10);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        when(delegate.createToken(anyMap(), any()))
+                .thenReturn(Result.success(token("first")), Result.success(token("second")));
+    }
+
+    @Test
+    void createToken_reusesTokenWithinWindow() {
+        var first = sts.createToken(claims("allowed"), SCOPE);
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(3)));
+        var second = sts.createToken(claims("allowed"), SCOPE);
+
+        assertThat(first.getContent().getToken()).isEqualTo("first");
+        assertThat(second.getContent().getToken()).isEqualTo("first");
+        verify(delegate).createToken(anyMap(), any());
+        assertThat(sts.getHitCount()).isEqualTo(1);
+        assertThat(sts.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void createToken_createsNewTokenAfterWindow() {
+        sts.createToken(claims("allowed"), SCOPE);
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(4)));
+        var second = sts.createToken(claims("allowed"), SCOPE);
+
+        assertThat(second.getContent().getToken()).isEqualTo("second");
+        verify(delegate, times(2)).createToken(anyMap(), any());
+    }
+
+    @Test
+    void createToken_differentScope_createsNewToken() {
+        sts.createToken(claims("allowed"), SCOPE);
+        var second = sts.createToken(claims("allowed"), "org.eclipse.edc.vc.type:DismantlerCredential:read");
+
+        assertThat(second.getContent().getToken()).isEqualTo("second");
+    }
+
+    @Test
+    void createToken_audienceNotAllowed_createsNewToken() {
+        sts.createToken(claims("other"), SCOPE);
+        var second = sts.createToken(claims("other"), SCOPE);
+
+        assertThat(second.getContent().getToken()).isEqualTo("second");
+        assertThat(sts.getSize()).isZero();
+    }
+
+    @Test
+    void createToken_withoutBearerAccessScope_createsNewToken() {
+        sts.createToken(claims("allowed"), null);
+        var second = sts.createToken(claims("allowed"), null);
+
+        assertThat(second.getContent().getToken()).isEqualTo("second");
+        assertThat(sts.getSize()).isZero();
+    }
+
+    @Test
+    void createToken_failure_notCached() {
+        when(delegate.createToken(anyMap(), any()))
+                .thenReturn(Result.failure("error"), Result.success(token("second")));
+
+        var first = sts.createToken(claims("allowed"), SCOPE);
+        var second = sts.createToken(claims("allowed"), SCOPE);
+
+        assertThat(first.failed()).isTrue();
+        assertThat(second.getContent().getToken()).isEqualTo("second");
+    }
+
+    private Map<String, String> claims(String audience) {
+        return Map.of(ISSUER, "did:web:consumer", AUDIENCE, audience);
+    }
+
+    private TokenRepresentation token(String value) {
+        return TokenRepresentation.Builder.newInstance().token(value).build();
+    }
+}
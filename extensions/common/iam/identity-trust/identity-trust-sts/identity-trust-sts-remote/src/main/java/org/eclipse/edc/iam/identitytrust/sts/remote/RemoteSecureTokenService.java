@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static org.eclipse.edc.identitytrust.SelfIssuedTokenConstants.BEARER_ACCESS_SCOPE;
@@ -52,6 +53,11 @@ public class RemoteSecureTokenService implements SecureTokenService {
         return oauth2Client.requestToken(createRequest(claims, bearerAccessScope));
     }
 
+    @Override
+    public CompletableFuture<Result<TokenRepresentation>> createTokenAsync(Map<String, String> claims, @Nullable String bearerAccessScope) {
+        return oauth2Client.requestTokenAsync(createRequest(claims, bearerAccessScope));
+    }
+
     @NotNull
     private Oauth2CredentialsRequest createRequest(Map<String, String> claims, @Nullable String bearerAccessScope) {
         var builder = SharedSecretOauth2CredentialsRequest.Builder.newInstance()
@@ -23,7 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.iam.identitytrust.sts.remote.RemoteSecureTokenService.AUDIENCE_PARAM;
 import static org.eclipse.edc.iam.identitytrust.sts.remote.RemoteSecureTokenService.GRANT_TYPE;
@@ -33,6 +35,7 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -108,4 +111,20 @@ public class RemoteSecureTokenServiceTest {
         });
     }
 
+    @Test
+    void createTokenAsync_shouldNotBlockOnTheTokenRequest() {
+        var audience = "aud";
+        when(oauth2Client.requestTokenAsync(any())).thenReturn(completedFuture(Result.success(TokenRepresentation.Builder.newInstance().build())));
+
+        var result = secureTokenService.createTokenAsync(Map.of(AUDIENCE, audience), "scope");
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(token -> assertThat(token).isSucceeded());
+        var captor = ArgumentCaptor.forClass(SharedSecretOauth2CredentialsRequest.class);
+        verify(oauth2Client).requestTokenAsync(captor.capture());
+        verify(oauth2Client, never()).requestToken(any());
+        assertThat(captor.getValue().getParams())
+                .containsEntry(AUDIENCE_PARAM, audience)
+                .containsEntry(BEARER_ACCESS_SCOPE, "scope");
+    }
+
 }
@@ -28,6 +28,8 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNot;
 
@@ -52,6 +54,13 @@ public class Oauth2ClientImpl implements Oauth2Client {
         return httpClient.execute(toRequest(request), List.of(retryWhenStatusIsNot(200)), this::handleResponse);
     }
 
+    @Override
+    public CompletableFuture<Result<TokenRepresentation>> requestTokenAsync(Oauth2CredentialsRequest request) {
+        return httpClient.executeAsync(toRequest(request), List.of(retryWhenStatusIsNot(200)))
+                .thenApply(this::handleResponse)
+                .exceptionally(this::handleException);
+    }
+
     private Result<TokenRepresentation> handleResponse(Response response) {
         return getStringBody(response)
                 .map(it -> typeManager.readValue(it, Map.class))
@@ -59,6 +68,11 @@ public class Oauth2ClientImpl implements Oauth2Client {
                 .map(it -> TokenRepresentation.Builder.newInstance().token(it).build());
     }
 
+    private Result<TokenRepresentation> handleException(Throwable throwable) {
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return Result.failure(cause.getMessage());
+    }
+
     private static Request toRequest(Oauth2CredentialsRequest request) {
         return new Request.Builder()
                 .url(request.getUrl())
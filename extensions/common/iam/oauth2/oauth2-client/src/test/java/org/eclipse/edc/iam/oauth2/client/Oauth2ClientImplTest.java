@@ -27,6 +27,7 @@ import org.mockserver.model.ParameterBody;
 import org.mockserver.model.Parameters;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -91,6 +92,31 @@ class Oauth2ClientImplTest {
         assertThat(result.getFailureDetail()).startsWith("Failed to connect to");
     }
 
+    @Test
+    void verifyRequestTokenAsyncSuccess() {
+        var responseBody = typeManager.writeValueAsString(Map.of("access_token", "token"));
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withBody(responseBody, APPLICATION_JSON));
+
+        var result = client.requestTokenAsync(createRequest());
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(token -> {
+            assertThat(token.succeeded()).isTrue();
+            assertThat(token.getContent().getToken()).isEqualTo("token");
+        });
+    }
+
+    @Test
+    void verifyRequestTokenAsyncFailureIfServerCallFails() {
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(400));
+
+        var result = client.requestTokenAsync(createRequest());
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(token -> {
+            assertThat(token.failed()).isTrue();
+            assertThat(token.getFailureDetail()).startsWith("Server response");
+        });
+    }
+
     private Oauth2CredentialsRequest createRequest() {
         return SharedSecretOauth2CredentialsRequest.Builder.newInstance()
                 .url("http://localhost:" + port)
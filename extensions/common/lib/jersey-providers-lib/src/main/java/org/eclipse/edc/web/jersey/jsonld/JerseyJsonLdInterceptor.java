@@ -15,52 +15,82 @@
 package org.eclipse.edc.web.jersey.jsonld;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.ext.Provider;
 import jakarta.ws.rs.ext.ReaderInterceptor;
 import jakarta.ws.rs.ext.ReaderInterceptorContext;
 import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.spi.StreamingJsonObject;
 
-import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.Map;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 
 @Provider
 public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterceptor {
+    public static final long DEFAULT_MAX_BODY_SIZE = 16 * 1024 * 1024;
+
     private final JsonLd jsonLd;
     private final ObjectMapper objectMapper;
 
     private final String scope;
+    private final long maxBodySize;
+    private final JsonGeneratorFactory generatorFactory = Json.createGeneratorFactory(Map.of());
 
     public JerseyJsonLdInterceptor(JsonLd jsonLd, ObjectMapper objectMapper, String scope) {
+        this(jsonLd, objectMapper, scope, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    public JerseyJsonLdInterceptor(JsonLd jsonLd, ObjectMapper objectMapper, String scope, long maxBodySize) {
         this.jsonLd = jsonLd;
         this.objectMapper = objectMapper;
         this.scope = scope;
+        this.maxBodySize = maxBodySize;
     }
 
+    /**
+     * Parses the body straight from the entity stream and hands the expanded {@link JsonObject} to the resource,
+     * without going through the message body reader, so that the body is parsed only once. Bodies that are already in
+     * expanded form are not expanded again, bodies bigger than the configured limit are rejected.
+     */
     @Override
     public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
-        if (context.getType().equals(JsonObject.class)) {
-            var bytes = context.getInputStream().readAllBytes();
-            if (bytes.length > 0) {
-                var jsonObject = objectMapper.readValue(bytes, JsonObject.class);
+        if (!context.getType().equals(JsonObject.class)) {
+            return context.proceed();
+        }
 
-                var expanded = jsonLd.expand(jsonObject)
-                        .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
+        var input = new PushbackInputStream(new BoundedInputStream(context.getInputStream(), maxBodySize));
+        var first = input.read();
+        if (first == -1) {
+            return context.proceed();
+        }
+        input.unread(first);
 
-                var expandedBytes = objectMapper.writeValueAsBytes(expanded);
-                context.setInputStream(new ByteArrayInputStream(expandedBytes));
-            }
+        var jsonObject = objectMapper.readValue(input, JsonObject.class);
+        if (JsonLdExpandedForm.isExpanded(jsonObject)) {
+            return jsonObject;
         }
 
-        return context.proceed();
+        return jsonLd.expand(jsonObject)
+                .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
     }
 
     @Override
@@ -77,13 +107,111 @@ public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterce
             context.setEntity(compacted);
         } else if (context.getEntity() instanceof JsonObject jsonObject) {
             context.setEntity(compact(jsonObject));
+        } else if (context.getEntity() instanceof StreamingJsonObject streamingJsonObject) {
+            var head = compact(streamingJsonObject.head());
+            var property = compactedName(streamingJsonObject.property());
+
+            context.setType(StreamingOutput.class);
+            context.setGenericType(StreamingOutput.class);
+            context.setEntity((StreamingOutput) output -> write(head, property, streamingJsonObject, output));
         }
 
         context.proceed();
     }
 
+    /**
+     * Writes the compacted head, then compacts and writes the streamed elements one at a time. The elements share the
+     * context of the head, so their own {@code @context} entry is dropped. A failure while producing or compacting an
+     * element is propagated, which aborts the response, rather than closing the array early and sending a truncated
+     * but well-formed document.
+     */
+    private void write(JsonObject head, String property, StreamingJsonObject streamingJsonObject, OutputStream output) {
+        try (streamingJsonObject) {
+            var generator = generatorFactory.createGenerator(output);
+            generator.writeStartObject();
+            head.forEach((key, value) -> {
+                if (!key.equals(property)) {
+                    generator.write(key, value);
+                }
+            });
+
+            generator.writeStartArray(property);
+            streamingJsonObject.elements().map(this::compact).forEach(element -> writeWithoutContext(generator, element));
+            generator.writeEnd();
+
+            generator.writeEnd();
+            generator.flush();
+        }
+    }
+
+    private void writeWithoutContext(JsonGenerator generator, JsonObject element) {
+        generator.writeStartObject();
+        element.forEach((key, value) -> {
+            if (!CONTEXT.equals(key)) {
+                generator.write(key, value);
+            }
+        });
+        generator.writeEnd();
+    }
+
+    /**
+     * Resolves the name the given expanded property gets once compacted in the configured scope.
+     */
+    private String compactedName(String property) {
+        var probe = Json.createObjectBuilder().add(property, JsonValue.EMPTY_JSON_ARRAY).build();
+        return compact(probe).keySet().stream()
+                .filter(key -> !CONTEXT.equals(key))
+                .findFirst()
+                .orElse(property);
+    }
+
     private JsonObject compact(JsonObject jsonObject) {
         return jsonLd.compact(jsonObject, scope)
                 .orElseThrow(f -> new InternalServerErrorException("Failed to compact JsonObject: " + f.getFailureDetail()));
     }
+
+    /**
+     * Fails the request as soon as more than the allowed number of bytes is read.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var result = super.read();
+            if (result != -1) {
+                count(1);
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var result = super.read(b, off, len);
+            if (result > 0) {
+                count(result);
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var result = super.skip(n);
+            count(result);
+            return result;
+        }
+
+        private void count(long read) {
+            count += read;
+            if (count > limit) {
+                throw new WebApplicationException("Request body exceeds the limit of %d bytes".formatted(limit), Response.Status.REQUEST_ENTITY_TOO_LARGE);
+            }
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.jsonld;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.DIRECTION;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.INDEX;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.JSON;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.LANGUAGE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.LIST;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+
+/**
+ * Recognizes documents that are already in JSON-LD expanded form, on which the expansion would be a no-op: no
+ * {@code @context}, properties named by absolute IRIs whose values are arrays of node, value or list objects. The check
+ * is conservative, every document it doesn't recognize is expanded as usual.
+ */
+final class JsonLdExpandedForm {
+
+    private static final Set<String> STRING_KEYWORDS = Set.of(ID, LANGUAGE, DIRECTION, INDEX);
+
+    private JsonLdExpandedForm() {
+    }
+
+    /**
+     * Whether the given top-level document is in expanded form. The expansion drops top-level objects without
+     * properties, so they are not considered expanded.
+     */
+    static boolean isExpanded(JsonObject document) {
+        return document.keySet().stream().anyMatch(key -> !isKeyword(key)) && isNodeObject(document);
+    }
+
+    private static boolean isNodeObject(JsonObject object) {
+        if (object.containsKey(VALUE)) {
+            return isValueObject(object);
+        }
+        for (Map.Entry<String, JsonValue> entry : object.entrySet()) {
+            var key = entry.getKey();
+            var value = entry.getValue();
+            var valid = switch (key) {
+                case TYPE -> value instanceof JsonArray types && types.stream().allMatch(JsonLdExpandedForm::isIri);
+                case LIST -> object.size() == 1 && isArrayOfObjects(value);
+                default -> STRING_KEYWORDS.contains(key) ? value instanceof JsonString : !isKeyword(key) && isAbsoluteIri(key) && isArrayOfObjects(value);
+            };
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValueObject(JsonObject object) {
+        for (Map.Entry<String, JsonValue> entry : object.entrySet()) {
+            var key = entry.getKey();
+            var value = entry.getValue();
+            var valid = switch (key) {
+                case VALUE -> true;
+                case TYPE -> isIri(value) || value instanceof JsonString type && JSON.equals(type.getString());
+                default -> STRING_KEYWORDS.contains(key) && value instanceof JsonString;
+            };
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isArrayOfObjects(JsonValue value) {
+        return value instanceof JsonArray array && array.stream().allMatch(item -> item instanceof JsonObject object && isNodeObject(object));
+    }
+
+    private static boolean isKeyword(String key) {
+        return key.startsWith("@");
+    }
+
+    private static boolean isIri(JsonValue value) {
+        return value instanceof JsonString string && isAbsoluteIri(string.getString());
+    }
+
+    private static boolean isAbsoluteIri(String key) {
+        return key.indexOf(':') > 0;
+    }
+}
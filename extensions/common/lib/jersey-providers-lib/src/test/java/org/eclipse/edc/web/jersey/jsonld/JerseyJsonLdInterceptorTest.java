@@ -17,10 +17,12 @@ package org.eclipse.edc.web.jersey.jsonld;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.spi.StreamingJsonObject;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
@@ -28,10 +30,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -43,8 +48,9 @@ import static org.mockito.Mockito.when;
 class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
 
     private static final String SCOPE = "scope";
+    private static final int MAX_BODY_SIZE = 1024;
     private final JsonLd jsonLd = mock();
-    private final JerseyJsonLdInterceptor interceptor = new JerseyJsonLdInterceptor(jsonLd, objectMapper, SCOPE);
+    private final JerseyJsonLdInterceptor interceptor = new JerseyJsonLdInterceptor(jsonLd, objectMapper, SCOPE, MAX_BODY_SIZE);
 
     @Test
     void expansion_shouldSucceed_whenInputIsJsonObject() {
@@ -76,6 +82,36 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
         verify(jsonLd).expand(compactedJson());
     }
 
+    @Test
+    void expansion_shouldNotHappen_whenInputIsAlreadyExpanded() {
+        given()
+                .port(port)
+                .contentType(JSON)
+                .body(Json.createObjectBuilder()
+                        .add("@id", "id")
+                        .add("@type", Json.createArrayBuilder().add("http://namespace/Type"))
+                        .add("http://namespace/key", Json.createArrayBuilder().add(Json.createObjectBuilder().add("@value", "value")))
+                        .build())
+                .post("/create/expanded")
+                .then()
+                .statusCode(204);
+
+        verifyNoInteractions(jsonLd);
+    }
+
+    @Test
+    void expansion_shouldReturnPayloadTooLarge_whenInputExceedsLimit() {
+        given()
+                .port(port)
+                .contentType(JSON)
+                .body(Json.createObjectBuilder().add("key", "a".repeat(MAX_BODY_SIZE)).build())
+                .post("/create/json-object")
+                .then()
+                .statusCode(413);
+
+        verifyNoInteractions(jsonLd);
+    }
+
     @Test
     void expansion_shouldNotHappen_whenInputIsNullJsonObject() {
         given()
@@ -180,6 +216,42 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
         verifyNoInteractions(jsonLd);
     }
 
+    @Test
+    void compaction_streaming_shouldCompactHeadAndEveryElement() {
+        var context = Json.createObjectBuilder().add("ns", "http://namespace/").build();
+        when(jsonLd.compact(any(), eq(SCOPE))).thenAnswer(invocation -> {
+            JsonObject input = invocation.getArgument(0);
+            var compacted = Json.createObjectBuilder().add(CONTEXT, context);
+            input.forEach((key, value) -> compacted.add(key.replace("http://namespace/", ""), value));
+            return Result.success(compacted.build());
+        });
+
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/streaming/json-object")
+                .then()
+                .statusCode(200)
+                .body("'@context'.ns", is("http://namespace/"))
+                .body("key", is("value"))
+                .body("items.size()", is(2))
+                .body("items[0].id", is("item-1"))
+                .body("items[0].'@context'", nullValue())
+                .body("items[1].id", is("item-2"));
+    }
+
+    @Test
+    void compaction_streaming_shouldReturnInternalServerError_whenHeadCompactionFails() {
+        when(jsonLd.compact(any(), eq(SCOPE))).thenReturn(Result.failure("compaction failure"));
+
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/streaming/json-object")
+                .then()
+                .statusCode(500);
+    }
+
     @Override
     protected Object controller() {
         return new TestController();
@@ -213,6 +285,14 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
             }
         }
 
+        @POST
+        @Path("/create/expanded")
+        public void createExpanded(JsonObject jsonObject) {
+            if (!jsonObject.containsKey("http://namespace/key")) {
+                throw new RuntimeException("body not passed as is");
+            }
+        }
+
         @POST
         @Path("/create/not-json-object")
         public void createNotJsonObject(Map<String, String> notJsonObject) {
@@ -237,6 +317,18 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
             return Json.createArrayBuilder().add(expandedJson()).build();
         }
 
+        @GET
+        @Path("/get/streaming/json-object")
+        public StreamingJsonObject getStreamingJsonObject() {
+            var head = Json.createObjectBuilder()
+                    .add("http://namespace/key", "value")
+                    .add("http://namespace/items", JsonValue.EMPTY_JSON_ARRAY)
+                    .build();
+            var items = Stream.of("item-1", "item-2")
+                    .map(id -> Json.createObjectBuilder().add("http://namespace/id", id).build());
+            return new StreamingJsonObject(head, "http://namespace/items", items);
+        }
+
         @GET
         @Path("/get/multiple/not-json-object")
         public List<Map<String, String>> getMultipleNotJsonObject() {
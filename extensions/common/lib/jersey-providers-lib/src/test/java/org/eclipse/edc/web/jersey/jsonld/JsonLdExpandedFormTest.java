@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.jsonld;
+
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLdExpandedFormTest {
+
+    @Test
+    void isExpanded_shouldReturnTrue_whenDocumentIsExpanded() {
+        var nested = createObjectBuilder()
+                .add("@type", createArrayBuilder().add("http://namespace/Nested"))
+                .add("http://namespace/list", createArrayBuilder().add(createObjectBuilder()
+                        .add("@list", createArrayBuilder().add(value("item")))));
+        var document = createObjectBuilder()
+                .add("@id", "id")
+                .add("@type", createArrayBuilder().add("http://namespace/Type"))
+                .add("http://namespace/key", createArrayBuilder().add(value("value")))
+                .add("http://namespace/typed", createArrayBuilder().add(createObjectBuilder()
+                        .add("@value", 3).add("@type", "http://www.w3.org/2001/XMLSchema#integer")))
+                .add("http://namespace/nested", createArrayBuilder().add(nested))
+                .build();
+
+        assertThat(JsonLdExpandedForm.isExpanded(document)).isTrue();
+    }
+
+    @Test
+    void isExpanded_shouldReturnFalse_whenDocumentHasContext() {
+        var document = createObjectBuilder()
+                .add("@context", createObjectBuilder().add("ns", "http://namespace/"))
+                .add("http://namespace/key", createArrayBuilder().add(value("value")))
+                .build();
+
+        assertThat(JsonLdExpandedForm.isExpanded(document)).isFalse();
+    }
+
+    @Test
+    void isExpanded_shouldReturnFalse_whenPropertyIsNotAnIri() {
+        var document = createObjectBuilder()
+                .add("key", createArrayBuilder().add(value("value")))
+                .build();
+
+        assertThat(JsonLdExpandedForm.isExpanded(document)).isFalse();
+    }
+
+    @Test
+    void isExpanded_shouldReturnFalse_whenValueIsNotWrapped() {
+        var document = createObjectBuilder()
+                .add("http://namespace/key", "value")
+                .build();
+
+        assertThat(JsonLdExpandedForm.isExpanded(document)).isFalse();
+    }
+
+    @Test
+    void isExpanded_shouldReturnFalse_whenNestedObjectIsCompacted() {
+        var document = createObjectBuilder()
+                .add("http://namespace/nested", createArrayBuilder().add(createObjectBuilder()
+                        .add("@type", "Type")
+                        .add("key", "value")))
+                .build();
+
+        assertThat(JsonLdExpandedForm.isExpanded(document)).isFalse();
+    }
+
+    @Test
+    void isExpanded_shouldReturnFalse_whenDocumentHasNoProperties() {
+        assertThat(JsonLdExpandedForm.isExpanded(createObjectBuilder().add("@id", "id").build())).isFalse();
+        assertThat(JsonLdExpandedForm.isExpanded(JsonObject.EMPTY_JSON_OBJECT)).isFalse();
+    }
+
+    private JsonObject value(String value) {
+        return createObjectBuilder().add("@value", value).build();
+    }
+}
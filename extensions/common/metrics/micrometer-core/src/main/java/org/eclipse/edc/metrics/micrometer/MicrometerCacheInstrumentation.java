@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.spi.system.CacheInstrumentation;
+import org.eclipse.edc.spi.system.CacheMetrics;
+
+/**
+ * {@link CacheInstrumentation} that binds the cache statistics to meters following the Micrometer cache conventions,
+ * i.e. the {@code cache.gets} counters tagged with the {@code result} ({@code hit} or {@code miss}) and the
+ * {@code cache.size} gauge, all tagged with the {@code cache} name.
+ */
+public class MicrometerCacheInstrumentation implements CacheInstrumentation {
+    private static final String CACHE_TAG = "cache";
+    private static final String RESULT_TAG = "result";
+    private final MeterRegistry registry;
+
+    public MicrometerCacheInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void instrument(CacheMetrics target, String name) {
+        FunctionCounter.builder("cache.gets", target, CacheMetrics::getHitCount)
+                .tags(CACHE_TAG, name, RESULT_TAG, "hit")
+                .description("The number of times cache lookup methods have returned a cached value")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", target, CacheMetrics::getMissCount)
+                .tags(CACHE_TAG, name, RESULT_TAG, "miss")
+                .description("The number of times cache lookup methods have not returned a cached value")
+                .register(registry);
+        Gauge.builder("cache.size", target, CacheMetrics::getSize)
+                .tags(CACHE_TAG, name)
+                .description("The number of entries in the cache")
+                .register(registry);
+    }
+}
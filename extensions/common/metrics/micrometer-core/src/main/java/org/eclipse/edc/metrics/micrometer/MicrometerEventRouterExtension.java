@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouterMetrics;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.metrics.micrometer.MicrometerExtension.ENABLE_METRICS;
+
+/**
+ * Exposes the publish latency of the event router, the number of events waiting for the asynchronous subscribers and
+ * the number of events dropped because a subscriber queue was full.
+ */
+@Extension(value = MicrometerEventRouterExtension.NAME)
+public class MicrometerEventRouterExtension implements ServiceExtension {
+
+    @Setting
+    public static final String ENABLE_EVENT_METRICS = "edc.metrics.events.enabled";
+    public static final String NAME = "Micrometer Event Router Metrics";
+    private static final String METRIC_PREFIX = "edc.events.";
+
+    @Inject(required = false)
+    private EventRouterMetrics eventRouterMetrics;
+
+    @Inject
+    private MeterRegistry registry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (eventRouterMetrics == null || !context.getSetting(ENABLE_METRICS, true) || !context.getSetting(ENABLE_EVENT_METRICS, true)) {
+            return;
+        }
+
+        FunctionTimer.builder(METRIC_PREFIX + "publish", eventRouterMetrics, EventRouterMetrics::getPublishedCount,
+                        EventRouterMetrics::getPublishTimeNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent publishing events, including the synchronous subscribers")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + "queued", eventRouterMetrics, EventRouterMetrics::getQueuedCount)
+                .description("Number of events waiting to be delivered to the asynchronous subscribers")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "dropped", eventRouterMetrics, EventRouterMetrics::getDroppedCount)
+                .description("Number of event deliveries dropped because a subscriber queue was full")
+                .register(registry);
+    }
+}
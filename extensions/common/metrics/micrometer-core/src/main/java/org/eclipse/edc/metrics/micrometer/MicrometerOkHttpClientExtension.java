@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import static org.eclipse.edc.metrics.micrometer.MicrometerExtension.ENABLE_METRICS;
+import static org.eclipse.edc.metrics.micrometer.MicrometerExtension.ENABLE_OKHTTP_METRICS;
+
+/**
+ * Exposes the utilisation of the connection pool and of the dispatcher of the shared {@link OkHttpClient}, which
+ * shows whether outgoing requests are queued because of the per-host or total concurrency limits.
+ */
+@Extension(value = MicrometerOkHttpClientExtension.NAME)
+public class MicrometerOkHttpClientExtension implements ServiceExtension {
+
+    public static final String NAME = "Micrometer OkHttpClient Metrics";
+    private static final String DISPATCHER_METRIC_PREFIX = "okhttp.dispatcher.";
+
+    @Inject(required = false)
+    private OkHttpClient okHttpClient;
+
+    @Inject
+    private MeterRegistry registry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (okHttpClient == null || !context.getSetting(ENABLE_METRICS, true) || !context.getSetting(ENABLE_OKHTTP_METRICS, true)) {
+            return;
+        }
+
+        new OkHttpConnectionPoolMetrics(okHttpClient.connectionPool()).bindTo(registry);
+
+        var dispatcher = okHttpClient.dispatcher();
+        Gauge.builder(DISPATCHER_METRIC_PREFIX + "queued", dispatcher, Dispatcher::queuedCallsCount)
+                .description("Number of asynchronous calls waiting for a free slot")
+                .register(registry);
+        Gauge.builder(DISPATCHER_METRIC_PREFIX + "running", dispatcher, Dispatcher::runningCallsCount)
+                .description("Number of running calls")
+                .register(registry);
+        Gauge.builder(DISPATCHER_METRIC_PREFIX + "max.requests", dispatcher, Dispatcher::getMaxRequests)
+                .description("Maximum number of concurrent calls")
+                .register(registry);
+        Gauge.builder(DISPATCHER_METRIC_PREFIX + "max.requests.per.host", dispatcher, Dispatcher::getMaxRequestsPerHost)
+                .description("Maximum number of concurrent calls per host")
+                .register(registry);
+    }
+}
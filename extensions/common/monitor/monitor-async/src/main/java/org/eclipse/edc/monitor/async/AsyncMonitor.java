@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.telemetry.Telemetry;
+
+import java.io.PrintStream;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * {@link Monitor} that never blocks the logging thread: the level is checked before evaluating the message supplier,
+ * then the message is captured together with its timestamp, thread and trace id, and queued in a bounded lock-free
+ * buffer. A background writer formats the queued entries and writes them in batches.
+ * <p>
+ * When the buffer is full the message is dropped and counted, and the writer reports the number of dropped messages
+ * in its next batch. Once the monitor is closed, the queued entries are written and further messages are written
+ * synchronously, e.g. the ones logged while the runtime shuts down.
+ */
+public class AsyncMonitor implements Monitor, AutoCloseable {
+
+    private static final Throwable[] NO_ERRORS = new Throwable[0];
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private Level level = Level.DEBUG;
+    private LogFormatter formatter = new ConsoleLogFormatter(true);
+    private PrintStream output = System.out;
+    private Telemetry telemetry = new Telemetry();
+    private Clock clock = Clock.systemUTC();
+    private int batchSize = 512;
+    private MpscRingBuffer<LogEntry> buffer;
+    private Thread writer;
+    private long reportedDropped;
+    private volatile boolean running = true;
+
+    private AsyncMonitor() {
+    }
+
+    @Override
+    public void severe(Supplier<String> supplier, Throwable... errors) {
+        log(Level.SEVERE, supplier, errors);
+    }
+
+    @Override
+    public void warning(Supplier<String> supplier, Throwable... errors) {
+        log(Level.WARNING, supplier, errors);
+    }
+
+    @Override
+    public void info(Supplier<String> supplier, Throwable... errors) {
+        log(Level.INFO, supplier, errors);
+    }
+
+    @Override
+    public void debug(Supplier<String> supplier, Throwable... errors) {
+        log(Level.DEBUG, supplier, errors);
+    }
+
+    /**
+     * Whether messages of the given level are logged, permits to skip building expensive messages altogether.
+     *
+     * @param level the level.
+     * @return true if the level is enabled.
+     */
+    public boolean isEnabled(Level level) {
+        return level.compareTo(this.level) <= 0;
+    }
+
+    /**
+     * Number of messages that have been dropped because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Number of messages that have been written.
+     */
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * Writes the queued entries and stops the writer. Messages logged afterward are written synchronously.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void log(Level level, Supplier<String> supplier, Throwable... errors) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        var entry = new LogEntry(clock.millis(), level, Thread.currentThread().getName(), telemetry.getCurrentTraceId(),
+                sanitizeMessage(supplier), errors(errors));
+
+        if (!running) {
+            writeSynchronously(entry);
+        } else if (!buffer.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private Throwable[] errors(Throwable... errors) {
+        if (errors == null || errors.length == 0) {
+            return NO_ERRORS;
+        }
+        return Arrays.stream(errors).filter(Objects::nonNull).toArray(Throwable[]::new);
+    }
+
+    private void writeSynchronously(LogEntry entry) {
+        var builder = new StringBuilder();
+        formatter.append(builder, entry);
+        flush(builder);
+        written.incrementAndGet();
+    }
+
+    private void write() {
+        var batch = new StringBuilder();
+        while (running || !buffer.isEmpty()) {
+            var count = 0;
+            LogEntry entry;
+            while (count < batchSize && (entry = buffer.poll()) != null) {
+                formatter.append(batch, entry);
+                count++;
+            }
+            reportDropped(batch);
+            flush(batch);
+            written.addAndGet(count);
+
+            if (count == 0) {
+                if (running) {
+                    LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+                } else {
+                    // a claimed slot that is not published yet, give the producer a chance to complete
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        reportDropped(batch);
+        flush(batch);
+    }
+
+    private void flush(StringBuilder batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        synchronized (output) {
+            output.print(batch);
+            output.flush();
+        }
+        batch.setLength(0);
+    }
+
+    private void reportDropped(StringBuilder batch) {
+        var total = dropped.get();
+        if (total > reportedDropped) {
+            var message = "%d log messages have been dropped because the monitor buffer (capacity %d) was full".formatted(total - reportedDropped, buffer.capacity());
+            formatter.append(batch, new LogEntry(clock.millis(), Level.WARNING, Thread.currentThread().getName(), null, message, NO_ERRORS));
+            reportedDropped = total;
+        }
+    }
+
+    public static class Builder {
+
+        private final AsyncMonitor monitor;
+        private int bufferSize = 8192;
+
+        private Builder() {
+            monitor = new AsyncMonitor();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder level(Level level) {
+            monitor.level = level;
+            return this;
+        }
+
+        public Builder formatter(LogFormatter formatter) {
+            monitor.formatter = formatter;
+            return this;
+        }
+
+        public Builder output(PrintStream output) {
+            monitor.output = output;
+            return this;
+        }
+
+        public Builder telemetry(Telemetry telemetry) {
+            monitor.telemetry = telemetry;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            monitor.clock = clock;
+            return this;
+        }
+
+        public Builder bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            monitor.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Builds the monitor and starts its writer thread.
+         */
+        public AsyncMonitor build() {
+            Objects.requireNonNull(monitor.level, "level");
+            Objects.requireNonNull(monitor.formatter, "formatter");
+            Objects.requireNonNull(monitor.output, "output");
+            Objects.requireNonNull(monitor.telemetry, "telemetry");
+            Objects.requireNonNull(monitor.clock, "clock");
+            if (monitor.batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be positive, was " + monitor.batchSize);
+            }
+            monitor.buffer = new MpscRingBuffer<>(bufferSize);
+            monitor.writer = new Thread(monitor::write, "edc-monitor-writer");
+            monitor.writer.setDaemon(true);
+            monitor.writer.start();
+            return monitor;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MonitorExtension;
+
+import java.util.Locale;
+
+/**
+ * Extension adding the {@link AsyncMonitor}. The monitor is created before the configuration is loaded, so it is
+ * configured through system properties or the equivalent environment variables (e.g. {@code EDC_MONITOR_ASYNC_FORMAT}).
+ */
+@Extension("Asynchronous monitor")
+public class AsyncMonitorExtension implements MonitorExtension {
+
+    static final String LEVEL = "edc.monitor.async.level";
+    static final String FORMAT = "edc.monitor.async.format";
+    static final String COLOR = "edc.monitor.async.color";
+    static final String BUFFER_SIZE = "edc.monitor.async.buffer.size";
+    static final String BATCH_SIZE = "edc.monitor.async.batch.size";
+
+    private static final String FORMAT_JSON = "json";
+
+    @Override
+    public Monitor getMonitor() {
+        var formatter = FORMAT_JSON.equalsIgnoreCase(setting(FORMAT, "console"))
+                ? new JsonLogFormatter()
+                : new ConsoleLogFormatter(Boolean.parseBoolean(setting(COLOR, "true")));
+
+        var monitor = AsyncMonitor.Builder.newInstance()
+                .level(ConsoleMonitor.Level.valueOf(setting(LEVEL, ConsoleMonitor.Level.DEBUG.name()).toUpperCase(Locale.ROOT)))
+                .formatter(formatter)
+                .bufferSize(Integer.parseInt(setting(BUFFER_SIZE, "8192")))
+                .batchSize(Integer.parseInt(setting(BATCH_SIZE, "512")))
+                .build();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(monitor::close, "edc-monitor-shutdown"));
+        return monitor;
+    }
+
+    private String setting(String key, String defaultValue) {
+        var value = System.getProperty(key);
+        if (value == null) {
+            value = System.getenv(key.toUpperCase(Locale.ROOT).replace('.', '_'));
+        }
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.spi.monitor.ConsoleColor;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats entries in the same way as the {@link org.eclipse.edc.spi.monitor.ConsoleMonitor}.
+ */
+public class ConsoleLogFormatter implements LogFormatter {
+
+    private final boolean useColor;
+    private final ZoneId zone;
+
+    public ConsoleLogFormatter(boolean useColor) {
+        this(useColor, ZoneId.systemDefault());
+    }
+
+    public ConsoleLogFormatter(boolean useColor, ZoneId zone) {
+        this.useColor = useColor;
+        this.zone = zone;
+    }
+
+    @Override
+    public void append(StringBuilder builder, LogEntry entry) {
+        var colorCode = useColor ? getColorCode(entry.level()) : "";
+        var resetCode = useColor ? ConsoleColor.RESET : "";
+
+        builder.append(colorCode).append(entry.level().name()).append(' ');
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.timestamp()), zone), builder);
+        builder.append(' ').append(entry.message()).append(resetCode).append(System.lineSeparator());
+
+        for (var error : entry.errors()) {
+            var stackTrace = new StringWriter();
+            error.printStackTrace(new PrintWriter(stackTrace));
+            builder.append(colorCode).append(stackTrace).append(resetCode);
+        }
+    }
+
+    private String getColorCode(Level level) {
+        return switch (level) {
+            case SEVERE -> ConsoleColor.RED;
+            case WARNING -> ConsoleColor.YELLOW;
+            case INFO -> ConsoleColor.GREEN;
+            case DEBUG -> ConsoleColor.BLUE;
+        };
+    }
+}
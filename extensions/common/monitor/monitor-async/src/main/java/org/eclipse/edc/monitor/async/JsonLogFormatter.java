@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+
+/**
+ * Formats every entry as a single-line JSON object, to be ingested by log collectors:
+ * <pre>
+ *     {"timestamp":"2024-05-06T10:15:30.123Z","level":"INFO","thread":"main","traceId":"4bf9...","message":"...","errors":["..."]}
+ * </pre>
+ * {@code traceId} and {@code errors} are omitted when not available.
+ */
+public class JsonLogFormatter implements LogFormatter {
+
+    @Override
+    public void append(StringBuilder builder, LogEntry entry) {
+        builder.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(entry.timestamp())).append('"');
+        builder.append(",\"level\":\"").append(entry.level().name()).append('"');
+        field(builder, "thread", entry.thread());
+        if (entry.traceId() != null) {
+            field(builder, "traceId", entry.traceId());
+        }
+        field(builder, "message", entry.message());
+
+        if (entry.errors().length > 0) {
+            builder.append(",\"errors\":[");
+            for (var i = 0; i < entry.errors().length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                var stackTrace = new StringWriter();
+                entry.errors()[i].printStackTrace(new PrintWriter(stackTrace));
+                string(builder, stackTrace.toString());
+            }
+            builder.append(']');
+        }
+        builder.append('}').append(System.lineSeparator());
+    }
+
+    private void field(StringBuilder builder, String name, String value) {
+        builder.append(",\"").append(name).append("\":");
+        string(builder, value);
+    }
+
+    private void string(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append("\\u%04x".formatted((int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A message captured on the calling thread, to be formatted and written by the writer thread.
+ *
+ * @param timestamp the epoch millis at which the message has been logged.
+ * @param level     the level.
+ * @param thread    the name of the logging thread.
+ * @param traceId   the id of the trace active on the logging thread, if any.
+ * @param message   the sanitized message.
+ * @param errors    the attached errors, never null.
+ */
+public record LogEntry(long timestamp, Level level, String thread, @Nullable String traceId, String message, Throwable[] errors) {
+}
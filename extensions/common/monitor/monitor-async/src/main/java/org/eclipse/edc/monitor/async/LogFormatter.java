@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+/**
+ * Formats a {@link LogEntry} into the output written by the {@link AsyncMonitor}.
+ */
+@FunctionalInterface
+public interface LogFormatter {
+
+    /**
+     * Appends the entry to the output batch, terminated by a line separator.
+     *
+     * @param builder the batch.
+     * @param entry   the entry.
+     */
+    void append(StringBuilder builder, LogEntry entry);
+}
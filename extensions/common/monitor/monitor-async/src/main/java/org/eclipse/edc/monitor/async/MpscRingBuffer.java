@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring buffer for many producers and a single consumer.
+ * <p>
+ * Producers claim a slot by advancing the tail with a CAS and then publish the element in it, the consumer reads the
+ * slot at the head and clears it before advancing the head. A slot that has been claimed but not yet published is seen
+ * as empty by the consumer, which will find it on the next poll. When the buffer is full {@link #offer(Object)} returns
+ * false instead of waiting.
+ *
+ * @param <E> the element type.
+ */
+class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * Creates a buffer that holds at least the given number of elements, rounded up to the next power of two.
+     *
+     * @param capacity the minimum capacity.
+     */
+    MpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, was " + capacity);
+        }
+        var size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    /**
+     * Adds an element, can be called concurrently.
+     *
+     * @param element the element, not null.
+     * @return true if the element has been added, false if the buffer is full.
+     */
+    boolean offer(E element) {
+        while (true) {
+            var current = tail.get();
+            if (current - head > mask) {
+                return false;
+            }
+            if (tail.compareAndSet(current, current + 1)) {
+                slots.set((int) current & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element, must be called by a single consumer thread.
+     *
+     * @return the element, null if the buffer is empty.
+     */
+    E poll() {
+        var current = head;
+        var index = (int) current & mask;
+        var element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head = current + 1;
+        return element;
+    }
+
+    /**
+     * Whether there are no claimed slots left to consume.
+     */
+    boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
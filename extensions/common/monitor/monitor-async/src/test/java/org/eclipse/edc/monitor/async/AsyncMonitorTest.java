@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncMonitorTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final Telemetry telemetry = mock();
+    private final Clock clock = Clock.fixed(Instant.parse("2024-05-06T10:15:30.123Z"), ZoneOffset.UTC);
+
+    @Test
+    void shouldWriteMessages() {
+        var monitor = monitor(Level.DEBUG, new ConsoleLogFormatter(false, ZoneOffset.UTC));
+
+        monitor.info("first");
+        monitor.severe("second", new RuntimeException("error"));
+        monitor.close();
+
+        assertThat(output()).startsWith("INFO 2024-05-06T10:15:30.123 first" + System.lineSeparator() +
+                        "SEVERE 2024-05-06T10:15:30.123 second" + System.lineSeparator())
+                .contains("java.lang.RuntimeException: error");
+        assertThat(monitor.getWrittenCount()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotEvaluateSupplier_whenLevelIsDisabled() {
+        var monitor = monitor(Level.INFO, new ConsoleLogFormatter(false));
+        Supplier<String> supplier = mock();
+
+        monitor.debug(supplier);
+        monitor.close();
+
+        verify(supplier, never()).get();
+        assertThat(output()).isEmpty();
+    }
+
+    @Test
+    void shouldWriteJson_withTraceId() {
+        when(telemetry.getCurrentTraceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+        var monitor = monitor(Level.DEBUG, new JsonLogFormatter());
+
+        monitor.warning("a \"quoted\" message");
+        monitor.close();
+
+        assertThat(output()).isEqualTo("{\"timestamp\":\"2024-05-06T10:15:30.123Z\",\"level\":\"WARNING\",\"thread\":\"%s\",\"traceId\":\"4bf92f3577b34da6a3ce929d0e0e4736\",\"message\":\"a \\\"quoted\\\" message\"}%s"
+                .formatted(Thread.currentThread().getName(), System.lineSeparator()));
+    }
+
+    @Test
+    void shouldCountAndReportDroppedMessages_whenBufferIsFull() {
+        var blocked = new Object();
+        var monitor = AsyncMonitor.Builder.newInstance()
+                .formatter((builder, entry) -> {
+                    synchronized (blocked) {
+                        builder.append(entry.message()).append('\n');
+                    }
+                })
+                .output(new PrintStream(output, true, StandardCharsets.UTF_8))
+                .telemetry(telemetry)
+                .bufferSize(2)
+                .build();
+
+        synchronized (blocked) {
+            for (var i = 0; i < 100; i++) {
+                monitor.info("message " + i);
+            }
+        }
+        monitor.close();
+
+        assertThat(monitor.getDroppedCount()).isPositive();
+        assertThat(monitor.getWrittenCount() + monitor.getDroppedCount()).isEqualTo(100);
+        assertThat(output()).contains("log messages have been dropped because the monitor buffer (capacity 2) was full");
+    }
+
+    @Test
+    void shouldWriteSynchronously_whenClosed() {
+        var monitor = monitor(Level.DEBUG, new ConsoleLogFormatter(false, ZoneOffset.UTC));
+        monitor.close();
+
+        monitor.info("after close");
+
+        assertThat(output()).isEqualTo("INFO 2024-05-06T10:15:30.123 after close" + System.lineSeparator());
+        verify(telemetry).getCurrentTraceId();
+    }
+
+    private AsyncMonitor monitor(Level level, LogFormatter formatter) {
+        return AsyncMonitor.Builder.newInstance()
+                .level(level)
+                .formatter(formatter)
+                .output(new PrintStream(output, true, StandardCharsets.UTF_8))
+                .telemetry(telemetry)
+                .clock(clock)
+                .build();
+    }
+
+    private String output() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MpscRingBufferTest {
+
+    @Test
+    void shouldRoundCapacityToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<String>(1000).capacity()).isEqualTo(1024);
+        assertThat(new MpscRingBuffer<String>(1024).capacity()).isEqualTo(1024);
+        assertThatThrownBy(() -> new MpscRingBuffer<String>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectElements_whenFull() {
+        var buffer = new MpscRingBuffer<String>(2);
+
+        assertThat(buffer.offer("a")).isTrue();
+        assertThat(buffer.offer("b")).isTrue();
+        assertThat(buffer.offer("c")).isFalse();
+
+        assertThat(buffer.poll()).isEqualTo("a");
+        assertThat(buffer.offer("c")).isTrue();
+        assertThat(buffer.poll()).isEqualTo("b");
+        assertThat(buffer.poll()).isEqualTo("c");
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldDeliverAllElements_whenProducedConcurrently() {
+        var buffer = new MpscRingBuffer<Integer>(64);
+        var producers = IntStream.range(0, 4)
+                .mapToObj(producer -> CompletableFuture.runAsync(() -> IntStream.range(0, 10_000).forEach(i -> {
+                    while (!buffer.offer(producer * 10_000 + i)) {
+                        Thread.onSpinWait();
+                    }
+                })))
+                .toList();
+
+        var consumed = new ArrayList<Integer>();
+        while (consumed.size() < 40_000) {
+            var element = buffer.poll();
+            if (element != null) {
+                consumed.add(element);
+            }
+        }
+
+        producers.forEach(CompletableFuture::join);
+        assertThat(consumed).doesNotHaveDuplicates().hasSize(40_000);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.util.reflection.PathItem;
+
+import java.util.List;
+
+/**
+ * Translator for fields stored in a Postgres {@code JSONB} column.
+ * <p>
+ * The operators are translated as in the {@link JsonFieldTranslator}, with the exception of {@code ??}, that doesn't
+ * need to cast the left operand, as the column already holds {@code JSONB}. Equality is not translated into a
+ * containment ({@code @>}) predicate: containment only matches values of the same JSON type, while the text comparison
+ * also matches e.g. the string {@code "5"} with the number {@code 5}, so the two would yield different results.
+ */
+public class JsonbFieldTranslator extends JsonFieldTranslator {
+
+    public JsonbFieldTranslator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public WhereClause toWhereClause(List<PathItem> path, Criterion criterion, SqlOperator operator) {
+        var rightOperand = criterion.getOperandRight();
+
+        if (operator.representation().equals("??")) {
+            var leftOperand = getLeftOperand(path, rightOperand.getClass()).replace("->>", "->");
+            return new WhereClause("%s ?? ?".formatted(leftOperand), List.of(rightOperand));
+        }
+
+        return super.toWhereClause(path, criterion, operator);
+    }
+
+}
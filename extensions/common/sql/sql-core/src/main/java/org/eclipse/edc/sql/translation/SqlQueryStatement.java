@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 
@@ -28,6 +29,11 @@ import static java.util.stream.Collectors.joining;
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * When the {@link TranslationMapping} maps the {@code id} field, sorted queries are ordered by the sort field and then
+ * by id, so that the order is total and the query can be continued with a {@link ContinuationToken}: the position of
+ * the token is then translated into a keyset predicate, which Postgres can serve through an index, instead of reading
+ * and discarding all the preceding rows as it happens with the offset.
  */
 public class SqlQueryStatement {
 
@@ -35,6 +41,7 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String ID_FIELD = "id";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
@@ -163,6 +170,9 @@ public class SqlQueryStatement {
 
     private String parseSortField(QuerySpec query) {
         if (query.getSortField() == null) {
+            if (query.getContinuationToken() != null) {
+                throw new IllegalArgumentException("Cannot continue a query without sort field");
+            }
             return orderByClause;
         } else {
             var order = query.getSortOrder() == SortOrder.ASC ? "ASC" : "DESC";
@@ -170,8 +180,44 @@ public class SqlQueryStatement {
             if (sortField == null) {
                 throw new IllegalArgumentException(format("Cannot sort by %s because the field does not exist", query.getSortField()));
             }
-            return String.format(ORDER_BY_TOKEN + " ", sortField, order);
+
+            var idField = sortFieldConverter.convert(ID_FIELD);
+            if (query.getContinuationToken() != null) {
+                if (idField == null) {
+                    throw new IllegalArgumentException("Cannot continue the query because the id field does not exist");
+                }
+                addKeysetClause(sortField, idField, query.getSortOrder(), query.getContinuationToken());
+            }
+
+            if (idField == null || idField.equals(sortField)) {
+                return String.format(ORDER_BY_TOKEN + " ", sortField, order);
+            }
+            return String.format(ORDER_BY_TOKEN + ", %s %s ", sortField, order, idField, order);
         }
     }
 
+    /**
+     * Adds the predicate that selects the rows that follow the token position. Postgres sorts nulls as greater than
+     * any value, so they come last in ascending order and first in descending order.
+     */
+    private void addKeysetClause(String sortField, String idField, SortOrder sortOrder, ContinuationToken token) {
+        var operator = sortOrder == SortOrder.ASC ? ">" : "<";
+        if (idField.equals(sortField)) {
+            addWhereClause(format("%s %s ?", idField, operator), token.id());
+        } else if (token.sortValue() == null) {
+            var clause = sortOrder == SortOrder.ASC ? "(%s IS NULL AND %s > ?)" : "(%s IS NOT NULL OR %s < ?)";
+            addWhereClause(format(clause, sortField, idField), token.id());
+        } else {
+            var clause = sortOrder == SortOrder.ASC ? "((%s, %s) > (?, ?) OR %s IS NULL)" : "(%s, %s) < (?, ?)";
+            addWhereClause(format(clause, sortField, idField, sortField), sortValueParameter(sortField, token.sortValue()), token.id());
+        }
+    }
+
+    /**
+     * Sort fields that are not plain columns (e.g. paths in a JSON column) are sorted by their text representation.
+     */
+    private Object sortValueParameter(String sortField, Object sortValue) {
+        return sortField.matches("[\\w.]+") ? sortValue : sortValue.toString();
+    }
+
 }
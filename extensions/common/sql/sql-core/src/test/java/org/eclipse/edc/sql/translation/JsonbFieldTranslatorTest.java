@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.util.reflection.PathItem;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class JsonbFieldTranslatorTest {
+
+    private final JsonbFieldTranslator translator = new JsonbFieldTranslator("column_name");
+
+    @Test
+    void shouldCompareExtractedText_whenOperatorIsEqualAndRightOperandIsString() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.nested.field", "=", "5");
+
+        var result = translator.toWhereClause(PathItem.parse("nested.field"), criterion, operator);
+
+        // no containment predicate, which would not match a JSON number
+        assertThat(result.sql()).isEqualTo("column_name -> 'nested' ->> 'field' = ?");
+        assertThat(result.parameters()).containsExactly("5");
+    }
+
+    @Test
+    void shouldCastToBoolean_whenRightOperandIsBoolean() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.field", "=", true);
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name ->> 'field')::boolean = ?");
+        assertThat(result.parameters()).containsExactly(true);
+    }
+
+    @Test
+    void shouldTranslateLikeJsonFieldTranslator_whenOperatorIsLike() {
+        var operator = new SqlOperator("like", String.class);
+        var criterion = criterion("json.field", "like", "val%");
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' like ?");
+        assertThat(result.parameters()).containsExactly("val%");
+    }
+
+    @Test
+    void shouldNotCastToJsonb_whenOperatorIsContains() {
+        var operator = new SqlOperator("??", Object.class);
+        var criterion = criterion("json.array", "contains", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("array"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name -> 'array' ?? ?");
+        assertThat(result.parameters()).containsExactly("value");
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -114,6 +115,77 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void orderBy_shouldAddIdAsTieBreaker_whenIdIsMapped() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void continuationToken_shouldAddKeysetPredicate() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.ASC)
+                .continuationToken(new ContinuationToken("desc", "id")).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE ((edc_description, edc_id) > (?, ?) OR edc_description IS NULL) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("desc", "id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldAddKeysetPredicate_whenSortOrderIsDesc() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC)
+                .continuationToken(new ContinuationToken("desc", "id")).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description, edc_id) < (?, ?) ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("desc", "id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldAddKeysetPredicate_whenSortValueIsNull() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.ASC)
+                .continuationToken(new ContinuationToken(null, "id")).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description IS NULL AND edc_id > ?) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldAddIdPredicate_whenSortFieldIsId() {
+        var query = queryBuilder().sortField("id").continuationToken(new ContinuationToken("id", "id")).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id > ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldThrow_whenIdIsNotMapped() {
+        var query = queryBuilder().sortField("description").continuationToken(new ContinuationToken("desc", "id")).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void continuationToken_shouldThrow_whenSortFieldIsMissing() {
+        var query = queryBuilder().continuationToken(new ContinuationToken("desc", "id")).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -121,4 +193,10 @@ class SqlQueryStatementTest {
     private QuerySpec query(Criterion... criterion) {
         return queryBuilder(criterion).build();
     }
+
+    private static class IdTestMapping extends TestMapping {
+        IdTestMapping() {
+            add("id", "edc_id");
+        }
+    }
 }
@@ -43,6 +43,7 @@ public interface PostgresqlEndToEndInstance {
         var extensionsFolder = TestUtils.findBuildRoot().toPath().resolve("extensions");
         var scripts = Stream.of(
                         "control-plane/store/sql/asset-index-sql",
+                        "control-plane/store/sql/callback-delivery-store-sql",
                         "control-plane/store/sql/contract-definition-store-sql",
                         "control-plane/store/sql/contract-negotiation-store-sql",
                         "control-plane/store/sql/policy-definition-store-sql",
@@ -69,7 +69,7 @@ public class AtomikosTransactionContext implements TransactionContext {
 
                 @Override
                 public void afterCompletion(int i) {
-
+                    sync.afterCompletion();
                 }
             });
         } catch (SystemException | RollbackException e) {
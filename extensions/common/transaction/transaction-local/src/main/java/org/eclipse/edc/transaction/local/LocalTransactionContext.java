@@ -101,6 +101,7 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                     });
                 }
                 transactions.remove();
+                transaction.getSynchronizations().forEach(TransactionSynchronization::afterCompletion);
             }
         }
     }
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -152,6 +153,19 @@ class LocalTransactionContextTest {
         });
 
         verify(sync, times(1)).beforeCompletion();
+        verify(sync, times(1)).afterCompletion();
+    }
+
+    @Test
+    void verifySynchronization_afterCompletionIsCalledAfterCommit() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        transactionContext.execute(() -> transactionContext.registerSynchronization(sync));
+
+        var inOrder = inOrder(sync, dsResource);
+        inOrder.verify(sync).beforeCompletion();
+        inOrder.verify(dsResource).commit();
+        inOrder.verify(sync).afterCompletion();
     }
 
     @BeforeEach
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.asset.v3;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -24,7 +23,9 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.model.PagedResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.spi.EdcException;
@@ -83,7 +84,7 @@ public class AssetApiController implements AssetApi {
     @POST
     @Path("/request")
     @Override
-    public JsonArray requestAssets(JsonObject querySpecJson) {
+    public Response requestAssets(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.Builder.newInstance().build();
@@ -94,12 +95,16 @@ public class AssetApiController implements AssetApi {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null)).stream()
+        var assets = service.search(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null));
+
+        var body = assets.stream()
                 .map(it -> transformerRegistry.transform(it, JsonObject.class))
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        return PagedResponse.of(body, assets, querySpec, this::sortValue, Asset::getId);
     }
 
     @GET
@@ -134,4 +139,9 @@ public class AssetApiController implements AssetApi {
                 .orElseThrow(exceptionMapper(Asset.class, assetResult.getId()));
     }
 
+    private Object sortValue(Asset asset, String sortField) {
+        var property = asset.getPropertyOrPrivate(sortField);
+        return property != null ? property : PagedResponse.fieldValue(asset, sortField);
+    }
+
 }
@@ -18,9 +18,11 @@ import io.restassured.specification.RequestSpecification;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.model.PagedResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -111,6 +113,26 @@ class AssetApiControllerTest extends RestControllerTestBase {
         verify(transformerRegistry).transform(isA(JsonObject.class), eq(QuerySpec.class));
     }
 
+    @Test
+    void requestAsset_shouldReturnContinuationToken_whenPageIsFull() {
+        var asset = Asset.Builder.newInstance().id("asset-id").name("asset-name").build();
+        when(service.search(any())).thenReturn(ServiceResult.success(List.of(asset)));
+        when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(createAssetJson().build()));
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(1).sortField(Asset.PROPERTY_NAME).build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body("{}")
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .header(PagedResponse.CONTINUATION_TOKEN_HEADER, new ContinuationToken("asset-name", "asset-id").encode())
+                .body("size()", is(1));
+    }
+
     @Test
     void requestAsset_filtersOutFailedTransforms() {
         when(service.search(any()))
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.api.management.catalog.cache;
+
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.api.model.ApiCoreSchema;
+
+import static org.eclipse.edc.connector.controlplane.api.management.catalog.cache.CachedCatalogApiController.CACHED_DATASET_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+
+@OpenAPIDefinition
+@Tag(name = "Catalog")
+public interface CachedCatalogApi {
+
+    @Operation(description = "Returns the locally cached datasets of the crawled counterparties according to a query. " +
+            "Criteria can refer to the dataset id, the counterparty and the literal dataset properties, e.g. " +
+            "\"properties.'https://w3id.org/edc/v0.0.1/ns/name'\"",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = ApiCoreSchema.QuerySpecSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The cached datasets matching the query",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CachedDatasetSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))}
+    )
+    JsonArray queryCachedDatasets(JsonObject querySpecJson);
+
+    @Schema(name = "CachedDataset")
+    record CachedDatasetSchema(
+            @Schema(name = TYPE, example = CACHED_DATASET_TYPE)
+            String type,
+            String counterPartyId,
+            String counterPartyAddress,
+            Object dataset
+    ) {
+    }
+}
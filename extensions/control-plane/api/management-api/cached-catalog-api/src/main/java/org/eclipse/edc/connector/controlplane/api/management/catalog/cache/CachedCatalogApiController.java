@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.api.management.catalog.cache;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedDataset;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.eclipse.edc.web.spi.exception.ValidationFailureException;
+
+import java.io.StringReader;
+
+import static jakarta.json.stream.JsonCollectors.toJsonArray;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
+
+@Consumes(APPLICATION_JSON)
+@Produces(APPLICATION_JSON)
+@Path("/v2/catalog/cache")
+public class CachedCatalogApiController implements CachedCatalogApi {
+
+    public static final String CACHED_DATASET_TYPE = EDC_NAMESPACE + "CachedDataset";
+    public static final String CACHED_DATASET_COUNTER_PARTY_ID = EDC_NAMESPACE + "counterPartyId";
+    public static final String CACHED_DATASET_COUNTER_PARTY_ADDRESS = EDC_NAMESPACE + "counterPartyAddress";
+    public static final String CACHED_DATASET_DATASET = EDC_NAMESPACE + "dataset";
+
+    private final CachedCatalogStore store;
+    private final TypeTransformerRegistry transformerRegistry;
+    private final JsonObjectValidatorRegistry validatorRegistry;
+
+    public CachedCatalogApiController(CachedCatalogStore store, TypeTransformerRegistry transformerRegistry,
+                                      JsonObjectValidatorRegistry validatorRegistry) {
+        this.store = store;
+        this.transformerRegistry = transformerRegistry;
+        this.validatorRegistry = validatorRegistry;
+    }
+
+    @Override
+    @POST
+    @Path("/datasets/request")
+    public JsonArray queryCachedDatasets(JsonObject querySpecJson) {
+        QuerySpec querySpec;
+        if (querySpecJson == null) {
+            querySpec = QuerySpec.Builder.newInstance().build();
+        } else {
+            validatorRegistry.validate(EDC_QUERY_SPEC_TYPE, querySpecJson).orElseThrow(ValidationFailureException::new);
+
+            querySpec = transformerRegistry.transform(querySpecJson, QuerySpec.class)
+                    .orElseThrow(InvalidRequestException::new);
+        }
+
+        try (var datasets = store.queryDatasets(querySpec)) {
+            return datasets.map(this::toJson).collect(toJsonArray());
+        }
+    }
+
+    private JsonObject toJson(CachedDataset cachedDataset) {
+        var builder = Json.createObjectBuilder()
+                .add(TYPE, CACHED_DATASET_TYPE)
+                .add(CACHED_DATASET_COUNTER_PARTY_ADDRESS, cachedDataset.getCounterPartyAddress());
+
+        if (cachedDataset.getCounterPartyId() != null) {
+            builder.add(CACHED_DATASET_COUNTER_PARTY_ID, cachedDataset.getCounterPartyId());
+        }
+
+        try (var reader = Json.createReader(new StringReader(cachedDataset.getDataset()))) {
+            builder.add(CACHED_DATASET_DATASET, reader.readObject());
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.api.management.catalog.cache;
+
+import org.eclipse.edc.connector.api.management.configuration.ManagementApiConfiguration;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.spi.WebService;
+
+import static org.eclipse.edc.connector.controlplane.api.management.catalog.cache.CachedCatalogApiExtension.NAME;
+
+/**
+ * Exposes the datasets cached by the catalog crawler through the management API.
+ */
+@Extension(NAME)
+public class CachedCatalogApiExtension implements ServiceExtension {
+
+    public static final String NAME = "Management API: Cached Catalog";
+
+    @Inject
+    private WebService webService;
+
+    @Inject
+    private ManagementApiConfiguration config;
+
+    @Inject
+    private TypeTransformerRegistry transformerRegistry;
+
+    @Inject
+    private JsonObjectValidatorRegistry validatorRegistry;
+
+    @Inject
+    private CachedCatalogStore store;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var managementApiTransformerRegistry = transformerRegistry.forContext("management-api");
+        webService.registerResource(config.getContextAlias(), new CachedCatalogApiController(store, managementApiTransformerRegistry, validatorRegistry));
+    }
+}
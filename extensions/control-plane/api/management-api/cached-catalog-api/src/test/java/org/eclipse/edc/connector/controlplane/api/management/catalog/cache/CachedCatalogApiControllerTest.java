@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.api.management.catalog.cache;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedDataset;
+import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.validator.spi.Violation;
+import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.eclipse.edc.connector.controlplane.api.management.catalog.cache.CachedCatalogApiController.CACHED_DATASET_COUNTER_PARTY_ADDRESS;
+import static org.eclipse.edc.connector.controlplane.api.management.catalog.cache.CachedCatalogApiController.CACHED_DATASET_COUNTER_PARTY_ID;
+import static org.eclipse.edc.connector.controlplane.api.management.catalog.cache.CachedCatalogApiController.CACHED_DATASET_DATASET;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ApiTest
+class CachedCatalogApiControllerTest extends RestControllerTestBase {
+
+    private final CachedCatalogStore store = mock();
+    private final TypeTransformerRegistry transformerRegistry = mock();
+    private final JsonObjectValidatorRegistry validatorRegistry = mock();
+
+    @Override
+    protected Object controller() {
+        return new CachedCatalogApiController(store, transformerRegistry, validatorRegistry);
+    }
+
+    @Test
+    void queryCachedDatasets() {
+        var dataset = CachedDataset.Builder.newInstance()
+                .id("asset")
+                .counterPartyAddress("http://provider/dsp")
+                .counterPartyId("provider")
+                .dataset("{\"@id\": \"asset\"}")
+                .build();
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
+        when(store.queryDatasets(any())).thenReturn(Stream.of(dataset));
+
+        given()
+                .port(port)
+                .contentType(JSON)
+                .body("{}")
+                .post("/v2/catalog/cache/datasets/request")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(1))
+                .body("[0].'%s'".formatted(CACHED_DATASET_COUNTER_PARTY_ADDRESS), equalTo("http://provider/dsp"))
+                .body("[0].'%s'".formatted(CACHED_DATASET_COUNTER_PARTY_ID), equalTo("provider"))
+                .body("[0].'%s'.'@id'".formatted(CACHED_DATASET_DATASET), equalTo("asset"));
+
+        verify(store).queryDatasets(argThat(querySpec -> querySpec.getOffset() == 10));
+    }
+
+    @Test
+    void queryCachedDatasets_shouldReturnBadRequest_whenValidationFails() {
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.failure(Violation.violation("error", "path")));
+
+        given()
+                .port(port)
+                .contentType(JSON)
+                .body("{}")
+                .post("/v2/catalog/cache/datasets/request")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(store, transformerRegistry);
+    }
+}
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -22,7 +21,9 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.model.PagedResponse;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferState;
@@ -75,7 +76,7 @@ public class TransferProcessApiController implements TransferProcessApi {
     @POST
     @Path("request")
     @Override
-    public JsonArray queryTransferProcesses(JsonObject querySpecJson) {
+    public Response queryTransferProcesses(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.none();
@@ -86,12 +87,16 @@ public class TransferProcessApiController implements TransferProcessApi {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
+        var transferProcesses = service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class));
+
+        var body = transferProcesses.stream()
                 .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
                         .onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        return PagedResponse.of(body, transferProcesses, querySpec, TransferProcess::getId);
     }
 
     @GET
@@ -6,5 +6,12 @@ dependencies {
     api(project(":spi:common:core-spi"))
     api(project(":spi:control-plane:control-plane-spi"))
 
+    implementation(project(":core:common:lib:state-machine-lib"))
+    implementation(project(":core:common:lib:store-lib"))
+    implementation(project(":core:common:lib:util-lib"))
+
     testImplementation(project(":core:common:junit"))
+    testImplementation(project(":core:common:lib:query-lib"))
+    testImplementation(testFixtures(project(":spi:control-plane:control-plane-spi")))
+    testImplementation(libs.awaitility)
 }
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryMetrics;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.statemachine.AbstractStateEntityManager;
+import org.eclipse.edc.statemachine.Processor;
+import org.eclipse.edc.statemachine.ProcessorImpl;
+import org.eclipse.edc.statemachine.StateMachineManager;
+import org.eclipse.edc.statemachine.retry.AsyncStatusResultRetryProcess;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.DELIVERING;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+
+/**
+ * Delivers the entries of the {@link CallbackDeliveryStore}. Every iteration leases a batch of entries and dispatches
+ * them without waiting for the responses, so a slow endpoint does not delay the others. Failed deliveries are retried
+ * with an exponential delay until the retry limit is reached, then they are transitioned to
+ * {@link CallbackDeliveryStates#FAILED}. Delivered entries are removed from the store.
+ */
+public class CallbackDeliveryManager extends AbstractStateEntityManager<CallbackDelivery, CallbackDeliveryStore> {
+
+    private RemoteMessageDispatcherRegistry dispatcherRegistry;
+    private CallbackProtocolResolverRegistry resolverRegistry;
+    private CallbackEndpoints endpoints = new CallbackEndpoints();
+    private CallbackDeliveryMetrics metrics = CallbackDeliveryMetrics.noop();
+
+    private CallbackDeliveryManager() {
+    }
+
+    @Override
+    protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
+        return builder
+                .processor(processDeliveriesInState(DELIVERING, this::processDelivering));
+    }
+
+    private boolean processDelivering(CallbackDelivery delivery) {
+        return deliver(delivery)
+                .onSuccess((d, result) -> transitionToDelivered(d))
+                .onFailure((d, throwable) -> transitionToDelivering(d))
+                .onFatalError((d, failure) -> transitionToFailed(d, failure.getFailureDetail()))
+                .onRetryExhausted((d, throwable) -> transitionToFailed(d, throwable.getMessage()))
+                .execute("deliver callback %s to %s".formatted(delivery.getEventName(), delivery.getCallbackAddress().getUri()));
+    }
+
+    private AsyncStatusResultRetryProcess<CallbackDelivery, Object, ?> deliver(CallbackDelivery delivery) {
+        return entityRetryProcessFactory.doAsyncStatusResultProcess(delivery, () -> dispatch(delivery));
+    }
+
+    private CompletableFuture<StatusResult<Object>> dispatch(CallbackDelivery delivery) {
+        var uri = delivery.getCallbackAddress().getUri();
+        CallbackEndpoint endpoint;
+        try {
+            endpoint = endpoints.get(uri);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, "Invalid callback URI %s: %s".formatted(uri, e.getMessage())));
+        }
+
+        var protocol = resolverRegistry.resolve(endpoint.scheme());
+        if (protocol == null) {
+            return CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, "Failed to resolve protocol for URI %s".formatted(uri)));
+        }
+
+        var start = System.nanoTime();
+        CompletableFuture<StatusResult<Object>> future;
+        try {
+            future = dispatcherRegistry.dispatch(Object.class, new CallbackDeliveryRemoteMessage(delivery, protocol));
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, throwable) -> {
+            var succeeded = throwable == null && result.succeeded();
+            metrics.record(endpoint.name(), false, Duration.ofNanos(System.nanoTime() - start), succeeded);
+        });
+    }
+
+    private void transitionToDelivering(CallbackDelivery delivery) {
+        delivery.transitionToDelivering();
+        update(delivery);
+    }
+
+    private void transitionToDelivered(CallbackDelivery delivery) {
+        delivery.transitionToDelivered();
+        update(delivery);
+        store.delete(delivery.getId());
+    }
+
+    private void transitionToFailed(CallbackDelivery delivery, String errorDetail) {
+        monitor.severe("Callback delivery %s of event %s to %s failed: %s"
+                .formatted(delivery.getId(), delivery.getEventName(), delivery.getCallbackAddress().getUri(), errorDetail));
+        delivery.transitionToFailed(errorDetail);
+        update(delivery);
+    }
+
+    private Processor processDeliveriesInState(CallbackDeliveryStates state, Function<CallbackDelivery, Boolean> function) {
+        var filter = new Criterion[]{ hasState(state.code()) };
+        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+                .process(telemetry.contextPropagationMiddleware(function))
+                .onNotProcessed(this::breakLease)
+                .build();
+    }
+
+    public static class Builder
+            extends AbstractStateEntityManager.Builder<CallbackDelivery, CallbackDeliveryStore, CallbackDeliveryManager, Builder> {
+
+        private Builder() {
+            super(new CallbackDeliveryManager());
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder dispatcherRegistry(RemoteMessageDispatcherRegistry dispatcherRegistry) {
+            manager.dispatcherRegistry = dispatcherRegistry;
+            return this;
+        }
+
+        public Builder resolverRegistry(CallbackProtocolResolverRegistry resolverRegistry) {
+            manager.resolverRegistry = resolverRegistry;
+            return this;
+        }
+
+        public Builder endpoints(CallbackEndpoints endpoints) {
+            manager.endpoints = endpoints;
+            return this;
+        }
+
+        public Builder metrics(CallbackDeliveryMetrics metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
+        @Override
+        public Builder self() {
+            return this;
+        }
+
+        @Override
+        public CallbackDeliveryManager build() {
+            Objects.requireNonNull(manager.dispatcherRegistry, "dispatcherRegistry");
+            Objects.requireNonNull(manager.resolverRegistry, "resolverRegistry");
+            return super.build();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import java.net.URI;
+
+/**
+ * Parsed callback URI.
+ *
+ * @param scheme the URI scheme, used to resolve the dispatch protocol.
+ * @param name   the endpoint name in the form {@code scheme://host[:port]}, used to tag the metrics.
+ */
+public record CallbackEndpoint(String scheme, String name) {
+
+    /**
+     * Parses a callback URI.
+     *
+     * @param uri the URI.
+     * @return the endpoint.
+     * @throws IllegalArgumentException if the URI is not valid.
+     */
+    public static CallbackEndpoint parse(String uri) {
+        var parsed = URI.create(uri);
+        var scheme = parsed.getScheme();
+        if (parsed.getHost() == null) {
+            return new CallbackEndpoint(scheme, scheme + ":");
+        }
+        var name = scheme + "://" + parsed.getHost() + (parsed.getPort() == -1 ? "" : ":" + parsed.getPort());
+        return new CallbackEndpoint(scheme, name);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.util.collection.BoundedCache;
+
+/**
+ * Caches the parsed callback URIs, as the same callback addresses are resolved again for every event.
+ */
+public class CallbackEndpoints {
+
+    private static final int DEFAULT_CAPACITY = 1000;
+
+    private final BoundedCache<String, CallbackEndpoint> cache;
+
+    public CallbackEndpoints() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CallbackEndpoints(int capacity) {
+        cache = new BoundedCache<>(capacity);
+    }
+
+    /**
+     * Returns the parsed URI, parsing it if it is not cached yet.
+     *
+     * @param uri the callback URI.
+     * @return the endpoint.
+     * @throws IllegalArgumentException if the URI is not valid.
+     */
+    public CallbackEndpoint get(String uri) {
+        return cache.get(uri, CallbackEndpoint::parse);
+    }
+}
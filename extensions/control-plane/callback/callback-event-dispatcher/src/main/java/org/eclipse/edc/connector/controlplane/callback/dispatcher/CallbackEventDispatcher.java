@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryMetrics;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
@@ -23,73 +24,108 @@ import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 
-import java.net.URI;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
- * Subscriber for invoking callbacks associated to {@link Event}. If the {@link CallbackAddress#getEvents()} matches
- * the {@link Event#name()}, the callback is the invoked using a {@link RemoteMessageDispatcherRegistry} with protocol
- * extracted by {@link CallbackAddress#getUri()}
+ * Subscriber for invoking the transactional callbacks associated to {@link Event}. If the
+ * {@link CallbackAddress#getEvents()} matches the {@link Event#name()}, the callback is invoked using a
+ * {@link RemoteMessageDispatcherRegistry} with protocol extracted by {@link CallbackAddress#getUri()}.
+ * <p>
+ * All the matching callbacks are invoked in parallel, and the subscriber waits for them at most for the configured
+ * timeout: if one of them fails or they do not complete in time, an {@link EdcException} is thrown, so that the state
+ * transition that published the event is rolled back.
  */
 public class CallbackEventDispatcher implements EventSubscriber {
     private final RemoteMessageDispatcherRegistry dispatcher;
-    private final boolean transactional;
-    private final Monitor monitor;
-    private final CallbackRegistry callbackRegistry;
+    private final CallbackMatcher callbackMatcher;
     private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final CallbackEndpoints endpoints;
+    private final CallbackDeliveryMetrics metrics;
+    private final Duration timeout;
+    private final Monitor monitor;
 
-    public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor) {
+    public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry,
+                                   CallbackEndpoints endpoints, CallbackDeliveryMetrics metrics, Duration timeout, Monitor monitor) {
         this.dispatcher = dispatcher;
-        this.callbackRegistry = callbackRegistry;
-        this.transactional = transactional;
+        this.callbackMatcher = new CallbackMatcher(callbackRegistry, true);
         this.resolverRegistry = resolveRegistry;
+        this.endpoints = endpoints;
+        this.metrics = metrics;
+        this.timeout = timeout;
         this.monitor = monitor;
     }
 
     @Override
     public <E extends Event> void on(EventEnvelope<E> eventEnvelope) {
-        var callbacks = getCallbacks(eventEnvelope);
-        var eventName = eventEnvelope.getPayload().name();
+        var invocations = callbackMatcher.matching(eventEnvelope).stream()
+                .map(callback -> invoke(callback, eventEnvelope))
+                .filter(Objects::nonNull)
+                .toArray(CompletableFuture[]::new);
 
-        for (var callback : callbacks) {
-            if (matches(eventName, callback)) {
-                try {
-                    var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
-                    if (protocol != null) {
-                        dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
-                    } else {
-                        monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
-                    }
-                } catch (Exception e) {
-                    monitor.severe(format("Failed to invoke callback at URI: %s", callback.getUri()), e);
-                    throw new EdcException(e);
-                }
-            }
+        if (invocations.length == 0) {
+            return;
         }
-    }
 
-    public boolean isTransactional() {
-        return transactional;
+        try {
+            CompletableFuture.allOf(invocations).get(timeout.toMillis(), MILLISECONDS);
+        } catch (TimeoutException e) {
+            var message = format("Callbacks for event %s did not complete within %d ms", eventEnvelope.getPayload().name(), timeout.toMillis());
+            monitor.severe(message);
+            throw new EdcException(message, e);
+        } catch (ExecutionException e) {
+            throw new EdcException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcException(e);
+        }
     }
 
-    private <E extends Event> List<CallbackAddress> getCallbacks(EventEnvelope<E> eventEnvelope) {
-        var staticCallbacks = callbackRegistry.resolve(eventEnvelope.getPayload().name()).stream();
-        var dynamicCallbacks =
-                eventEnvelope.getPayload().getCallbackAddresses()
-                        .stream();
+    private <E extends Event> CompletableFuture<Void> invoke(CallbackAddress callback, EventEnvelope<E> eventEnvelope) {
+        try {
+            var endpoint = endpoints.get(callback.getUri());
+            var protocol = resolverRegistry.resolve(endpoint.scheme());
+            if (protocol == null) {
+                monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
+                return null;
+            }
 
-        return Stream.concat(staticCallbacks, dynamicCallbacks)
-                .filter(cb -> cb.isTransactional() == transactional)
-                .collect(Collectors.toList());
+            var start = System.nanoTime();
+            return dispatch(new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol))
+                    .whenComplete((result, throwable) -> {
+                        var succeeded = throwable == null && result.succeeded();
+                        metrics.record(endpoint.name(), true, Duration.ofNanos(System.nanoTime() - start), succeeded);
+                    })
+                    .thenAccept(result -> {
+                        if (result.failed()) {
+                            throw new EdcException(result.getFailureDetail());
+                        }
+                    })
+                    .whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            monitor.severe(format("Failed to invoke callback at URI: %s", callback.getUri()), throwable);
+                        }
+                    });
+        } catch (Exception e) {
+            monitor.severe(format("Failed to invoke callback at URI: %s", callback.getUri()), e);
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
-    private boolean matches(String eventName, CallbackAddress callbackAddress) {
-        return callbackAddress.getEvents().stream().anyMatch(eventName::startsWith);
+    private CompletableFuture<StatusResult<Object>> dispatch(CallbackEventRemoteMessage<?> message) {
+        try {
+            return dispatcher.dispatch(Object.class, message);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 }
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.callback.store.InMemoryCallbackDeliveryStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryMetrics;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.connector.controlplane.callback.dispatcher.CallbackEventDispatcherDefaultServicesExtension.NAME;
+
+@Extension(value = NAME)
+public class CallbackEventDispatcherDefaultServicesExtension implements ServiceExtension {
+
+    public static final String NAME = "Callback dispatcher Default Services";
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private CriterionOperatorRegistry criterionOperatorRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public CallbackDeliveryStore callbackDeliveryStore() {
+        return new InMemoryCallbackDeliveryStore(clock, criterionOperatorRegistry);
+    }
+
+    @Provider(isDefault = true)
+    public CallbackDeliveryMetrics callbackDeliveryMetrics() {
+        return CallbackDeliveryMetrics.noop();
+    }
+}
@@ -15,17 +15,33 @@
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
 import org.eclipse.edc.connector.controlplane.callback.CallbackProtocolResolverRegistryImpl;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryMetrics;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
@@ -33,6 +49,24 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    public static final long DEFAULT_TRANSACTIONAL_TIMEOUT = 30_000;
+
+    @Setting(value = "the maximum time in milliseconds to wait for the transactional callbacks of an event, the state transition fails if they do not complete in time",
+            type = "long", defaultValue = DEFAULT_TRANSACTIONAL_TIMEOUT + "")
+    static final String CALLBACK_TRANSACTIONAL_TIMEOUT_MS = "edc.callback.transactional.timeout.ms";
+
+    @Setting(value = "the iteration wait time in milliseconds in the callback delivery state machine. Default value " + DEFAULT_ITERATION_WAIT, type = "long")
+    static final String CALLBACK_STATE_MACHINE_ITERATION_WAIT_MILLIS = "edc.callback.state-machine.iteration-wait-millis";
+
+    @Setting(value = "the batch size in the callback delivery state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
+    static final String CALLBACK_STATE_MACHINE_BATCH_SIZE = "edc.callback.state-machine.batch-size";
+
+    @Setting(value = "how many times the delivery of a non-transactional callback is retried before giving up", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
+    static final String CALLBACK_SEND_RETRY_LIMIT = "edc.callback.send.retry.limit";
+
+    @Setting(value = "The base delay for the callback delivery retry mechanism in millisecond", type = "long", defaultValue = DEFAULT_SEND_RETRY_BASE_DELAY + "")
+    static final String CALLBACK_SEND_RETRY_BASE_DELAY_MS = "edc.callback.send.retry.base-delay.ms";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +79,26 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    CallbackDeliveryStore callbackDeliveryStore;
+
+    @Inject
+    CallbackDeliveryMetrics metrics;
+
+    @Inject
+    TypeManager typeManager;
+
+    @Inject
+    Telemetry telemetry;
+
+    @Inject
+    Clock clock;
+
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+
+    private CallbackDeliveryManager deliveryManager;
+
     @Override
     public String name() {
         return NAME;
@@ -56,9 +110,43 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
         var resolverRegistry = new CallbackProtocolResolverRegistryImpl();
         context.registerService(CallbackProtocolResolverRegistry.class, resolverRegistry);
 
-        // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
-        router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        var endpoints = new CallbackEndpoints();
+        var timeout = Duration.ofMillis(context.getSetting(CALLBACK_TRANSACTIONAL_TIMEOUT_MS, DEFAULT_TRANSACTIONAL_TIMEOUT));
+
+        // Transactional callbacks are invoked in sync, the non-transactional ones are written in the outbox in the
+        // same transaction and delivered later by the state machine
+        router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, endpoints, metrics, timeout, monitor));
+        router.registerSync(Event.class, new CallbackOutbox(callbackRegistry, callbackDeliveryStore, typeManager.getMapper(), telemetry));
 
+        var iterationWaitMillis = context.getSetting(CALLBACK_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
+        var retryLimit = context.getSetting(CALLBACK_SEND_RETRY_LIMIT, DEFAULT_SEND_RETRY_LIMIT);
+        var retryBaseDelay = context.getSetting(CALLBACK_SEND_RETRY_BASE_DELAY_MS, DEFAULT_SEND_RETRY_BASE_DELAY);
+
+        deliveryManager = CallbackDeliveryManager.Builder.newInstance()
+                .dispatcherRegistry(dispatcherRegistry)
+                .resolverRegistry(resolverRegistry)
+                .endpoints(endpoints)
+                .metrics(metrics)
+                .store(callbackDeliveryStore)
+                .batchSize(context.getSetting(CALLBACK_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .waitStrategy(new ExponentialWaitStrategy(iterationWaitMillis))
+                .entityRetryProcessConfiguration(new EntityRetryProcessConfiguration(retryLimit, () -> new ExponentialWaitStrategy(retryBaseDelay)))
+                .executorInstrumentation(executorInstrumentation)
+                .telemetry(telemetry)
+                .clock(clock)
+                .monitor(monitor)
+                .build();
+    }
+
+    @Override
+    public void start() {
+        deliveryManager.start();
+    }
+
+    @Override
+    public void shutdown() {
+        if (deliveryManager != null) {
+            deliveryManager.stop();
+        }
     }
 }
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Selects the callbacks to be invoked for an event: the static ones of the {@link CallbackRegistry} and the ones
+ * attached to the event, whose {@link CallbackAddress#getEvents()} match the {@link Event#name()}.
+ */
+class CallbackMatcher {
+
+    private final CallbackRegistry callbackRegistry;
+    private final boolean transactional;
+
+    CallbackMatcher(CallbackRegistry callbackRegistry, boolean transactional) {
+        this.callbackRegistry = callbackRegistry;
+        this.transactional = transactional;
+    }
+
+    <E extends Event> List<CallbackAddress> matching(EventEnvelope<E> eventEnvelope) {
+        var eventName = eventEnvelope.getPayload().name();
+        var staticCallbacks = callbackRegistry.resolve(eventName).stream();
+        var dynamicCallbacks = eventEnvelope.getPayload().getCallbackAddresses().stream();
+
+        return Stream.concat(staticCallbacks, dynamicCallbacks)
+                .filter(cb -> cb.isTransactional() == transactional)
+                .filter(cb -> matches(eventName, cb))
+                .toList();
+    }
+
+    private boolean matches(String eventName, CallbackAddress callbackAddress) {
+        return callbackAddress.getEvents().stream().anyMatch(eventName::startsWith);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.telemetry.Telemetry;
+
+/**
+ * Subscriber that writes the non-transactional callbacks associated to {@link Event} into the
+ * {@link CallbackDeliveryStore}. It is registered as synchronous subscriber, so the entries are persisted in the same
+ * transaction of the state transition that published the event, and they are delivered afterwards by the
+ * {@link CallbackDeliveryManager}.
+ */
+public class CallbackOutbox implements EventSubscriber {
+
+    private final CallbackMatcher callbackMatcher;
+    private final CallbackDeliveryStore store;
+    private final ObjectMapper mapper;
+    private final Telemetry telemetry;
+
+    public CallbackOutbox(CallbackRegistry callbackRegistry, CallbackDeliveryStore store, ObjectMapper mapper, Telemetry telemetry) {
+        this.callbackMatcher = new CallbackMatcher(callbackRegistry, false);
+        this.store = store;
+        this.mapper = mapper;
+        this.telemetry = telemetry;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> eventEnvelope) {
+        var callbacks = callbackMatcher.matching(eventEnvelope);
+        if (callbacks.isEmpty()) {
+            return;
+        }
+
+        var payload = serialize(eventEnvelope);
+        var traceContext = telemetry.getCurrentTraceContext();
+        for (var callback : callbacks) {
+            var delivery = CallbackDelivery.Builder.newInstance()
+                    .callbackAddress(callback)
+                    .eventName(eventEnvelope.getPayload().name())
+                    .payload(payload)
+                    .traceContext(traceContext)
+                    .build();
+
+            delivery.transitionToDelivering();
+            store.save(delivery);
+        }
+    }
+
+    private String serialize(EventEnvelope<?> eventEnvelope) {
+        try {
+            return mapper.writeValueAsString(eventEnvelope);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.store;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.store.InMemoryStatefulEntityStore;
+
+import java.time.Clock;
+import java.util.UUID;
+
+/**
+ * In-memory implementation of the {@link CallbackDeliveryStore}
+ */
+public class InMemoryCallbackDeliveryStore extends InMemoryStatefulEntityStore<CallbackDelivery> implements CallbackDeliveryStore {
+
+    public InMemoryCallbackDeliveryStore(Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
+        this(UUID.randomUUID().toString(), clock, criterionOperatorRegistry);
+    }
+
+    public InMemoryCallbackDeliveryStore(String owner, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
+        super(CallbackDelivery.class, owner, clock, criterionOperatorRegistry);
+    }
+}
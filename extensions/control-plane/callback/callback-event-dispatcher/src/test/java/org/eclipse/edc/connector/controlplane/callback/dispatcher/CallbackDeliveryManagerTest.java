@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryMetrics;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Collections.emptyList;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.DELIVERED;
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.DELIVERING;
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.FAILED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackDeliveryManagerTest {
+
+    private final CallbackDeliveryStore store = mock();
+    private final RemoteMessageDispatcherRegistry dispatcherRegistry = mock();
+    private final CallbackProtocolResolverRegistry resolverRegistry = mock();
+    private final CallbackDeliveryMetrics metrics = mock();
+    private CallbackDeliveryManager manager;
+
+    @BeforeEach
+    void setUp() {
+        when(resolverRegistry.resolve("http")).thenReturn("callback-event-http");
+        manager = CallbackDeliveryManager.Builder.newInstance()
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .monitor(mock())
+                .clock(Clock.systemUTC())
+                .entityRetryProcessConfiguration(new EntityRetryProcessConfiguration(1, () -> new ExponentialWaitStrategy(0)))
+                .dispatcherRegistry(dispatcherRegistry)
+                .resolverRegistry(resolverRegistry)
+                .metrics(metrics)
+                .store(store)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    void delivering_shouldDispatchAndRemoveTheEntry_whenDeliverySucceeds() {
+        var delivery = createDelivery("http://callback.host/hooks", 1);
+        when(store.nextNotLeased(anyInt(), stateIs(DELIVERING.code()))).thenReturn(List.of(delivery)).thenReturn(emptyList());
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(dispatcherRegistry).dispatch(eq(Object.class), argThat(message -> message instanceof CallbackDeliveryRemoteMessage m &&
+                    m.getPayload().equals(delivery.getPayload()) && m.getProtocol().equals("callback-event-http")));
+            verify(store).save(argThat(it -> it.getState() == DELIVERED.code()));
+            verify(store).delete(delivery.getId());
+            verify(metrics).record(eq("http://callback.host"), eq(false), any(), eq(true));
+        });
+    }
+
+    @Test
+    void delivering_shouldRetry_whenDeliveryFails() {
+        var delivery = createDelivery("http://callback.host/hooks", 1);
+        when(store.nextNotLeased(anyInt(), stateIs(DELIVERING.code()))).thenReturn(List.of(delivery)).thenReturn(emptyList());
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(store).save(argThat(it -> it.getState() == DELIVERING.code() && it.getStateCount() == 2));
+            verify(store, never()).delete(any());
+            verify(metrics).record(eq("http://callback.host"), eq(false), any(), eq(false));
+        });
+    }
+
+    @Test
+    void delivering_shouldTransitionToFailed_whenRetriesAreExhausted() {
+        var delivery = createDelivery("http://callback.host/hooks", 2);
+        when(store.nextNotLeased(anyInt(), stateIs(DELIVERING.code()))).thenReturn(List.of(delivery)).thenReturn(emptyList());
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+
+        manager.start();
+
+        await().untilAsserted(() -> verify(store).save(argThat(it -> it.getState() == FAILED.code())));
+    }
+
+    @Test
+    void delivering_shouldTransitionToFailed_whenProtocolCannotBeResolved() {
+        var delivery = createDelivery("unknown://callback.host/hooks", 1);
+        when(store.nextNotLeased(anyInt(), stateIs(DELIVERING.code()))).thenReturn(List.of(delivery)).thenReturn(emptyList());
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(store).save(argThat(it -> it.getState() == FAILED.code()));
+            verify(dispatcherRegistry, never()).dispatch(any(), any());
+        });
+    }
+
+    private CallbackDelivery createDelivery(String uri, int stateCount) {
+        var callbackAddress = CallbackAddress.Builder.newInstance()
+                .uri(uri)
+                .events(Set.of("transfer.process"))
+                .build();
+
+        return CallbackDelivery.Builder.newInstance()
+                .callbackAddress(callbackAddress)
+                .eventName("transfer.process.completed")
+                .payload("{}")
+                .state(DELIVERING.code())
+                .stateCount(stateCount)
+                .stateTimestamp(0)
+                .build();
+    }
+
+    private Criterion[] stateIs(int state) {
+        return aryEq(new Criterion[]{ hasState(state) });
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
 import org.eclipse.edc.boot.system.injection.ObjectFactory;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
@@ -23,10 +24,9 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentMatcher;
 
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +41,7 @@ public class CallbackEventDispatcherExtensionTest {
     void setUp(ServiceExtensionContext context, ObjectFactory factory) {
         context.registerService(EventRouter.class, router);
         context.registerService(RemoteMessageDispatcherRegistry.class, mock(RemoteMessageDispatcherRegistry.class));
+        context.registerService(CallbackDeliveryStore.class, mock(CallbackDeliveryStore.class));
 
         extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
     }
@@ -50,12 +51,8 @@ public class CallbackEventDispatcherExtensionTest {
 
         extension.initialize(context);
 
-        verify(router).register(eq(Event.class), argThat(callbackEventDispatcherMatcher(false)));
-        verify(router).registerSync(eq(Event.class), argThat(callbackEventDispatcherMatcher(true)));
+        verify(router).registerSync(eq(Event.class), isA(CallbackEventDispatcher.class));
+        verify(router).registerSync(eq(Event.class), isA(CallbackOutbox.class));
 
     }
-
-    private ArgumentMatcher<CallbackEventDispatcher> callbackEventDispatcherMatcher(boolean transactional) {
-        return dispatcher -> dispatcher.isTransactional() == transactional;
-    }
 }
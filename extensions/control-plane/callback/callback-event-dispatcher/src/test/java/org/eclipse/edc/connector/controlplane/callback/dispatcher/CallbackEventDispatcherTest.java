@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryMetrics;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
@@ -26,39 +27,45 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class CallbackEventDispatcherTest {
 
-    CallbackEventDispatcher dispatcher;
     RemoteMessageDispatcherRegistry registry = mock(RemoteMessageDispatcherRegistry.class);
 
     CallbackProtocolResolverRegistry resolverRegistry = mock(CallbackProtocolResolverRegistry.class);
 
     CallbackRegistry callbackRegistry = mock(CallbackRegistry.class);
 
+    CallbackDeliveryMetrics metrics = mock(CallbackDeliveryMetrics.class);
+
     Monitor monitor = mock(Monitor.class);
 
+    CallbackEventDispatcher dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry,
+            new CallbackEndpoints(), metrics, Duration.ofMillis(500), monitor);
+
     @Test
     void verifyShouldNotDispatch() {
-        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, true, monitor);
         when(resolverRegistry.resolve("local")).thenReturn("local");
 
-
         var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build();
         dispatcher.on(envelope(event));
 
@@ -67,15 +74,9 @@ public class CallbackEventDispatcherTest {
 
     @Test
     void verifyShouldDispatch_WhenCallbacksMatchedOnRegistry() {
-
-        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, true, monitor);
         when(resolverRegistry.resolve("local")).thenReturn("local");
         var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build();
-        var callbacks = List.of(CallbackAddress.Builder.newInstance()
-                .uri("local://test")
-                .events(Set.of("transfer.process.completed"))
-                .transactional(true)
-                .build());
+        var callbacks = List.of(callback("local://test", true));
 
         when(callbackRegistry.resolve(event.name())).thenReturn(callbacks);
         when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
@@ -90,90 +91,107 @@ public class CallbackEventDispatcherTest {
         assertThat(captor.getValue().getEventEnvelope().getPayload())
                 .usingRecursiveComparison()
                 .isEqualTo(event);
-
+        verify(metrics).record(eq("local://test"), eq(true), any(), eq(true));
     }
 
     @Test
     void verifyDispatchShouldThrowException() {
-        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, true, monitor);
         when(resolverRegistry.resolve("local")).thenReturn("local");
-
         when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Test")));
 
-        var callback = CallbackAddress.Builder.newInstance()
-                .uri("local://test")
-                .events(Set.of("transfer.process.completed"))
-                .transactional(true)
-                .build();
-
-
         var event = TransferProcessCompleted.Builder.newInstance()
                 .transferProcessId("id")
-                .callbackAddresses(List.of(callback))
+                .callbackAddresses(List.of(callback("local://test", true)))
                 .build();
 
         assertThatThrownBy(() -> dispatcher.on(envelope(event))).isInstanceOf(EdcException.class);
-
+        verify(metrics).record(eq("local://test"), eq(true), any(), eq(false));
     }
 
-    @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void verifyShouldDispatchWithSameTransactionalConfiguration(boolean transactional) {
-
+    @Test
+    void verifyDispatchShouldThrowException_whenStatusResultFailed() {
         when(resolverRegistry.resolve("local")).thenReturn("local");
-        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, "error")));
 
-        @SuppressWarnings("unchecked")
-        ArgumentCaptor<CallbackEventRemoteMessage<TransferProcessCompleted>> captor = ArgumentCaptor.forClass(CallbackEventRemoteMessage.class);
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback("local://test", true)))
+                .build();
 
-        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, transactional, monitor);
+        assertThatThrownBy(() -> dispatcher.on(envelope(event))).isInstanceOf(EdcException.class);
+    }
 
-        var callback = CallbackAddress.Builder.newInstance()
-                .uri("local://test")
-                .events(Set.of("transfer.process.completed"))
-                .transactional(transactional)
-                .build();
+    @Test
+    void verifyShouldDispatchAllCallbacksInParallel() {
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        var pending = new CompletableFuture<StatusResult<Object>>();
+        when(registry.dispatch(any(), any()))
+                .thenReturn(pending)
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
 
         var event = TransferProcessCompleted.Builder.newInstance()
                 .transferProcessId("id")
-                .callbackAddresses(List.of(callback))
+                .callbackAddresses(List.of(callback("local://first", true), callback("local://second", true)))
                 .build();
 
+        var completion = CompletableFuture.runAsync(() -> dispatcher.on(envelope(event)));
 
-        dispatcher.on(envelope(event));
+        // both callbacks are dispatched while the first one is still running
+        verify(registry, timeout(200).times(2)).dispatch(any(), any());
+        assertThat(completion).isNotDone();
 
-        verify(registry).dispatch(any(), captor.capture());
+        pending.complete(StatusResult.success("any"));
+        assertThat(completion).succeedsWithin(Duration.ofSeconds(1));
+    }
 
-        assertThat(captor.getValue().getEventEnvelope().getPayload().getCallbackAddresses())
-                .usingRecursiveFieldByFieldElementComparator()
-                .containsExactly(callback);
+    @Test
+    void verifyDispatchShouldThrowException_whenCallbacksDoNotCompleteInTime() {
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        when(registry.dispatch(any(), any())).thenReturn(new CompletableFuture<>());
 
-    }
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback("local://test", true)))
+                .build();
 
-    @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void verifyShouldNotDispatchWithDifferentTransactionalConfiguration(boolean transactional) {
+        assertThatThrownBy(() -> dispatcher.on(envelope(event)))
+                .isInstanceOf(EdcException.class)
+                .hasMessageContaining("did not complete within 500 ms");
+    }
 
-        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, transactional, monitor);
+    @Test
+    void verifyShouldNotDispatch_whenCallbackIsNotTransactional() {
         when(resolverRegistry.resolve("local")).thenReturn("local");
 
-
-        var callback = CallbackAddress.Builder.newInstance()
-                .uri("local://test")
-                .events(Set.of("transfer.process.completed"))
-                .transactional(!transactional)
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback("local://test", false)))
                 .build();
 
+        dispatcher.on(envelope(event));
+
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void verifyShouldNotDispatch_whenProtocolCannotBeResolved() {
         var event = TransferProcessCompleted.Builder.newInstance()
                 .transferProcessId("id")
-                .callbackAddresses(List.of(callback))
+                .callbackAddresses(List.of(callback("unknown://test", true)))
                 .build();
 
-
         dispatcher.on(envelope(event));
 
         verifyNoInteractions(registry);
+        verify(metrics, never()).record(any(), anyBoolean(), any(), anyBoolean());
+    }
 
+    private CallbackAddress callback(String uri, boolean transactional) {
+        return CallbackAddress.Builder.newInstance()
+                .uri(uri)
+                .events(Set.of("transfer.process.completed"))
+                .transactional(transactional)
+                .build();
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.DELIVERING;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CallbackOutboxTest {
+
+    private final CallbackRegistry callbackRegistry = mock();
+    private final CallbackDeliveryStore store = mock();
+    private final TypeManager typeManager = new TypeManager();
+    private final CallbackOutbox outbox = new CallbackOutbox(callbackRegistry, store, typeManager.getMapper(), new Telemetry());
+
+    @Test
+    void on_shouldSaveADeliveryForEveryMatchingCallback() {
+        var staticCallback = callback("http://static/hooks", false);
+        var dynamicCallback = callback("http://dynamic/hooks", false);
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(dynamicCallback, callback("http://transactional/hooks", true)))
+                .build();
+        when(callbackRegistry.resolve(event.name())).thenReturn(List.of(staticCallback));
+        var envelope = EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
+
+        outbox.on(envelope);
+
+        var captor = ArgumentCaptor.forClass(CallbackDelivery.class);
+        verify(store, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .allSatisfy(delivery -> {
+                    assertThat(delivery.getState()).isEqualTo(DELIVERING.code());
+                    assertThat(delivery.getEventName()).isEqualTo(event.name());
+                    assertThat(delivery.getPayload()).isEqualTo(typeManager.writeValueAsString(envelope));
+                })
+                .extracting(delivery -> delivery.getCallbackAddress().getUri())
+                .containsExactly("http://static/hooks", "http://dynamic/hooks");
+    }
+
+    @Test
+    void on_shouldNotSave_whenNoCallbackMatches() {
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback("http://transactional/hooks", true)))
+                .build();
+        when(callbackRegistry.resolve(any())).thenReturn(List.of());
+
+        outbox.on(EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build());
+
+        verifyNoInteractions(store);
+    }
+
+    private CallbackAddress callback(String uri, boolean transactional) {
+        return CallbackAddress.Builder.newInstance()
+                .uri(uri)
+                .events(Set.of("transfer.process"))
+                .transactional(transactional)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.store;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.connector.controlplane.services.spi.testfixtures.callback.CallbackDeliveryStoreTestBase;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+
+import java.time.Clock;
+import java.time.Duration;
+
+class InMemoryCallbackDeliveryStoreTest extends CallbackDeliveryStoreTestBase {
+
+    private final InMemoryCallbackDeliveryStore store = new InMemoryCallbackDeliveryStore(CONNECTOR_NAME, Clock.systemUTC(), CriterionOperatorRegistryImpl.ofDefaults());
+
+    @Override
+    protected CallbackDeliveryStore getStore() {
+        return store;
+    }
+
+    @Override
+    protected void leaseEntity(String entityId, String owner, Duration duration) {
+        store.acquireLease(entityId, owner, duration);
+    }
+
+    @Override
+    protected boolean isLeasedBy(String entityId, String owner) {
+        return store.isLeasedBy(entityId, owner);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher.http;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryRemoteMessage;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.Vault;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Implementation of {@link GenericHttpDispatcherDelegate} that works for message of type {@link CallbackDeliveryRemoteMessage}:
+ * the already serialized event envelope is posted as it is.
+ */
+public class CallbackDeliveryRemoteMessageDispatcher implements GenericHttpDispatcherDelegate<CallbackDeliveryRemoteMessage, Void> {
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    private final Vault vault;
+
+    public CallbackDeliveryRemoteMessageDispatcher(Vault vault) {
+        this.vault = vault;
+    }
+
+    @Override
+    public Class<CallbackDeliveryRemoteMessage> getMessageType() {
+        return CallbackDeliveryRemoteMessage.class;
+    }
+
+    @Override
+    public Request buildRequest(CallbackDeliveryRemoteMessage message) {
+        var builder = new Request.Builder()
+                .url(message.getCounterPartyAddress())
+                .post(RequestBody.create(message.getPayload(), MediaType.get(APPLICATION_JSON)));
+
+        if (message.getAuthKey() != null) {
+            var authCode = extractAuthCode(message.getEventName(), message.getAuthCodeId());
+            builder.addHeader(message.getAuthKey(), authCode);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Function<Response, Void> parseResponse() {
+        return response -> {
+            if (response.isSuccessful()) {
+                return null;
+            } else {
+                throw new EdcException(format("Received error code %s when calling the callback endpoint at uri: %s", response.code(), response.request().url().url().toString()));
+            }
+        };
+    }
+
+    private String extractAuthCode(String eventName, String authCodeId) {
+        if (authCodeId == null) {
+            throw new EdcException(format("Error dispatching event %s: Auth Code Id cannot be null when the Auth Key was provided", eventName));
+        }
+        return Optional.ofNullable(vault.resolveSecret(authCodeId))
+                .orElseThrow(() -> new EdcException(format("Error dispatching event %s: no secret found in vault with name %s", eventName, authCodeId)));
+    }
+}
@@ -54,6 +54,7 @@ public class CallbackEventDispatcherHttpExtension implements ServiceExtension {
 
         var baseDispatcher = new GenericHttpRemoteDispatcherImpl(client);
         baseDispatcher.registerDelegate(new CallbackEventRemoteMessageDispatcher(typeManager.getMapper(), vault));
+        baseDispatcher.registerDelegate(new CallbackDeliveryRemoteMessageDispatcher(vault));
 
         registry.register(baseDispatcher);
     }
@@ -16,6 +16,8 @@ package org.eclipse.edc.connector.controlplane.callback.dispatcher.http;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryRemoteMessage;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
 import org.eclipse.edc.http.spi.EdcHttpClient;
@@ -68,6 +70,7 @@ public class GenericHttpRemoteDispatcherWrapperTest {
     void setup() {
         receiverEndpointServer = startClientAndServer(CALLBACK_PORT);
         dispatcher.registerDelegate(new CallbackEventRemoteMessageDispatcher(typeManager.getMapper(), vault));
+        dispatcher.registerDelegate(new CallbackDeliveryRemoteMessageDispatcher(vault));
     }
 
     @AfterEach
@@ -153,6 +156,39 @@ public class GenericHttpRemoteDispatcherWrapperTest {
         verify(httpClient, atMostOnce()).execute(any());
     }
 
+    @Test
+    public void send_shouldPostTheSerializedEnvelope_whenDeliveringFromTheOutbox() {
+        var authKey = "authHeader";
+        var authCodeId = "authCodeId";
+        var authCodeIdValue = "authCodeIdValue";
+
+        when(vault.resolveSecret(authCodeId)).thenReturn(authCodeIdValue);
+
+        var callback = CallbackAddress.Builder.newInstance()
+                .events(Set.of("test"))
+                .uri(callbackUrl())
+                .authKey(authKey)
+                .authCodeId(authCodeId)
+                .build();
+
+        var delivery = CallbackDelivery.Builder.newInstance()
+                .callbackAddress(callback)
+                .eventName("transfer.process.completed")
+                .payload("{\"id\":\"test\"}")
+                .build();
+
+        var request = request().withPath("/" + CALLBACK_PATH)
+                .withMethod(HttpMethod.POST.name())
+                .withHeader(authKey, authCodeIdValue)
+                .withBody("{\"id\":\"test\"}");
+
+        receiverEndpointServer.when(request).respond(successfulResponse());
+
+        var future = dispatcher.dispatch(Object.class, new CallbackDeliveryRemoteMessage(delivery, CALLBACK_EVENT_HTTP));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS);
+    }
+
     private HttpResponse successfulResponse() {
         return response()
                 .withStatusCode(HttpStatusCode.OK_200.code())
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.metrics.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryMetrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the callback deliveries on a {@link Timer} tagged with the endpoint, the delivery mode (transactional or
+ * outbox) and the outcome, so that latency and failure rate are available per endpoint.
+ */
+public class MicrometerCallbackDeliveryMetrics implements CallbackDeliveryMetrics {
+
+    public static final String METRIC_NAME = "edc.callbacks.delivery";
+
+    private final MeterRegistry registry;
+    private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    public MicrometerCallbackDeliveryMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void record(String endpoint, boolean transactional, Duration duration, boolean succeeded) {
+        timers.computeIfAbsent(new Key(endpoint, transactional, succeeded), this::register).record(duration);
+    }
+
+    private Timer register(Key key) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent delivering events to the callback endpoints")
+                .tag("endpoint", key.endpoint())
+                .tag("mode", key.transactional() ? "transactional" : "outbox")
+                .tag("outcome", key.succeeded() ? "success" : "failure")
+                .register(registry);
+    }
+
+    private record Key(String endpoint, boolean transactional, boolean succeeded) {
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.metrics.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryMetrics;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import static org.eclipse.edc.metrics.micrometer.MicrometerExtension.ENABLE_METRICS;
+
+/**
+ * Exposes the latency and the outcome of the callback deliveries per endpoint.
+ */
+@Extension(value = MicrometerCallbackMetricsExtension.NAME)
+public class MicrometerCallbackMetricsExtension implements ServiceExtension {
+
+    @Setting
+    public static final String ENABLE_CALLBACK_METRICS = "edc.metrics.callbacks.enabled";
+    public static final String NAME = "Micrometer Callback Metrics";
+
+    @Inject
+    private MeterRegistry registry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public CallbackDeliveryMetrics callbackDeliveryMetrics(ServiceExtensionContext context) {
+        if (!context.getSetting(ENABLE_METRICS, true) || !context.getSetting(ENABLE_CALLBACK_METRICS, true)) {
+            return CallbackDeliveryMetrics.noop();
+        }
+        return new MicrometerCallbackDeliveryMetrics(registry);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.metrics.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.callback.metrics.micrometer.MicrometerCallbackDeliveryMetrics.METRIC_NAME;
+
+class MicrometerCallbackDeliveryMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerCallbackDeliveryMetrics metrics = new MicrometerCallbackDeliveryMetrics(registry);
+
+    @Test
+    void record_shouldTagByEndpointModeAndOutcome() {
+        metrics.record("http://host:8080", true, Duration.ofMillis(10), true);
+        metrics.record("http://host:8080", true, Duration.ofMillis(30), true);
+        metrics.record("http://host:8080", false, Duration.ofMillis(5), false);
+        metrics.record("https://other", false, Duration.ofMillis(1), true);
+
+        var transactional = registry.get(METRIC_NAME).tags("endpoint", "http://host:8080", "mode", "transactional", "outcome", "success").timer();
+        assertThat(transactional.count()).isEqualTo(2);
+        assertThat(transactional.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+
+        var failed = registry.get(METRIC_NAME).tags("endpoint", "http://host:8080", "mode", "outbox", "outcome", "failure").timer();
+        assertThat(failed.count()).isEqualTo(1);
+
+        assertThat(registry.get(METRIC_NAME).tag("endpoint", "https://other").timer().count()).isEqualTo(1);
+        assertThat(registry.get(METRIC_NAME).timers()).hasSize(3);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedDataset;
+import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Fetches the catalogs of the configured {@link CrawlerTarget}s and stores them in the {@link CachedCatalogStore}.
+ * <p>
+ * All targets are requested in parallel. A catalog is only replaced when its digest differs from the cached one, so
+ * unchanged catalogs keep their {@code lastModified} timestamp. The digest is computed over the catalog with keys
+ * sorted and without the ids of the offered policies, because providers generate those per request.
+ * <p>
+ * When a catalog changed, it is expanded and its datasets are stored as {@link CachedDataset}s, with their literal
+ * properties extracted so that they can be queried.
+ */
+public class CatalogCrawler {
+    private static final String HAS_POLICY = "hasPolicy";
+
+    private final CatalogService catalogService;
+    private final CachedCatalogStore store;
+    private final List<CrawlerTarget> targets;
+    private final JsonLd jsonLd;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CatalogCrawler(CatalogService catalogService, CachedCatalogStore store, List<CrawlerTarget> targets,
+                          JsonLd jsonLd, ObjectMapper mapper, Clock clock, Monitor monitor) {
+        this.catalogService = catalogService;
+        this.store = store;
+        this.targets = List.copyOf(targets);
+        this.jsonLd = jsonLd;
+        this.mapper = mapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Crawls all targets. If the previous run has not completed yet, this run is skipped.
+     *
+     * @return a future that completes when all targets have been crawled.
+     */
+    public CompletableFuture<Void> crawl() {
+        if (!running.compareAndSet(false, true)) {
+            monitor.debug("Catalog crawler: previous run still in progress, skipping");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var futures = targets.stream()
+                .map(this::crawl)
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futures)
+                .whenComplete((v, throwable) -> running.set(false));
+    }
+
+    private CompletableFuture<Void> crawl(CrawlerTarget target) {
+        return catalogService.requestCatalog(target.id(), target.address(), target.protocol(), QuerySpec.max())
+                .thenAccept(result -> {
+                    if (result.succeeded()) {
+                        update(target, result.getContent());
+                    } else {
+                        monitor.warning("Catalog crawler: failed to fetch catalog from %s: %s".formatted(target.address(), result.getFailureDetail()));
+                    }
+                })
+                .exceptionally(throwable -> {
+                    monitor.warning("Catalog crawler: failed to fetch catalog from %s".formatted(target.address()), throwable);
+                    return null;
+                });
+    }
+
+    private void update(CrawlerTarget target, byte[] catalog) {
+        var digest = digest(catalog);
+        var now = clock.millis();
+        var cached = store.findById(target.address());
+
+        if (cached != null && cached.getDigest().equals(digest)) {
+            store.save(cached.toBuilder().lastCrawled(now).build());
+            return;
+        }
+
+        var datasets = expand(catalog).map(expanded -> datasets(target, expanded));
+        if (datasets.failed()) {
+            monitor.warning("Catalog crawler: catalog of %s cannot be expanded, keeping the cached one: %s"
+                    .formatted(target.address(), datasets.getFailureDetail()));
+            return;
+        }
+
+        store.save(CachedCatalog.Builder.newInstance()
+                .counterPartyAddress(target.address())
+                .counterPartyId(target.id())
+                .protocol(target.protocol())
+                .digest(digest)
+                .lastModified(now)
+                .lastCrawled(now)
+                .build(), datasets.getContent());
+        monitor.debug(() -> "Catalog crawler: catalog of %s changed".formatted(target.address()));
+    }
+
+    private Result<JsonObject> expand(byte[] catalog) {
+        try (var reader = Json.createReader(new ByteArrayInputStream(catalog))) {
+            return jsonLd.expand(reader.readObject());
+        } catch (JsonException e) {
+            return Result.failure(e.getMessage());
+        }
+    }
+
+    private List<CachedDataset> datasets(CrawlerTarget target, JsonObject catalog) {
+        if (!(catalog.get(DCAT_DATASET_ATTRIBUTE) instanceof JsonArray datasets)) {
+            return List.of();
+        }
+
+        return datasets.stream()
+                .filter(value -> value instanceof JsonObject dataset && dataset.get(ID) instanceof JsonString)
+                .map(JsonValue::asJsonObject)
+                .map(dataset -> CachedDataset.Builder.newInstance()
+                        .id(dataset.getString(ID))
+                        .counterPartyAddress(target.address())
+                        .counterPartyId(target.id())
+                        .properties(properties(dataset))
+                        .dataset(dataset.toString())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Extracts the literal properties of an expanded dataset, a property with more than one value is mapped to a list.
+     * Nested objects, e.g. offers and distributions, are not extracted.
+     */
+    private Map<String, Object> properties(JsonObject dataset) {
+        var properties = new HashMap<String, Object>();
+        dataset.forEach((key, value) -> {
+            if (key.startsWith("@") || !(value instanceof JsonArray values)) {
+                return;
+            }
+            var literals = values.stream()
+                    .filter(it -> it instanceof JsonObject object && object.containsKey(VALUE))
+                    .map(it -> literal(it.asJsonObject().get(VALUE)))
+                    .toList();
+            if (literals.size() == 1) {
+                properties.put(key, literals.get(0));
+            } else if (literals.size() > 1) {
+                properties.put(key, literals);
+            }
+        });
+        return properties;
+    }
+
+    private Object literal(JsonValue value) {
+        return switch (value.getValueType()) {
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> ((JsonNumber) value).numberValue();
+            case TRUE -> true;
+            case FALSE -> false;
+            default -> value.toString();
+        };
+    }
+
+    private String digest(byte[] catalog) {
+        byte[] normalized;
+        try {
+            var tree = mapper.readTree(catalog);
+            removePolicyIds(tree);
+            normalized = mapper.writeValueAsBytes(mapper.treeToValue(tree, Object.class));
+        } catch (IOException e) {
+            normalized = catalog;
+        }
+
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(normalized));
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private void removePolicyIds(JsonNode node) {
+        if (node.isObject()) {
+            node.fields().forEachRemaining(entry -> {
+                if (entry.getKey().endsWith(HAS_POLICY)) {
+                    removeIds(entry.getValue());
+                }
+                removePolicyIds(entry.getValue());
+            });
+        } else if (node.isArray()) {
+            node.forEach(this::removePolicyIds);
+        }
+    }
+
+    private void removeIds(JsonNode policies) {
+        if (policies instanceof ObjectNode policy) {
+            policy.remove(ID);
+        } else if (policies.isArray()) {
+            policies.forEach(this::removeIds);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler;
+
+import org.eclipse.edc.connector.controlplane.catalog.crawler.store.InMemoryCachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+import static org.eclipse.edc.connector.controlplane.catalog.crawler.CatalogCrawlerDefaultServicesExtension.NAME;
+
+/**
+ * Provides the default services of the catalog crawler.
+ */
+@Extension(NAME)
+public class CatalogCrawlerDefaultServicesExtension implements ServiceExtension {
+
+    public static final String NAME = "Catalog Crawler Default Services";
+
+    @Inject
+    private CriterionOperatorRegistry criterionOperatorRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public CachedCatalogStore cachedCatalogStore() {
+        return new InMemoryCachedCatalogStore(criterionOperatorRegistry);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.connector.controlplane.catalog.crawler.CatalogCrawlerExtension.NAME;
+
+/**
+ * Periodically crawls the catalogs of the configured counterparties into the {@link CachedCatalogStore}, so that
+ * catalog browsing does not need a round trip to every provider.
+ */
+@Extension(NAME)
+public class CatalogCrawlerExtension implements ServiceExtension {
+
+    public static final String NAME = "Catalog Crawler";
+
+    public static final String CONFIG_PREFIX = "edc.catalog.crawler.targets";
+    public static final String CONFIG_ALIAS = CONFIG_PREFIX + ".<targetAlias>.";
+    @Setting(context = CONFIG_ALIAS, value = "Participant id of the counterparty")
+    public static final String ID_SUFFIX = "id";
+    @Setting(context = CONFIG_ALIAS, value = "DSP endpoint of the counterparty", required = true)
+    public static final String ADDRESS_SUFFIX = "address";
+    @Setting(context = CONFIG_ALIAS, value = "Protocol used to request the catalog", defaultValue = CatalogCrawlerExtension.DEFAULT_PROTOCOL)
+    public static final String PROTOCOL_SUFFIX = "protocol";
+    static final String DEFAULT_PROTOCOL = "dataspace-protocol-http";
+
+    @Setting(value = "Period in seconds between two crawls", type = "long", defaultValue = "" + CatalogCrawlerExtension.DEFAULT_PERIOD_SECONDS)
+    public static final String PERIOD = "edc.catalog.crawler.period";
+    private static final long DEFAULT_PERIOD_SECONDS = 600;
+    @Setting(value = "Delay in seconds before the first crawl", type = "long", defaultValue = "" + CatalogCrawlerExtension.DEFAULT_INITIAL_DELAY_SECONDS)
+    public static final String INITIAL_DELAY = "edc.catalog.crawler.initial.delay";
+    private static final long DEFAULT_INITIAL_DELAY_SECONDS = 5;
+
+    @Inject
+    private CatalogService catalogService;
+
+    @Inject
+    private CachedCatalogStore store;
+
+    @Inject
+    private JsonLd jsonLd;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private CatalogCrawler crawler;
+    private ScheduledExecutorService executor;
+    private long period;
+    private long initialDelay;
+    private Monitor monitor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        monitor = context.getMonitor();
+        period = context.getSetting(PERIOD, DEFAULT_PERIOD_SECONDS);
+        initialDelay = context.getSetting(INITIAL_DELAY, DEFAULT_INITIAL_DELAY_SECONDS);
+
+        var targets = context.getConfig(CONFIG_PREFIX).partition().map(this::createTarget).toList();
+        crawler = new CatalogCrawler(catalogService, store, targets, jsonLd, typeManager.getMapper(), clock, monitor);
+
+        if (targets.isEmpty()) {
+            monitor.warning("Catalog crawler: no targets configured under %s, no catalog will be crawled".formatted(CONFIG_PREFIX));
+        }
+    }
+
+    @Override
+    public void start() {
+        executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), NAME);
+        executor.scheduleAtFixedRate(this::crawl, initialDelay, period, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        if (executor != null && !executor.isShutdown()) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void crawl() {
+        try {
+            crawler.crawl().join();
+        } catch (Exception e) {
+            monitor.severe("Catalog crawler: crawl failed", e);
+        }
+    }
+
+    private CrawlerTarget createTarget(Config config) {
+        return new CrawlerTarget(config.getString(ID_SUFFIX, null), config.getString(ADDRESS_SUFFIX), config.getString(PROTOCOL_SUFFIX, DEFAULT_PROTOCOL));
+    }
+}
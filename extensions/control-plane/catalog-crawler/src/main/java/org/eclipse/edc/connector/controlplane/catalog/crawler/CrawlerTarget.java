@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A counterparty whose catalog is crawled periodically.
+ *
+ * @param id       the participant id of the counterparty, optional.
+ * @param address  the DSP endpoint of the counterparty.
+ * @param protocol the protocol used to request the catalog.
+ */
+public record CrawlerTarget(@Nullable String id, String address, String protocol) {
+}
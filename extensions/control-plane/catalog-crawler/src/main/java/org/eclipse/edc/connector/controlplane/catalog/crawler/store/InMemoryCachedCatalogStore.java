@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler.store;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedDataset;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.store.ReflectionBasedQueryResolver;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * The default {@link CachedCatalogStore}, catalogs are kept ephemerally in memory.
+ */
+public class InMemoryCachedCatalogStore implements CachedCatalogStore {
+    private final Map<String, CachedCatalog> cache = new ConcurrentHashMap<>();
+    private final Map<String, List<CachedDataset>> datasets = new ConcurrentHashMap<>();
+    private final QueryResolver<CachedDataset> queryResolver;
+
+    public InMemoryCachedCatalogStore(CriterionOperatorRegistry criterionOperatorRegistry) {
+        queryResolver = new ReflectionBasedQueryResolver<>(CachedDataset.class, criterionOperatorRegistry);
+    }
+
+    @Override
+    public @Nullable CachedCatalog findById(String counterPartyAddress) {
+        return cache.get(counterPartyAddress);
+    }
+
+    @Override
+    public Stream<CachedDataset> queryDatasets(QuerySpec querySpec) {
+        return queryResolver.query(datasets.values().stream().flatMap(Collection::stream), querySpec);
+    }
+
+    @Override
+    public void save(CachedCatalog catalog) {
+        cache.put(catalog.getCounterPartyAddress(), catalog);
+    }
+
+    @Override
+    public void save(CachedCatalog catalog, List<CachedDataset> datasets) {
+        this.datasets.put(catalog.getCounterPartyAddress(), List.copyOf(datasets));
+        cache.put(catalog.getCounterPartyAddress(), catalog);
+    }
+}
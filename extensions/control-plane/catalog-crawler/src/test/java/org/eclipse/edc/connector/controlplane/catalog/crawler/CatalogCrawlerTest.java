@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.store.InMemoryCachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedDataset;
+import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogService;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.response.ResponseStatus;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogCrawlerTest {
+
+    private static final String CONTEXT = """
+            {"@vocab": "https://w3id.org/edc/v0.0.1/ns/", "dcat": "http://www.w3.org/ns/dcat#", "odrl": "http://www.w3.org/ns/odrl/2/"}
+            """;
+    private static final String CATALOG = """
+            {"@context": %s, "@id": "catalog", "dcat:dataset": [
+                {"@id": "asset", "name": "weather", "size": 42, "keyword": ["a", "b"], "odrl:hasPolicy": {"@id": "%s", "odrl:permission": []}}
+            ]}
+            """;
+
+    private final CatalogService catalogService = mock();
+    private final CachedCatalogStore store = new InMemoryCachedCatalogStore(CriterionOperatorRegistryImpl.ofDefaults());
+    private final CrawlerTarget target = new CrawlerTarget("providerId", "http://provider/dsp", "protocol");
+    private final CrawlerTarget otherTarget = new CrawlerTarget("otherId", "http://other/dsp", "protocol");
+    private final TitaniumJsonLd jsonLd = new TitaniumJsonLd(mock());
+    private final CatalogCrawler crawler = new CatalogCrawler(catalogService, store, List.of(target, otherTarget),
+            jsonLd, new ObjectMapper(), Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC), mock(Monitor.class));
+
+    @Test
+    void crawl_shouldStoreCatalogsOfAllTargets() {
+        when(catalogService.requestCatalog(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(catalog("offer"))));
+
+        crawler.crawl().join();
+
+        assertThat(store.findById("http://provider/dsp")).isNotNull().satisfies(cached -> {
+            assertThat(cached.getCounterPartyId()).isEqualTo("providerId");
+            assertThat(cached.getProtocol()).isEqualTo("protocol");
+            assertThat(cached.getLastModified()).isEqualTo(1000);
+        });
+        assertThat(store.findById("http://other/dsp")).isNotNull();
+        assertThat(datasetsOf("http://provider/dsp")).hasSize(1).first().satisfies(dataset -> {
+            assertThat(dataset.getId()).isEqualTo("asset");
+            assertThat(dataset.getCounterPartyId()).isEqualTo("providerId");
+            assertThat(dataset.getDataset()).contains("offer");
+        });
+    }
+
+    @Test
+    void crawl_shouldExtractLiteralDatasetProperties() {
+        when(catalogService.requestCatalog(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(catalog("offer"))));
+
+        crawler.crawl().join();
+
+        assertThat(datasetsOf("http://provider/dsp")).hasSize(1).first()
+                .extracting(CachedDataset::getProperties)
+                .satisfies(properties -> {
+                    assertThat(properties).containsEntry(EDC_NAMESPACE + "name", "weather");
+                    assertThat(properties).hasEntrySatisfying(EDC_NAMESPACE + "size",
+                            size -> assertThat(((Number) size).intValue()).isEqualTo(42));
+                    assertThat(properties).containsEntry(EDC_NAMESPACE + "keyword", List.of("a", "b"));
+                    assertThat(properties).doesNotContainKey("http://www.w3.org/ns/odrl/2/hasPolicy");
+                });
+    }
+
+    @Test
+    void crawl_shouldMakeDatasetsQueryableByProperty() {
+        when(catalogService.requestCatalog(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(catalog("offer"))));
+
+        crawler.crawl().join();
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(criterion("properties.'%sname'".formatted(EDC_NAMESPACE), "=", "weather"))
+                .build();
+        assertThat(store.queryDatasets(query)).extracting(CachedDataset::getCounterPartyAddress)
+                .containsExactlyInAnyOrder("http://provider/dsp", "http://other/dsp");
+    }
+
+    @Test
+    void crawl_shouldKeepLastModified_whenCatalogOnlyDiffersInPolicyIds() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1000L, 2000L);
+        var crawler = new CatalogCrawler(catalogService, store, List.of(target), jsonLd, new ObjectMapper(), clock, mock(Monitor.class));
+        when(catalogService.requestCatalog(any(), eq(target.address()), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(catalog("offer1"))))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(catalog("offer2"))));
+
+        crawler.crawl().join();
+        crawler.crawl().join();
+
+        assertThat(store.findById(target.address())).isNotNull().satisfies(cached -> {
+            assertThat(cached.getLastModified()).isEqualTo(1000);
+            assertThat(cached.getLastCrawled()).isEqualTo(2000);
+        });
+        assertThat(datasetsOf(target.address())).hasSize(1).first()
+                .extracting(CachedDataset::getDataset).asString().contains("offer1");
+    }
+
+    @Test
+    void crawl_shouldReplaceCatalog_whenContentChanged() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1000L, 2000L);
+        var crawler = new CatalogCrawler(catalogService, store, List.of(target), jsonLd, new ObjectMapper(), clock, mock(Monitor.class));
+        var changed = "{\"@context\": %s, \"@id\": \"catalog\", \"dcat:dataset\": []}".formatted(CONTEXT).getBytes(UTF_8);
+        when(catalogService.requestCatalog(any(), eq(target.address()), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(catalog("offer"))))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(changed)));
+
+        crawler.crawl().join();
+        crawler.crawl().join();
+
+        assertThat(store.findById(target.address())).isNotNull().satisfies(cached -> {
+            assertThat(cached.getLastModified()).isEqualTo(2000);
+        });
+        assertThat(datasetsOf(target.address())).isEmpty();
+    }
+
+    @Test
+    void crawl_shouldKeepCachedCatalog_whenRequestFails() {
+        when(catalogService.requestCatalog(any(), eq(target.address()), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(catalog("offer"))))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, "error")));
+        when(catalogService.requestCatalog(any(), eq(otherTarget.address()), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new EdcException("unreachable")));
+
+        crawler.crawl().join();
+        crawler.crawl().join();
+
+        assertThat(store.findById(target.address())).isNotNull();
+        assertThat(datasetsOf(target.address())).hasSize(1);
+        assertThat(store.findById(otherTarget.address())).isNull();
+    }
+
+    @Test
+    void crawl_shouldKeepCachedCatalog_whenCatalogCannotBeParsed() {
+        when(catalogService.requestCatalog(any(), eq(target.address()), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(catalog("offer"))))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success("not json".getBytes(UTF_8))));
+        when(catalogService.requestCatalog(any(), eq(otherTarget.address()), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success(catalog("offer"))));
+
+        crawler.crawl().join();
+        crawler.crawl().join();
+
+        assertThat(store.findById(target.address())).isNotNull()
+                .extracting(CachedCatalog::getLastCrawled).isEqualTo(1000L);
+        assertThat(datasetsOf(target.address())).hasSize(1);
+    }
+
+    @Test
+    void crawl_shouldSkip_whenPreviousRunIsInProgress() {
+        var pending = new CompletableFuture<StatusResult<byte[]>>();
+        when(catalogService.requestCatalog(any(), any(), any(), any())).thenReturn(pending);
+
+        var first = crawler.crawl();
+        var second = crawler.crawl();
+
+        assertThat(second).isCompleted();
+        assertThat(first).isNotCompleted();
+
+        pending.complete(StatusResult.success(catalog("offer")));
+        assertThat(first).isCompleted();
+    }
+
+    private List<CachedDataset> datasetsOf(String counterPartyAddress) {
+        var query = QuerySpec.Builder.newInstance().filter(criterion("counterPartyAddress", "=", counterPartyAddress)).build();
+        return store.queryDatasets(query).toList();
+    }
+
+    private byte[] catalog(String policyId) {
+        return CATALOG.formatted(CONTEXT, policyId).getBytes(UTF_8);
+    }
+}
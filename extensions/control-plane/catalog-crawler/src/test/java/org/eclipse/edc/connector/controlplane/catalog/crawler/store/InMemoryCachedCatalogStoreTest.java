@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler.store;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.testfixtures.cache.CachedCatalogStoreTestBase;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+
+class InMemoryCachedCatalogStoreTest extends CachedCatalogStoreTestBase {
+
+    private final InMemoryCachedCatalogStore store = new InMemoryCachedCatalogStore(CriterionOperatorRegistryImpl.ofDefaults());
+
+    @Override
+    protected CachedCatalogStore getStore() {
+        return store;
+    }
+}
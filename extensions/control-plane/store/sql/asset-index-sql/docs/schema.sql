@@ -19,12 +19,19 @@ CREATE TABLE IF NOT EXISTS edc_asset
 (
     asset_id           VARCHAR NOT NULL,
     created_at         BIGINT  NOT NULL,
-    properties         JSON    DEFAULT '{}',
-    private_properties JSON    DEFAULT '{}',
-    data_address       JSON    DEFAULT '{}',
+    properties         JSONB   DEFAULT '{}',
+    private_properties JSONB   DEFAULT '{}',
+    data_address       JSONB   DEFAULT '{}',
     PRIMARY KEY (asset_id)
 );
 
 COMMENT ON COLUMN edc_asset.properties IS 'Asset properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.private_properties IS 'Asset private properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.data_address IS 'Asset DataAddress serialized as JSON';
+
+-- the asset selectors of the contract definitions usually select the assets by their id property
+CREATE INDEX IF NOT EXISTS asset_property_id_index
+    ON edc_asset ((properties ->> 'https://w3id.org/edc/v0.0.1/ns/id'));
+
+-- other properties that are queried very frequently can be served by a dedicated expression index as well, e.g.:
+-- CREATE INDEX asset_property_contenttype_index ON edc_asset ((properties ->> 'https://w3id.org/edc/v0.0.1/ns/contenttype'));
@@ -17,7 +17,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postg
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
 import org.eclipse.edc.spi.query.Criterion;
-import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.SqlOperator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 import org.eclipse.edc.sql.translation.WhereClause;
@@ -35,9 +35,9 @@ public class AssetMapping extends TranslationMapping {
     public AssetMapping(AssetStatements statements) {
         add("id", statements.getAssetIdColumn());
         add("createdAt", statements.getCreatedAtColumn());
-        add("properties", new JsonFieldTranslator(statements.getPropertiesColumn()));
-        add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
-        add("dataAddress", new JsonFieldTranslator(statements.getDataAddressColumn()));
+        add("properties", new JsonbFieldTranslator(statements.getPropertiesColumn()));
+        add("privateProperties", new JsonbFieldTranslator(statements.getPrivatePropertiesColumn()));
+        add("dataAddress", new JsonbFieldTranslator(statements.getDataAddressColumn()));
     }
 
     /**
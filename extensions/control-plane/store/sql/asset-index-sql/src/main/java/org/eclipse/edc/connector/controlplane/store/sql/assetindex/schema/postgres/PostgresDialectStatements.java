@@ -26,6 +26,6 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     @Override
     public String getFormatAsJsonOperator() {
-        return PostgresDialect.getJsonCastOperator();
+        return PostgresDialect.getJsonbCastOperator();
     }
 }
@@ -0,0 +1,45 @@
+--
+--  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+-- THIS SCHEMA HAS BEEN WRITTEN AND TESTED ONLY FOR POSTGRES
+
+-- table: edc_cached_catalog
+CREATE TABLE IF NOT EXISTS edc_cached_catalog
+(
+    counter_party_address VARCHAR NOT NULL PRIMARY KEY,
+    counter_party_id      VARCHAR,
+    protocol              VARCHAR NOT NULL,
+    digest                VARCHAR NOT NULL,
+    last_modified         BIGINT  NOT NULL,
+    last_crawled          BIGINT  NOT NULL
+);
+
+-- table: edc_cached_dataset
+CREATE TABLE IF NOT EXISTS edc_cached_dataset
+(
+    counter_party_address VARCHAR NOT NULL
+        CONSTRAINT cached_dataset_catalog_fk
+            REFERENCES edc_cached_catalog
+            ON DELETE CASCADE,
+    dataset_id            VARCHAR NOT NULL,
+    counter_party_id      VARCHAR,
+    properties            JSONB   DEFAULT '{}',
+    dataset               TEXT    NOT NULL,
+    PRIMARY KEY (counter_party_address, dataset_id)
+);
+
+COMMENT ON COLUMN edc_cached_dataset.properties IS 'Literal dataset properties serialized as JSON, keyed by their expanded IRI';
+COMMENT ON COLUMN edc_cached_dataset.dataset IS 'The whole dataset as expanded JSON-LD';
+
+-- a dataset property that is queried very frequently can be served by a dedicated expression index, e.g.:
+-- CREATE INDEX cached_dataset_title_idx ON edc_cached_dataset ((properties ->> 'http://purl.org/dc/terms/title'));
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.cachedcatalog;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedDataset;
+import org.eclipse.edc.connector.controlplane.store.sql.cachedcatalog.schema.CachedCatalogStatements;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public class SqlCachedCatalogStore extends AbstractSqlStore implements CachedCatalogStore {
+
+    private static final TypeReference<Map<String, Object>> PROPERTIES_TYPE = new TypeReference<>() {
+    };
+
+    private final CachedCatalogStatements statements;
+
+    public SqlCachedCatalogStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                 CachedCatalogStatements statements, ObjectMapper objectMapper, QueryExecutor queryExecutor) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+    }
+
+    @Override
+    public @Nullable CachedCatalog findById(String counterPartyAddress) {
+        Objects.requireNonNull(counterPartyAddress);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return findByIdInternal(connection, counterPartyAddress);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public Stream<CachedDataset> queryDatasets(QuerySpec querySpec) {
+        Objects.requireNonNull(querySpec);
+        return transactionContext.execute(() -> {
+            try {
+                var statement = statements.createDatasetQuery(querySpec);
+                return queryExecutor.query(getConnection(), true, this::mapDataset, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void save(CachedCatalog catalog) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                saveInternal(connection, catalog);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void save(CachedCatalog catalog, List<CachedDataset> datasets) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                saveInternal(connection, catalog);
+                queryExecutor.execute(connection, statements.getDeleteDatasetsTemplate(), catalog.getCounterPartyAddress());
+                datasets.forEach(dataset -> insertDataset(connection, dataset));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private void saveInternal(Connection connection, CachedCatalog catalog) {
+        if (findByIdInternal(connection, catalog.getCounterPartyAddress()) != null) {
+            queryExecutor.execute(connection, statements.getUpdateCatalogTemplate(),
+                    catalog.getCounterPartyId(),
+                    catalog.getProtocol(),
+                    catalog.getDigest(),
+                    catalog.getLastModified(),
+                    catalog.getLastCrawled(),
+                    catalog.getCounterPartyAddress());
+        } else {
+            queryExecutor.execute(connection, statements.getInsertCatalogTemplate(),
+                    catalog.getCounterPartyAddress(),
+                    catalog.getCounterPartyId(),
+                    catalog.getProtocol(),
+                    catalog.getDigest(),
+                    catalog.getLastModified(),
+                    catalog.getLastCrawled());
+        }
+    }
+
+    private void insertDataset(Connection connection, CachedDataset dataset) {
+        queryExecutor.execute(connection, statements.getInsertDatasetTemplate(),
+                dataset.getCounterPartyAddress(),
+                dataset.getId(),
+                dataset.getCounterPartyId(),
+                toJson(dataset.getProperties()),
+                dataset.getDataset());
+    }
+
+    private @Nullable CachedCatalog findByIdInternal(Connection connection, String counterPartyAddress) {
+        return queryExecutor.single(connection, false, this::mapCatalog, statements.getFindCatalogByIdTemplate(), counterPartyAddress);
+    }
+
+    private CachedCatalog mapCatalog(ResultSet resultSet) throws SQLException {
+        return CachedCatalog.Builder.newInstance()
+                .counterPartyAddress(resultSet.getString(statements.getCounterPartyAddressColumn()))
+                .counterPartyId(resultSet.getString(statements.getCounterPartyIdColumn()))
+                .protocol(resultSet.getString(statements.getProtocolColumn()))
+                .digest(resultSet.getString(statements.getDigestColumn()))
+                .lastModified(resultSet.getLong(statements.getLastModifiedColumn()))
+                .lastCrawled(resultSet.getLong(statements.getLastCrawledColumn()))
+                .build();
+    }
+
+    private CachedDataset mapDataset(ResultSet resultSet) throws SQLException {
+        return CachedDataset.Builder.newInstance()
+                .id(resultSet.getString(statements.getDatasetIdColumn()))
+                .counterPartyAddress(resultSet.getString(statements.getCounterPartyAddressColumn()))
+                .counterPartyId(resultSet.getString(statements.getCounterPartyIdColumn()))
+                .properties(fromJson(resultSet.getString(statements.getPropertiesColumn()), PROPERTIES_TYPE))
+                .dataset(resultSet.getString(statements.getDatasetColumn()))
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.cachedcatalog.schema;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+import static java.lang.String.format;
+
+public class BaseSqlCachedCatalogStatements implements CachedCatalogStatements {
+
+    protected final SqlOperatorTranslator operatorTranslator;
+
+    public BaseSqlCachedCatalogStatements(SqlOperatorTranslator operatorTranslator) {
+        this.operatorTranslator = operatorTranslator;
+    }
+
+    @Override
+    public String getFindCatalogByIdTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ?", getCachedCatalogTable(), getCounterPartyAddressColumn());
+    }
+
+    @Override
+    public String getInsertCatalogTemplate() {
+        return executeStatement()
+                .column(getCounterPartyAddressColumn())
+                .column(getCounterPartyIdColumn())
+                .column(getProtocolColumn())
+                .column(getDigestColumn())
+                .column(getLastModifiedColumn())
+                .column(getLastCrawledColumn())
+                .insertInto(getCachedCatalogTable());
+    }
+
+    @Override
+    public String getUpdateCatalogTemplate() {
+        return executeStatement()
+                .column(getCounterPartyIdColumn())
+                .column(getProtocolColumn())
+                .column(getDigestColumn())
+                .column(getLastModifiedColumn())
+                .column(getLastCrawledColumn())
+                .update(getCachedCatalogTable(), getCounterPartyAddressColumn());
+    }
+
+    @Override
+    public String getDeleteDatasetsTemplate() {
+        return executeStatement().delete(getCachedDatasetTable(), getCounterPartyAddressColumn());
+    }
+
+    @Override
+    public String getInsertDatasetTemplate() {
+        return executeStatement()
+                .column(getCounterPartyAddressColumn())
+                .column(getDatasetIdColumn())
+                .column(getCounterPartyIdColumn())
+                .jsonColumn(getPropertiesColumn())
+                .column(getDatasetColumn())
+                .insertInto(getCachedDatasetTable());
+    }
+
+    @Override
+    public SqlQueryStatement createDatasetQuery(QuerySpec querySpec) {
+        var select = format("SELECT * FROM %s", getCachedDatasetTable());
+        return new SqlQueryStatement(select, querySpec, new CachedDatasetMapping(this), operatorTranslator);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.cachedcatalog.schema;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlStatements;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+/**
+ * Defines all statements that are needed for the cached catalog store
+ */
+public interface CachedCatalogStatements extends SqlStatements {
+
+    default String getCachedCatalogTable() {
+        return "edc_cached_catalog";
+    }
+
+    default String getCachedDatasetTable() {
+        return "edc_cached_dataset";
+    }
+
+    default String getCounterPartyAddressColumn() {
+        return "counter_party_address";
+    }
+
+    default String getCounterPartyIdColumn() {
+        return "counter_party_id";
+    }
+
+    default String getProtocolColumn() {
+        return "protocol";
+    }
+
+    default String getDigestColumn() {
+        return "digest";
+    }
+
+    default String getLastModifiedColumn() {
+        return "last_modified";
+    }
+
+    default String getLastCrawledColumn() {
+        return "last_crawled";
+    }
+
+    default String getDatasetIdColumn() {
+        return "dataset_id";
+    }
+
+    default String getPropertiesColumn() {
+        return "properties";
+    }
+
+    default String getDatasetColumn() {
+        return "dataset";
+    }
+
+    String getFindCatalogByIdTemplate();
+
+    String getInsertCatalogTemplate();
+
+    String getUpdateCatalogTemplate();
+
+    String getDeleteDatasetsTemplate();
+
+    String getInsertDatasetTemplate();
+
+    SqlQueryStatement createDatasetQuery(QuerySpec querySpec);
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.cachedcatalog.schema;
+
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
+import org.eclipse.edc.sql.translation.TranslationMapping;
+
+/**
+ * Maps fields of a {@link org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedDataset} onto the
+ * corresponding SQL schema (= column names) enabling access through Postgres JSON operators where applicable
+ */
+public class CachedDatasetMapping extends TranslationMapping {
+
+    public CachedDatasetMapping(CachedCatalogStatements statements) {
+        add("id", statements.getDatasetIdColumn());
+        add("counterPartyAddress", statements.getCounterPartyAddressColumn());
+        add("counterPartyId", statements.getCounterPartyIdColumn());
+        add("properties", new JsonbFieldTranslator(statements.getPropertiesColumn()));
+    }
+}
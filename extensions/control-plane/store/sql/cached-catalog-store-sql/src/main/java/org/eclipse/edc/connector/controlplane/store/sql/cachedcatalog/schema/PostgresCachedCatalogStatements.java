@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.cachedcatalog.schema;
+
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
+
+public class PostgresCachedCatalogStatements extends BaseSqlCachedCatalogStatements {
+
+    public PostgresCachedCatalogStatements() {
+        super(new PostgresqlOperatorTranslator());
+    }
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonbCastOperator();
+    }
+}
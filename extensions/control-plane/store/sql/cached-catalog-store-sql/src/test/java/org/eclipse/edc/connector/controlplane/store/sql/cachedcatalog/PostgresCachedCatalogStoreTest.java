@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.cachedcatalog;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.testfixtures.cache.CachedCatalogStoreTestBase;
+import org.eclipse.edc.connector.controlplane.store.sql.cachedcatalog.schema.CachedCatalogStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.cachedcatalog.schema.PostgresCachedCatalogStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresCachedCatalogStoreTest extends CachedCatalogStoreTestBase {
+
+    private final CachedCatalogStatements statements = new PostgresCachedCatalogStatements();
+    private SqlCachedCatalogStore store;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
+        store = new SqlCachedCatalogStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), statements, new TypeManager().getMapper(), queryExecutor);
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getCachedDatasetTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getCachedCatalogTable() + " CASCADE");
+    }
+
+    @Override
+    protected CachedCatalogStore getStore() {
+        return store;
+    }
+}
@@ -0,0 +1,36 @@
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_lease
+(
+    leased_by      VARCHAR NOT NULL,
+    leased_at      BIGINT,
+    lease_duration INTEGER NOT NULL,
+    lease_id       VARCHAR NOT NULL
+        CONSTRAINT lease_pk
+            PRIMARY KEY
+);
+
+COMMENT ON COLUMN edc_lease.leased_at IS 'posix timestamp of lease';
+COMMENT ON COLUMN edc_lease.lease_duration IS 'duration of lease in milliseconds';
+
+CREATE TABLE IF NOT EXISTS edc_callback_delivery
+(
+    delivery_id          VARCHAR NOT NULL PRIMARY KEY,
+    state                INTEGER NOT NULL            ,
+    created_at           BIGINT  NOT NULL            ,
+    updated_at           BIGINT  NOT NULL            ,
+    state_count          INTEGER DEFAULT 0 NOT NULL,
+    state_time_stamp     BIGINT,
+    trace_context        JSON,
+    error_detail         VARCHAR,
+    lease_id             VARCHAR
+        CONSTRAINT callback_delivery_lease_lease_id_fk
+                    REFERENCES edc_lease
+                    ON DELETE SET NULL,
+    callback_address     JSON    NOT NULL,
+    event_name           VARCHAR NOT NULL,
+    payload              TEXT    NOT NULL
+);
+
+-- the delivery state machine fetches the oldest entries in a given state
+CREATE INDEX IF NOT EXISTS callback_delivery_state_idx ON edc_callback_delivery (state, state_time_stamp);
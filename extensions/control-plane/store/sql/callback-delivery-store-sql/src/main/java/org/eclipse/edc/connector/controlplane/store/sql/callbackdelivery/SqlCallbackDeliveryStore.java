@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery.schema.CallbackDeliveryStatements;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+public class SqlCallbackDeliveryStore extends AbstractSqlStore implements CallbackDeliveryStore {
+
+    private final CallbackDeliveryStatements statements;
+    private final SqlLeaseContextBuilder leaseContext;
+    private final Clock clock;
+    private final String leaseHolderName;
+
+    public SqlCallbackDeliveryStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                    CallbackDeliveryStatements statements, ObjectMapper objectMapper, Clock clock,
+                                    QueryExecutor queryExecutor, String leaseHolderName) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.clock = clock;
+        this.leaseHolderName = leaseHolderName;
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+    }
+
+    @Override
+    public @Nullable CallbackDelivery findById(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return findByIdInternal(connection, id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public @NotNull List<CallbackDelivery> nextNotLeased(int max, Criterion... criteria) {
+        return transactionContext.execute(() -> {
+            var filter = Arrays.stream(criteria).collect(toList());
+            var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
+            var statement = statements.createQuery(querySpec)
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, this::mapDelivery, statement.getQueryAsString(), statement.getParameters())
+            ) {
+                var deliveries = stream.collect(Collectors.toList());
+                deliveries.forEach(delivery -> leaseContext.withConnection(connection).acquireLease(delivery.getId()));
+                return deliveries;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<CallbackDelivery> findByIdAndLease(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var entity = findByIdInternal(connection, id);
+                if (entity == null) {
+                    return StoreResult.notFound(format("CallbackDelivery %s not found", id));
+                }
+
+                leaseContext.withConnection(connection).acquireLease(entity.getId());
+                return StoreResult.success(entity);
+            } catch (IllegalStateException e) {
+                return StoreResult.alreadyLeased(format("CallbackDelivery %s is already leased", id));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void save(CallbackDelivery entity) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existing = findByIdInternal(connection, entity.getId());
+                if (existing != null) {
+                    leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
+                    update(connection, entity);
+                } else {
+                    insert(connection, entity);
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existing = findByIdInternal(connection, id);
+                if (existing != null) {
+                    // attempt to acquire lease - should fail if someone else holds the lease
+                    leaseContext.by(leaseHolderName).withConnection(connection).acquireLease(id);
+
+                    queryExecutor.execute(connection, statements.getDeleteTemplate(), id);
+
+                    //necessary to delete the row in edc_lease
+                    leaseContext.by(leaseHolderName).withConnection(connection).breakLease(id);
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private @Nullable CallbackDelivery findByIdInternal(Connection conn, String id) {
+        return transactionContext.execute(() -> {
+            var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "=", id)).build();
+            var statement = statements.createQuery(querySpec);
+            return queryExecutor.query(conn, true, this::mapDelivery, statement.getQueryAsString(), statement.getParameters())
+                    .findFirst().orElse(null);
+        });
+    }
+
+    private void insert(Connection connection, CallbackDelivery delivery) {
+        var sql = statements.getInsertTemplate();
+        queryExecutor.execute(connection, sql,
+                delivery.getId(),
+                delivery.getState(),
+                delivery.getCreatedAt(),
+                delivery.getUpdatedAt(),
+                delivery.getStateCount(),
+                delivery.getStateTimestamp(),
+                toJson(delivery.getTraceContext()),
+                delivery.getErrorDetail(),
+                toJson(delivery.getCallbackAddress()),
+                delivery.getEventName(),
+                delivery.getPayload()
+        );
+    }
+
+    private void update(Connection connection, CallbackDelivery delivery) {
+        var sql = statements.getUpdateTemplate();
+        queryExecutor.execute(connection, sql,
+                delivery.getState(),
+                delivery.getUpdatedAt(),
+                delivery.getStateCount(),
+                delivery.getStateTimestamp(),
+                toJson(delivery.getTraceContext()),
+                delivery.getErrorDetail(),
+                delivery.getId());
+    }
+
+    private CallbackDelivery mapDelivery(ResultSet resultSet) throws SQLException {
+        return CallbackDelivery.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
+                .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
+                .state(resultSet.getInt(statements.getStateColumn()))
+                .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
+                .stateCount(resultSet.getInt(statements.getStateCountColumn()))
+                .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
+                .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
+                .callbackAddress(fromJson(resultSet.getString(statements.getCallbackAddressColumn()), CallbackAddress.class))
+                .eventName(resultSet.getString(statements.getEventNameColumn()))
+                .payload(resultSet.getString(statements.getPayloadColumn()))
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery.schema.CallbackDeliveryStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery.schema.PostgresCallbackDeliveryStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry.DEFAULT_DATASOURCE;
+
+@Extension(value = SqlCallbackDeliveryStoreExtension.NAME)
+public class SqlCallbackDeliveryStoreExtension implements ServiceExtension {
+
+    public static final String NAME = "SQL callback delivery store";
+
+    @Setting(value = "Name of the datasource to use for accessing callback delivery store", defaultValue = DEFAULT_DATASOURCE)
+    private static final String DATASOURCE_SETTING_NAME = "edc.datasource.callbackdelivery.name";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject(required = false)
+    private CallbackDeliveryStatements statements;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public CallbackDeliveryStore callbackDeliveryStore(ServiceExtensionContext context) {
+        var dataSourceName = context.getConfig().getString(DATASOURCE_SETTING_NAME, DEFAULT_DATASOURCE);
+        return new SqlCallbackDeliveryStore(dataSourceRegistry, dataSourceName, transactionContext,
+                getStatementImpl(), typeManager.getMapper(), clock, queryExecutor, context.getConnectorId());
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private CallbackDeliveryStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresCallbackDeliveryStatements();
+    }
+
+}
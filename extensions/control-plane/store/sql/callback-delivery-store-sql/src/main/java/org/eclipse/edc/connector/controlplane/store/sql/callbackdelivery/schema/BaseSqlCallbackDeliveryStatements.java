@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery.schema;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+import static java.lang.String.format;
+
+public class BaseSqlCallbackDeliveryStatements implements CallbackDeliveryStatements {
+
+    protected final SqlOperatorTranslator operatorTranslator;
+
+    public BaseSqlCallbackDeliveryStatements(SqlOperatorTranslator operatorTranslator) {
+        this.operatorTranslator = operatorTranslator;
+    }
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getStateColumn())
+                .column(getCreatedAtColumn())
+                .column(getUpdatedAtColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .jsonColumn(getTraceContextColumn())
+                .column(getErrorDetailColumn())
+                .jsonColumn(getCallbackAddressColumn())
+                .column(getEventNameColumn())
+                .column(getPayloadColumn())
+                .insertInto(getCallbackDeliveryTable());
+    }
+
+    @Override
+    public String getUpdateTemplate() {
+        return executeStatement()
+                .column(getStateColumn())
+                .column(getUpdatedAtColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .jsonColumn(getTraceContextColumn())
+                .column(getErrorDetailColumn())
+                .update(getCallbackDeliveryTable(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return executeStatement().delete(getCallbackDeliveryTable(), getIdColumn());
+    }
+
+    @Override
+    public String getSelectTemplate() {
+        return "SELECT * FROM %s".formatted(getCallbackDeliveryTable());
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        return new SqlQueryStatement(getSelectTemplate(), querySpec, new CallbackDeliveryMapping(this), operatorTranslator);
+    }
+
+    @Override
+    public String getDeleteLeaseTemplate() {
+        return executeStatement().delete(getLeaseTableName(), getLeaseIdColumn());
+    }
+
+    @Override
+    public String getInsertLeaseTemplate() {
+        return executeStatement()
+                .column(getLeaseIdColumn())
+                .column(getLeasedByColumn())
+                .column(getLeasedAtColumn())
+                .column(getLeaseDurationColumn())
+                .insertInto(getLeaseTableName());
+    }
+
+    @Override
+    public String getUpdateLeaseTemplate() {
+        return executeStatement()
+                .column(getLeaseIdColumn())
+                .update(getCallbackDeliveryTable(), getIdColumn());
+    }
+
+    @Override
+    public String getFindLeaseByEntityTemplate() {
+        return format("SELECT * FROM %s WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
+                getLeaseTableName(), getLeaseIdColumn(), getCallbackDeliveryTable(), getIdColumn());
+    }
+}
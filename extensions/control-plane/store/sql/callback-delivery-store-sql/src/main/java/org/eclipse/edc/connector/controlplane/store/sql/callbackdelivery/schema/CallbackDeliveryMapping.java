@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery.schema;
+
+import org.eclipse.edc.sql.lease.StatefulEntityMapping;
+
+/**
+ * Maps fields of a {@link org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery} onto the
+ * corresponding SQL schema (= column names) enabling access through Postgres JSON operators where applicable
+ */
+public class CallbackDeliveryMapping extends StatefulEntityMapping {
+
+    public CallbackDeliveryMapping(CallbackDeliveryStatements statements) {
+        super(statements);
+        add("stateTimestamp", statements.getStateTimestampColumn());
+        add("eventName", statements.getEventNameColumn());
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery.schema;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.lease.LeaseStatements;
+import org.eclipse.edc.sql.lease.StatefulEntityStatements;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+public interface CallbackDeliveryStatements extends StatefulEntityStatements, LeaseStatements {
+
+    default String getCallbackDeliveryTable() {
+        return "edc_callback_delivery";
+    }
+
+    default String getIdColumn() {
+        return "delivery_id";
+    }
+
+    default String getCallbackAddressColumn() {
+        return "callback_address";
+    }
+
+    default String getEventNameColumn() {
+        return "event_name";
+    }
+
+    default String getPayloadColumn() {
+        return "payload";
+    }
+
+    String getInsertTemplate();
+
+    String getUpdateTemplate();
+
+    String getDeleteTemplate();
+
+    String getSelectTemplate();
+
+    SqlQueryStatement createQuery(QuerySpec querySpec);
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.connector.controlplane.services.spi.testfixtures.callback.CallbackDeliveryStoreTestBase;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery.schema.CallbackDeliveryStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackdelivery.schema.PostgresCallbackDeliveryStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+public class PostgresCallbackDeliveryStoreTest extends CallbackDeliveryStoreTestBase {
+
+    private final CallbackDeliveryStatements statements = new PostgresCallbackDeliveryStatements();
+    private LeaseUtil leaseUtil;
+    private SqlCallbackDeliveryStore store;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
+        var typeManager = new TypeManager();
+        var clock = Clock.systemUTC();
+
+        leaseUtil = new LeaseUtil(extension.getTransactionContext(), extension::getConnection, statements, clock);
+        store = new SqlCallbackDeliveryStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(),
+                statements, typeManager.getMapper(), clock, queryExecutor, CONNECTOR_NAME);
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getCallbackDeliveryTable() + " CASCADE");
+    }
+
+    @Override
+    protected CallbackDeliveryStore getStore() {
+        return store;
+    }
+
+    @Override
+    protected void leaseEntity(String entityId, String owner, Duration duration) {
+        leaseUtil.leaseEntity(entityId, owner, duration);
+    }
+
+    @Override
+    protected boolean isLeasedBy(String entityId, String owner) {
+        return leaseUtil.isLeased(entityId, owner);
+    }
+}
@@ -21,6 +21,7 @@ dependencies {
     implementation(project(":extensions:common:sql:sql-core"))
     implementation(project(":extensions:common:sql:sql-lease"))
     implementation(project(":extensions:control-plane:store:sql:asset-index-sql"))
+    implementation(project(":extensions:control-plane:store:sql:callback-delivery-store-sql"))
     implementation(project(":extensions:control-plane:store:sql:contract-definition-store-sql"))
     implementation(project(":extensions:control-plane:store:sql:contract-negotiation-store-sql"))
     implementation(project(":extensions:control-plane:store:sql:policy-definition-store-sql"))
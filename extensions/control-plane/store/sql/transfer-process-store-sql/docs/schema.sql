@@ -25,24 +25,24 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
     state_time_stamp           BIGINT,
     created_at                 BIGINT            NOT NULL,
     updated_at                 BIGINT            NOT NULL,
-    trace_context              JSON,
+    trace_context              JSONB,
     error_detail               VARCHAR,
-    resource_manifest          JSON,
-    provisioned_resource_set   JSON,
-    content_data_address       JSON,
-    deprovisioned_resources    JSON,
-    private_properties         JSON,
-    callback_addresses         JSON,
+    resource_manifest          JSONB,
+    provisioned_resource_set   JSONB,
+    content_data_address       JSONB,
+    deprovisioned_resources    JSONB,
+    private_properties         JSONB,
+    callback_addresses         JSONB,
     pending                    BOOLEAN  DEFAULT FALSE,
     transfer_type              VARCHAR,
-    protocol_messages          JSON,
+    protocol_messages          JSONB,
     data_plane_id              VARCHAR,
     correlation_id             VARCHAR,
     counter_party_address      VARCHAR,
     protocol                   VARCHAR,
     asset_id                   VARCHAR,
     contract_id                VARCHAR,
-    data_destination           JSON,
+    data_destination           JSONB,
     lease_id                   VARCHAR
             CONSTRAINT transfer_process_lease_lease_id_fk
                 REFERENCES edc_lease
@@ -65,3 +65,6 @@ CREATE UNIQUE INDEX IF NOT EXISTS transfer_process_id_uindex
 
 CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
+
+-- a private property that is queried very frequently can be served by a dedicated expression index, e.g.:
+-- CREATE INDEX transfer_process_private_property_idx ON edc_transfer_process ((private_properties ->> 'key'));
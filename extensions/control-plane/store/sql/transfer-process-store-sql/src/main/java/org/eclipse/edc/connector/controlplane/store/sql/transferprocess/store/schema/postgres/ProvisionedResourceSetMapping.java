@@ -14,7 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres;
 
-import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 
 /**
@@ -25,6 +25,6 @@ class ProvisionedResourceSetMapping extends TranslationMapping {
     private static final String FIELD_RESOURCES = "resources";
 
     ProvisionedResourceSetMapping() {
-        add(FIELD_RESOURCES, new JsonFieldTranslator("resources"));
+        add(FIELD_RESOURCES, new JsonbFieldTranslator("resources"));
     }
 }
@@ -15,7 +15,7 @@
 package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres;
 
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.ResourceManifest;
-import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 
 /**
@@ -27,6 +27,6 @@ class ResourceManifestMapping extends TranslationMapping {
     private static final String FIELD_DEFINITIONS = "definitions";
 
     ResourceManifestMapping() {
-        add(FIELD_DEFINITIONS, new JsonFieldTranslator("definitions"));
+        add(FIELD_DEFINITIONS, new JsonbFieldTranslator("definitions"));
     }
 }
@@ -17,7 +17,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.s
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.TransferProcessStoreStatements;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.sql.lease.StatefulEntityMapping;
-import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 
 /**
  * Maps fields of a {@link TransferProcess} onto the
@@ -54,14 +54,14 @@ public class TransferProcessMapping extends StatefulEntityMapping {
         add(FIELD_PROTOCOL, statements.getProtocolColumn());
         add(FIELD_ASSET_ID, statements.getAssetIdColumn());
         add(FIELD_CONTRACT_ID, statements.getContractIdColumn());
-        add(FIELD_DATA_DESTINATION, new JsonFieldTranslator(statements.getDataDestinationColumn()));
-        add(FIELD_DATAADDRESS, new JsonFieldTranslator(statements.getContentDataAddressColumn()));
-        add(FIELD_CONTENTDATAADDRESS, new JsonFieldTranslator(statements.getContentDataAddressColumn()));
+        add(FIELD_DATA_DESTINATION, new JsonbFieldTranslator(statements.getDataDestinationColumn()));
+        add(FIELD_DATAADDRESS, new JsonbFieldTranslator(statements.getContentDataAddressColumn()));
+        add(FIELD_CONTENTDATAADDRESS, new JsonbFieldTranslator(statements.getContentDataAddressColumn()));
         add(FIELD_RESOURCE_MANIFEST, new ResourceManifestMapping());
-        add(FIELD_PRIVATE_PROPERTIES, new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
+        add(FIELD_PRIVATE_PROPERTIES, new JsonbFieldTranslator(statements.getPrivatePropertiesColumn()));
         add(FIELD_PROVISIONED_RESOURCE_SET, new ProvisionedResourceSetMapping());
         // using the alias instead of the actual column name to avoid name clashes.
-        add(FIELD_DEPROVISIONED_RESOURCES, new JsonFieldTranslator(PostgresDialectStatements.DEPROVISIONED_RESOURCES_ALIAS));
+        add(FIELD_DEPROVISIONED_RESOURCES, new JsonbFieldTranslator(PostgresDialectStatements.DEPROVISIONED_RESOURCES_ALIAS));
         add(FIELD_PENDING, statements.getPendingColumn());
         add(FIELD_TRANSFER_TYPE, statements.getTransferTypeColumn());
         add(FIELD_DATA_PLANE_ID, statements.getDataPlaneIdColumn());
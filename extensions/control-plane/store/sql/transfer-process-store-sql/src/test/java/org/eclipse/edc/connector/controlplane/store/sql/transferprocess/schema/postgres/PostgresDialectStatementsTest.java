@@ -38,7 +38,7 @@ class PostgresDialectStatementsTest {
     void createQuery() {
         var q = query(criterion("id", "=", "foobar"));
 
-        assertThat(statements.createQuery(q).getQueryAsString()).doesNotContain("json_array_elements");
+        assertThat(statements.createQuery(q).getQueryAsString()).doesNotContain("jsonb_array_elements");
     }
 
     @ParameterizedTest
@@ -46,12 +46,12 @@ class PostgresDialectStatementsTest {
     void createQuery_isJsonArray(Criterion criterion) {
         var query = statements.createQuery(query(criterion));
 
-        assertThat(query.getQueryAsString()).contains("->>", "->", "json_array_elements");
+        assertThat(query.getQueryAsString()).contains("->>", "->", "jsonb_array_elements");
     }
 
     @Test
     void getFormatAsJsonOperator() {
-        assertThat(statements.getFormatAsJsonOperator()).isEqualTo("::json");
+        assertThat(statements.getFormatAsJsonOperator()).isEqualTo("::jsonb");
     }
 
     private static class JsonArrayCriteria implements ArgumentsProvider {
@@ -17,11 +17,15 @@
 CREATE TABLE IF NOT EXISTS edc_accesstokendata
 (
     id           VARCHAR NOT NULL PRIMARY KEY,
-    claim_token  JSON    NOT NULL,
-    data_address JSON    NOT NULL,
-    additional_properties JSON DEFAULT '{}'
+    claim_token  JSONB   NOT NULL,
+    data_address JSONB   NOT NULL,
+    additional_properties JSONB DEFAULT '{}'
 );
 
 COMMENT ON COLUMN edc_accesstokendata.claim_token IS 'ClaimToken serialized as JSON map';
 COMMENT ON COLUMN edc_accesstokendata.data_address IS 'DataAddress serialized as JSON map';
 COMMENT ON COLUMN edc_accesstokendata.additional_properties IS 'Optional Additional properties serialized as JSON map';
+
+-- the tokens of a transfer process are looked up by its id when the transfer is terminated or suspended
+CREATE INDEX IF NOT EXISTS accesstokendata_process_id_index
+    ON edc_accesstokendata ((additional_properties ->> 'process_id'));
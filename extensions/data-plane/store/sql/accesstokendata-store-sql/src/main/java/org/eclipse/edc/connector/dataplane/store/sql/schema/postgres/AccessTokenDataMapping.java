@@ -16,7 +16,7 @@ package org.eclipse.edc.connector.dataplane.store.sql.schema.postgres;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.AccessTokenDataStatements;
-import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 
 /**
@@ -27,8 +27,8 @@ public class AccessTokenDataMapping extends TranslationMapping {
 
     public AccessTokenDataMapping(AccessTokenDataStatements statements) {
         add("id", statements.getIdColumn());
-        add("claimToken", new JsonFieldTranslator(statements.getClaimTokenColumn()));
-        add("dataAddress", new JsonFieldTranslator(statements.getDataAddressColumn()));
-        add("additionalProperties", new JsonFieldTranslator(statements.getAdditionalPropertiesColumn()));
+        add("claimToken", new JsonbFieldTranslator(statements.getClaimTokenColumn()));
+        add("dataAddress", new JsonbFieldTranslator(statements.getDataAddressColumn()));
+        add("additionalProperties", new JsonbFieldTranslator(statements.getAdditionalPropertiesColumn()));
     }
 }
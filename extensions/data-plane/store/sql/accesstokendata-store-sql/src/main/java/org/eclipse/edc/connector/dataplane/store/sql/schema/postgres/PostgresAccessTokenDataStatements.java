@@ -26,6 +26,6 @@ public class PostgresAccessTokenDataStatements extends BaseSqlAccessTokenStateme
 
     @Override
     public String getFormatAsJsonOperator() {
-        return PostgresDialect.getJsonCastOperator();
+        return PostgresDialect.getJsonbCastOperator();
     }
 }
@@ -137,6 +137,7 @@ include(":extensions:common:iam:identity-trust:identity-trust-issuers-configurat
 
 include(":extensions:common:json-ld")
 include(":extensions:common:metrics:micrometer-core")
+include(":extensions:common:monitor:monitor-async")
 include(":extensions:common:monitor:monitor-jdk-logger")
 include(":extensions:common:sql:sql-core")
 include(":extensions:common:sql:sql-lease")
@@ -166,6 +167,7 @@ include(":extensions:control-plane:api:management-api:management-api-test-fixtur
 include(":extensions:control-plane:api:management-api:policy-definition-api")
 include(":extensions:control-plane:api:management-api:transfer-process-api")
 include(":extensions:control-plane:api:management-api:edr-cache-api")
+include(":extensions:control-plane:api:management-api:cached-catalog-api")
 include(":extensions:control-plane:transfer:transfer-data-plane")
 include(":extensions:control-plane:transfer:transfer-data-plane-signaling")
 include(":extensions:control-plane:transfer:transfer-pull-http-receiver")
@@ -173,6 +175,8 @@ include(":extensions:control-plane:transfer:transfer-pull-http-dynamic-receiver"
 include(":extensions:control-plane:provision:provision-http")
 
 include(":extensions:control-plane:store:sql:asset-index-sql")
+include(":extensions:control-plane:store:sql:callback-delivery-store-sql")
+include(":extensions:control-plane:store:sql:cached-catalog-store-sql")
 include(":extensions:control-plane:store:sql:contract-definition-store-sql")
 include(":extensions:control-plane:store:sql:contract-negotiation-store-sql")
 include(":extensions:control-plane:store:sql:control-plane-sql")
@@ -180,8 +184,10 @@ include(":extensions:control-plane:store:sql:policy-definition-store-sql")
 include(":extensions:control-plane:store:sql:transfer-process-store-sql")
 include(":extensions:control-plane:callback:callback-event-dispatcher")
 include(":extensions:control-plane:callback:callback-http-dispatcher")
+include(":extensions:control-plane:callback:callback-metrics-micrometer")
 include(":extensions:control-plane:callback:callback-static-endpoint")
 include(":extensions:control-plane:edr:edr-store-receiver")
+include(":extensions:control-plane:catalog-crawler")
 
 
 include(":extensions:data-plane:data-plane-client")
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.system;
+
+/**
+ * Statistics of an in-memory cache, to be exposed through the {@link CacheInstrumentation}.
+ */
+public interface CacheMetrics {
+
+    /**
+     * Number of lookups that were served from the cache.
+     */
+    long getHitCount();
+
+    /**
+     * Number of lookups that were not served from the cache.
+     */
+    long getMissCount();
+
+    /**
+     * Number of entries currently held by the cache.
+     */
+    int getSize();
+}
@@ -15,9 +15,11 @@
 package org.eclipse.edc.spi.telemetry;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -52,6 +54,17 @@ public class Telemetry {
         return traceContext;
     }
 
+    /**
+     * Gets the id of the trace that is active on the current thread
+     *
+     * @return The trace id, null if there's no valid span in the current context
+     */
+    @Nullable
+    public String getCurrentTraceId() {
+        var spanContext = Span.fromContext(Context.current()).getSpanContext();
+        return spanContext.isValid() ? spanContext.getTraceId() : null;
+    }
+
     /**
      * Returns a trace carrier object containing the trace context from the current thread
      *
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.event;
+
+/**
+ * Statistics of the {@link EventRouter}, to be exposed by metrics extensions.
+ */
+public interface EventRouterMetrics {
+
+    /**
+     * Number of events published so far.
+     */
+    long getPublishedCount();
+
+    /**
+     * Total time spent publishing events, in nanoseconds, including the notification of the synchronous subscribers
+     * and the enqueueing for the asynchronous ones.
+     */
+    long getPublishTimeNanos();
+
+    /**
+     * Number of events waiting to be delivered to the asynchronous subscribers.
+     */
+    int getQueuedCount();
+
+    /**
+     * Number of event deliveries to asynchronous subscribers that have been dropped because their queue was full.
+     */
+    long getDroppedCount();
+}
@@ -19,6 +19,8 @@ package org.eclipse.edc.spi.iam;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.Result;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Obtains client security tokens from an identity provider.
  * Providers may implement different authorization protocols such as OAuth2.
@@ -43,4 +45,17 @@ public interface IdentityService {
      */
     Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, VerificationContext context);
 
+    /**
+     * Obtains a client token encoded as a JWT without blocking the calling thread on remote calls.
+     * <p>
+     * The default implementation delegates to {@link #obtainClientCredentials(TokenParameters)} and therefore runs on the
+     * calling thread. Implementations that talk to remote services should override it.
+     *
+     * @param parameters parameter object defining the token properties.
+     * @return future completing with the generated client token.
+     */
+    default CompletableFuture<Result<TokenRepresentation>> obtainClientCredentialsAsync(TokenParameters parameters) {
+        return CompletableFuture.completedFuture(obtainClientCredentials(parameters));
+    }
+
 }
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+
+package org.eclipse.edc.spi.iam;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * The audiences (counterparty IDs) for which the tokens obtained from the {@link IdentityService} may be re-used. Re-used
+ * tokens share the same claims, including the jti, so the counterparties that enforce single-use tokens must not be
+ * listed.
+ */
+public final class TokenReuseAudiences {
+
+    /**
+     * Comma-separated list of the audiences, tokens are re-used for all audiences if it is empty.
+     */
+    public static final String TOKEN_REUSE_AUDIENCES = "edc.iam.sts.token.reuse.audiences";
+
+    private TokenReuseAudiences() {
+    }
+
+    /**
+     * Parses the value of the {@link #TOKEN_REUSE_AUDIENCES} setting.
+     *
+     * @param audiences comma-separated list of audiences.
+     * @return predicate accepting the listed audiences, or all of them if the list is empty.
+     */
+    public static Predicate<String> filter(String audiences) {
+        var allowed = Arrays.stream(audiences.split(","))
+                .map(String::trim)
+                .filter(audience -> !audience.isEmpty())
+                .collect(Collectors.toSet());
+        return allowed.isEmpty() ? audience -> true : allowed::contains;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Position of the last element of a page of a sorted query: the value of the sort field and the id of the element,
+ * which breaks the ties between elements with the same sort value.
+ * <p>
+ * The token is exchanged with the clients in its {@link #encode() encoded} form, that has to be considered opaque.
+ *
+ * @param sortValue the value of the sort field of the last element, can be null.
+ * @param id the id of the last element.
+ */
+public record ContinuationToken(@Nullable Object sortValue, String id) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(DeserializationFeature.USE_LONG_FOR_INTS);
+
+    /**
+     * Returns the token that permits to fetch the page following the passed one, if there could be one.
+     *
+     * @param page the elements of the current page.
+     * @param querySpec the query that returned the page.
+     * @param sortValue extracts the value of the sort field, passed as second argument, from an element.
+     * @param id extracts the id from an element.
+     * @return the token, null if the page is the last one or the query is not sorted.
+     */
+    public static <T> @Nullable ContinuationToken next(List<T> page, QuerySpec querySpec, BiFunction<T, String, Object> sortValue, Function<T, String> id) {
+        if (querySpec.getSortField() == null || page.isEmpty() || page.size() < querySpec.getLimit()) {
+            return null;
+        }
+        var last = page.get(page.size() - 1);
+        var value = sortValue.apply(last, querySpec.getSortField());
+        if (value != null && !(value instanceof String || value instanceof Number || value instanceof Boolean)) {
+            value = value.toString();
+        }
+        return new ContinuationToken(value, id.apply(last));
+    }
+
+    /**
+     * Decodes a token obtained through {@link #encode()}.
+     *
+     * @param token the encoded token.
+     * @return the token, failure if it is not valid.
+     */
+    public static Result<ContinuationToken> decode(String token) {
+        try {
+            var values = MAPPER.readValue(Base64.getUrlDecoder().decode(token), Object[].class);
+            if (values.length != 2 || !(values[1] instanceof String id)) {
+                return Result.failure("Invalid continuation token");
+            }
+            return Result.success(new ContinuationToken(values[0], id));
+        } catch (IllegalArgumentException | IOException e) {
+            return Result.failure("Invalid continuation token");
+        }
+    }
+
+    /**
+     * Encodes the token in an opaque, url safe form.
+     *
+     * @return the encoded token.
+     */
+    public String encode() {
+        try {
+            var json = MAPPER.writeValueAsString(new Object[]{ sortValue, id });
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode continuation token", e);
+        }
+    }
+}
@@ -35,12 +35,14 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_CONTINUATION_TOKEN = EDC_NAMESPACE + "continuationToken";
 
     private int offset = 0;
     private int limit = 50;
     private final List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private ContinuationToken continuationToken;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -57,9 +59,21 @@ public class QuerySpec {
         return sortField;
     }
 
+    /**
+     * The position after which the results are returned, ordered by sort field and id. When set, the stores apply
+     * the position as a predicate (keyset pagination) instead of skipping the preceding results, so every page costs
+     * the same regardless of its depth.
+     *
+     * @return the continuation token, null if not set.
+     */
+    @JsonIgnore
+    public ContinuationToken getContinuationToken() {
+        return continuationToken;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, continuationToken);
     }
 
     @Override
@@ -71,7 +85,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(continuationToken, querySpec.continuationToken);
     }
 
     @Override
@@ -82,6 +96,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", continuationToken=" + continuationToken +
                 '}';
     }
 
@@ -154,6 +169,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder continuationToken(ContinuationToken continuationToken) {
+            querySpec.continuationToken = continuationToken;
+            return this;
+        }
+
         public Builder filter(Criterion criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+
+package org.eclipse.edc.spi.iam;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenReuseAudiencesTest {
+
+    @Test
+    void filter_shouldAcceptListedAudiences() {
+        var filter = TokenReuseAudiences.filter(" did:web:one, did:web:two ,");
+
+        assertThat(filter).accepts("did:web:one", "did:web:two").rejects("did:web:three");
+    }
+
+    @Test
+    void filter_shouldAcceptAllAudiences_whenListIsEmpty() {
+        assertThat(TokenReuseAudiences.filter("")).accepts("did:web:one", "did:web:two");
+        assertThat(TokenReuseAudiences.filter(" , ")).accepts("did:web:one");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContinuationTokenTest {
+
+    @Test
+    void encode_shouldBeDecodable() {
+        var token = new ContinuationToken(1234L, "id");
+
+        var decoded = ContinuationToken.decode(token.encode());
+
+        assertThat(decoded.succeeded()).isTrue();
+        assertThat(decoded.getContent()).isEqualTo(token);
+    }
+
+    @Test
+    void encode_shouldSupportNullSortValue() {
+        var token = new ContinuationToken(null, "id");
+
+        var decoded = ContinuationToken.decode(token.encode());
+
+        assertThat(decoded.getContent()).isEqualTo(token);
+    }
+
+    @Test
+    void decode_shouldFail_whenTokenIsNotValid() {
+        assertThat(ContinuationToken.decode("not-a-token").failed()).isTrue();
+        assertThat(ContinuationToken.decode(new ContinuationToken("value", "id").encode().substring(2)).failed()).isTrue();
+    }
+
+    @Test
+    void next_shouldReturnLastElementPosition_whenPageIsFull() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("value").limit(2).build();
+        var page = List.of(Map.of("id", "1", "value", 1L), Map.of("id", "2", "value", 2L));
+
+        var token = ContinuationToken.next(page, querySpec, (element, field) -> element.get(field), element -> (String) element.get("id"));
+
+        assertThat(token).isEqualTo(new ContinuationToken(2L, "2"));
+    }
+
+    @Test
+    void next_shouldReturnNull_whenPageIsNotFull() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("value").limit(3).build();
+        var page = List.of(Map.of("id", "1", "value", 1L), Map.of("id", "2", "value", 2L));
+
+        var token = ContinuationToken.next(page, querySpec, (element, field) -> element.get(field), element -> (String) element.get("id"));
+
+        assertThat(token).isNull();
+    }
+
+    @Test
+    void next_shouldReturnNull_whenQueryIsNotSorted() {
+        var querySpec = QuerySpec.Builder.newInstance().limit(1).build();
+        var page = List.of(Map.of("id", "1", "value", 1L));
+
+        var token = ContinuationToken.next(page, querySpec, (element, field) -> element.get(field), element -> (String) element.get("id"));
+
+        assertThat(token).isNull();
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A {@link SecureTokenService} is used to create self-signed ID tokens, that can contain a set of claims, and optionally, a
@@ -36,4 +37,16 @@ public interface SecureTokenService {
      */
     Result<TokenRepresentation> createToken(Map<String, String> claims, @Nullable String bearerAccessScope);
 
+    /**
+     * Generates the self-signed ID token without blocking the calling thread on remote calls. The default implementation
+     * delegates to {@link #createToken(Map, String)}, which is fine for STS implementations that sign tokens locally.
+     *
+     * @param claims            a set of claims, that are to be included in the SI token. MUST include {@code iss}, {@code sub} and {@code aud}.
+     * @param bearerAccessScope if non-null, must be a space-separated list of scopes, see {@link #createToken(Map, String)}
+     * @return future completing with the token
+     */
+    default CompletableFuture<Result<TokenRepresentation>> createTokenAsync(Map<String, String> claims, @Nullable String bearerAccessScope) {
+        return CompletableFuture.completedFuture(createToken(claims, bearerAccessScope));
+    }
+
 }
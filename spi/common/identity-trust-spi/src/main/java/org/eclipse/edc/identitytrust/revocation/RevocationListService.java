@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.identitytrust.revocation;
+
+import org.eclipse.edc.identitytrust.model.CredentialStatus;
+import org.eclipse.edc.identitytrust.model.VerifiableCredential;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.result.Result;
+
+/**
+ * Checks the revocation (or suspension) status of a VerifiableCredential based on its {@link CredentialStatus} entry,
+ * for example by looking up the referenced index in a <a href="https://www.w3.org/TR/2023/WD-vc-status-list-20230427/">StatusList2021</a> credential.
+ */
+@ExtensionPoint
+public interface RevocationListService {
+
+    /**
+     * Checks whether the given credential is still valid. The status information has to be issued, and signed, by the
+     * issuer of the credential, status information of any other party must not be trusted.
+     *
+     * @param credential the credential, that contains a {@link CredentialStatus} entry
+     * @return success if the credential is neither revoked nor suspended, a failure otherwise, or if the status could not be determined
+     */
+    Result<Void> checkValidity(VerifiableCredential credential);
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.jsonld.spi;
+
+import jakarta.json.JsonObject;
+
+import java.util.stream.Stream;
+
+/**
+ * An expanded JSON-LD object of which one array-valued property is not materialized, but supplied as a lazy stream of
+ * expanded objects. Serializers can compact and write the elements one at a time, so that the memory needed to render
+ * the object does not depend on the number of elements.
+ *
+ * @param head     the object without the streamed elements. It must contain the streamed property, with an empty array.
+ * @param property the expanded IRI of the streamed property.
+ * @param elements the elements of the streamed property, in expanded form.
+ */
+public record StreamingJsonObject(JsonObject head, String property, Stream<JsonObject> elements) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        elements.close();
+    }
+}
@@ -18,8 +18,21 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
 
+import java.util.concurrent.CompletableFuture;
+
 @ExtensionPoint
 @FunctionalInterface
 public interface Oauth2Client {
     Result<TokenRepresentation> requestToken(Oauth2CredentialsRequest request);
+
+    /**
+     * Asynchronous variant of {@link #requestToken(Oauth2CredentialsRequest)}. The default implementation delegates to
+     * the synchronous method, implementations that do remote calls should override it to not block the caller.
+     *
+     * @param request the credentials request
+     * @return a future that completes with the token, or with a failure if it could not be obtained.
+     */
+    default CompletableFuture<Result<TokenRepresentation>> requestTokenAsync(Oauth2CredentialsRequest request) {
+        return CompletableFuture.completedFuture(requestToken(request));
+    }
 }
@@ -66,10 +66,16 @@ public interface TransactionContext {
     }
 
     /**
-     * Implementations receive callbacks before a transaction commits or is rolled back.
+     * Implementations receive callbacks before a transaction commits or is rolled back, and optionally after it completed.
      */
     @FunctionalInterface
     interface TransactionSynchronization {
         void beforeCompletion();
+
+        /**
+         * Called after the transaction has been committed or rolled back, when its changes are visible to other transactions.
+         */
+        default void afterCompletion() {
+        }
     }
 }
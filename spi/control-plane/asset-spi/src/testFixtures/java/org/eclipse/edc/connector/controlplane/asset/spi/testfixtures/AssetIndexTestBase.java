@@ -19,6 +19,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.Assertions;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -390,6 +392,25 @@ public abstract class AssetIndexTestBase {
             assertThat(result).usingRecursiveFieldByFieldElementComparator().containsAll(assets);
         }
 
+        @Test
+        void shouldContinueFromToken() {
+            IntStream.range(0, 10)
+                    .mapToObj(i -> createAsset(i % 2 == 0 ? "even" : "odd", "id" + i))
+                    .forEach(a -> getAssetIndex().create(a));
+            var result = new ArrayList<Asset>();
+
+            var spec = QuerySpec.Builder.newInstance().sortField(Asset.PROPERTY_NAME).limit(3).build();
+            while (spec != null) {
+                var page = getAssetIndex().queryAssets(spec).toList();
+                result.addAll(page);
+                var token = ContinuationToken.next(page, spec, (asset, field) -> asset.getPropertyOrPrivate(field), Asset::getId);
+                spec = token == null ? null : QuerySpec.Builder.newInstance().sortField(Asset.PROPERTY_NAME).limit(3).continuationToken(token).build();
+            }
+
+            assertThat(result).extracting(Asset::getId)
+                    .containsExactly("id0", "id2", "id4", "id6", "id8", "id1", "id3", "id5", "id7", "id9");
+        }
+
         @Test
         void withPrivateSorting() {
             var assets = IntStream.range(0, 10)
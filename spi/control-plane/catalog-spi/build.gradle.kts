@@ -14,12 +14,18 @@
 
 plugins {
     `java-library`
+    `java-test-fixtures`
 }
 
 
 dependencies {
     api(project(":spi:common:core-spi"))
     api(project(":spi:control-plane:asset-spi"))
+
+    // needed by the abstract test spec located in testFixtures
+    testFixturesImplementation(libs.bundles.jupiter)
+    testFixturesImplementation(libs.assertj)
+    testFixturesRuntimeOnly(libs.junit.jupiter.engine)
 }
 
 
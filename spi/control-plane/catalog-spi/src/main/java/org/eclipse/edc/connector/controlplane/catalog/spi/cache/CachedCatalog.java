@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.spi.cache;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * The catalog of a counterparty as it was last fetched by the catalog crawler. The datasets of the catalog are stored
+ * separately as {@link CachedDataset}s, so that they can be queried by their properties.
+ * <p>
+ * The {@code digest} identifies the catalog content and is used to detect whether a catalog changed between two
+ * crawls: {@code lastModified} is only moved forward when the digest changes, whereas {@code lastCrawled} is updated on
+ * every successful crawl.
+ */
+public class CachedCatalog {
+    private String counterPartyAddress;
+    private String counterPartyId;
+    private String protocol;
+    private String digest;
+    private long lastModified;
+    private long lastCrawled;
+
+    private CachedCatalog() {
+    }
+
+    /**
+     * The DSP endpoint of the counterparty, which uniquely identifies the cached catalog.
+     */
+    public String getCounterPartyAddress() {
+        return counterPartyAddress;
+    }
+
+    @Nullable
+    public String getCounterPartyId() {
+        return counterPartyId;
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public long getLastCrawled() {
+        return lastCrawled;
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .counterPartyAddress(counterPartyAddress)
+                .counterPartyId(counterPartyId)
+                .protocol(protocol)
+                .digest(digest)
+                .lastModified(lastModified)
+                .lastCrawled(lastCrawled);
+    }
+
+    public static class Builder {
+        private final CachedCatalog cachedCatalog;
+
+        private Builder() {
+            cachedCatalog = new CachedCatalog();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder counterPartyAddress(String counterPartyAddress) {
+            cachedCatalog.counterPartyAddress = counterPartyAddress;
+            return this;
+        }
+
+        public Builder counterPartyId(String counterPartyId) {
+            cachedCatalog.counterPartyId = counterPartyId;
+            return this;
+        }
+
+        public Builder protocol(String protocol) {
+            cachedCatalog.protocol = protocol;
+            return this;
+        }
+
+        public Builder digest(String digest) {
+            cachedCatalog.digest = digest;
+            return this;
+        }
+
+        public Builder lastModified(long lastModified) {
+            cachedCatalog.lastModified = lastModified;
+            return this;
+        }
+
+        public Builder lastCrawled(long lastCrawled) {
+            cachedCatalog.lastCrawled = lastCrawled;
+            return this;
+        }
+
+        public CachedCatalog build() {
+            Objects.requireNonNull(cachedCatalog.counterPartyAddress, "counterPartyAddress");
+            Objects.requireNonNull(cachedCatalog.protocol, "protocol");
+            Objects.requireNonNull(cachedCatalog.digest, "digest");
+            return cachedCatalog;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.spi.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Stores the catalogs fetched by the catalog crawler, one per counterparty address, together with their datasets.
+ */
+@ExtensionPoint
+public interface CachedCatalogStore {
+
+    /**
+     * Returns the cached catalog of the given counterparty, or null if it has not been crawled yet.
+     *
+     * @param counterPartyAddress the DSP endpoint of the counterparty.
+     * @return the cached catalog, or null.
+     */
+    @Nullable
+    CachedCatalog findById(String counterPartyAddress);
+
+    /**
+     * Queries the cached datasets of all counterparties.
+     *
+     * @param querySpec the query, criteria refer to the {@link CachedDataset} fields.
+     * @return the matching datasets.
+     */
+    Stream<CachedDataset> queryDatasets(QuerySpec querySpec);
+
+    /**
+     * Stores the catalog, replacing the one previously cached for the same counterparty address. The datasets cached
+     * for the counterparty are left untouched.
+     *
+     * @param catalog the catalog.
+     */
+    void save(CachedCatalog catalog);
+
+    /**
+     * Stores the catalog together with its datasets, replacing the catalog and all the datasets previously cached for
+     * the same counterparty address.
+     *
+     * @param catalog  the catalog.
+     * @param datasets the datasets of the catalog.
+     */
+    void save(CachedCatalog catalog, List<CachedDataset> datasets);
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.spi.cache;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A dataset of a {@link CachedCatalog}.
+ * <p>
+ * The literal properties of the dataset are kept in {@code properties}, keyed by their expanded IRI, so that the cached
+ * datasets can be queried like assets, e.g. with {@code properties.'https://w3id.org/edc/v0.0.1/ns/name'}. The whole
+ * dataset, including its offers and distributions, is kept in {@code dataset} as expanded JSON-LD.
+ */
+public class CachedDataset {
+    private String id;
+    private String counterPartyAddress;
+    private String counterPartyId;
+    private Map<String, Object> properties = new HashMap<>();
+    private String dataset;
+
+    private CachedDataset() {
+    }
+
+    /**
+     * The id of the dataset, unique within the catalog of a counterparty.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The DSP endpoint of the counterparty that offers the dataset.
+     */
+    public String getCounterPartyAddress() {
+        return counterPartyAddress;
+    }
+
+    @Nullable
+    public String getCounterPartyId() {
+        return counterPartyId;
+    }
+
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    /**
+     * The dataset as expanded JSON-LD.
+     */
+    public String getDataset() {
+        return dataset;
+    }
+
+    public static class Builder {
+        private final CachedDataset cachedDataset;
+
+        private Builder() {
+            cachedDataset = new CachedDataset();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            cachedDataset.id = id;
+            return this;
+        }
+
+        public Builder counterPartyAddress(String counterPartyAddress) {
+            cachedDataset.counterPartyAddress = counterPartyAddress;
+            return this;
+        }
+
+        public Builder counterPartyId(String counterPartyId) {
+            cachedDataset.counterPartyId = counterPartyId;
+            return this;
+        }
+
+        public Builder properties(Map<String, Object> properties) {
+            cachedDataset.properties = properties;
+            return this;
+        }
+
+        public Builder property(String key, Object value) {
+            cachedDataset.properties.put(key, value);
+            return this;
+        }
+
+        public Builder dataset(String dataset) {
+            cachedDataset.dataset = dataset;
+            return this;
+        }
+
+        public CachedDataset build() {
+            Objects.requireNonNull(cachedDataset.id, "id");
+            Objects.requireNonNull(cachedDataset.counterPartyAddress, "counterPartyAddress");
+            Objects.requireNonNull(cachedDataset.properties, "properties");
+            Objects.requireNonNull(cachedDataset.dataset, "dataset");
+            return cachedDataset;
+        }
+    }
+}
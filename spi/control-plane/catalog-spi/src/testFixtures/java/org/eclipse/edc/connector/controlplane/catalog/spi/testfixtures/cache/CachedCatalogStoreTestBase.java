@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.spi.testfixtures.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedCatalogStore;
+import org.eclipse.edc.connector.controlplane.catalog.spi.cache.CachedDataset;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+public abstract class CachedCatalogStoreTestBase {
+
+    protected static final String NAME = "https://w3id.org/edc/v0.0.1/ns/name";
+    protected static final String CONTENT_TYPE = "https://w3id.org/edc/v0.0.1/ns/contenttype";
+
+    protected abstract CachedCatalogStore getStore();
+
+    @Nested
+    class FindById {
+
+        @Test
+        void shouldReturnCatalog() {
+            var catalog = cachedCatalog("http://provider/dsp", "provider", "digest");
+            getStore().save(catalog);
+
+            assertThat(getStore().findById("http://provider/dsp")).usingRecursiveComparison().isEqualTo(catalog);
+        }
+
+        @Test
+        void shouldReturnNull_whenNotCached() {
+            assertThat(getStore().findById("http://unknown/dsp")).isNull();
+        }
+    }
+
+    @Nested
+    class Save {
+
+        @Test
+        void shouldReplaceCatalogOfSameAddress() {
+            getStore().save(cachedCatalog("http://provider/dsp", "provider", "digest1"));
+            getStore().save(cachedCatalog("http://provider/dsp", "provider", "digest2"));
+
+            assertThat(getStore().findById("http://provider/dsp")).isNotNull()
+                    .extracting(CachedCatalog::getDigest).isEqualTo("digest2");
+        }
+
+        @Test
+        void shouldKeepDatasets_whenSavedWithoutDatasets() {
+            var catalog = cachedCatalog("http://provider/dsp", "provider", "digest");
+            getStore().save(catalog, List.of(cachedDataset("asset", "http://provider/dsp", "provider", "name")));
+
+            getStore().save(catalog.toBuilder().lastCrawled(3000).build());
+
+            assertThat(getStore().findById("http://provider/dsp")).isNotNull()
+                    .extracting(CachedCatalog::getLastCrawled).isEqualTo(3000L);
+            assertThat(getStore().queryDatasets(QuerySpec.max())).hasSize(1);
+        }
+
+        @Test
+        void shouldReplaceDatasetsOfSameAddress() {
+            var catalog = cachedCatalog("http://provider/dsp", "provider", "digest1");
+            getStore().save(catalog, List.of(
+                    cachedDataset("asset1", "http://provider/dsp", "provider", "name1"),
+                    cachedDataset("asset2", "http://provider/dsp", "provider", "name2")));
+            getStore().save(cachedCatalog("http://other/dsp", "other", "digest"),
+                    List.of(cachedDataset("asset1", "http://other/dsp", "other", "name1")));
+
+            getStore().save(catalog.toBuilder().digest("digest2").build(),
+                    List.of(cachedDataset("asset3", "http://provider/dsp", "provider", "name3")));
+
+            var query = QuerySpec.Builder.newInstance().filter(criterion("counterPartyAddress", "=", "http://provider/dsp")).build();
+            assertThat(getStore().queryDatasets(query)).hasSize(1).first()
+                    .extracting(CachedDataset::getId).isEqualTo("asset3");
+            assertThat(getStore().queryDatasets(QuerySpec.max())).hasSize(2);
+        }
+    }
+
+    @Nested
+    class QueryDatasets {
+
+        @Test
+        void shouldReturnDatasetsWithProperties() {
+            var dataset = cachedDataset("asset", "http://provider/dsp", "provider", "name");
+            getStore().save(cachedCatalog("http://provider/dsp", "provider", "digest"), List.of(dataset));
+
+            assertThat(getStore().queryDatasets(QuerySpec.max())).hasSize(1).first()
+                    .usingRecursiveComparison().isEqualTo(dataset);
+        }
+
+        @Test
+        void shouldFilterByCounterPartyId() {
+            getStore().save(cachedCatalog("http://provider1/dsp", "provider1", "digest"),
+                    List.of(cachedDataset("asset1", "http://provider1/dsp", "provider1", "name")));
+            getStore().save(cachedCatalog("http://provider2/dsp", "provider2", "digest"),
+                    List.of(cachedDataset("asset2", "http://provider2/dsp", "provider2", "name")));
+
+            var query = QuerySpec.Builder.newInstance().filter(criterion("counterPartyId", "=", "provider2")).build();
+
+            assertThat(getStore().queryDatasets(query)).hasSize(1).first()
+                    .extracting(CachedDataset::getId).isEqualTo("asset2");
+        }
+
+        @Test
+        void shouldFilterByProperty() {
+            getStore().save(cachedCatalog("http://provider/dsp", "provider", "digest"), List.of(
+                    cachedDataset("asset1", "http://provider/dsp", "provider", "weather"),
+                    cachedDataset("asset2", "http://provider/dsp", "provider", "traffic")));
+
+            var query = QuerySpec.Builder.newInstance()
+                    .filter(criterion("properties.'%s'".formatted(NAME), "=", "traffic"))
+                    .build();
+
+            assertThat(getStore().queryDatasets(query)).hasSize(1).first()
+                    .extracting(CachedDataset::getId).isEqualTo("asset2");
+        }
+
+        @Test
+        void shouldFilterByPropertyWithLike() {
+            getStore().save(cachedCatalog("http://provider/dsp", "provider", "digest"), List.of(
+                    cachedDataset("asset1", "http://provider/dsp", "provider", "weather-berlin"),
+                    cachedDataset("asset2", "http://provider/dsp", "provider", "traffic-berlin"),
+                    cachedDataset("asset3", "http://provider/dsp", "provider", "weather-munich")));
+
+            var query = QuerySpec.Builder.newInstance()
+                    .filter(criterion("properties.'%s'".formatted(NAME), "like", "weather%"))
+                    .build();
+
+            assertThat(getStore().queryDatasets(query)).extracting(CachedDataset::getId)
+                    .containsExactlyInAnyOrder("asset1", "asset3");
+        }
+
+        @Test
+        void shouldSortAndPage() {
+            getStore().save(cachedCatalog("http://provider/dsp", "provider", "digest"), List.of(
+                    cachedDataset("asset1", "http://provider/dsp", "provider", "name"),
+                    cachedDataset("asset3", "http://provider/dsp", "provider", "name"),
+                    cachedDataset("asset2", "http://provider/dsp", "provider", "name")));
+
+            var query = QuerySpec.Builder.newInstance()
+                    .sortField("id").sortOrder(SortOrder.DESC)
+                    .offset(1).limit(2)
+                    .build();
+
+            assertThat(getStore().queryDatasets(query)).extracting(CachedDataset::getId)
+                    .containsExactly("asset2", "asset1");
+        }
+
+        @Test
+        void shouldReturnEmpty_whenNoMatch() {
+            getStore().save(cachedCatalog("http://provider/dsp", "provider", "digest"),
+                    List.of(cachedDataset("asset", "http://provider/dsp", "provider", "name")));
+
+            var query = QuerySpec.Builder.newInstance().filter(criterion("id", "=", "unknown")).build();
+
+            assertThat(getStore().queryDatasets(query)).isEmpty();
+        }
+    }
+
+    private CachedCatalog cachedCatalog(String address, String counterPartyId, String digest) {
+        return CachedCatalog.Builder.newInstance()
+                .counterPartyAddress(address)
+                .counterPartyId(counterPartyId)
+                .protocol("protocol")
+                .digest(digest)
+                .lastModified(1000)
+                .lastCrawled(2000)
+                .build();
+    }
+
+    private CachedDataset cachedDataset(String id, String address, String counterPartyId, String name) {
+        return CachedDataset.Builder.newInstance()
+                .id(id)
+                .counterPartyAddress(address)
+                .counterPartyId(counterPartyId)
+                .property(NAME, name)
+                .property(CONTENT_TYPE, "application/json")
+                .dataset("{\"@id\":\"%s\"}".formatted(id))
+                .build();
+    }
+}
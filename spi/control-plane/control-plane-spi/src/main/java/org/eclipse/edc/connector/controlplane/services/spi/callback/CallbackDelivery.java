@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.util.Objects;
+
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.DELIVERED;
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.DELIVERING;
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.FAILED;
+
+/**
+ * Entry of the callback outbox: an event that has to be delivered to a non-transactional {@link CallbackAddress}.
+ * The event envelope is stored already serialized, so that it is delivered as it was when the event was published.
+ */
+public class CallbackDelivery extends StatefulEntity<CallbackDelivery> {
+
+    private CallbackAddress callbackAddress;
+    private String eventName;
+    private String payload;
+
+    @Override
+    public CallbackDelivery copy() {
+        var builder = Builder.newInstance()
+                .callbackAddress(callbackAddress)
+                .eventName(eventName)
+                .payload(payload);
+        return copy(builder);
+    }
+
+    @Override
+    public String stateAsString() {
+        return CallbackDeliveryStates.from(state).name();
+    }
+
+    public CallbackAddress getCallbackAddress() {
+        return callbackAddress;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void transitionToDelivering() {
+        transitionTo(DELIVERING.code());
+    }
+
+    public void transitionToDelivered() {
+        transitionTo(DELIVERED.code());
+    }
+
+    public void transitionToFailed(String errorDetail) {
+        this.errorDetail = errorDetail;
+        transitionTo(FAILED.code());
+    }
+
+    public static class Builder extends StatefulEntity.Builder<CallbackDelivery, Builder> {
+
+        private Builder(CallbackDelivery entity) {
+            super(entity);
+        }
+
+        public static Builder newInstance() {
+            return new Builder(new CallbackDelivery());
+        }
+
+        public Builder callbackAddress(CallbackAddress callbackAddress) {
+            entity.callbackAddress = callbackAddress;
+            return this;
+        }
+
+        public Builder eventName(String eventName) {
+            entity.eventName = eventName;
+            return this;
+        }
+
+        public Builder payload(String payload) {
+            entity.payload = payload;
+            return this;
+        }
+
+        @Override
+        public Builder self() {
+            return this;
+        }
+
+        @Override
+        public CallbackDelivery build() {
+            Objects.requireNonNull(entity.callbackAddress, "callbackAddress");
+            Objects.requireNonNull(entity.eventName, "eventName");
+            Objects.requireNonNull(entity.payload, "payload");
+            return super.build();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import java.time.Duration;
+
+/**
+ * Records the outcome of every callback invocation, so that latency and failures can be observed per endpoint.
+ */
+@FunctionalInterface
+public interface CallbackDeliveryMetrics {
+
+    static CallbackDeliveryMetrics noop() {
+        return (endpoint, transactional, duration, succeeded) -> { };
+    }
+
+    /**
+     * Records a callback invocation.
+     *
+     * @param endpoint      the endpoint, in the form {@code scheme://host[:port]}, to keep the cardinality bounded.
+     * @param transactional whether the callback was transactional.
+     * @param duration      the time elapsed between the dispatch and its completion.
+     * @param succeeded     whether the invocation succeeded.
+     */
+    void record(String endpoint, boolean transactional, Duration duration, boolean succeeded);
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+
+/**
+ * Message for delivering a {@link CallbackDelivery} to external systems via {@link RemoteMessageDispatcherRegistry}.
+ * Unlike {@link CallbackEventRemoteMessage}, the event envelope is already serialized.
+ */
+public class CallbackDeliveryRemoteMessage implements RemoteMessage {
+
+    private final String protocol;
+    private final CallbackAddress callbackAddress;
+    private final String eventName;
+    private final String payload;
+
+    public CallbackDeliveryRemoteMessage(CallbackDelivery delivery, String protocol) {
+        this.callbackAddress = delivery.getCallbackAddress();
+        this.eventName = delivery.getEventName();
+        this.payload = delivery.getPayload();
+        this.protocol = protocol;
+    }
+
+    @Override
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public String getCounterPartyAddress() {
+        return callbackAddress.getUri();
+    }
+
+    @Override
+    public String getCounterPartyId() {
+        return null;
+    }
+
+    public String getAuthKey() {
+        return callbackAddress.getAuthKey();
+    }
+
+    public String getAuthCodeId() {
+        return callbackAddress.getAuthCodeId();
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+
+/**
+ * Outbox of the non-transactional callbacks. Entries are saved in the same transaction in which the event is
+ * published, and they are taken over by the delivery state machine afterwards.
+ */
+public interface CallbackDeliveryStore extends StateEntityStore<CallbackDelivery> {
+
+    /**
+     * Deletes the entry with the given id.
+     *
+     * @param id the entry id.
+     * @throws IllegalStateException if the entry is leased.
+     */
+    void delete(String id);
+}
@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.services.spi.testfixtures.callback;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStore;
+import org.eclipse.edc.spi.entity.Entity;
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.result.StoreFailure;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.DELIVERED;
+import static org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDeliveryStates.DELIVERING;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
+import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
+import static org.hamcrest.Matchers.hasSize;
+
+public abstract class CallbackDeliveryStoreTestBase {
+
+    protected static final String CONNECTOR_NAME = "test-connector";
+
+    @Nested
+    class Create {
+
+        @Test
+        void shouldStoreEntity_whenItDoesNotAlreadyExist() {
+            var delivery = createCallbackDelivery(UUID.randomUUID().toString(), DELIVERING);
+            getStore().save(delivery);
+
+            var result = getStore().findById(delivery.getId());
+
+            assertThat(result).isNotNull().usingRecursiveComparison().isEqualTo(delivery);
+            assertThat(result.getCreatedAt()).isGreaterThan(0);
+        }
+
+        @Test
+        void shouldUpdate_whenEntityAlreadyExist() {
+            var delivery = createCallbackDelivery(UUID.randomUUID().toString(), DELIVERING);
+            getStore().save(delivery);
+
+            delivery.transitionToDelivered();
+            getStore().save(delivery);
+
+            var result = getStore().findById(delivery.getId());
+
+            assertThat(result).isNotNull();
+            assertThat(result.getState()).isEqualTo(DELIVERED.code());
+        }
+    }
+
+    @Nested
+    class NextNotLeased {
+        @Test
+        void shouldReturnNotLeasedItems() {
+            var all = range(0, 5)
+                    .mapToObj(i -> createCallbackDelivery("id-" + i, DELIVERING))
+                    .peek(this::delayByTenMillis)
+                    .peek(getStore()::save)
+                    .toList();
+
+            var leased = getStore().nextNotLeased(2, hasState(DELIVERING.code()));
+
+            assertThat(leased).hasSize(2).extracting(CallbackDelivery::getId)
+                    .isSubsetOf(all.stream().map(Entity::getId).toList())
+                    .allMatch(id -> isLeasedBy(id, CONNECTOR_NAME));
+
+            assertThat(leased).extracting(StatefulEntity::getStateTimestamp).isSorted();
+        }
+
+        @Test
+        void shouldReturnFreeEntities() {
+            var all = range(0, 5)
+                    .mapToObj(i -> createCallbackDelivery("id-" + i, DELIVERING))
+                    .peek(getStore()::save)
+                    .toList();
+
+            var firstLeased = getStore().nextNotLeased(2, hasState(DELIVERING.code()));
+            var leased = getStore().nextNotLeased(2, hasState(DELIVERING.code()));
+
+            assertThat(leased.stream().map(Entity::getId)).hasSize(2)
+                    .isSubsetOf(all.stream().map(Entity::getId).toList())
+                    .doesNotContainAnyElementsOf(firstLeased.stream().map(Entity::getId).toList());
+        }
+
+        @Test
+        void shouldReturnFreeItemInTheExpectedState() {
+            range(0, 5)
+                    .mapToObj(i -> createCallbackDelivery("id-" + i, DELIVERING))
+                    .forEach(getStore()::save);
+
+            var leased = getStore().nextNotLeased(2, hasState(DELIVERED.code()));
+
+            assertThat(leased).isEmpty();
+        }
+
+        @Test
+        void shouldLeaseAgainAfterTimePassed() {
+            var delivery = createCallbackDelivery(UUID.randomUUID().toString(), DELIVERING);
+            getStore().save(delivery);
+
+            leaseEntity(delivery.getId(), CONNECTOR_NAME, Duration.ofMillis(100));
+
+            await().atMost(timeout())
+                    .until(() -> getStore().nextNotLeased(1, hasState(DELIVERING.code())), hasSize(1));
+        }
+
+        @Test
+        void shouldReturnReleasedEntityByUpdate() {
+            var delivery = createCallbackDelivery(UUID.randomUUID().toString(), DELIVERING);
+            getStore().save(delivery);
+
+            var firstLeased = getStore().nextNotLeased(1, hasState(DELIVERING.code()));
+            assertThat(firstLeased).hasSize(1);
+
+            var secondLeased = getStore().nextNotLeased(1, hasState(DELIVERING.code()));
+            assertThat(secondLeased).isEmpty();
+
+            getStore().save(firstLeased.get(0));
+
+            var thirdLeased = getStore().nextNotLeased(1, hasState(DELIVERING.code()));
+            assertThat(thirdLeased).hasSize(1);
+        }
+
+        private void delayByTenMillis(StatefulEntity<?> t) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ignored) {
+                // noop
+            }
+            t.updateStateTimestamp();
+        }
+    }
+
+    @Nested
+    class FindByIdAndLease {
+        @Test
+        void shouldReturnTheEntityAndLeaseIt() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createCallbackDelivery(id, DELIVERING));
+
+            var result = getStore().findByIdAndLease(id);
+
+            assertThat(result).isSucceeded();
+            assertThat(isLeasedBy(id, CONNECTOR_NAME)).isTrue();
+        }
+
+        @Test
+        void shouldReturnNotFound_whenEntityDoesNotExist() {
+            var result = getStore().findByIdAndLease("unexistent");
+
+            assertThat(result).isFailed().extracting(StoreFailure::getReason).isEqualTo(NOT_FOUND);
+        }
+
+        @Test
+        void shouldReturnAlreadyLeased_whenEntityIsAlreadyLeased() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createCallbackDelivery(id, DELIVERING));
+            leaseEntity(id, "other owner");
+
+            var result = getStore().findByIdAndLease(id);
+
+            assertThat(result).isFailed().extracting(StoreFailure::getReason).isEqualTo(ALREADY_LEASED);
+        }
+    }
+
+    @Nested
+    class Delete {
+        @Test
+        void shouldDeleteTheEntityById() {
+            var delivery = createCallbackDelivery(UUID.randomUUID().toString(), DELIVERED);
+            getStore().save(delivery);
+
+            getStore().delete(delivery.getId());
+
+            assertThat(getStore().findById(delivery.getId())).isNull();
+        }
+
+        @Test
+        void shouldThrowException_whenLeased() {
+            var delivery = createCallbackDelivery(UUID.randomUUID().toString(), DELIVERED);
+            getStore().save(delivery);
+            leaseEntity(delivery.getId(), "other owner");
+
+            assertThatThrownBy(() -> getStore().delete(delivery.getId())).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void shouldDoNothing_whenEntityDoesNotExist() {
+            getStore().delete("unexistent");
+
+            assertThat(getStore().findById("unexistent")).isNull();
+        }
+    }
+
+    /**
+     * Timeout for async tests.
+     *
+     * @return the timeout.
+     */
+    protected Duration timeout() {
+        return Duration.ofMillis(500);
+    }
+
+    private CallbackDelivery createCallbackDelivery(String id, CallbackDeliveryStates state) {
+        var callbackAddress = CallbackAddress.Builder.newInstance()
+                .uri("http://callback/" + id)
+                .events(Set.of("transfer.process"))
+                .authKey("Authorization")
+                .authCodeId("secret-id")
+                .build();
+
+        return CallbackDelivery.Builder.newInstance()
+                .id(id)
+                .callbackAddress(callbackAddress)
+                .eventName("transfer.process.started")
+                .payload("{\"id\":\"%s\"}".formatted(id))
+                .state(state.code())
+                .build();
+    }
+
+    protected abstract CallbackDeliveryStore getStore();
+
+    protected abstract void leaseEntity(String entityId, String owner, Duration duration);
+
+    protected void leaseEntity(String entityId, String owner) {
+        leaseEntity(entityId, owner, Duration.ofSeconds(60));
+    }
+
+    protected abstract boolean isLeasedBy(String entityId, String owner);
+}